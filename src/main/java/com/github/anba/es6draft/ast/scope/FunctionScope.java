@@ -69,6 +69,23 @@ public interface FunctionScope extends TopLevelScope {
      */
     boolean hasEval();
 
+    /**
+     * Returns the names of the bindings stored in the function environment, ordered by their slot index.
+     * 
+     * @return the slot names of the function environment
+     */
+    List<String> bindingSlotNames();
+
+    /**
+     * Returns the slot index of {@code name} in the function environment or {@code -1} if {@code name} is not stored
+     * in the function environment.
+     * 
+     * @param name
+     *            the binding name
+     * @return the slot index or {@code -1}
+     */
+    int bindingSlot(Name name);
+
     /**
      * Returns {@code true} if the <code>arguments</code> object needs to be allocated for this function.
      * 
@@ -7,15 +7,19 @@
 package com.github.anba.es6draft.compiler;
 
 import static com.github.anba.es6draft.compiler.GeneratorComprehensionGenerator.EvaluateGeneratorComprehension;
+import static com.github.anba.es6draft.semantics.StaticSemantics.ExpectedArgumentCount;
 import static com.github.anba.es6draft.semantics.StaticSemantics.IsStrict;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import com.github.anba.es6draft.ast.*;
@@ -31,11 +35,13 @@ import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.MethodTypeDescriptor;
 import com.github.anba.es6draft.compiler.assembler.Type;
 import com.github.anba.es6draft.compiler.assembler.Variable;
+import com.github.anba.es6draft.interpreter.Interpreter;
 import com.github.anba.es6draft.parser.Parser;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
 import com.github.anba.es6draft.runtime.internal.JVMNames;
 import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.internal.SourceCompressor;
 import com.github.anba.es6draft.runtime.modules.SourceTextModuleRecord;
 import com.github.anba.es6draft.runtime.types.Constructor;
@@ -85,6 +91,8 @@ final class CodeGenerator {
         static final MethodTypeDescriptor DebugInfo = Type.methodType(Types.DebugInfo);
     }
 
+    static final String LAZY_FUNCTIONS_FIELD = "lazyFunctions";
+
     private static final boolean INCLUDE_SOURCE = true;
     private static final boolean OFFTHREAD_SOURCE = false;
     private static final CompletableFuture<String> NO_SOURCE = CompletableFuture.completedFuture(null);
@@ -98,6 +106,10 @@ final class CodeGenerator {
     private final PropertyGenerator propgen = new PropertyGenerator(this);
     private final BlockDeclarationInstantiationGenerator blockgen = new BlockDeclarationInstantiationGenerator(this);
 
+    // Functions compiled on first use, only used if lazy compilation is enabled.
+    private final ArrayList<RuntimeInfo.Function> lazyFunctions = new ArrayList<>();
+    private FunctionNode eagerFunction;
+
     CodeGenerator(RuntimeContext context, Code code, Program program) {
         this.context = context;
         this.code = code;
@@ -108,6 +120,18 @@ final class CodeGenerator {
         return program;
     }
 
+    /**
+     * Returns the lazily compiled functions of this compilation unit or {@code null} if not present.
+     * 
+     * @return the lazily compiled functions or {@code null}
+     */
+    RuntimeInfo.Function[] getLazyFunctions() {
+        if (lazyFunctions.isEmpty()) {
+            return null;
+        }
+        return lazyFunctions.toArray(new RuntimeInfo.Function[0]);
+    }
+
     public ExecutorService getExecutor() {
         return context.getExecutor();
     }
@@ -176,11 +200,13 @@ final class CodeGenerator {
 
     // Template strings of this compilation unit.
     private final HashMap<TemplateLiteral, Integer> templateKeys = new HashMap<>();
+    // Template keys are shared with lazily compiled functions.
+    private AtomicInteger templateCounter = new AtomicInteger();
 
     int templateKey(TemplateLiteral template) {
         Integer key = templateKeys.get(template);
         if (key == null) {
-            templateKeys.put(template, key = templateKeys.size());
+            templateKeys.put(template, key = templateCounter.getAndIncrement());
         }
         return key;
     }
@@ -431,6 +457,25 @@ final class CodeGenerator {
         defaultConstructor(Methods.CompiledFunction_Constructor, method);
     }
 
+    /**
+     * Compiles a function node which was deferred in its enclosing compilation unit.
+     * 
+     * @param function
+     *            the function node
+     * @param compiler
+     *            the function compiler
+     * @param templateCounter
+     *            the template key counter of the enclosing compilation unit
+     */
+    private <FUNCTION extends FunctionNode> void compileLazyFunction(FUNCTION function,
+            FunctionCompiler<FUNCTION> compiler, AtomicInteger templateCounter) {
+        this.eagerFunction = function;
+        this.templateCounter = templateCounter;
+        MethodName method = compile(function, compiler);
+
+        defaultConstructor(Methods.CompiledFunction_Constructor, method);
+    }
+
     private void defaultConstructor(MethodName superConstructor, MethodName runtimeInfo) {
         MethodCode constructor = code.newConstructor(Modifier.PUBLIC, MethodDescriptors.DefaultConstructor);
         InstructionVisitor mv = new InstructionVisitor(constructor);
@@ -848,7 +893,15 @@ final class CodeGenerator {
         }
     }
 
+    private boolean isLazy(FunctionNode node) {
+        return isEnabled(Compiler.Option.LazyCompilation) && node != eagerFunction
+                && !(node instanceof GeneratorComprehension);
+    }
+
     private <FUNCTION extends FunctionNode> MethodName compile(FUNCTION node, FunctionCompiler<FUNCTION> compiler) {
+        if (isLazy(node)) {
+            return lazyCompile(node, compiler);
+        }
         CompletableFuture<String> source = getSource(node);
         String methodName = newUniqueName(node);
 
@@ -927,6 +980,57 @@ final class CodeGenerator {
         return runtimeInfo.name();
     }
 
+    private <FUNCTION extends FunctionNode> MethodName lazyCompile(FUNCTION node, FunctionCompiler<FUNCTION> compiler) {
+        CompletableFuture<String> source = getSource(node);
+        String methodName = newUniqueName(node);
+
+        // Tail calls are only known after compiling the function body, assume tail calls are present if possible.
+        boolean tailCall = IsStrict(node) && !node.isGenerator() && !node.isAsync();
+        MethodTypeDescriptor handleDesc = node.isGenerator() || node.isAsync() ? compiler.desc.body : null;
+        MethodTypeDescriptor callDesc = compiler.desc.call;
+        MethodTypeDescriptor constructDesc = null;
+        if (compiler.construct != null) {
+            constructDesc = tailCall ? FunctionDesc.ConstructorFunctionTailCall.construct : compiler.desc.construct;
+        }
+
+        RuntimeContext context = this.context;
+        Program program = this.program;
+        AtomicInteger templateCounter = this.templateCounter;
+        String className = code.getClasses().get(0).className + '$' + methodName;
+        // Plain functions are interpreted until they become hot, unless the interpreter is disabled.
+        RuntimeInfo.FunctionInterpreter interpreter = null;
+        if (compiler == FunctionCompiler.ConstructorFunction && !isEnabled(Compiler.Option.NoInterpreter)) {
+            interpreter = Interpreter.function(node, program.getSource());
+        }
+        RuntimeInfoGenerator rtigen = new RuntimeInfoGenerator(this);
+        RuntimeInfo.Function function = RuntimeInfo.newLazyFunction(node.getFunctionName(),
+                rtigen.functionFlags(node, tailCall, tailCall && constructDesc != null),
+                ExpectedArgumentCount(node.getParameters()), rtigen.parameterNames(node), source.join(), methodType(handleDesc), methodType(callDesc), methodType(constructDesc),
+                () -> new Compiler(context).compileLazy(program, className,
+                        codegen -> codegen.compileLazyFunction(node, compiler, templateCounter)).getFunction(),
+                interpreter);
+
+        if (lazyFunctions.isEmpty()) {
+            code.getClasses().get(0).addField(Modifier.PUBLIC | Modifier.STATIC, LAZY_FUNCTIONS_FIELD,
+                    Types.RuntimeInfo$Function_, null);
+        }
+        int index = lazyFunctions.size();
+        lazyFunctions.add(function);
+
+        // runtime-info method
+        MethodCode runtimeInfo = newMethod(hiddenFrame(methodName, "_rti"), MethodDescriptors.Function_RTI);
+        rtigen.lazyRuntimeInfo(runtimeInfo, code.getClasses().get(0).classType, index);
+
+        return runtimeInfo.name();
+    }
+
+    private static MethodType methodType(MethodTypeDescriptor descriptor) {
+        if (descriptor == null) {
+            return null;
+        }
+        return MethodType.fromMethodDescriptorString(descriptor.descriptor(), CodeGenerator.class.getClassLoader());
+    }
+
     private CompletableFuture<String> getSource(FunctionNode node) {
         if (INCLUDE_SOURCE && !isEnabled(Parser.Option.NativeFunction)) {
             return compressSource(node.getSource());
@@ -13,9 +13,13 @@ import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import com.github.anba.es6draft.ast.AsyncFunctionDefinition;
 import com.github.anba.es6draft.ast.AsyncGeneratorDefinition;
@@ -34,7 +38,9 @@ import com.github.anba.es6draft.compiler.assembler.Code.ClassCode;
 import com.github.anba.es6draft.compiler.assembler.SourceInfo;
 import com.github.anba.es6draft.compiler.assembler.Type;
 import com.github.anba.es6draft.compiler.completion.CompletionValueVisitor;
+import com.github.anba.es6draft.runtime.internal.CodeCache;
 import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.internal.Source;
 import com.github.anba.es6draft.runtime.modules.SourceTextModuleRecord;
 
@@ -44,7 +50,7 @@ import com.github.anba.es6draft.runtime.modules.SourceTextModuleRecord;
 public final class Compiler {
     public enum Option {
         DebugInfo, PrintCode, PrintFullCode, IterationCatchStackOverflow, NoCompletion, NoByteCodeSizeValidation,
-        NoTailCall, NoInterpreter, SourceMap
+        NoTailCall, NoInterpreter, SourceMap, LazyCompilation
     }
 
     private final RuntimeContext context;
@@ -121,6 +127,24 @@ public final class Compiler {
      *             if the script node could not be compiled
      */
     public CompiledScript compile(Script script, String className) throws CompilationException {
+        return compile(script, className, null);
+    }
+
+    /**
+     * Compiles a script node to Java bytecode and stores the generated class files in the code cache.
+     * 
+     * @param script
+     *            the script node
+     * @param className
+     *            the class name
+     * @param cacheKey
+     *            the code cache key or {@code null}
+     * @return the compiled script
+     * @throws CompilationException
+     *             if the script node could not be compiled
+     */
+    public CompiledScript compile(Script script, String className, CodeCache.Key cacheKey)
+            throws CompilationException {
         if (!isEnabled(Compiler.Option.NoByteCodeSizeValidation)) {
             CodeSize.analyze(script);
         }
@@ -155,9 +179,9 @@ public final class Compiler {
         CompiledScript compiledScript;
         try {
             if (useAnonymousLoader(code)) {
-                compiledScript = defineAndLoad(script, code, AnonymousCodeLoader.SCRIPT);
+                compiledScript = defineAndLoad(script, code, codegen, AnonymousCodeLoader.SCRIPT);
             } else {
-                compiledScript = defineAndLoad(script, code, className);
+                compiledScript = defineAndLoad(script, code, codegen, className, cacheKey);
             }
         } catch (RuntimeException e) {
             throw handleAsmError(e);
@@ -185,6 +209,26 @@ public final class Compiler {
      */
     public CompiledModule compile(Module module, SourceTextModuleRecord moduleRecord, String className)
             throws CompilationException {
+        return compile(module, moduleRecord, className, null);
+    }
+
+    /**
+     * Compiles a module node to Java bytecode and stores the generated class files in the code cache.
+     * 
+     * @param module
+     *            the module node
+     * @param moduleRecord
+     *            the module record
+     * @param className
+     *            the class name
+     * @param cacheKey
+     *            the code cache key or {@code null}
+     * @return the compiled module
+     * @throws CompilationException
+     *             if the module node could not be compiled
+     */
+    public CompiledModule compile(Module module, SourceTextModuleRecord moduleRecord, String className,
+            CodeCache.Key cacheKey) throws CompilationException {
         if (!isEnabled(Compiler.Option.NoByteCodeSizeValidation)) {
             CodeSize.analyze(module);
         }
@@ -216,9 +260,9 @@ public final class Compiler {
         CompiledModule compiledModule;
         try {
             if (useAnonymousLoader(code)) {
-                compiledModule = defineAndLoad(module, code, AnonymousCodeLoader.MODULE);
+                compiledModule = defineAndLoad(module, code, codegen, AnonymousCodeLoader.MODULE);
             } else {
-                compiledModule = defineAndLoad(module, code, className);
+                compiledModule = defineAndLoad(module, code, codegen, className, cacheKey);
             }
         } catch (RuntimeException e) {
             throw handleAsmError(e);
@@ -299,17 +343,47 @@ public final class Compiler {
         if (!isEnabled(Compiler.Option.NoByteCodeSizeValidation)) {
             CodeSize.analyze(function);
         }
+        SourceInfo sourceInfo = NodeSourceInfo.create(function, isEnabled(Option.SourceMap));
+        return compile(script, sourceInfo, className, codegen -> compiler.accept(codegen, function));
+    }
 
+    /**
+     * Compiles a function node which was deferred when compiling its enclosing program. The function node was already
+     * validated when the enclosing program was compiled.
+     * 
+     * @param program
+     *            the enclosing program node
+     * @param className
+     *            the class name
+     * @param compiler
+     *            the code generator function
+     * @return the compiled function
+     * @throws CompilationException
+     *             if the function node could not be compiled
+     */
+    CompiledFunction compileLazy(Program program, String className, Consumer<CodeGenerator> compiler)
+            throws CompilationException {
+        SourceInfo sourceInfo;
+        if (program instanceof Module) {
+            sourceInfo = NodeSourceInfo.create((Module) program, isEnabled(Option.SourceMap));
+        } else {
+            sourceInfo = NodeSourceInfo.create((Script) program, isEnabled(Option.SourceMap));
+        }
+        return compile(program, sourceInfo, className, compiler);
+    }
+
+    private CompiledFunction compile(Program program, SourceInfo sourceInfo, String className,
+            Consumer<CodeGenerator> compiler) {
         long startCompile = 0;
         if (MEASURE_COMPILE_TIME) {
             startCompile = System.nanoTime();
         }
 
         Code code = new Code(Modifier.PUBLIC | Modifier.FINAL, className, ClassSignature.NONE, Types.CompiledFunction,
-                Collections.<Type> emptyList(), NodeSourceInfo.create(function, isEnabled(Option.SourceMap)));
-        CodeGenerator codegen = new CodeGenerator(context, code, script);
+                Collections.<Type> emptyList(), sourceInfo);
+        CodeGenerator codegen = new CodeGenerator(context, code, program);
         try {
-            compiler.accept(codegen, function);
+            compiler.accept(codegen);
         } catch (RuntimeException e) {
             throw handleAsmError(e);
         }
@@ -327,9 +401,9 @@ public final class Compiler {
         CompiledFunction compiledFunction;
         try {
             if (useAnonymousLoader(code)) {
-                compiledFunction = defineAndLoad(script, code, AnonymousCodeLoader.FUNCTION);
+                compiledFunction = defineAndLoad(program, code, codegen, AnonymousCodeLoader.FUNCTION);
             } else {
-                compiledFunction = defineAndLoad(script, code, className);
+                compiledFunction = defineAndLoad(program, code, codegen, className, null);
             }
         } catch (RuntimeException e) {
             throw handleAsmError(e);
@@ -342,6 +416,32 @@ public final class Compiler {
         return compiledFunction;
     }
 
+    /**
+     * Loads a compiled script from a code cache entry.
+     * 
+     * @param source
+     *            the script source descriptor
+     * @param entry
+     *            the code cache entry
+     * @return the compiled script
+     */
+    public CompiledScript loadScript(Source source, CodeCache.Entry entry) {
+        return defineAndLoad(source, entry);
+    }
+
+    /**
+     * Loads a compiled module from a code cache entry.
+     * 
+     * @param source
+     *            the module source descriptor
+     * @param entry
+     *            the code cache entry
+     * @return the compiled module
+     */
+    public CompiledModule loadModule(Source source, CodeCache.Entry entry) {
+        return defineAndLoad(source, entry);
+    }
+
     private static Script functionScript(FunctionNode function) {
         Scope enclosingScope = function.getScope().getEnclosingScope();
         assert enclosingScope instanceof ScriptScope;
@@ -369,7 +469,7 @@ public final class Compiler {
         return false;
     }
 
-    private <T> T defineAndLoad(Program program, Code code, AnonymousCodeLoader loader) {
+    private <T> T defineAndLoad(Program program, Code code, CodeGenerator codegen, AnonymousCodeLoader loader) {
         assert code.getClasses().size() == 1;
         Source source = program.getSource();
         ClassCode classCode = code.getClasses().get(0);
@@ -389,6 +489,7 @@ public final class Compiler {
         if (debugInfo) {
             initializeClassBytes(c, bytes);
         }
+        initializeLazyFunctions(c, codegen.getLazyFunctions());
         if (COUNT_CLASSES) {
             STATISTICS.anonymousClasses.increment();
         }
@@ -402,21 +503,49 @@ public final class Compiler {
         }
     }
 
-    private <T> T defineAndLoad(Program program, Code code, String mainClassName) {
+    private <T> T defineAndLoad(Program program, Code code, CodeGenerator codegen, String mainClassName,
+            CodeCache.Key cacheKey) {
         Source source = program.getSource();
         boolean printCode = isEnabled(Option.PrintCode);
         boolean printSimple = printCode && !isEnabled(Option.PrintFullCode);
         boolean debugInfo = isEnabled(Option.DebugInfo);
-        CodeLoader loader = new CodeLoader();
-        for (ClassCode classCode : code.getClasses()) {
-            String className = Type.className(classCode.className);
-            if (debugInfo) {
+        if (debugInfo) {
+            for (ClassCode classCode : code.getClasses()) {
                 addClassBytesField(classCode);
             }
-            byte[] bytes = classCode.toByteArray();
+        }
+        List<byte[]> classFiles = code.toByteArrays(context.getExecutor());
+        LinkedHashMap<String, byte[]> classes = new LinkedHashMap<>();
+        for (int i = 0; i < classFiles.size(); ++i) {
+            String className = Type.className(code.getClasses().get(i).className);
+            byte[] bytes = classFiles.get(i);
             if (printCode) {
                 System.out.println(Code.toByteCode(bytes, printSimple));
             }
+            classes.put(className, bytes);
+        }
+        CodeCache.Entry entry = new CodeCache.Entry(Type.className(mainClassName), classes);
+        RuntimeInfo.Function[] lazyFunctions = codegen.getLazyFunctions();
+        // Lazily compiled functions need their function nodes, which are not stored in the code cache.
+        if (cacheKey != null && lazyFunctions == null) {
+            CodeCache codeCache = context.getCodeCache();
+            if (codeCache != null) {
+                codeCache.put(cacheKey, entry);
+            }
+        }
+        return defineAndLoad(source, entry, lazyFunctions);
+    }
+
+    private <T> T defineAndLoad(Source source, CodeCache.Entry entry) {
+        return defineAndLoad(source, entry, null);
+    }
+
+    private <T> T defineAndLoad(Source source, CodeCache.Entry entry, RuntimeInfo.Function[] lazyFunctions) {
+        boolean debugInfo = isEnabled(Option.DebugInfo);
+        CodeLoader loader = new CodeLoader();
+        for (Map.Entry<String, byte[]> classFile : entry.getClasses().entrySet()) {
+            String className = classFile.getKey();
+            byte[] bytes = classFile.getValue();
             // System.out.printf("define class '%s'%n", className);
             Class<?> c = loader.defineClass(className, bytes);
             if (debugInfo) {
@@ -428,7 +557,8 @@ public final class Compiler {
         }
 
         try {
-            Class<?> c = loader.loadClass(Type.className(mainClassName));
+            Class<?> c = loader.loadClass(entry.getMainClassName());
+            initializeLazyFunctions(c, lazyFunctions);
             @SuppressWarnings("unchecked")
             T instance = (T) c.getDeclaredConstructor(Source.class).newInstance(source);
             return instance;
@@ -457,6 +587,18 @@ public final class Compiler {
         }
     }
 
+    private static void initializeLazyFunctions(Class<?> c, RuntimeInfo.Function[] lazyFunctions) {
+        if (lazyFunctions == null) {
+            return;
+        }
+        try {
+            Field field = c.getDeclaredField(CodeGenerator.LAZY_FUNCTIONS_FIELD);
+            field.set(null, lazyFunctions);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static final class CodeLoader extends ClassLoader {
         CodeLoader() {
             this(ClassLoader.getSystemClassLoader());
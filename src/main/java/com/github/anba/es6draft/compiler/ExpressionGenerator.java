@@ -12,6 +12,8 @@ import static com.github.anba.es6draft.semantics.StaticSemantics.*;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
@@ -77,9 +79,15 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
                 "resolveThisBinding", Type.methodType(Types.Object));
 
         // class: Type
+        static final MethodName Type_isNumber = MethodName.findStatic(Types._Type, "isNumber",
+                Type.methodType(Type.BOOLEAN_TYPE, Types.Object));
+
         static final MethodName Type_isObject = MethodName.findStatic(Types._Type, "isObject",
                 Type.methodType(Type.BOOLEAN_TYPE, Types.Object));
 
+        static final MethodName Type_numberValue = MethodName.findStatic(Types._Type, "numberValue",
+                Type.methodType(Type.DOUBLE_TYPE, Types.Object));
+
         // class: ArrayObject
         static final MethodName ArrayObject_ArrayCreate = MethodName.findStatic(Types.ArrayObject, "ArrayCreate",
                 Type.methodType(Types.ArrayObject, Types.ExecutionContext, Type.LONG_TYPE));
@@ -141,8 +149,8 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         static final MethodName Operators_typeof = MethodName.findStatic(Types.Operators, "typeof",
                 Type.methodType(Types.String, Types.Object));
 
-        static final MethodName Operators_typeof_Reference = MethodName.findStatic(Types.Operators, "typeof",
-                Type.methodType(Types.String, Types.Reference, Types.ExecutionContext));
+        static final MethodName Operators_typeof_Binding = MethodName.findStatic(Types.Operators, "typeof",
+                Type.methodType(Types.String, Types.EnvironmentRecord, Types.String, Type.BOOLEAN_TYPE));
 
         static final MethodName Operators_InstanceofOperator = MethodName.findStatic(Types.Operators,
                 "InstanceofOperator",
@@ -161,7 +169,7 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
                 Type.methodType(Types.BigInteger, Types.Object, Types.ExecutionContext));
 
         static final MethodName Operators_throw = MethodName.findStatic(Types.Operators, "_throw",
-                Type.methodType(Types.Object, Types.Object));
+                Type.methodType(Types.Object, Types.Object, Types.ExecutionContext));
 
         // class: ArrayOperations
         static final MethodName ArrayOperations_spreadElement = MethodName.findStatic(Types.ArrayOperations,
@@ -294,6 +302,10 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
     private static final int MAX_JVM_ARGUMENTS = 255;
     private static final int BOOTSTRAP_ARGUMENTS = 3;
     private static final int MAX_DYN_ARGUMENTS = MAX_JVM_ARGUMENTS - BOOTSTRAP_ARGUMENTS;
+    private static final int MAX_SPECULATION_NODES = 32;
+
+    // Set while emitting the deoptimization path of a speculative number expression.
+    private boolean deoptimizing;
 
     public ExpressionGenerator(CodeGenerator codegen) {
         super(codegen);
@@ -1722,9 +1734,254 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
      */
     @Override
     public ValType visit(BinaryExpression node, CodeVisitor mv) {
+        if (!deoptimizing) {
+            LinkedHashMap<String, IdentifierReference> operands = new LinkedHashMap<>();
+            if (isSpeculativeNumberExpression(node, operands, mv)) {
+                return speculativeNumberExpression(node, operands, mv);
+            }
+        }
         return binaryOp(node).emit(node, mv, this);
     }
 
+    /**
+     * Returns {@code true} if {@code node} is an arithmetic, bitwise or relational expression whose operands are only
+     * numeric literals and identifiers of always initialized function bindings, with at least one identifier.
+     * 
+     * @param node
+     *            the binary expression node
+     * @param operands
+     *            the map to receive the identifier operands
+     * @param mv
+     *            the code visitor
+     * @return {@code true} if the expression can be evaluated speculatively
+     */
+    private static boolean isSpeculativeNumberExpression(BinaryExpression node,
+            LinkedHashMap<String, IdentifierReference> operands, CodeVisitor mv) {
+        switch (node.getOperator()) {
+        case GE:
+        case GT:
+        case LE:
+        case LT: {
+            int left = speculativeNumberNodes(node.getLeft(), operands, mv);
+            int right = left >= 0 ? speculativeNumberNodes(node.getRight(), operands, mv) : -1;
+            return right >= 0 && left + right < MAX_SPECULATION_NODES && !operands.isEmpty();
+        }
+        default: {
+            int nodes = speculativeNumberNodes(node, operands, mv);
+            return nodes > 0 && nodes <= MAX_SPECULATION_NODES && !operands.isEmpty();
+        }
+        }
+    }
+
+    private static int speculativeNumberNodes(Expression node, LinkedHashMap<String, IdentifierReference> operands,
+            CodeVisitor mv) {
+        if (node instanceof NumericLiteral) {
+            return 1;
+        }
+        if (node instanceof IdentifierReference) {
+            IdentifierReference identifier = (IdentifierReference) node;
+            if (!IdentifierResolution.isInitializedSlotBinding(identifier, mv)) {
+                return -1;
+            }
+            operands.putIfAbsent(identifier.getName(), identifier);
+            return 1;
+        }
+        if (node instanceof UnaryExpression) {
+            UnaryExpression unary = (UnaryExpression) node;
+            switch (unary.getOperator()) {
+            case BITNOT:
+            case NEG:
+            case POS: {
+                int operand = speculativeNumberNodes(unary.getOperand(), operands, mv);
+                return operand >= 0 ? operand + 1 : -1;
+            }
+            default:
+                return -1;
+            }
+        }
+        if (node instanceof BinaryExpression) {
+            BinaryExpression binary = (BinaryExpression) node;
+            switch (binary.getOperator()) {
+            case ADD:
+            case BITAND:
+            case BITOR:
+            case BITXOR:
+            case DIV:
+            case EXP:
+            case MOD:
+            case MUL:
+            case SHL:
+            case SHR:
+            case SUB:
+            case USHR: {
+                int left = speculativeNumberNodes(binary.getLeft(), operands, mv);
+                if (left < 0) {
+                    return -1;
+                }
+                int right = speculativeNumberNodes(binary.getRight(), operands, mv);
+                return right >= 0 ? left + right + 1 : -1;
+            }
+            default:
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Evaluates {@code node} under the assumption that all identifier operands hold Number values.
+     * <p>
+     * The operands are read once, checked and stored unboxed in local variables, the expression is then computed with
+     * primitive int and double operations. If any operand is not a Number, the expression is deoptimized to the
+     * generic code which works on boxed values. Reading the operands has no side effects, so repeating the reads in
+     * the generic code is not observable.
+     * 
+     * @param node
+     *            the binary expression node
+     * @param operands
+     *            the identifier operands
+     * @param mv
+     *            the code visitor
+     * @return the returned value type
+     */
+    private ValType speculativeNumberExpression(BinaryExpression node,
+            LinkedHashMap<String, IdentifierReference> operands, CodeVisitor mv) {
+        Jump deoptimize = new Jump(), speculated = new Jump(), end = new Jump();
+        mv.enterVariableScope();
+        HashMap<String, Variable<Double>> values = new HashMap<>();
+        for (IdentifierReference operand : operands.values()) {
+            Variable<Double> value = mv.newVariable(operand.getName(), double.class);
+            mv.toBoxed(operand.accept(this, mv));
+            mv.dup();
+            mv.invoke(Methods.Type_isNumber);
+            mv.ifeq(deoptimize);
+            mv.invoke(Methods.Type_numberValue);
+            mv.store(value);
+            values.put(operand.getName(), value);
+        }
+        mv.goTo(speculated);
+
+        // Guard failed, evaluate the expression with boxed values.
+        mv.mark(deoptimize);
+        mv.pop();
+        ValType speculatedType = speculativeNumberType(node);
+        ValType type;
+        deoptimizing = true;
+        try {
+            type = binaryOp(node).emit(node, mv, this);
+        } finally {
+            deoptimizing = false;
+        }
+        if (type != speculatedType) {
+            mv.toBoxed(type);
+        }
+        mv.goTo(end);
+
+        mv.mark(speculated);
+        ValType actualType = speculativeNumber(node, values, mv);
+        assert actualType == speculatedType : String.format("expected=%s, actual=%s", speculatedType, actualType);
+        if (type != speculatedType) {
+            mv.toBoxed(speculatedType);
+        }
+        mv.mark(end);
+        mv.exitVariableScope();
+        return type == speculatedType ? type : ValType.Any;
+    }
+
+    private static ValType speculativeNumberType(Expression node) {
+        if (node instanceof NumericLiteral) {
+            return ((NumericLiteral) node).isInt() ? ValType.Number_int : ValType.Number;
+        }
+        if (node instanceof IdentifierReference) {
+            return ValType.Number;
+        }
+        if (node instanceof UnaryExpression) {
+            return ((UnaryExpression) node).getOperator() == UnaryExpression.Operator.BITNOT ? ValType.Number_int
+                    : ValType.Number;
+        }
+        BinaryExpression binary = (BinaryExpression) node;
+        switch (binary.getOperator()) {
+        case BITAND:
+        case BITOR:
+        case BITXOR:
+        case SHL:
+        case SHR:
+            return ValType.Number_int;
+        case USHR:
+            return isInt32UnsignedRightShift(binary.getRight()) ? ValType.Number_int : ValType.Number_uint;
+        case GE:
+        case GT:
+        case LE:
+        case LT:
+            return ValType.Boolean;
+        default:
+            return ValType.Number;
+        }
+    }
+
+    private ValType speculativeNumber(Expression node, HashMap<String, Variable<Double>> values, CodeVisitor mv) {
+        if (node instanceof NumericLiteral) {
+            return node.accept(this, mv);
+        }
+        if (node instanceof IdentifierReference) {
+            mv.load(values.get(((IdentifierReference) node).getName()));
+            return ValType.Number;
+        }
+        if (node instanceof UnaryExpression) {
+            UnaryExpression unary = (UnaryExpression) node;
+            ValType type = speculativeNumber(unary.getOperand(), values, mv);
+            switch (unary.getOperator()) {
+            case BITNOT:
+                ToInt32(type, mv);
+                mv.bitnot();
+                return ValType.Number_int;
+            case NEG:
+                ToNumber(type, mv);
+                mv.dneg();
+                return ValType.Number;
+            case POS:
+                ToNumber(type, mv);
+                return ValType.Number;
+            default:
+                throw new AssertionError();
+            }
+        }
+        BinaryExpression binary = (BinaryExpression) node;
+        BinaryOp op = binaryOp(binary);
+        if (op instanceof BinaryOp.IntegerOp) {
+            ToInt32(speculativeNumber(binary.getLeft(), values, mv), mv);
+            ToInt32(speculativeNumber(binary.getRight(), values, mv), mv);
+            return ((BinaryOp.IntegerOp) op).operation(binary, mv);
+        }
+        ValType ltype = speculativeNumber(binary.getLeft(), values, mv);
+        if (op instanceof BinaryOp.RelationalOp) {
+            BinaryOp.RelationalOp relational = (BinaryOp.RelationalOp) op;
+            Jump isFalse = new Jump(), end = new Jump();
+            if (ltype == ValType.Number_int && speculativeNumberType(binary.getRight()) == ValType.Number_int) {
+                speculativeNumber(binary.getRight(), values, mv);
+                relational.intComparison(isFalse, mv);
+            } else {
+                ToNumber(ltype, mv);
+                ToNumber(speculativeNumber(binary.getRight(), values, mv), mv);
+                relational.doubleComparison(isFalse, mv);
+            }
+            mv.iconst(true);
+            mv.goTo(end);
+            mv.mark(isFalse);
+            mv.iconst(false);
+            mv.mark(end);
+            return ValType.Boolean;
+        }
+        ToNumber(ltype, mv);
+        ToNumber(speculativeNumber(binary.getRight(), values, mv), mv);
+        if (op == BinaryOp.ADD) {
+            mv.dadd();
+        } else {
+            ((BinaryOp.ArithmeticOp) op).operation(binary, mv);
+        }
+        return ValType.Number;
+    }
+
     private static BinaryOp binaryOp(BinaryExpression node) {
         switch (node.getOperator()) {
         case ADD:
@@ -1913,9 +2170,64 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         static abstract class RelationalOp extends BinaryOp {
             abstract void operation(BinaryExpression node, CodeVisitor mv);
 
+            /**
+             * Returns {@code true} if the operator supports the unboxed number comparison methods.
+             * 
+             * @return {@code true} if unboxed comparisons are supported
+             */
+            boolean isNumberComparison() {
+                return false;
+            }
+
+            /**
+             * stack: [int, int] {@literal ->} []
+             * 
+             * @param isFalse
+             *            the jump target if the comparison is false
+             * @param mv
+             *            the code visitor
+             */
+            void intComparison(Jump isFalse, CodeVisitor mv) {
+                throw new AssertionError();
+            }
+
+            /**
+             * stack: [double, double] {@literal ->} []
+             * 
+             * @param isFalse
+             *            the jump target if the comparison is false
+             * @param mv
+             *            the code visitor
+             */
+            void doubleComparison(Jump isFalse, CodeVisitor mv) {
+                throw new AssertionError();
+            }
+
             @Override
             final ValType emit(BinaryExpression node, CodeVisitor mv, ExpressionGenerator gen) {
-                mv.toBoxed(node.getLeft().accept(gen, mv));
+                ValType ltype = node.getLeft().accept(gen, mv);
+                if (ltype.isNumber() && isNumberComparison() && expressionType(node.getRight()).isNumber()) {
+                    // Both operands are numbers, compare without boxing.
+                    Jump isFalse = new Jump(), end = new Jump();
+                    if (ltype == ValType.Number_int && expressionType(node.getRight()) == ValType.Number_int) {
+                        ValType rtype = node.getRight().accept(gen, mv);
+                        assert rtype == ValType.Number_int;
+                        intComparison(isFalse, mv);
+                    } else {
+                        ToNumber(ltype, mv);
+                        ValType rtype = node.getRight().accept(gen, mv);
+                        assert rtype.isNumber();
+                        ToNumber(rtype, mv);
+                        doubleComparison(isFalse, mv);
+                    }
+                    mv.iconst(true);
+                    mv.goTo(end);
+                    mv.mark(isFalse);
+                    mv.iconst(false);
+                    mv.mark(end);
+                    return ValType.Boolean;
+                }
+                mv.toBoxed(ltype);
                 mv.toBoxed(node.getRight().accept(gen, mv));
                 mv.lineInfo(node);
                 operation(node, mv);
@@ -1954,10 +2266,6 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
             static final MethodName BigInteger_equals = MethodName.findVirtual(Types.BigInteger, "equals",
                     Type.methodType(Type.BOOLEAN_TYPE, Types.Object));
 
-            // class: Reference
-            static final MethodName Reference_isUnresolvableReference = MethodName.findVirtual(Types.Reference,
-                    "isUnresolvableReference", Type.methodType(Type.BOOLEAN_TYPE));
-
             // class: Operators
             static final MethodName Operators_compare = MethodName.findStatic(Types.Operators, "compare",
                     Type.methodType(Type.BOOLEAN_TYPE, Types.CharSequence, Types.CharSequence));
@@ -2162,21 +2470,20 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
             private void emitTypeCheck(String name, Expression operand, CodeVisitor mv, ExpressionGenerator gen) {
                 if (operand instanceof IdentifierReference) {
                     IdentifierReference ident = (IdentifierReference) operand;
-                    // stack: [] -> [ref, ref]
+                    // stack: [] -> [envRec, envRec]
                     ValType reference = ReferenceOp.LOOKUP.reference(ident, mv, gen.codegen);
                     mv.dup(reference);
 
-                    // stack: [ref, ref] -> [ref, unresolvable]
-                    Jump unresolvable = new Jump(), end = new Jump();
-                    mv.invoke(EqMethods.Reference_isUnresolvableReference);
-                    mv.ifeq(unresolvable);
+                    // stack: [envRec, envRec] -> [envRec]
+                    Jump resolvable = new Jump(), end = new Jump();
+                    mv.ifnonnull(resolvable);
                     {
                         mv.pop(reference);
                         mv.iconst("undefined".equals(name));
                         mv.goTo(end);
                     }
-                    mv.mark(unresolvable);
-                    // stack: [ref] -> [val]
+                    mv.mark(resolvable);
+                    // stack: [envRec] -> [val]
                     ReferenceOp.LOOKUP.getValue(ident, reference, mv);
                     emitTypeCheckGeneric(name, mv, gen.codegen);
                     mv.mark(end);
@@ -2497,6 +2804,27 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
                             return ValType.BigInt;
                         }
                     }
+                } else if (ltype == ValType.Any && isNumericExpression(left)) {
+                    // The left operand is either a Number or a BigInt, no string concatenation possible.
+                    ValType expected = expressionType(right);
+                    if (expected.isPrimitive() && expected != ValType.String) {
+                        ValType rtype = right.accept(gen, mv);
+                        assert rtype.isPrimitive() && rtype != ValType.String : String.format("expected=%s, actual=%s",
+                                expected, rtype);
+                        ValType numericType = rtype == ValType.BigInt ? ValType.BigInt : ValType.Number;
+                        mv.swap(ltype, rtype);
+                        mv.lineInfo(node);
+                        toPrimitiveNumeric(ltype, numericType, mv);
+                        mv.swap(rtype, numericType);
+                        if (numericType != ValType.BigInt) {
+                            ToNumber(rtype, mv);
+                            mv.dadd();
+                            return ValType.Number;
+                        } else {
+                            mv.invoke(Methods.BigInteger_add);
+                            return ValType.BigInt;
+                        }
+                    }
                 }
                 if (right instanceof BinaryExpression && isStringConcat((BinaryExpression) right)) {
                     if (ltype.isPrimitive()) {
@@ -2719,6 +3047,22 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         };
         // 12.9 Relational Operators ( < )
         static final RelationalOp LT = new RelationalOp() {
+            @Override
+            boolean isNumberComparison() {
+                return true;
+            }
+
+            @Override
+            void intComparison(Jump isFalse, CodeVisitor mv) {
+                mv.ificmpge(isFalse);
+            }
+
+            @Override
+            void doubleComparison(Jump isFalse, CodeVisitor mv) {
+                mv.dcmpg();
+                mv.ifge(isFalse);
+            }
+
             @Override
             void operation(BinaryExpression node, CodeVisitor mv) {
                 mv.loadExecutionContext();
@@ -2727,6 +3071,22 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         };
         // 12.9 Relational Operators ( > )
         static final RelationalOp GT = new RelationalOp() {
+            @Override
+            boolean isNumberComparison() {
+                return true;
+            }
+
+            @Override
+            void intComparison(Jump isFalse, CodeVisitor mv) {
+                mv.ificmple(isFalse);
+            }
+
+            @Override
+            void doubleComparison(Jump isFalse, CodeVisitor mv) {
+                mv.dcmpl();
+                mv.ifle(isFalse);
+            }
+
             @Override
             void operation(BinaryExpression node, CodeVisitor mv) {
                 mv.swap();
@@ -2736,6 +3096,22 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         };
         // 12.9 Relational Operators ( <= )
         static final RelationalOp LE = new RelationalOp() {
+            @Override
+            boolean isNumberComparison() {
+                return true;
+            }
+
+            @Override
+            void intComparison(Jump isFalse, CodeVisitor mv) {
+                mv.ificmpgt(isFalse);
+            }
+
+            @Override
+            void doubleComparison(Jump isFalse, CodeVisitor mv) {
+                mv.dcmpg();
+                mv.ifgt(isFalse);
+            }
+
             @Override
             void operation(BinaryExpression node, CodeVisitor mv) {
                 mv.swap();
@@ -2745,6 +3121,22 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         };
         // 12.9 Relational Operators ( >= )
         static final RelationalOp GE = new RelationalOp() {
+            @Override
+            boolean isNumberComparison() {
+                return true;
+            }
+
+            @Override
+            void intComparison(Jump isFalse, CodeVisitor mv) {
+                mv.ificmplt(isFalse);
+            }
+
+            @Override
+            void doubleComparison(Jump isFalse, CodeVisitor mv) {
+                mv.dcmpl();
+                mv.iflt(isFalse);
+            }
+
             @Override
             void operation(BinaryExpression node, CodeVisitor mv) {
                 mv.loadExecutionContext();
@@ -3029,6 +3421,48 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
         return false;
     }
 
+    /**
+     * Returns {@code true} if {@code node} always evaluates to either a Number or a BigInt value.
+     * 
+     * @param node
+     *            the expression node
+     * @return {@code true} if the expression result is a numeric value
+     */
+    private static boolean isNumericExpression(Expression node) {
+        if (node instanceof UpdateExpression) {
+            return true;
+        }
+        if (node instanceof UnaryExpression) {
+            switch (((UnaryExpression) node).getOperator()) {
+            case POS:
+            case NEG:
+            case BITNOT:
+                return true;
+            default:
+                return false;
+            }
+        }
+        if (node instanceof BinaryExpression) {
+            switch (((BinaryExpression) node).getOperator()) {
+            case BITAND:
+            case BITOR:
+            case BITXOR:
+            case DIV:
+            case EXP:
+            case MOD:
+            case MUL:
+            case SHL:
+            case SHR:
+            case SUB:
+            case USHR:
+                return true;
+            default:
+                return false;
+            }
+        }
+        return false;
+    }
+
     private static ValType expressionType(Expression node) {
         return node.accept(ExpressionTypeVisitor.INSTANCE, null);
     }
@@ -4135,6 +4569,7 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
     @Override
     public ValType visit(ThrowExpression node, CodeVisitor mv) {
         expressionBoxed(node.getExpression(), mv);
+        mv.loadExecutionContext();
         mv.lineInfo(node);
         mv.invoke(Methods.Operators_throw);
         return ValType.Any;
@@ -4180,11 +4615,12 @@ final class ExpressionGenerator extends DefaultCodeGenerator<ValType> {
             Expression operand = node.getOperand();
             if (operand instanceof IdentifierReference) {
                 IdentifierReference ident = (IdentifierReference) operand;
-                // TODO: Add referenceValueOrUndefined() method
+                // stack: [] -> [envRec]
                 ReferenceOp.LOOKUP.reference(ident, mv, codegen);
-                mv.loadExecutionContext();
+                mv.aconst(ident.getName());
+                mv.iconst(mv.isStrict());
                 mv.lineInfo(node);
-                mv.invoke(Methods.Operators_typeof_Reference);
+                mv.invoke(Methods.Operators_typeof_Binding);
                 return ValType.String;
             }
             ValType type = operand.accept(this, mv);
@@ -8,6 +8,9 @@ package com.github.anba.es6draft.compiler;
 
 import static com.github.anba.es6draft.semantics.StaticSemantics.HasClassInstanceDefinitions;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.function.Consumer;
 
 import com.github.anba.es6draft.ast.ClassDefinition;
@@ -17,11 +20,13 @@ import com.github.anba.es6draft.ast.FunctionNode.ThisMode;
 import com.github.anba.es6draft.compiler.CodeGenerator.FunctionCode;
 import com.github.anba.es6draft.compiler.assembler.Code.MethodCode;
 import com.github.anba.es6draft.compiler.assembler.FieldName;
+import com.github.anba.es6draft.compiler.assembler.Handle;
 import com.github.anba.es6draft.compiler.assembler.Jump;
 import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.TryCatchLabel;
 import com.github.anba.es6draft.compiler.assembler.Type;
 import com.github.anba.es6draft.compiler.assembler.Variable;
+import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
 import com.github.anba.es6draft.runtime.types.Constructor;
@@ -38,6 +43,12 @@ import com.github.anba.es6draft.runtime.types.builtins.OrdinaryGenerator;
  * Generates bytecode for the function entry method
  */
 final class FunctionCodeGenerator {
+    private static final Handle BINDING_LAYOUT_BOOTSTRAP = MethodName
+            .findStatic(DeclarativeEnvironmentRecord.BindingLayout.class, "bootstrap",
+                    MethodType.methodType(CallSite.class, MethodHandles.Lookup.class, String.class, MethodType.class,
+                            String[].class))
+            .toHandle();
+
     private static final class Fields {
         static final FieldName Intrinsics_ObjectPrototype = FieldName.findStatic(Types.Intrinsics, "ObjectPrototype",
                 Types.Intrinsics);
@@ -89,11 +100,12 @@ final class FunctionCodeGenerator {
         // LexicalEnvironment
         static final MethodName LexicalEnvironment_newFunctionEnvironment = MethodName.findStatic(
                 Types.LexicalEnvironment, "newFunctionEnvironment",
-                Type.methodType(Types.LexicalEnvironment, Types.FunctionObject, Types.Constructor, Types.Object));
+                Type.methodType(Types.LexicalEnvironment, Types.FunctionObject, Types.Constructor, Types.Object,
+                        Types.DeclarativeEnvironmentRecord$BindingLayout));
 
         static final MethodName LexicalEnvironment_newFunctionEnvironment_ConstructDerived = MethodName.findStatic(
-                Types.LexicalEnvironment, "newFunctionEnvironment",
-                Type.methodType(Types.LexicalEnvironment, Types.FunctionObject, Types.Constructor));
+                Types.LexicalEnvironment, "newFunctionEnvironment", Type.methodType(Types.LexicalEnvironment,
+                        Types.FunctionObject, Types.Constructor, Types.DeclarativeEnvironmentRecord$BindingLayout));
 
         // OrdinaryAsyncFunction
         static final MethodName OrdinaryAsyncFunction_EvaluateBody = MethodName.findStatic(Types.OrdinaryAsyncFunction,
@@ -762,7 +774,7 @@ final class FunctionCodeGenerator {
 
             // (1) Create a new ExecutionContext
             /* steps 6-7 */
-            prepareCall(calleeContext, fn, newTarget, mv);
+            prepareCall(node.getConstructor(), calleeContext, fn, newTarget, mv);
 
             /* step 8 */
             mv.load(thisArgument);
@@ -820,7 +832,7 @@ final class FunctionCodeGenerator {
             // (1) Create a new ExecutionContext
             /* steps 1-5 (not applicable) */
             /* steps 6-7 */
-            prepareCall(calleeContext, fn, newTarget, mv);
+            prepareCall(node.getConstructor(), calleeContext, fn, newTarget, mv);
             /* steps 8-10 (not applicable) */
 
             // (2) Call OrdinaryCallEvaluateBody
@@ -833,6 +845,20 @@ final class FunctionCodeGenerator {
         });
     }
 
+    /**
+     * Loads the binding layout of the function environment.
+     * 
+     * @param node
+     *            the function node
+     * @param mv
+     *            the instruction visitor
+     */
+    private static void bindingLayout(FunctionNode node, InstructionVisitor mv) {
+        Object[] names = node.getScope().bindingSlotNames().toArray();
+        mv.invokedynamic("bindingLayout", Type.methodType(Types.DeclarativeEnvironmentRecord$BindingLayout),
+                BINDING_LAYOUT_BOOTSTRAP, names);
+    }
+
     /**
      * 9.2.1.1 PrepareForOrdinaryCall( F, newTarget )<br>
      * 9.2.1.2 OrdinaryCallBindThis ( F, calleeContext, thisArgument )
@@ -862,6 +888,7 @@ final class FunctionCodeGenerator {
             mv.load(function);
             mv.anull();
             ordinaryCallBindThis(node, function, thisArgument, mv);
+            bindingLayout(node, mv);
             mv.invoke(Methods.LexicalEnvironment_newFunctionEnvironment);
         }
         mv.invoke(Methods.ExecutionContext_newFunctionExecutionContext);
@@ -899,6 +926,7 @@ final class FunctionCodeGenerator {
             mv.load(function);
             mv.load(newTarget);
             mv.load(thisArgument);
+            bindingLayout(node, mv);
             mv.invoke(Methods.LexicalEnvironment_newFunctionEnvironment);
         }
         mv.invoke(Methods.ExecutionContext_newFunctionExecutionContext);
@@ -913,6 +941,8 @@ final class FunctionCodeGenerator {
      * calleeContext = newFunctionExecutionContext(function, funEnv)
      * </pre>
      * 
+     * @param node
+     *            the function node
      * @param calleeContext
      *            the variable which holds the callee context
      * @param function
@@ -922,13 +952,14 @@ final class FunctionCodeGenerator {
      * @param mv
      *            the instruction visitor
      */
-    private static void prepareCall(Variable<ExecutionContext> calleeContext,
+    private static void prepareCall(FunctionNode node, Variable<ExecutionContext> calleeContext,
             Variable<? extends FunctionObject> function, Variable<Constructor> newTarget, InstructionVisitor mv) {
         mv.load(function);
         {
             // Create new function environment.
             mv.load(function);
             mv.load(newTarget);
+            bindingLayout(node, mv);
             mv.invoke(Methods.LexicalEnvironment_newFunctionEnvironment_ConstructDerived);
         }
         mv.invoke(Methods.ExecutionContext_newFunctionExecutionContext);
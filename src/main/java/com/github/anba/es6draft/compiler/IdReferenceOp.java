@@ -58,9 +58,14 @@ abstract class IdReferenceOp {
     }
 
     private static final class Methods {
-        // class: Reference
-        static final MethodName Reference_putValue = MethodName.findVirtual(Types.Reference, "putValue",
-                Type.methodType(Type.VOID_TYPE, Types.Object, Types.ExecutionContext));
+        // class: Operators
+        static final MethodName Operators_setBindingValue = MethodName.findStatic(Types.Operators,
+                "setBindingValue", Type.methodType(Type.VOID_TYPE, Types.EnvironmentRecord, Types.String,
+                        Types.Object, Type.BOOLEAN_TYPE, Types.ExecutionContext));
+
+        static final MethodName Operators_setSlotBindingValue = MethodName.findStatic(Types.Operators,
+                "setSlotBindingValue", Type.methodType(Type.VOID_TYPE, Types.EnvironmentRecord, Types.String,
+                        Types.Object, Type.INT_TYPE, Type.BOOLEAN_TYPE, Types.ExecutionContext));
     }
 
     /**
@@ -69,18 +74,29 @@ abstract class IdReferenceOp {
     static final IdReferenceOp LOOKUP = new IdReferenceOp() {
         @Override
         ValType resolveBinding(BindingIdentifier node, CodeVisitor mv) {
-            // stack: [] -> [ref]
-            IdentifierResolution.resolve(node, mv);
-            return ValType.Reference;
+            // stack: [] -> [envRec]
+            return IdentifierResolution.resolveEnvironment(node, mv);
         }
 
         @Override
         void putValue(BindingIdentifier node, ValType value, CodeVisitor mv) {
-            // stack: [ref, value] -> []
+            // stack: [envRec, value] -> [envRec, name, value]
             mv.toBoxed(value);
+            int slot = IdentifierResolution.slot(node, mv);
+            mv.aconst(node.getName().getIdentifier());
+            mv.swap();
+            // stack: [envRec, name, value] -> []
+            if (slot >= 0) {
+                mv.iconst(slot);
+            }
+            mv.iconst(mv.isStrict());
             mv.loadExecutionContext();
             mv.lineInfo(node);
-            mv.invoke(Methods.Reference_putValue);
+            if (slot >= 0) {
+                mv.invoke(Methods.Operators_setSlotBindingValue);
+            } else {
+                mv.invoke(Methods.Operators_setBindingValue);
+            }
         }
     };
 }
@@ -6,9 +6,17 @@
  */
 package com.github.anba.es6draft.compiler;
 
+import static com.github.anba.es6draft.semantics.StaticSemantics.IsSimpleParameterList;
+
 import com.github.anba.es6draft.ast.BindingIdentifier;
+import com.github.anba.es6draft.ast.Expression;
+import com.github.anba.es6draft.ast.FunctionNode;
 import com.github.anba.es6draft.ast.IdentifierReference;
 import com.github.anba.es6draft.ast.Node;
+import com.github.anba.es6draft.ast.scope.FunctionScope;
+import com.github.anba.es6draft.ast.scope.Name;
+import com.github.anba.es6draft.ast.scope.Scope;
+import com.github.anba.es6draft.ast.scope.TopLevelScope;
 import com.github.anba.es6draft.compiler.DefaultCodeGenerator.ValType;
 import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.Type;
@@ -22,8 +30,35 @@ final class IdentifierResolution {
         static final MethodName ExecutionContext_resolveBinding = MethodName.findVirtual(Types.ExecutionContext,
                 "resolveBinding", Type.methodType(Types.Reference, Types.String, Type.BOOLEAN_TYPE));
 
+        static final MethodName ExecutionContext_resolveBindingEnvironment = MethodName.findVirtual(
+                Types.ExecutionContext, "resolveBindingEnvironment",
+                Type.methodType(Types.EnvironmentRecord, Types.String));
+
         static final MethodName ExecutionContext_resolveBindingValue = MethodName.findVirtual(Types.ExecutionContext,
                 "resolveBindingValue", Type.methodType(Types.Object, Types.String, Type.BOOLEAN_TYPE));
+
+        static final MethodName ExecutionContext_resolveSlotBindingValue = MethodName.findVirtual(
+                Types.ExecutionContext, "resolveSlotBindingValue",
+                Type.methodType(Types.Object, Type.INT_TYPE, Type.INT_TYPE, Types.String, Type.BOOLEAN_TYPE));
+
+        static final MethodName ExecutionContext_resolveSlotBindingEnvironment = MethodName.findVirtual(
+                Types.ExecutionContext, "resolveSlotBindingEnvironment",
+                Type.methodType(Types.EnvironmentRecord, Type.INT_TYPE, Type.INT_TYPE, Types.String));
+    }
+
+    /**
+     * Statically resolved function environment slot.
+     */
+    private static final class BindingSlot {
+        final FunctionScope scope;
+        final int hops;
+        final int slot;
+
+        BindingSlot(FunctionScope scope, int hops, int slot) {
+            this.scope = scope;
+            this.hops = hops;
+            this.slot = slot;
+        }
     }
 
     private IdentifierResolution() {
@@ -37,10 +72,76 @@ final class IdentifierResolution {
         return resolve(node, node.getName().getIdentifier(), mv);
     }
 
+    static ValType resolveEnvironment(IdentifierReference node, CodeVisitor mv) {
+        return resolveEnvironment(node, node.getName(), mv);
+    }
+
+    static ValType resolveEnvironment(BindingIdentifier node, CodeVisitor mv) {
+        return resolveEnvironment(node, node.getName().getIdentifier(), mv);
+    }
+
     static ValType resolveValue(IdentifierReference node, CodeVisitor mv) {
         return resolveValue(node, node.getName(), mv);
     }
 
+    /**
+     * Returns the function environment slot index of the identifier or {@code -1} if the binding is resolved by
+     * name.
+     * 
+     * @param node
+     *            the identifier reference
+     * @param mv
+     *            the code visitor
+     * @return the slot index or {@code -1}
+     */
+    static int slot(IdentifierReference node, CodeVisitor mv) {
+        return slot(node.getName(), mv);
+    }
+
+    /**
+     * Returns the function environment slot index of the identifier or {@code -1} if the binding is resolved by
+     * name.
+     * 
+     * @param node
+     *            the binding identifier
+     * @param mv
+     *            the code visitor
+     * @return the slot index or {@code -1}
+     */
+    static int slot(BindingIdentifier node, CodeVisitor mv) {
+        return slot(node.getName().getIdentifier(), mv);
+    }
+
+    /**
+     * Returns {@code true} if the identifier is resolved to a function environment slot which is initialized before
+     * any code of the function is executed, i.e. a {@code var} declaration or a parameter of a simple parameter list.
+     * Reading the binding value neither has side effects nor throws an exception.
+     * 
+     * @param node
+     *            the identifier reference
+     * @param mv
+     *            the code visitor
+     * @return {@code true} if the binding is always initialized
+     */
+    static boolean isInitializedSlotBinding(IdentifierReference node, CodeVisitor mv) {
+        BindingSlot bindingSlot = bindingSlot(node.getName(), mv.getScope());
+        if (bindingSlot == null) {
+            return false;
+        }
+        FunctionScope scope = bindingSlot.scope;
+        Name name = new Name(node.getName());
+        if (scope.parameterNames().contains(name)) {
+            return IsSimpleParameterList(scope.getNode().getParameters());
+        }
+        return scope.variableScope() == scope
+                && (scope.varDeclaredNames().contains(name) || scope.blockFunctionNames().contains(name));
+    }
+
+    private static int slot(String identifierName, CodeVisitor mv) {
+        BindingSlot bindingSlot = bindingSlot(identifierName, mv.getScope());
+        return bindingSlot != null ? bindingSlot.slot : -1;
+    }
+
     private static ValType resolve(Node node, String identifierName, CodeVisitor mv) {
         mv.loadExecutionContext();
         mv.aconst(identifierName);
@@ -50,7 +151,37 @@ final class IdentifierResolution {
         return ValType.Reference;
     }
 
+    private static ValType resolveEnvironment(Node node, String identifierName, CodeVisitor mv) {
+        // stack: [] -> [envRec]
+        BindingSlot bindingSlot = bindingSlot(identifierName, mv.getScope());
+        if (bindingSlot != null) {
+            mv.loadExecutionContext();
+            mv.iconst(bindingSlot.hops);
+            mv.iconst(bindingSlot.slot);
+            mv.aconst(identifierName);
+            mv.lineInfo(node);
+            mv.invoke(Methods.ExecutionContext_resolveSlotBindingEnvironment);
+            return ValType.Any;
+        }
+        mv.loadExecutionContext();
+        mv.aconst(identifierName);
+        mv.lineInfo(node);
+        mv.invoke(Methods.ExecutionContext_resolveBindingEnvironment);
+        return ValType.Any;
+    }
+
     private static ValType resolveValue(Node node, String identifierName, CodeVisitor mv) {
+        BindingSlot bindingSlot = bindingSlot(identifierName, mv.getScope());
+        if (bindingSlot != null) {
+            mv.loadExecutionContext();
+            mv.iconst(bindingSlot.hops);
+            mv.iconst(bindingSlot.slot);
+            mv.aconst(identifierName);
+            mv.iconst(mv.isStrict());
+            mv.lineInfo(node);
+            mv.invoke(Methods.ExecutionContext_resolveSlotBindingValue);
+            return ValType.Any;
+        }
         mv.loadExecutionContext();
         mv.aconst(identifierName);
         mv.iconst(mv.isStrict());
@@ -58,4 +189,45 @@ final class IdentifierResolution {
         mv.invoke(Methods.ExecutionContext_resolveBindingValue);
         return ValType.Any;
     }
+
+    /**
+     * Returns the function environment slot for {@code identifierName} or {@code null} if the binding needs to be
+     * resolved by name. Bindings in or behind dynamic scopes ({@code with}, non-strict direct {@code eval}) and
+     * bindings of the global or module scope are always resolved by name.
+     * 
+     * @param identifierName
+     *            the identifier name
+     * @param scope
+     *            the current scope
+     * @return the binding slot or {@code null}
+     */
+    private static BindingSlot bindingSlot(String identifierName, Scope scope) {
+        Name name = new Name(identifierName);
+        int hops = 0;
+        for (Scope s = scope; s != null;) {
+            if (s.isDynamic()) {
+                return null;
+            }
+            if (s instanceof FunctionScope) {
+                FunctionScope fscope = (FunctionScope) s;
+                if (fscope.isDeclared(name)) {
+                    int slot = fscope.bindingSlot(name);
+                    return slot >= 0 ? new BindingSlot(fscope, hops, slot) : null;
+                }
+                // Named function expressions create an additional environment for the function name.
+                FunctionNode function = fscope.getNode();
+                if (function == null
+                        || (function instanceof Expression && identifierName.equals(function.getFunctionName()))) {
+                    return null;
+                }
+                hops += 1;
+                s = fscope.getEnclosingScope();
+            } else if (s.isDeclared(name) || s instanceof TopLevelScope) {
+                return null;
+            } else {
+                s = s.getParent();
+            }
+        }
+        return null;
+    }
 }
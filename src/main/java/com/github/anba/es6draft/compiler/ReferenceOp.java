@@ -15,6 +15,7 @@ import com.github.anba.es6draft.compiler.assembler.Jump;
 import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.Type;
 import com.github.anba.es6draft.compiler.assembler.Value;
+import com.github.anba.es6draft.runtime.internal.Bootstrap;
 
 /**
  *
@@ -300,19 +301,27 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
         static final MethodName EnvironmentRecord_withBaseObject = MethodName.findInterface(Types.EnvironmentRecord,
                 "withBaseObject", Type.methodType(Types.ScriptObject));
 
-        // class: Reference
-        static final MethodName Reference_getValue = MethodName.findVirtual(Types.Reference, "getValue",
-                Type.methodType(Types.Object, Types.ExecutionContext));
+        // class: Operators
+        static final MethodName Operators_getBindingValue = MethodName.findStatic(Types.Operators,
+                "getBindingValue", Type.methodType(Types.Object, Types.EnvironmentRecord, Types.String,
+                        Type.BOOLEAN_TYPE, Types.ExecutionContext));
+
+        static final MethodName Operators_setBindingValue = MethodName.findStatic(Types.Operators,
+                "setBindingValue", Type.methodType(Type.VOID_TYPE, Types.EnvironmentRecord, Types.String,
+                        Types.Object, Type.BOOLEAN_TYPE, Types.ExecutionContext));
 
-        static final MethodName Reference_putValue = MethodName.findVirtual(Types.Reference, "putValue",
-                Type.methodType(Type.VOID_TYPE, Types.Object, Types.ExecutionContext));
+        static final MethodName Operators_getSlotBindingValue = MethodName.findStatic(Types.Operators,
+                "getSlotBindingValue", Type.methodType(Types.Object, Types.EnvironmentRecord, Types.String,
+                        Type.INT_TYPE, Type.BOOLEAN_TYPE, Types.ExecutionContext));
 
+        static final MethodName Operators_setSlotBindingValue = MethodName.findStatic(Types.Operators,
+                "setSlotBindingValue", Type.methodType(Type.VOID_TYPE, Types.EnvironmentRecord, Types.String,
+                        Types.Object, Type.INT_TYPE, Type.BOOLEAN_TYPE, Types.ExecutionContext));
+
+        // class: Reference
         static final MethodName Reference_delete = MethodName.findVirtual(Types.Reference, "delete",
                 Type.methodType(Type.BOOLEAN_TYPE, Types.ExecutionContext));
 
-        static final MethodName Reference_getBase = MethodName.findVirtual(Types.Reference, "getBase",
-                Type.methodType(Types.Object));
-
         // class: PropertyOperations (super property operations)
         static final MethodName PropertyOperations_GetSuperEnvironmentRecord = MethodName.findStatic(
                 Types.PropertyOperations, "GetSuperEnvironmentRecord",
@@ -379,7 +388,7 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
         static final MethodName PropertyOperations_checkAccessProperty = MethodName.findStatic(Types.PropertyOperations,
                 "checkAccessProperty", Type.methodType(Types.Object, Types.Object, Types.ExecutionContext));
 
-        // PropertyOperations#getElementValue, #getPropertyValue
+        // PropertyOperations#getElementValue
         static final MethodName PropertyOperations_getElementValue = MethodName.findStatic(Types.PropertyOperations,
                 "getElementValue", Type.methodType(Types.Object, Types.Object, Types.Object, Types.ExecutionContext));
 
@@ -398,10 +407,7 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
                 Types.PropertyOperations, "getElementValue",
                 Type.methodType(Types.Object, Types.Object, Types.String, Types.ExecutionContext));
 
-        static final MethodName PropertyOperations_getPropertyValue = MethodName.findStatic(Types.PropertyOperations,
-                "getPropertyValue", Type.methodType(Types.Object, Types.Object, Types.String, Types.ExecutionContext));
-
-        // PropertyOperations#setElementValue, #setPropertyValue
+        // PropertyOperations#setElementValue
         static final MethodName PropertyOperations_setElementValue = MethodName.findStatic(Types.PropertyOperations,
                 "setElementValue", Type.methodType(Type.VOID_TYPE, Types.Object, Types.Object, Types.Object,
                         Types.ExecutionContext, Type.BOOLEAN_TYPE));
@@ -422,10 +428,6 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
                 .findStatic(Types.PropertyOperations, "setElementValue", Type.methodType(Type.VOID_TYPE, Types.Object,
                         Types.String, Types.Object, Types.ExecutionContext, Type.BOOLEAN_TYPE));
 
-        static final MethodName PropertyOperations_setPropertyValue = MethodName.findStatic(Types.PropertyOperations,
-                "setPropertyValue", Type.methodType(Type.VOID_TYPE, Types.Object, Types.String, Types.Object,
-                        Types.ExecutionContext, Type.BOOLEAN_TYPE));
-
         // PropertyOperations#deleteProperty
         static final MethodName PropertyOperations_deleteElement = MethodName.findStatic(Types.PropertyOperations,
                 "deleteElement", Type.methodType(Type.BOOLEAN_TYPE, Types.Object, Types.Object, Types.ExecutionContext,
@@ -478,11 +480,13 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
      * 12.1.6 Runtime Semantics: Evaluation
      */
     static final ReferenceOp<IdentifierReference> LOOKUP = new ReferenceOp<IdentifierReference>() {
+        // The resolved identifier reference is represented by its base environment record, or null if the
+        // reference is unresolvable. That way no Reference object needs to be allocated.
+
         @Override
         protected ValType reference(IdentifierReference node, boolean update, CodeVisitor mv, CodeGenerator gen) {
-            // stack: [] -> [ref]
-            ValType ref = IdentifierResolution.resolve(node, mv);
-            assert ref == ValType.Reference : "type is not reference: " + ref;
+            // stack: [] -> [envRec]
+            ValType ref = IdentifierResolution.resolveEnvironment(node, mv);
             if (update) {
                 mv.dup();
             }
@@ -491,27 +495,48 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
 
         @Override
         ValType getValue(IdentifierReference node, ValType ref, CodeVisitor mv) {
-            // stack: [ref] -> [value]
-            assert ref == ValType.Reference : "type is not reference: " + ref;
+            // stack: [envRec] -> [value]
+            int slot = IdentifierResolution.slot(node, mv);
+            mv.aconst(node.getName());
+            if (slot >= 0) {
+                mv.iconst(slot);
+            }
+            mv.iconst(mv.isStrict());
             mv.loadExecutionContext();
             mv.lineInfo(node);
-            mv.invoke(Methods.Reference_getValue);
+            if (slot >= 0) {
+                mv.invoke(Methods.Operators_getSlotBindingValue);
+            } else {
+                mv.invoke(Methods.Operators_getBindingValue);
+            }
             return ValType.Any;
         }
 
         @Override
         void putValue(IdentifierReference node, ValType ref, ValType value, CodeVisitor mv) {
-            // stack: [ref, value] -> []
-            assert ref == ValType.Reference : "type is not reference: " + ref;
+            // stack: [envRec, value] -> [envRec, name, value]
             mv.toBoxed(value);
+            int slot = IdentifierResolution.slot(node, mv);
+            mv.aconst(node.getName());
+            mv.swap();
+            // stack: [envRec, name, value] -> []
+            if (slot >= 0) {
+                mv.iconst(slot);
+            }
+            mv.iconst(mv.isStrict());
             mv.loadExecutionContext();
             mv.lineInfo(node);
-            mv.invoke(Methods.Reference_putValue);
+            if (slot >= 0) {
+                mv.invoke(Methods.Operators_setSlotBindingValue);
+            } else {
+                mv.invoke(Methods.Operators_setBindingValue);
+            }
         }
 
         @Override
         ValType delete(IdentifierReference node, CodeVisitor mv, CodeGenerator gen) {
-            ValType ref = reference(node, false, mv, gen);
+            // stack: [] -> [ref]
+            ValType ref = IdentifierResolution.resolve(node, mv);
             assert ref == ValType.Reference : "type is not reference: " + ref;
             mv.loadExecutionContext();
             mv.lineInfo(node);
@@ -523,15 +548,13 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
         protected ValType referenceValue(IdentifierReference node, boolean withThis, CodeVisitor mv,
                 CodeGenerator gen) {
             if (withThis) {
-                // stack: [] -> [ref, ref]
+                // stack: [] -> [envRec, envRec]
                 ValType ref = reference(node, mv, gen);
                 mv.dup();
-                // stack: [ref, ref] -> [value, ref]
+                // stack: [envRec, envRec] -> [value, envRec]
                 getValue(node, ref, mv);
                 mv.swap();
-                // stack: [value, ref] -> [value, baseObj?]
-                mv.invoke(Methods.Reference_getBase);
-                mv.checkcast(Types.EnvironmentRecord);
+                // stack: [value, envRec] -> [value, baseObj?]
                 mv.invoke(Methods.EnvironmentRecord_withBaseObject);
                 // stack: [value, baseObj?] -> [value, thisValue]
                 Jump baseObjNotNull = new Jump();
@@ -549,7 +572,7 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
 
         @Override
         protected int referenceSize(ValType ref) {
-            // ref
+            // envRec
             return 1;
         }
     };
@@ -584,7 +607,8 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
             // stack: [base, key] -> [value]
             mv.loadExecutionContext();
             mv.lineInfo(node);
-            mv.invoke(Methods.PropertyOperations_getPropertyValue);
+            mv.invokedynamic(Bootstrap.getPropertyGetName(), Bootstrap.getPropertyGetMethodDescriptor(),
+                    Bootstrap.getPropertyGetBootstrap());
             return ValType.Any;
         }
 
@@ -595,7 +619,8 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
             mv.loadExecutionContext();
             mv.iconst(mv.isStrict());
             mv.lineInfo(node);
-            mv.invoke(Methods.PropertyOperations_setPropertyValue);
+            mv.invokedynamic(Bootstrap.getPropertySetName(), Bootstrap.getPropertySetMethodDescriptor(),
+                    Bootstrap.getPropertySetBootstrap());
         }
 
         @Override
@@ -621,7 +646,8 @@ abstract class ReferenceOp<NODE extends LeftHandSideExpression> {
             mv.aconst(node.getName());
             mv.loadExecutionContext();
             mv.lineInfo(node);
-            mv.invoke(Methods.PropertyOperations_getPropertyValue);
+            mv.invokedynamic(Bootstrap.getPropertyGetName(), Bootstrap.getPropertyGetMethodDescriptor(),
+                    Bootstrap.getPropertyGetBootstrap());
             if (withThis) {
                 // stack: [thisValue, func] -> [func, thisValue]
                 mv.swap();
@@ -141,7 +141,26 @@ final class RuntimeInfoGenerator {
         asm.end();
     }
 
-    private int functionFlags(FunctionNode node, boolean tailCall, boolean tailConstruct) {
+    void lazyRuntimeInfo(MethodCode method, Type owner, int index) {
+        InstructionAssembler asm = new InstructionAssembler(method);
+        asm.begin();
+
+        asm.getstatic(owner, CodeGenerator.LAZY_FUNCTIONS_FIELD, Types.RuntimeInfo$Function_);
+        asm.iconst(index);
+        asm.aaload();
+
+        asm._return();
+        asm.end();
+    }
+
+    String[] parameterNames(FunctionNode node) {
+        if (hasMappedOrLegacyArguments(node)) {
+            return mappedNames(node.getParameters());
+        }
+        return null;
+    }
+
+    int functionFlags(FunctionNode node, boolean tailCall, boolean tailConstruct) {
         boolean strict = IsStrict(node);
         int functionFlags = 0;
         if (strict) {
@@ -166,7 +166,7 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
 
         // class: ScriptException
         static final MethodName ScriptException_create = MethodName.findStatic(Types.ScriptException, "create",
-                Type.methodType(Types.ScriptException, Types.Object));
+                Type.methodType(Types.ScriptException, Types.Object, Types.ExecutionContext));
 
         static final MethodName ScriptException_getValue = MethodName.findVirtual(Types.ScriptException, "getValue",
                 Type.methodType(Types.Object));
@@ -1691,6 +1691,7 @@ final class StatementGenerator extends DefaultCodeGenerator<StatementGenerator.C
     public Completion visit(ThrowStatement node, CodeVisitor mv) {
         /* steps 1-3 */
         expressionBoxed(node.getExpression(), mv);
+        mv.loadExecutionContext();
         mv.lineInfo(node);
         mv.invoke(Methods.ScriptException_create);
 
@@ -102,6 +102,8 @@ final class Types {
     static final Type AbstractOperations = Type.of(AbstractOperations.class);
     static final Type DeclarativeEnvironmentRecord = Type.of(DeclarativeEnvironmentRecord.class);
     static final Type DeclarativeEnvironmentRecord$Binding = Type.of(DeclarativeEnvironmentRecord.Binding.class);
+    static final Type DeclarativeEnvironmentRecord$BindingLayout = Type
+            .of(DeclarativeEnvironmentRecord.BindingLayout.class);
     static final Type EnvironmentRecord = Type.of(EnvironmentRecord.class);
     static final Type ExecutionContext = Type.of(ExecutionContext.class);
     static final Type FunctionEnvironmentRecord = Type.of(FunctionEnvironmentRecord.class);
@@ -199,6 +201,7 @@ final class Types {
     static final Type ReturnValue = Type.of(ReturnValue.class);
     static final Type RuntimeInfo = Type.of(RuntimeInfo.class);
     static final Type RuntimeInfo$Function = Type.of(RuntimeInfo.Function.class);
+    static final Type RuntimeInfo$Function_ = Type.of(RuntimeInfo.Function[].class);
     static final Type RuntimeInfo$ModuleBody = Type.of(RuntimeInfo.ModuleBody.class);
     static final Type RuntimeInfo$ScriptBody = Type.of(RuntimeInfo.ScriptBody.class);
     static final Type ScriptException = Type.of(ScriptException.class);
@@ -11,14 +11,21 @@ import java.io.StringWriter;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
 import org.objectweb.asm.util.Printer;
 import org.objectweb.asm.util.Textifier;
 import org.objectweb.asm.util.TraceClassVisitor;
@@ -84,12 +91,13 @@ public final class Code {
         if ((access & ~Modifier.classModifiers()) != 0) {
             throw new IllegalArgumentException();
         }
-        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
-        cw.visit(JAVA_VERSION, access | Opcodes.ACC_SUPER, className, signature.toString(), superClass.internalName(),
+        // Classes are recorded as trees and assembled in toByteArray() to allow assembling them in parallel.
+        ClassNode cn = new ClassNode(Opcodes.ASM6);
+        cn.visit(JAVA_VERSION, access | Opcodes.ACC_SUPER, className, signature.toString(), superClass.internalName(),
                 toInternalNames(interfaces));
-        cw.visitSource(sourceInfo.getFileName(), sourceInfo.getSourceMap());
+        cn.visitSource(sourceInfo.getFileName(), sourceInfo.getSourceMap());
 
-        return new ClassCode(constantPool, className, cw);
+        return new ClassCode(constantPool, className, cn);
     }
 
     private static String[] toInternalNames(List<Type> types) {
@@ -113,6 +121,73 @@ public final class Code {
         return classes;
     }
 
+    /**
+     * Assembles all generated classes, independent classes are assembled in parallel when an executor is present. The
+     * returned list has the same order as {@link #getClasses()}.
+     * 
+     * @param executor
+     *            the executor to assemble classes or {@code null}
+     * @return the list of class files
+     */
+    public List<byte[]> toByteArrays(Executor executor) {
+        // Constant pools need to be closed before the class files can be assembled.
+        for (int i = 0; i < classes.size(); ++i) {
+            classes.get(i).close();
+        }
+        int classCount = classes.size();
+        byte[][] classFiles = new byte[classCount][];
+        if (executor == null || classCount == 1) {
+            for (int i = 0; i < classCount; ++i) {
+                classFiles[i] = classes.get(i).assemble();
+            }
+            return Arrays.asList(classFiles);
+        }
+        // The calling thread takes part in the assembly, so progress is guaranteed even if the executor is busy.
+        AtomicInteger nextClass = new AtomicInteger();
+        CountDownLatch assembled = new CountDownLatch(classCount);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        Runnable assembler = () -> {
+            for (int i; (i = nextClass.getAndIncrement()) < classCount;) {
+                try {
+                    classFiles[i] = classes.get(i).assemble();
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    assembled.countDown();
+                }
+            }
+        };
+        int parallelism = Math.min(classCount, Runtime.getRuntime().availableProcessors()) - 1;
+        for (int i = 0; i < parallelism; ++i) {
+            try {
+                executor.execute(assembler);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        assembler.run();
+        boolean interrupted = false;
+        while (true) {
+            try {
+                assembled.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        Throwable e = failure.get();
+        if (e instanceof RuntimeException) {
+            throw (RuntimeException) e;
+        }
+        if (e instanceof Error) {
+            throw (Error) e;
+        }
+        return Arrays.asList(classFiles);
+    }
+
     /**
      * Returns the shared constant pool instance.
      * 
@@ -270,13 +345,14 @@ public final class Code {
         public final ConstantPool constantPool;
         public final String className;
         public final Type classType;
-        public final ClassWriter classWriter;
+        private final ClassNode classNode;
+        private boolean closed = false;
 
-        ClassCode(ConstantPool constantPool, String className, ClassWriter classWriter) {
+        ClassCode(ConstantPool constantPool, String className, ClassNode classNode) {
             this.constantPool = constantPool;
             this.className = className;
             this.classType = Type.forName(className);
-            this.classWriter = classWriter;
+            this.classNode = classNode;
         }
 
         int methodCount() {
@@ -284,9 +360,23 @@ public final class Code {
         }
 
         public byte[] toByteArray() {
-            constantPool.close();
-            classWriter.visitEnd();
-            return classWriter.toByteArray();
+            close();
+            return assemble();
+        }
+
+        void close() {
+            if (!closed) {
+                closed = true;
+                constantPool.close();
+                classNode.visitEnd();
+            }
+        }
+
+        byte[] assemble() {
+            assert closed;
+            ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+            classNode.accept(cw);
+            return cw.toByteArray();
         }
 
         public MethodCode newConstructor(int access, MethodTypeDescriptor methodDescriptor, String signature,
@@ -296,7 +386,7 @@ public final class Code {
             }
             methodCount += 1;
             return new MethodCode(this, access, "<init>", methodDescriptor,
-                    classWriter.visitMethod(access, "<init>", methodDescriptor.descriptor(), signature, exceptions));
+                    classNode.visitMethod(access, "<init>", methodDescriptor.descriptor(), signature, exceptions));
         }
 
         public MethodCode newMethod(int access, String methodName, MethodTypeDescriptor methodDescriptor,
@@ -306,14 +396,14 @@ public final class Code {
             }
             methodCount += 1;
             return new MethodCode(this, access, methodName, methodDescriptor,
-                    classWriter.visitMethod(access, methodName, methodDescriptor.descriptor(), signature, exceptions));
+                    classNode.visitMethod(access, methodName, methodDescriptor.descriptor(), signature, exceptions));
         }
 
         public void addField(int access, String fieldName, Type fieldDescriptor, String signature) {
             if ((access & ~Modifier.fieldModifiers()) != 0) {
                 throw new IllegalArgumentException();
             }
-            classWriter.visitField(access, fieldName, fieldDescriptor.descriptor(), signature, null).visitEnd();
+            classNode.visitField(access, fieldName, fieldDescriptor.descriptor(), signature, null).visitEnd();
         }
     }
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.interpreter;
+
+import static com.github.anba.es6draft.runtime.ExecutionContext.newFunctionExecutionContext;
+import static com.github.anba.es6draft.runtime.LexicalEnvironment.newFunctionEnvironment;
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
+import static com.github.anba.es6draft.semantics.StaticSemantics.BoundNames;
+import static com.github.anba.es6draft.semantics.StaticSemantics.VarDeclaredNames;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import com.github.anba.es6draft.ast.FunctionNode;
+import com.github.anba.es6draft.ast.scope.Name;
+import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
+import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.FunctionEnvironmentRecord;
+import com.github.anba.es6draft.runtime.LexicalEnvironment;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.runtime.language.FunctionOperations;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryFunction;
+
+/**
+ * Interpreted call method of a lazily compiled function.
+ * <p>
+ * Calls and loop iterations are counted, once the function becomes hot, the tier-up callback compiles the function
+ * and later calls use the compiled code. Calls which are already in progress continue to be interpreted.
+ */
+final class InterpretedFunction {
+    private static final String INTERPRETER_FUNCTION = InterpretedFunction.class.getName();
+    private static final MethodHandle CALL;
+
+    static {
+        MethodType type = MethodType.methodType(Object.class, OrdinaryFunction.class, ExecutionContext.class,
+                Object.class, Object[].class);
+        try {
+            CALL = MethodHandles.lookup().findVirtual(InterpretedFunction.class, "call", type);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final FunctionNode function;
+    private final Source source;
+    private final Runnable tierUp;
+    private final boolean strict;
+    private final DeclarativeEnvironmentRecord.BindingLayout layout;
+    private final String[] parameterNames;
+    private final String[] varNames;
+
+    // Profiling state, guarded by 'this'.
+    private int hotness;
+    private boolean tierUpStarted;
+
+    InterpretedFunction(FunctionNode function, Source source, Runnable tierUp) {
+        this.function = function;
+        this.source = source;
+        this.tierUp = tierUp;
+        this.strict = function.getThisMode() == FunctionNode.ThisMode.Strict;
+        this.layout = new DeclarativeEnvironmentRecord.BindingLayout(
+                function.getScope().bindingSlotNames().toArray(new String[0]));
+        List<Name> parameters = BoundNames(function.getParameters());
+        LinkedHashSet<String> vars = new LinkedHashSet<>();
+        for (Name name : VarDeclaredNames(function)) {
+            if (!parameters.contains(name)) {
+                vars.add(name.getIdentifier());
+            }
+        }
+        this.parameterNames = new String[parameters.size()];
+        for (int i = 0; i < parameterNames.length; ++i) {
+            parameterNames[i] = parameters.get(i).getIdentifier();
+        }
+        this.varNames = vars.toArray(new String[0]);
+    }
+
+    /**
+     * Returns the call method handle of this function.
+     *
+     * @return the call method handle
+     */
+    MethodHandle callMethod() {
+        return CALL.bindTo(this);
+    }
+
+    @SuppressWarnings("unused")
+    private Object call(OrdinaryFunction callee, ExecutionContext callerContext, Object thisValue, Object[] args) {
+        /* 9.2.1.2 OrdinaryCallBindThis */
+        Object thisArgument = strict ? thisValue : FunctionOperations.functionThisValue(callee, thisValue);
+        /* 9.2.1.1 PrepareForOrdinaryCall */
+        LexicalEnvironment<FunctionEnvironmentRecord> funEnv = newFunctionEnvironment(callee, null, thisArgument,
+                layout);
+        ExecutionContext calleeContext = newFunctionExecutionContext(callee, funEnv);
+        Interpreter interpreter = new Interpreter(function);
+        try {
+            /* 9.2.1.3 OrdinaryCallEvaluateBody */
+            FunctionDeclarationInstantiation(funEnv.getEnvRec(), args);
+            return interpreter.evaluateBody(function, calleeContext);
+        } catch (ScriptException e) {
+            throw interpreterException(interpreter, e);
+        } finally {
+            if (profile(1 + interpreter.getBackEdgeCount())) {
+                tierUp.run();
+            }
+        }
+    }
+
+    private synchronized boolean profile(int count) {
+        if (tierUpStarted) {
+            return false;
+        }
+        hotness = Math.max(hotness + count, hotness);
+        if (hotness >= InterpretedScriptBody.COMPILE_THRESHOLD) {
+            // Only a single compilation attempt per function, also when the compilation fails.
+            tierUpStarted = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 9.2.12 FunctionDeclarationInstantiation(func, argumentsList)
+     * <p>
+     * Restricted to simple parameter lists without arguments object, function declarations or lexical declarations.
+     *
+     * @param envRec
+     *            the function environment record
+     * @param args
+     *            the function arguments
+     */
+    private void FunctionDeclarationInstantiation(FunctionEnvironmentRecord envRec, Object[] args) {
+        /* steps 21-22, 25 */
+        for (int i = 0; i < parameterNames.length; ++i) {
+            String paramName = parameterNames[i];
+            Object value = i < args.length ? args[i] : UNDEFINED;
+            if (!envRec.hasBinding(paramName)) {
+                envRec.createMutableBinding(paramName, false);
+                envRec.initializeBinding(paramName, value);
+            } else {
+                // Duplicate parameter names, the last parameter wins.
+                envRec.setMutableBinding(paramName, value, false);
+            }
+        }
+        /* step 27 */
+        for (String varName : varNames) {
+            envRec.createMutableBinding(varName, false);
+            envRec.initializeBinding(varName, UNDEFINED);
+        }
+    }
+
+    private ScriptException interpreterException(Interpreter interpreter, ScriptException e) {
+        StackTraceElement[] elements = e.getStackTrace();
+        int entry = -1;
+        for (int i = 0; i < elements.length; ++i) {
+            StackTraceElement element = elements[i];
+            if (INTERPRETER_FUNCTION.equals(element.getClassName()) && "call".equals(element.getMethodName())) {
+                entry = i;
+                break;
+            }
+        }
+        // Replace entry frame with script file information.
+        if (entry != -1) {
+            StackTraceElement[] newElements = elements.clone();
+            newElements[entry] = new StackTraceElement("#Interpreter", "~interpreter", source.getName(),
+                    interpreter.getCurrentLine());
+            e.setStackTrace(newElements);
+        }
+        return e;
+    }
+}
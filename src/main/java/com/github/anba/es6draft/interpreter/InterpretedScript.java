@@ -6,6 +6,9 @@
  */
 package com.github.anba.es6draft.interpreter;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
 import com.github.anba.es6draft.runtime.internal.Source;
@@ -17,9 +20,19 @@ public final class InterpretedScript implements Script {
     private final Source source;
     private final InterpretedScriptBody scriptBody;
 
-    InterpretedScript(com.github.anba.es6draft.ast.Script parsedScript) {
+    InterpretedScript(com.github.anba.es6draft.ast.Script parsedScript, Executor executor,
+            Supplier<RuntimeInfo.ScriptBody> compiler) {
         this.source = parsedScript.getSource();
-        this.scriptBody = new InterpretedScriptBody(parsedScript);
+        this.scriptBody = new InterpretedScriptBody(parsedScript, executor, compiler);
+    }
+
+    /**
+     * Returns {@code true} if the script was compiled to bytecode.
+     * 
+     * @return {@code true} if the script was compiled
+     */
+    public boolean isCompiled() {
+        return scriptBody.isCompiled();
     }
 
     @Override
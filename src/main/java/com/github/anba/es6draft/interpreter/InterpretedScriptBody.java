@@ -12,6 +12,10 @@ import static com.github.anba.es6draft.runtime.ExecutionContext.newEvalExecution
 import static com.github.anba.es6draft.runtime.ExecutionContext.newScriptExecutionContext;
 import static com.github.anba.es6draft.runtime.LexicalEnvironment.newDeclarativeEnvironment;
 
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
 import com.github.anba.es6draft.runtime.ExecutionContext;
@@ -27,15 +31,39 @@ import com.github.anba.es6draft.runtime.internal.ScriptException;
  */
 final class InterpretedScriptBody implements RuntimeInfo.ScriptBody {
     private static final String INTERPRETER_SCRIPTBODY = InterpretedScriptBody.class.getName();
+    static final int COMPILE_THRESHOLD = Math.max(Integer.getInteger("es6draft.interpreter.threshold", 1000),
+            0);
+
     private final com.github.anba.es6draft.ast.Script parsedScript;
+    private final Executor executor;
+    private final Supplier<RuntimeInfo.ScriptBody> compiler;
+
+    // Profiling state, guarded by 'this'.
+    private int hotness;
+    private boolean compileStarted;
 
-    InterpretedScriptBody(com.github.anba.es6draft.ast.Script parsedScript) {
+    // Set once the background compilation has finished successfully.
+    private volatile RuntimeInfo.ScriptBody compiledBody;
+
+    InterpretedScriptBody(com.github.anba.es6draft.ast.Script parsedScript, Executor executor,
+            Supplier<RuntimeInfo.ScriptBody> compiler) {
         this.parsedScript = parsedScript;
+        this.executor = executor;
+        this.compiler = compiler;
+    }
+
+    boolean isCompiled() {
+        return compiledBody != null;
     }
 
     @Override
     public Object evaluate(ExecutionContext cx, Script script) {
         assert script.getScriptBody() == this;
+        // Continue interpreting while the compilation is pending or if it failed.
+        RuntimeInfo.ScriptBody compiledBody = this.compiledBody;
+        if (compiledBody != null) {
+            return compiledBody.evaluate(cx, script);
+        }
         Interpreter interpreter = new Interpreter(parsedScript);
         try {
             if (parsedScript.isScripting()) {
@@ -47,6 +75,40 @@ final class InterpretedScriptBody implements RuntimeInfo.ScriptBody {
             return scriptEvaluation(cx, script, interpreter);
         } catch (ScriptException e) {
             throw interpreterException(interpreter, e);
+        } finally {
+            if (profile(1 + interpreter.getBackEdgeCount())) {
+                compile();
+            }
+        }
+    }
+
+    private synchronized boolean profile(int count) {
+        if (compiler == null || compileStarted) {
+            return false;
+        }
+        hotness = Math.max(hotness + count, hotness);
+        if (hotness >= COMPILE_THRESHOLD) {
+            // Only a single compilation attempt per script, also when the compilation fails.
+            compileStarted = true;
+            return true;
+        }
+        return false;
+    }
+
+    private void compile() {
+        // The compiler must not use the interpreted script node, cf. Interpreter#script().
+        Runnable task = () -> {
+            try {
+                compiledBody = compiler.get();
+            } catch (RuntimeException e) {
+                // Ignore compilation errors, the script is still interpreted.
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Compile on the current thread if the executor is no longer available.
+            task.run();
         }
     }
 
@@ -17,19 +17,27 @@ import static com.github.anba.es6draft.runtime.types.Reference.PutValue;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 import static com.github.anba.es6draft.runtime.types.builtins.ArrayObject.ArrayCreate;
 import static com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject.ObjectCreate;
+import static com.github.anba.es6draft.semantics.StaticSemantics.IsSimpleParameterList;
+import static com.github.anba.es6draft.semantics.StaticSemantics.IsStrict;
+import static com.github.anba.es6draft.semantics.StaticSemantics.LexicallyDeclaredNames;
 import static com.github.anba.es6draft.semantics.StaticSemantics.PropName;
 
 import java.math.BigInteger;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 import com.github.anba.es6draft.ast.*;
 import com.github.anba.es6draft.ast.BinaryExpression.Operator;
+import com.github.anba.es6draft.ast.scope.FunctionScope;
 import com.github.anba.es6draft.parser.Parser;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
 import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.Messages;
+import com.github.anba.es6draft.runtime.internal.RuntimeInfo;
+import com.github.anba.es6draft.runtime.internal.Source;
 import com.github.anba.es6draft.runtime.language.ArrayOperations;
 import com.github.anba.es6draft.runtime.language.CallOperations;
 import com.github.anba.es6draft.runtime.language.ObjectOperations;
@@ -48,7 +56,11 @@ import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 
 /**
- * Basic interpreter to speed-up evaluation of simple eval-scripts.
+ * Basic interpreter to speed-up evaluation of simple scripts.
+ * <p>
+ * Interpreted scripts act as the first execution tier: script evaluations and loop iterations are counted, and once
+ * the script becomes hot, it is compiled to bytecode in the background and subsequent evaluations use the compiled
+ * code. Lazily compiled functions use the same scheme per function, cf. {@link #function(FunctionNode, Source)}.
  */
 public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionContext> {
     /**
@@ -63,12 +75,60 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
         if (!parsedScript.accept(InterpreterTest.INSTANCE, null)) {
             return null;
         }
-        return new InterpretedScript(parsedScript);
+        return new InterpretedScript(parsedScript, null, null);
     }
 
+    /**
+     * Returns a new {@link InterpretedScript} if {@code parsedScript} can be interpreted, otherwise returns
+     * {@code null}. The script is compiled through {@code compiler} on {@code executor} when it becomes hot, and
+     * interpreted until the compilation has finished. If the compilation fails, the script stays interpreted.
+     * <p>
+     * The script is still interpreted while it is compiled, so the supplied compiler function must compile a separate
+     * script node, because the compiler may modify the script node.
+     * 
+     * @param parsedScript
+     *            the script node
+     * @param executor
+     *            the executor for background compilation
+     * @param compiler
+     *            the compiler function
+     * @return the interpreted script or {@code null}
+     */
+    public static InterpretedScript script(Script parsedScript, Executor executor,
+            Supplier<RuntimeInfo.ScriptBody> compiler) {
+        if (!parsedScript.accept(InterpreterTest.INSTANCE, null)) {
+            return null;
+        }
+        return new InterpretedScript(parsedScript, executor, compiler);
+    }
+
+    /**
+     * Returns a new function interpreter if {@code function} can be interpreted, otherwise returns {@code null}. Only
+     * plain function declarations and expressions with a simple parameter list are supported. The function body must
+     * not use {@code arguments} or direct {@code eval}, and must not contain nested functions or lexical
+     * declarations.
+     * 
+     * @param function
+     *            the function node
+     * @param source
+     *            the script source
+     * @return the function interpreter or {@code null}
+     */
+    public static RuntimeInfo.FunctionInterpreter function(FunctionNode function, Source source) {
+        if (!InterpreterTest.isInterpretable(function)) {
+            return null;
+        }
+        return tierUp -> new InterpretedFunction(function, source, tierUp).callMethod();
+    }
+
+    // Marker completion value for return statements, the actual return value is stored in 'returnValue'.
+    private static final Object RETURN = new Object();
+
     private final EnumSet<Parser.Option> parserOptions;
     private final boolean strict;
     private int currentLine;
+    private int backEdgeCount;
+    private Object returnValue;
 
     Interpreter(Script parsedScript) {
         this.parserOptions = EnumSet.copyOf(parsedScript.getParserOptions());
@@ -76,10 +136,20 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
         this.currentLine = parsedScript.getBeginLine();
     }
 
+    Interpreter(FunctionNode function) {
+        this.parserOptions = EnumSet.noneOf(Parser.Option.class);
+        this.strict = IsStrict(function);
+        this.currentLine = function.getBeginLine();
+    }
+
     int getCurrentLine() {
         return currentLine;
     }
 
+    int getBackEdgeCount() {
+        return backEdgeCount;
+    }
+
     /* ----------------------------------------------------------------------------------------- */
 
     /**
@@ -655,6 +725,31 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
         return completionValue;
     }
 
+    /**
+     * Evaluates the function body.
+     * 
+     * @param function
+     *            the function node
+     * @param cx
+     *            the function execution context
+     * @return the function return value
+     */
+    Object evaluateBody(FunctionNode function, ExecutionContext cx) {
+        for (StatementListItem stmt : function.getStatements()) {
+            if (stmt.accept(this, cx) == RETURN) {
+                return returnValue;
+            }
+        }
+        return UNDEFINED;
+    }
+
+    @Override
+    public Object visit(ReturnStatement node, ExecutionContext cx) {
+        Expression expr = node.getExpression();
+        returnValue = expr != null ? GetValue(expr.accept(this, cx), cx) : UNDEFINED;
+        return RETURN;
+    }
+
     @Override
     public Object visit(VariableStatement node, ExecutionContext cx) {
         for (VariableDeclaration decl : node.getElements()) {
@@ -682,6 +777,109 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
         return GetValue(node.getExpression().accept(this, cx), cx);
     }
 
+    @Override
+    public Object visit(EmptyStatement node, ExecutionContext cx) {
+        return null;
+    }
+
+    @Override
+    public Object visit(BlockStatement node, ExecutionContext cx) {
+        Object completionValue = null;
+        for (StatementListItem stmt : node.getStatements()) {
+            Object val = stmt.accept(this, cx);
+            if (val == RETURN) {
+                return val;
+            }
+            if (val != null) {
+                completionValue = val;
+            }
+        }
+        return completionValue;
+    }
+
+    @Override
+    public Object visit(IfStatement node, ExecutionContext cx) {
+        currentLine = node.getBeginLine();
+        Object test = GetValue(node.getTest().accept(this, cx), cx);
+        Object val;
+        if (ToBoolean(test)) {
+            val = node.getThen().accept(this, cx);
+        } else if (node.getOtherwise() != null) {
+            val = node.getOtherwise().accept(this, cx);
+        } else {
+            val = null;
+        }
+        return val != null ? val : UNDEFINED;
+    }
+
+    @Override
+    public Object visit(WhileStatement node, ExecutionContext cx) {
+        Object completionValue = UNDEFINED;
+        while (true) {
+            currentLine = node.getBeginLine();
+            if (!ToBoolean(GetValue(node.getTest().accept(this, cx), cx))) {
+                return completionValue;
+            }
+            Object val = node.getStatement().accept(this, cx);
+            if (val == RETURN) {
+                return val;
+            }
+            if (val != null) {
+                completionValue = val;
+            }
+            backEdgeCount += 1;
+        }
+    }
+
+    @Override
+    public Object visit(DoWhileStatement node, ExecutionContext cx) {
+        Object completionValue = UNDEFINED;
+        while (true) {
+            Object val = node.getStatement().accept(this, cx);
+            if (val == RETURN) {
+                return val;
+            }
+            if (val != null) {
+                completionValue = val;
+            }
+            currentLine = node.getBeginLine();
+            if (!ToBoolean(GetValue(node.getTest().accept(this, cx), cx))) {
+                return completionValue;
+            }
+            backEdgeCount += 1;
+        }
+    }
+
+    @Override
+    public Object visit(ForStatement node, ExecutionContext cx) {
+        Node head = node.getHead();
+        if (head instanceof Expression) {
+            currentLine = node.getBeginLine();
+            GetValue(head.accept(this, cx), cx);
+        } else if (head != null) {
+            head.accept(this, cx);
+        }
+        Object completionValue = UNDEFINED;
+        while (true) {
+            currentLine = node.getBeginLine();
+            if (node.getTest() != null && !ToBoolean(GetValue(node.getTest().accept(this, cx), cx))) {
+                return completionValue;
+            }
+            Object val = node.getStatement().accept(this, cx);
+            if (val == RETURN) {
+                return val;
+            }
+            if (val != null) {
+                completionValue = val;
+            }
+            if (node.getStep() != null) {
+                currentLine = node.getBeginLine();
+                GetValue(node.getStep().accept(this, cx), cx);
+            }
+            backEdgeCount += 1;
+        }
+    }
+
     @Override
     public Object visit(AssignmentExpression node, ExecutionContext cx) {
         if (node.getOperator() == AssignmentExpression.Operator.ASSIGN) {
@@ -1087,6 +1285,24 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
     private static final class InterpreterTest extends DefaultNodeVisitor<Boolean, Void> {
         static final DefaultNodeVisitor<Boolean, Void> INSTANCE = new InterpreterTest();
 
+        static boolean isInterpretable(FunctionNode function) {
+            if (!(function instanceof FunctionDeclaration || function instanceof FunctionExpression)
+                    || function.isGenerator() || function.isAsync()) {
+                return false;
+            }
+            FunctionScope scope = function.getScope();
+            if (scope.needsArguments() || scope.hasEval() || !IsSimpleParameterList(function.getParameters())
+                    || !LexicallyDeclaredNames(function).isEmpty()) {
+                return false;
+            }
+            for (StatementListItem stmt : function.getStatements()) {
+                if (!stmt.accept(INSTANCE, null)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
         @Override
         protected Boolean visit(Node node, Void value) {
             return false;
@@ -1102,6 +1318,11 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
             return true;
         }
 
+        @Override
+        public Boolean visit(ReturnStatement node, Void value) {
+            return node.getExpression() == null || node.getExpression().accept(this, value);
+        }
+
         @Override
         public Boolean visit(VariableStatement node, Void value) {
             for (VariableDeclaration decl : node.getElements()) {
@@ -1127,6 +1348,50 @@ public final class Interpreter extends DefaultNodeVisitor<Object, ExecutionConte
             return node.getExpression().accept(this, value);
         }
 
+        @Override
+        public Boolean visit(EmptyStatement node, Void value) {
+            return true;
+        }
+
+        @Override
+        public Boolean visit(BlockStatement node, Void value) {
+            for (StatementListItem stmt : node.getStatements()) {
+                if (!stmt.accept(this, value)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Boolean visit(IfStatement node, Void value) {
+            return node.getTest().accept(this, value) && node.getThen().accept(this, value)
+                    && (node.getOtherwise() == null || node.getOtherwise().accept(this, value));
+        }
+
+        @Override
+        public Boolean visit(WhileStatement node, Void value) {
+            return node.getTest().accept(this, value) && node.getStatement().accept(this, value);
+        }
+
+        @Override
+        public Boolean visit(DoWhileStatement node, Void value) {
+            return node.getTest().accept(this, value) && node.getStatement().accept(this, value);
+        }
+
+        @Override
+        public Boolean visit(ForStatement node, Void value) {
+            // Lexical declarations are not supported.
+            Node head = node.getHead();
+            if (!(head == null || head instanceof Expression || head instanceof VariableStatement)) {
+                return false;
+            }
+            return (head == null || head.accept(this, value))
+                    && (node.getTest() == null || node.getTest().accept(this, value))
+                    && (node.getStep() == null || node.getStep().accept(this, value))
+                    && node.getStatement().accept(this, value);
+        }
+
         @Override
         public Boolean visit(CallExpression node, Void value) {
             if (!node.getBase().accept(this, value)) {
@@ -8,12 +8,19 @@ package com.github.anba.es6draft.parser;
 
 import static com.github.anba.es6draft.runtime.types.Null.NULL;
 import static com.github.anba.es6draft.runtime.types.builtins.ArrayObject.ArrayCreate;
+import static com.github.anba.es6draft.runtime.types.builtins.ArrayObject.DenseArrayCreate;
 import static com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject.ObjectCreate;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+
 import com.github.anba.es6draft.parser.ParserException.ExceptionType;
 import com.github.anba.es6draft.runtime.ExecutionContext;
+import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.Messages;
+import com.github.anba.es6draft.runtime.internal.Shape;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.PropertyDescriptor;
 import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
@@ -33,6 +40,17 @@ public final class JSONParser {
     private final JSONTokenStream ts;
     private final ExecutionContext cx;
     private final String sourceName;
+    private final IdentityHashMap<Shape, Transition> transitions = new IdentityHashMap<>();
+
+    private static final class Transition {
+        final String name;
+        final Shape next;
+
+        Transition(String name, Shape next) {
+            this.name = name;
+            this.next = next;
+        }
+    }
 
     public JSONParser(ExecutionContext cx, String source) {
         this.cx = cx;
@@ -305,10 +323,10 @@ public final class JSONParser {
         if (token() != Token.RC) {
             for (;;) {
                 consume(Token.STRING);
-                String name = ts.getString();
+                String name = ts.getPropertyName();
                 consume(Token.COLON);
                 Object value = jsonValue();
-                object.defineOwnProperty(cx, (Object) name, new PropertyDescriptor(value, true, true, true));
+                createDataProperty(object, name, value);
                 if (token() == Token.RC) {
                     break;
                 }
@@ -319,6 +337,28 @@ public final class JSONParser {
         return object;
     }
 
+    private void createDataProperty(OrdinaryObject object, String name, Object value) {
+        Shape shape = object.getShape();
+        if (shape != null) {
+            // Records with the same property names reuse the shape transitions of previously parsed objects.
+            Transition transition = transitions.get(shape);
+            if (transition != null && transition.name.equals(name)) {
+                object.infallibleDefineOwnProperty(name, new Property(value, true, true, true), transition.next);
+                return;
+            }
+            if (!IndexedMap.isIndex(name) && object.lookupOwnProperty(name) == null) {
+                Shape next = shape.addProperty(name);
+                if (next != null) {
+                    transitions.put(shape, new Transition(name, next));
+                    object.infallibleDefineOwnProperty(name, new Property(value, true, true, true), next);
+                    return;
+                }
+            }
+        }
+        // Slow path for index keys, duplicate keys, objects in dictionary mode and shapes without free transitions.
+        object.defineOwnProperty(cx, (Object) name, new PropertyDescriptor(value, true, true, true));
+    }
+
     private <DOCUMENT, OBJECT, ARRAY, VALUE> VALUE jsonObject(JSONBuilder<DOCUMENT, OBJECT, ARRAY, VALUE> builder) {
         consume(Token.LC);
         OBJECT object = builder.newObject();
@@ -354,20 +394,21 @@ public final class JSONParser {
      * @return the script object represented by the JSON array
      */
     private ArrayObject jsonArray() {
-        ArrayObject array = ArrayCreate(cx, 0);
         consume(Token.LB);
-        if (token() != Token.RB) {
-            for (long index = 0;;) {
-                Object value = jsonValue();
-                array.defineOwnProperty(cx, index++, new PropertyDescriptor(value, true, true, true));
-                if (token() == Token.RB) {
-                    break;
-                }
-                consume(Token.COMMA);
+        if (token() == Token.RB) {
+            consume(Token.RB);
+            return ArrayCreate(cx, 0);
+        }
+        ArrayList<Object> elements = new ArrayList<>();
+        for (;;) {
+            elements.add(jsonValue());
+            if (token() == Token.RB) {
+                break;
             }
+            consume(Token.COMMA);
         }
         consume(Token.RB);
-        return array;
+        return DenseArrayCreate(cx, elements);
     }
 
     private <DOCUMENT, OBJECT, ARRAY, VALUE> VALUE jsonArray(JSONBuilder<DOCUMENT, OBJECT, ARRAY, VALUE> builder) {
@@ -23,6 +23,9 @@ import com.github.anba.es6draft.runtime.internal.Messages;
  * </ul>
  */
 final class JSONTokenStream {
+    private static final int NAME_CACHE_SIZE = 256;
+    private static final int MAX_CACHED_NAME_LENGTH = 32;
+
     private final JSONParser parser;
     private final TokenStreamInput input;
 
@@ -41,6 +44,9 @@ final class JSONTokenStream {
     private final StrBuffer buffer;
     private double number = 0;
 
+    /** property name cache, indexed by hash code */
+    private String[] names;
+
     public JSONTokenStream(JSONParser parser, TokenStreamInput input) {
         this.parser = parser;
         this.input = input;
@@ -104,6 +110,47 @@ final class JSONTokenStream {
         return buffer.toString();
     }
 
+    /**
+     * Returns the string data of the current token. Short strings are shared with previous calls to this method if
+     * they have the same content, so repeated property names only create a single string object.
+     * 
+     * @return the current string data
+     */
+    public String getPropertyName() {
+        StrBuffer buffer = this.buffer;
+        int length = buffer.length();
+        if (length > MAX_CACHED_NAME_LENGTH) {
+            return buffer.toString();
+        }
+        char[] array = buffer.array();
+        int hash = 0;
+        for (int i = 0; i < length; ++i) {
+            hash = 31 * hash + array[i];
+        }
+        String[] names = this.names;
+        if (names == null) {
+            this.names = names = new String[NAME_CACHE_SIZE];
+        }
+        int index = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        String name = names[index];
+        if (name == null || name.hashCode() != hash || !contentEquals(name, array, length)) {
+            names[index] = name = new String(array, 0, length);
+        }
+        return name;
+    }
+
+    private static boolean contentEquals(String s, char[] array, int length) {
+        if (s.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; ++i) {
+            if (s.charAt(i) != array[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Returns the number data of the current token.
      * 
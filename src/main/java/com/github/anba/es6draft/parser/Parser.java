@@ -429,6 +429,7 @@ public final class Parser {
         final boolean isLexical;
         boolean needsArguments;
         boolean directEval;
+        LinkedHashMap<String, Integer> bindingSlots;
 
         FunctionContext(ScopeContext enclosing, boolean isLexical) {
             super(enclosing);
@@ -584,6 +585,43 @@ public final class Parser {
             return needsArguments || directEval;
         }
 
+        @Override
+        public List<String> bindingSlotNames() {
+            return new ArrayList<>(bindingSlots().keySet());
+        }
+
+        @Override
+        public int bindingSlot(Name name) {
+            Integer slot = bindingSlots().get(name.getIdentifier());
+            return slot != null ? slot : -1;
+        }
+
+        private LinkedHashMap<String, Integer> bindingSlots() {
+            if (bindingSlots == null) {
+                // Same binding sets as getDeclaredName(), all of them are stored in the function environment.
+                LinkedHashMap<String, Integer> slots = new LinkedHashMap<>();
+                addBindingSlots(slots, parameterNames());
+                if (arguments != null) {
+                    addBindingSlots(slots, Collections.singleton(arguments));
+                }
+                if (variableScope == this) {
+                    addBindingSlots(slots, varDeclaredNames());
+                    addBindingSlots(slots, blockFunctionNames());
+                }
+                if (lexicalScope == this) {
+                    addBindingSlots(slots, lexicallyDeclaredNames());
+                }
+                bindingSlots = slots;
+            }
+            return bindingSlots;
+        }
+
+        private static void addBindingSlots(LinkedHashMap<String, Integer> slots, Set<Name> names) {
+            for (Name name : names) {
+                slots.putIfAbsent(name.getIdentifier(), slots.size());
+            }
+        }
+
         @Override
         protected Name getDeclaredName(Name name) {
             if (arguments != null && arguments.equals(name)) {
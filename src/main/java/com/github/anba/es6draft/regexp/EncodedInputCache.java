@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.regexp;
+
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+
+/**
+ * Per-thread cache for the encoded byte representation of regular expression input strings.
+ * <p>
+ * Joni only operates on byte arrays, so every input string needs to be encoded before it can be matched. Global and
+ * sticky regular expressions repeatedly match against the same input, and different regular expressions are often
+ * applied to the same input, too. This cache holds a small, fixed number of encoded inputs which are shared between
+ * all matchers on the current thread. Inputs are only weakly referenced and the encoded bytes are only softly
+ * referenced, so the cache neither keeps input strings alive nor prevents the garbage collector from reclaiming large
+ * encoded inputs, even when the owning thread does not perform another lookup. Cleared entries are removed on the next
+ * lookup.
+ */
+final class EncodedInputCache {
+    private static final int MAX_ENTRIES = 4;
+
+    private static final ThreadLocal<EncodedInputCache> CACHE = ThreadLocal.withInitial(EncodedInputCache::new);
+
+    private static final class Entry extends WeakReference<CharSequence> {
+        final UEncoding encoding;
+        final SoftReference<byte[]> bytes;
+
+        Entry(CharSequence input, UEncoding encoding, byte[] bytes) {
+            super(input);
+            this.encoding = encoding;
+            this.bytes = new SoftReference<>(bytes);
+        }
+    }
+
+    // Most recently used entries first.
+    private final Entry[] entries = new Entry[MAX_ENTRIES];
+
+    private EncodedInputCache() {
+    }
+
+    /**
+     * Returns the encoded bytes of {@code input}.
+     *
+     * @param encoding
+     *            the encoding
+     * @param input
+     *            the input string
+     * @return the encoded input string
+     */
+    static byte[] toBytes(UEncoding encoding, CharSequence input) {
+        return CACHE.get().get(encoding, input);
+    }
+
+    private byte[] get(UEncoding encoding, CharSequence input) {
+        Entry[] entries = this.entries;
+        Entry found = null;
+        byte[] bytes = null;
+        int size = 0;
+        for (int i = 0; i < entries.length; ++i) {
+            Entry entry = entries[i];
+            if (entry == null) {
+                break;
+            }
+            CharSequence cached = entry.get();
+            byte[] cachedBytes = entry.bytes.get();
+            if (cached == null || cachedBytes == null) {
+                // Drop entries whose input string or encoded bytes were collected.
+                continue;
+            }
+            if (cached == input && entry.encoding == encoding) {
+                found = entry;
+                bytes = cachedBytes;
+            } else {
+                entries[size++] = entry;
+            }
+        }
+        for (int i = size; i < entries.length && entries[i] != null; ++i) {
+            entries[i] = null;
+        }
+        if (found == null) {
+            bytes = input instanceof String ? encoding.toBytes((String) input) : encoding.toBytes(input);
+            found = new Entry(input, encoding, bytes);
+        }
+        moveToFront(Math.min(size, entries.length - 1), found);
+        return bytes;
+    }
+
+    private void moveToFront(int index, Entry entry) {
+        System.arraycopy(entries, 0, entries, 1, index);
+        entries[0] = entry;
+    }
+}
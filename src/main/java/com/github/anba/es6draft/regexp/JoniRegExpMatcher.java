@@ -27,10 +27,7 @@ final class JoniRegExpMatcher implements RegExpMatcher {
     private final int flags;
     private final BitSet negativeLAGroups;
     private final Map<String, Integer> namedGroups;
-    private Regex pattern;
-    // FIXME: Memory issue?
-    private CharSequence lastInput = null;
-    private byte[] lastInputBytes = null;
+    private volatile Regex pattern;
 
     public JoniRegExpMatcher(String regex, int flags, BitSet negativeLAGroups, Map<String, Integer> namedGroups) {
         this.regex = regex;
@@ -47,6 +44,8 @@ final class JoniRegExpMatcher implements RegExpMatcher {
     }
 
     private Regex getPattern() {
+        // Racy initialization is acceptable, compiling the same pattern always yields an equivalent Regex.
+        Regex pattern = this.pattern;
         if (pattern == null) {
             int flags = 0;
             if ((this.flags & Pattern.MULTILINE) != 0) {
@@ -60,33 +59,23 @@ final class JoniRegExpMatcher implements RegExpMatcher {
             UEncoding enc = getEncoding();
             byte[] bytes = enc.toBytes(regex);
             int length = bytes.length - enc.minLength();
-            pattern = new Regex(bytes, 0, length, flags, enc, JoniSyntax.ECMAScript);
+            this.pattern = pattern = new Regex(bytes, 0, length, flags, enc, JoniSyntax.ECMAScript);
         }
         return pattern;
     }
 
     @Override
     public MatcherStateImpl matcher(String s) {
-        UEncoding enc = getEncoding();
-        if (s != lastInput) {
-            lastInput = s;
-            lastInputBytes = enc.toBytes(s);
-        }
-        int length = lastInputBytes.length - enc.minLength();
-        Matcher matcher = getPattern().matcher(lastInputBytes, 0, length);
-        return new MatcherStateImpl(new EncodedString(enc, s), matcher, negativeLAGroups, namedGroups);
+        return matcher((CharSequence) s);
     }
 
     @Override
     public MatcherStateImpl matcher(CharSequence s) {
         UEncoding enc = getEncoding();
-        if (s != lastInput) {
-            lastInput = s;
-            lastInputBytes = enc.toBytes(s);
-        }
-        int length = lastInputBytes.length - enc.minLength();
-        Matcher matcher = getPattern().matcher(lastInputBytes, 0, length);
-        return new MatcherStateImpl(new EncodedString(enc, s), matcher, negativeLAGroups, namedGroups);
+        byte[] bytes = EncodedInputCache.toBytes(enc, s);
+        int length = bytes.length - enc.minLength();
+        Matcher matcher = getPattern().matcher(bytes, 0, length);
+        return new MatcherStateImpl(new EncodedString(enc, s), length, matcher, negativeLAGroups, namedGroups);
     }
 
     @Override
@@ -113,10 +102,6 @@ final class JoniRegExpMatcher implements RegExpMatcher {
             this.string = string;
         }
 
-        int byteLength() {
-            return encoding.length(string);
-        }
-
         int strLength(int start, int count) {
             return encoding.strLength(string, start, count);
         }
@@ -191,13 +176,13 @@ final class JoniRegExpMatcher implements RegExpMatcher {
         private int begin = -1, end = 0;
         private Region region;
 
-        MatcherStateImpl(EncodedString encString, Matcher matcher, BitSet negativeLAGroups,
+        MatcherStateImpl(EncodedString encString, int byteLength, Matcher matcher, BitSet negativeLAGroups,
                 Map<String, Integer> namedGroups) {
             this.encString = encString;
             this.matcher = matcher;
             this.negativeLAGroups = negativeLAGroups;
             this.namedGroups = namedGroups;
-            this.byteLength = encString.byteLength();
+            this.byteLength = byteLength;
             this.position = new StringPosition(encString, 0, 0, 0, 0);
         }
 
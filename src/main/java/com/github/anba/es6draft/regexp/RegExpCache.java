@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.regexp;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.anba.es6draft.parser.ParserException;
+import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+
+/**
+ * Bounded cache for compiled regular expressions.
+ * <p>
+ * Cache entries are keyed by the pattern, the flags and the compatibility options of the runtime context. Regular
+ * expression matchers are immutable and thread-safe, so cached matchers are shared between all RegExp objects created
+ * for the same key. Patterns with syntax errors are not cached.
+ */
+public final class RegExpCache {
+    private static final int DEFAULT_MAX_SIZE = 256;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = .75f;
+    private final Map<CacheKey, RegExpMatcher> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @SuppressWarnings("serial")
+    private static final class Cache extends LinkedHashMap<CacheKey, RegExpMatcher> {
+        private final int maxSize;
+
+        Cache(int maxSize, int initialCapacity, float loadFactor) {
+            super(initialCapacity, loadFactor, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, RegExpMatcher> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private static final class CacheKey {
+        private final String pattern;
+        private final String flags;
+        private final EnumSet<CompatibilityOption> options;
+
+        CacheKey(String pattern, String flags, EnumSet<CompatibilityOption> options) {
+            this.pattern = pattern;
+            this.flags = flags;
+            this.options = options;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != CacheKey.class) {
+                return false;
+            }
+            CacheKey other = (CacheKey) obj;
+            return pattern.equals(other.pattern) && flags.equals(other.flags) && options.equals(other.options);
+        }
+
+        @Override
+        public int hashCode() {
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + pattern.hashCode();
+            result = prime * result + flags.hashCode();
+            result = prime * result + options.hashCode();
+            return result;
+        }
+    }
+
+    /**
+     * Constructs a new {@link RegExpCache} object.
+     */
+    public RegExpCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new {@link RegExpCache} object.
+     *
+     * @param maxSize
+     *            the maximum size
+     */
+    public RegExpCache(int maxSize) {
+        this(maxSize, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new {@link RegExpCache} object.
+     *
+     * @param maxSize
+     *            the maximum capacity
+     * @param initialCapacity
+     *            the initial capacity
+     * @param loadFactor
+     *            the load factor
+     */
+    public RegExpCache(int maxSize, int initialCapacity, float loadFactor) {
+        this.cache = Collections.synchronizedMap(new Cache(maxSize, initialCapacity, loadFactor));
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Returns the number of cache misses.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Returns the number of cached regular expressions.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns a matcher for the regular expression {@code pattern} with {@code flags}. The regular expression is only
+     * parsed and compiled if no matching entry is present in this cache.
+     *
+     * @param context
+     *            the runtime context
+     * @param pattern
+     *            the regular expression pattern
+     * @param flags
+     *            the regular expression flags
+     * @param sourceFile
+     *            the source file for error reporting
+     * @param sourceLine
+     *            the source line for error reporting
+     * @param sourceColumn
+     *            the source column for error reporting
+     * @return the regular expression matcher
+     * @throws ParserException
+     *             if the pattern or flags are invalid
+     */
+    public RegExpMatcher get(RuntimeContext context, String pattern, String flags, String sourceFile, int sourceLine,
+            int sourceColumn) throws ParserException {
+        CacheKey cacheKey = new CacheKey(pattern, flags, context.getOptions());
+        RegExpMatcher matcher = cache.get(cacheKey);
+        if (matcher != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+            matcher = RegExpParser.parse(context, pattern, flags, sourceFile, sourceLine, sourceColumn);
+            cache.put(cacheKey, matcher);
+        }
+        return matcher;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: [size=%d, hits=%d, misses=%d]", getClass().getSimpleName(), size(), getHits(),
+                getMisses());
+    }
+}
@@ -33,10 +33,9 @@ final class UCS2Encoding extends UEncoding {
 
     @Override
     public byte[] toBytes(String s) {
-        char[] chars = s.toCharArray();
-        byte[] bytes = new byte[chars.length * 2 + 2]; // null-terminated c-string
-        for (int i = 0, j = 0, len = chars.length; i < len; ++i) {
-            char c = chars[i];
+        byte[] bytes = new byte[s.length() * 2 + 2]; // null-terminated c-string
+        for (int i = 0, j = 0, len = s.length(); i < len; ++i) {
+            char c = s.charAt(i);
             bytes[j++] = (byte) (c >>> 8);
             bytes[j++] = (byte) (c >>> 0);
         }
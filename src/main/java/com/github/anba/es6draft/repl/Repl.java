@@ -460,6 +460,12 @@ public final class Repl {
         @Option(name = "--no-interpreter", aliases = { "--compile-only" }, usage = "options.no_interpreter")
         boolean noInterpreter;
 
+        @Option(name = "--code-cache", metaVar = "meta.directory", usage = "options.code_cache")
+        Path codeCache;
+
+        @Option(name = "--lazy-compilation", usage = "options.lazy_compilation")
+        boolean lazyCompilation;
+
         @Option(name = "--stacktrace", usage = "options.stacktrace")
         boolean stacktrace;
 
@@ -1062,6 +1068,17 @@ public final class Repl {
         }
     }
 
+    private static CodeCache createCodeCache(Options options) {
+        if (options.codeCache == null) {
+            return null;
+        }
+        try {
+            return new CodeCache(options.codeCache);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private Realm newRealm() {
         Supplier<RuntimeContext.Data> runtimeData;
         Function<Realm, ? extends RealmData> realmData;
@@ -1103,6 +1120,7 @@ public final class Repl {
                                                    .setOptions(compatibilityOptions(options))
                                                    .setParserOptions(parserOptions(options))
                                                    .setCompilerOptions(compilerOptions(options))
+                                                   .setCodeCache(createCodeCache(options))
                                                    .build();
         /* @formatter:on */
 
@@ -1153,7 +1171,13 @@ public final class Repl {
                     Source source = evalScript.getSource();
                     String sourceCode = evalScript.getSourceCode();
                     try {
-                        eval(realm, parse(realm, source, sourceCode));
+                        if (realm.getRuntimeContext().getCodeCache() != null) {
+                            // Load through the script loader to use the code cache.
+                            Script script = realm.getScriptLoader().script(source, sourceCode);
+                            script.evaluate(realm);
+                        } else {
+                            eval(realm, parse(realm, source, sourceCode));
+                        }
                     } catch (ParserException e) {
                         throw new ParserExceptionWithSource(e, source, sourceCode);
                     }
@@ -1262,6 +1286,9 @@ public final class Repl {
         if (options.noInterpreter) {
             compilerOptions.add(Compiler.Option.NoInterpreter);
         }
+        if (options.lazyCompilation) {
+            compilerOptions.add(Compiler.Option.LazyCompilation);
+        }
         return compilerOptions;
     }
 
@@ -977,6 +977,10 @@ public final class AbstractOperations {
      * @return the numeric value
      */
     public static Number ToNumeric(ExecutionContext cx, Object value) {
+        // Fast path: Avoid re-boxing Double values.
+        if (value instanceof Double) {
+            return (Double) value;
+        }
         /* step 1 */
         Object primValue = ToPrimitive(cx, value, ToPrimitiveHint.Number);
         /* step 2 */
@@ -997,6 +1001,10 @@ public final class AbstractOperations {
      * @return the numeric value
      */
     public static Number ToNumericInt32(ExecutionContext cx, Object value) {
+        // Fast path: Avoid re-boxing Integer values.
+        if (value instanceof Integer) {
+            return (Integer) value;
+        }
         /* step 1 */
         Object primValue = ToPrimitive(cx, value, ToPrimitiveHint.Number);
         /* step 2 */
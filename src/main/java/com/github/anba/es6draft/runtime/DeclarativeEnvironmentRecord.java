@@ -9,10 +9,15 @@ package com.github.anba.es6draft.runtime;
 import static com.github.anba.es6draft.runtime.internal.Errors.newReferenceError;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.ConstantCallSite;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.util.Collections;
 import java.util.Formatter;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -109,52 +114,272 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
         }
     }
 
+    /**
+     * Slot layout of a declarative environment record. Bindings with a slot can be accessed by index instead of by
+     * name.
+     */
+    public static final class BindingLayout {
+        private final String[] names;
+        private final HashMap<String, Integer> slots;
+
+        public BindingLayout(String... names) {
+            this.names = names;
+            this.slots = new HashMap<>(Math.max((int) (names.length / 0.75f) + 1, 16));
+            for (int i = 0; i < names.length; ++i) {
+                slots.put(names[i], i);
+            }
+        }
+
+        /**
+         * Returns the number of slots.
+         * 
+         * @return the number of slots
+         */
+        public int size() {
+            return names.length;
+        }
+
+        /**
+         * Returns the slot index of {@code name} or {@code -1} if not present.
+         * 
+         * @param name
+         *            the binding name
+         * @return the slot index or {@code -1}
+         */
+        public int slotOf(String name) {
+            Integer slot = slots.get(name);
+            return slot != null ? slot : -1;
+        }
+
+        /**
+         * Returns the binding name of the slot.
+         * 
+         * @param slot
+         *            the slot index
+         * @return the binding name
+         */
+        public String nameOf(int slot) {
+            return names[slot];
+        }
+
+        /**
+         * Bootstrap method for binding layout constants.
+         * <p>
+         * [Called from generated code]
+         * 
+         * @param caller
+         *            the caller lookup
+         * @param name
+         *            the call site name
+         * @param type
+         *            the call site type
+         * @param names
+         *            the binding names
+         * @return the constant call site
+         */
+        public static CallSite bootstrap(MethodHandles.Lookup caller, String name, MethodType type,
+                String... names) {
+            return new ConstantCallSite(MethodHandles.constant(BindingLayout.class, new BindingLayout(names)));
+        }
+    }
+
     private final ExecutionContext cx;
     private final boolean catchEnvironment;
-    private final HashMap<String, Binding> bindings;
+    private final BindingLayout layout;
+    private final Binding[] slots;
+    private HashMap<String, Binding> bindings;
 
     public DeclarativeEnvironmentRecord(ExecutionContext cx, boolean catchEnvironment) {
+        this(cx, catchEnvironment, null);
+    }
+
+    protected DeclarativeEnvironmentRecord(ExecutionContext cx, boolean catchEnvironment, BindingLayout layout) {
         this.cx = cx;
         this.catchEnvironment = catchEnvironment;
-        this.bindings = new HashMap<>();
+        this.layout = layout;
+        this.slots = layout != null ? new Binding[layout.size()] : null;
+        this.bindings = layout != null ? null : new HashMap<>();
     }
 
     DeclarativeEnvironmentRecord(DeclarativeEnvironmentRecord source) {
         this.cx = source.cx;
         this.catchEnvironment = source.catchEnvironment;
-        this.bindings = source.cloneBindings();
-    }
-
-    private HashMap<String, Binding> cloneBindings() {
-        HashMap<String, Binding> newBindings = new HashMap<>();
-        for (Map.Entry<String, Binding> entry : bindings.entrySet()) {
-            String name = entry.getKey();
-            Binding binding = entry.getValue();
-            assert binding.isInitialized() : "binding not initialized: " + name;
-            newBindings.put(name, binding.clone());
+        this.layout = source.layout;
+        this.slots = layout != null ? new Binding[layout.size()] : null;
+        if (slots != null) {
+            for (int i = 0; i < slots.length; ++i) {
+                Binding binding = source.slots[i];
+                if (binding != null) {
+                    assert binding.isInitialized() : "binding not initialized: " + layout.nameOf(i);
+                    slots[i] = binding.clone();
+                }
+            }
+        }
+        if (source.bindings != null) {
+            this.bindings = new HashMap<>();
+            for (Map.Entry<String, Binding> entry : source.bindings.entrySet()) {
+                String name = entry.getKey();
+                Binding binding = entry.getValue();
+                assert binding.isInitialized() : "binding not initialized: " + name;
+                bindings.put(name, binding.clone());
+            }
         }
-        return newBindings;
     }
 
     protected final void createBinding(String name, Binding binding) {
+        if (layout != null) {
+            int slot = layout.slotOf(name);
+            if (slot >= 0) {
+                slots[slot] = binding;
+                return;
+            }
+            if (bindings == null) {
+                bindings = new HashMap<>();
+            }
+        }
         bindings.put(name, binding);
     }
 
     protected final Binding getBinding(String name) {
+        if (layout != null) {
+            int slot = layout.slotOf(name);
+            if (slot >= 0) {
+                return slots[slot];
+            }
+            if (bindings == null) {
+                return null;
+            }
+        }
         return bindings.get(name);
     }
 
     protected final void removeBinding(String name) {
+        if (layout != null) {
+            int slot = layout.slotOf(name);
+            if (slot >= 0) {
+                slots[slot] = null;
+                return;
+            }
+            if (bindings == null) {
+                return;
+            }
+        }
         bindings.remove(name);
     }
 
+    /**
+     * Returns all bindings of this environment record, slot bindings first.
+     * 
+     * @return the bindings
+     */
+    private Map<String, Binding> allBindings() {
+        if (layout == null) {
+            return bindings;
+        }
+        LinkedHashMap<String, Binding> all = new LinkedHashMap<>();
+        for (int i = 0; i < slots.length; ++i) {
+            if (slots[i] != null) {
+                all.put(layout.nameOf(i), slots[i]);
+            }
+        }
+        if (bindings != null) {
+            all.putAll(bindings);
+        }
+        return all;
+    }
+
+    /**
+     * Returns {@code true} if this environment record stores its bindings in slots.
+     * 
+     * @return {@code true} if a binding layout is present
+     */
+    final boolean hasBindingLayout() {
+        return layout != null;
+    }
+
+    /**
+     * Returns the binding stored in {@code slot} if its name is {@code name}, otherwise returns {@code null}.
+     * 
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the binding name
+     * @return the binding or {@code null}
+     */
+    final Binding getSlotBinding(int slot, String name) {
+        assert layout != null;
+        if (slot < slots.length && layout.nameOf(slot).equals(name)) {
+            return slots[slot];
+        }
+        return null;
+    }
+
+    /**
+     * Returns the binding value of a slot binding.
+     * 
+     * @param b
+     *            the binding
+     * @param name
+     *            the binding name
+     * @return the binding value
+     */
+    final Object getSlotBindingValue(Binding b, String name) {
+        if (!b.isInitialized()) {
+            throw newReferenceError(cx, Messages.Key.UninitializedBinding, name);
+        }
+        return b.getValue();
+    }
+
+    /**
+     * {@link #getBindingValue(String, boolean)} for bindings which were statically resolved to {@code slot}.
+     * 
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the binding name
+     * @param strict
+     *            the strict mode flag
+     * @return the binding value
+     */
+    public final Object getSlotBindingValue(int slot, String name, boolean strict) {
+        Binding b = layout != null ? getSlotBinding(slot, name) : null;
+        if (b == null) {
+            return getBindingValue(name, strict);
+        }
+        return getSlotBindingValue(b, name);
+    }
+
+    /**
+     * {@link #setMutableBinding(String, Object, boolean)} for bindings which were statically resolved to
+     * {@code slot}.
+     * 
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the binding name
+     * @param value
+     *            the new binding value
+     * @param strict
+     *            the strict mode flag
+     */
+    public final void setSlotMutableBinding(int slot, String name, Object value, boolean strict) {
+        assert value != null;
+        Binding b = layout != null ? getSlotBinding(slot, name) : null;
+        if (b == null) {
+            setMutableBinding(name, value, strict);
+            return;
+        }
+        setBindingValue(b, name, value, strict);
+    }
+
     @Override
     public String toString() {
         return String.format("%s: {%n\tbindings=%s%n}", getClass().getSimpleName(), bindingsToString());
     }
 
     String bindingsToString() {
-        if (bindings.isEmpty()) {
+        Map<String, Binding> bindings = allBindings();
+        if (bindings == null || bindings.isEmpty()) {
             return "{}";
         }
         try (Formatter f = new Formatter(new StringBuilder(), null)) {
@@ -173,7 +398,8 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
 
     @Override
     public final Set<String> bindingNames() {
-        if (bindings.isEmpty()) {
+        Map<String, Binding> bindings = allBindings();
+        if (bindings == null || bindings.isEmpty()) {
             return Collections.emptySet();
         }
         return Collections.unmodifiableSet(bindings.keySet());
@@ -210,7 +436,7 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
     public final boolean hasBinding(String name) {
         /* step 1 (omitted) */
         /* steps 2-3 */
-        return !bindings.isEmpty() && bindings.containsKey(name);
+        return getBinding(name) != null;
     }
 
     /**
@@ -273,6 +499,10 @@ public class DeclarativeEnvironmentRecord implements EnvironmentRecord {
             return;
         }
         /* steps 3-7 */
+        setBindingValue(b, name, value, strict);
+    }
+
+    private void setBindingValue(Binding b, String name, Object value, boolean strict) {
         if (!b.isInitialized()) {
             throw newReferenceError(cx, Messages.Key.UninitializedBinding, name);
         } else if (b.mutable) {
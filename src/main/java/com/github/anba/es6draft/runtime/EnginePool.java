@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+
+/**
+ * Pool of {@link World worlds}, each pinned to its own worker thread.
+ * <p>
+ * Submitted actions are dispatched to the next idle world. All worlds share the same {@link RuntimeContext} and
+ * therefore the same {@link CompiledCodeCache}, so scripts and modules loaded in multiple worlds are only compiled
+ * once.
+ * <p>
+ * Each world has a single realm which is reused for all actions executed by that world. Global state created by an
+ * action is visible to later actions which run in the same world, actions requiring a fresh global environment need to
+ * create a new realm through {@link Realm#InitializeHostDefinedRealm(World)}.
+ */
+public final class EnginePool implements AutoCloseable {
+    private static final AtomicInteger poolCount = new AtomicInteger(0);
+    private static final Task<?> SHUTDOWN = new Task<>(null);
+
+    private final RuntimeContext context;
+    private final Thread[] workers;
+    private final LinkedBlockingQueue<Task<?>> tasks = new LinkedBlockingQueue<>();
+    private boolean closed = false;
+
+    /**
+     * Action executed by a pooled world.
+     *
+     * @param <T>
+     *            the result type
+     */
+    @FunctionalInterface
+    public interface Action<T> {
+        /**
+         * Executes this action.
+         *
+         * @param realm
+         *            the realm of the pooled world
+         * @return the action result
+         * @throws Exception
+         *             if the action failed
+         */
+        T apply(Realm realm) throws Exception;
+    }
+
+    private static final class Task<T> {
+        final Action<T> action;
+        final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Task(Action<T> action) {
+            this.action = action;
+        }
+
+        void execute(World world, Realm realm) {
+            if (result.isDone()) {
+                // Cancelled by the caller.
+                return;
+            }
+            try {
+                T value = action.apply(realm);
+                // Drain all pending jobs before the result is reported.
+                world.runEventLoop();
+                result.complete(value);
+            } catch (Throwable e) {
+                result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private final class Worker implements Runnable {
+        @Override
+        public void run() {
+            World world = new World(context);
+            Realm realm = null;
+            try {
+                for (Task<?> task; (task = tasks.take()) != SHUTDOWN;) {
+                    if (realm == null) {
+                        try {
+                            realm = Realm.InitializeHostDefinedRealm(world);
+                        } catch (Throwable e) {
+                            // Report the error to the current task and retry for the next task.
+                            task.result.completeExceptionally(e);
+                            continue;
+                        }
+                    }
+                    task.execute(world, realm);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Constructs a new engine pool.
+     * <p>
+     * If {@code context} has no compiled code cache, the pool uses a copy of {@code context} with a new
+     * {@link CompiledCodeCache}.
+     *
+     * @param context
+     *            the runtime context
+     * @param size
+     *            the number of worlds
+     */
+    public EnginePool(RuntimeContext context, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size must be positive: " + size);
+        }
+        if (context.getCompiledCodeCache() == null) {
+            context = new RuntimeContext.Builder(context).setCompiledCodeCache(new CompiledCodeCache()).build();
+        }
+        this.context = context;
+        this.workers = new Thread[size];
+        String namePrefix = "enginepool-" + poolCount.incrementAndGet() + "-world-";
+        for (int i = 0; i < size; ++i) {
+            Thread worker = new Thread(new Worker(), namePrefix + (i + 1));
+            worker.setDaemon(true);
+            workers[i] = worker;
+        }
+        for (Thread worker : workers) {
+            worker.start();
+        }
+    }
+
+    /**
+     * Returns the runtime context shared by all worlds of this pool.
+     *
+     * @return the runtime context
+     */
+    public RuntimeContext getRuntimeContext() {
+        return context;
+    }
+
+    /**
+     * Returns the compiled code cache shared by all worlds of this pool.
+     *
+     * @return the compiled code cache
+     */
+    public CompiledCodeCache getCompiledCodeCache() {
+        return context.getCompiledCodeCache();
+    }
+
+    /**
+     * Returns the number of worlds in this pool.
+     *
+     * @return the number of worlds
+     */
+    public int size() {
+        return workers.length;
+    }
+
+    /**
+     * Submits {@code action} to be executed by the next idle world. All jobs enqueued by the action are executed
+     * before the returned future is completed.
+     *
+     * @param <T>
+     *            the result type
+     * @param action
+     *            the action
+     * @return the future action result
+     * @throws RejectedExecutionException
+     *             if this pool was already closed
+     */
+    public <T> CompletableFuture<T> submit(Action<T> action) {
+        Task<T> task = new Task<>(action);
+        synchronized (this) {
+            if (closed) {
+                throw new RejectedExecutionException("Engine pool is closed");
+            }
+            tasks.add(task);
+        }
+        return task.result;
+    }
+
+    /**
+     * Closes this pool. Already submitted actions are still executed, this method waits until all worlds have
+     * finished.
+     *
+     * @throws InterruptedException
+     *             if interrupted while waiting
+     */
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (this) {
+            if (!closed) {
+                closed = true;
+                for (int i = 0; i < workers.length; ++i) {
+                    tasks.add(SHUTDOWN);
+                }
+            }
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime;
+
+import com.github.anba.es6draft.Executable;
+import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.runtime.types.Callable;
+import com.github.anba.es6draft.runtime.types.builtins.BuiltinFunction;
+import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
+
+/**
+ * Listener interface to observe the jobs executed by the event loop of a {@link World}.
+ * <p>
+ * Listeners are called on the thread which enqueues or executes the job, so implementations need to be thread-safe
+ * when jobs are enqueued from multiple threads.
+ *
+ * @see World#setEventLoopListener(EventLoopListener)
+ */
+public interface EventLoopListener {
+    /**
+     * The job types.
+     */
+    enum JobType {
+        /** Jobs from the script-jobs queue. */
+        Script,
+
+        /** Jobs from the promise-jobs queue. */
+        Promise,
+
+        /** Jobs from the finalizer-jobs queue. */
+        Finalizer,
+
+        /** Jobs from the async-jobs queue. */
+        Async,
+
+        /** Jobs from the {@link com.github.anba.es6draft.runtime.internal.JobSource JobSource}, e.g. timers. */
+        Task,
+    }
+
+    /**
+     * Called when a new job was enqueued.
+     *
+     * @param type
+     *            the job type
+     */
+    void jobEnqueued(JobType type);
+
+    /**
+     * Called after a job was executed, including jobs which completed abruptly.
+     *
+     * @param type
+     *            the job type
+     * @param job
+     *            the executed job, {@link Object#toString()} returns a description of the job
+     * @param latencyNanos
+     *            the time between enqueuing and executing the job in nanoseconds
+     * @param durationNanos
+     *            the execution time of the job in nanoseconds
+     */
+    void jobExecuted(JobType type, Job job, long latencyNanos, long durationNanos);
+
+    /**
+     * Returns a short description of {@code callable} including its source location, if available.
+     *
+     * @param callable
+     *            the callable object
+     * @return the description string
+     */
+    static String describe(Callable callable) {
+        if (callable instanceof FunctionObject) {
+            FunctionObject function = (FunctionObject) callable;
+            String name = function.getCode() != null ? function.getCode().functionName() : "";
+            if (name.isEmpty()) {
+                name = "<anonymous>";
+            }
+            Executable executable = function.getExecutable();
+            Source source = executable != null ? executable.getSource() : null;
+            if (source == null) {
+                return name;
+            }
+            return String.format("%s (%s:%d)", name, source.getName(), source.getLine());
+        }
+        if (callable instanceof BuiltinFunction) {
+            return ((BuiltinFunction) callable).getName() + " (native)";
+        }
+        return callable != null ? callable.getClass().getSimpleName() : "null";
+    }
+}
@@ -499,6 +499,24 @@ public final class ExecutionContext {
         return LexicalEnvironment.getIdentifierValueOrThrow(lexEnv, name, strict);
     }
 
+    /**
+     * Combined {@link #resolveBinding(String, boolean)} with {@link Reference#GetValue(Object, ExecutionContext)}
+     * internal method for bindings which were statically resolved to a function environment slot.
+     * 
+     * @param hops
+     *            the number of function environments to skip
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the binding name
+     * @param strict
+     *            the strict mode flag
+     * @return the resolved reference value
+     */
+    public Object resolveSlotBindingValue(int hops, int slot, String name, boolean strict) {
+        return LexicalEnvironment.getSlotValueOrThrow(lexEnv, hops, slot, name, strict);
+    }
+
     /**
      * 8.3.2 ResolveBinding(name)
      * 
@@ -513,6 +531,36 @@ public final class ExecutionContext {
         return LexicalEnvironment.getIdentifierReference(lexEnv, name, strict);
     }
 
+    /**
+     * 8.3.2 ResolveBinding(name)
+     * <p>
+     * Returns only the base environment record instead of allocating a new {@link Reference} object.
+     * 
+     * @param name
+     *            the binding name
+     * @return the environment record of the binding or {@code null} if the reference is unresolvable
+     */
+    public EnvironmentRecord resolveBindingEnvironment(String name) {
+        /* steps 1-4 */
+        return LexicalEnvironment.getIdentifierEnvironmentOrNull(lexEnv, name);
+    }
+
+    /**
+     * {@link #resolveBindingEnvironment(String)} for bindings which were statically resolved to a function
+     * environment slot.
+     * 
+     * @param hops
+     *            the number of function environments to skip
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the binding name
+     * @return the environment record of the binding or {@code null} if the reference is unresolvable
+     */
+    public EnvironmentRecord resolveSlotBindingEnvironment(int hops, int slot, String name) {
+        return LexicalEnvironment.getSlotEnvironmentOrNull(lexEnv, hops, slot, name);
+    }
+
     /**
      * 8.3.3 GetThisEnvironment()
      * 
@@ -35,7 +35,12 @@ public final class FunctionEnvironmentRecord extends DeclarativeEnvironmentRecor
 
     public FunctionEnvironmentRecord(ExecutionContext cx, FunctionObject functionObject, Constructor newTarget,
             Object thisValue) {
-        super(cx, false);
+        this(cx, functionObject, newTarget, thisValue, null);
+    }
+
+    public FunctionEnvironmentRecord(ExecutionContext cx, FunctionObject functionObject, Constructor newTarget,
+            Object thisValue, BindingLayout layout) {
+        super(cx, false, layout);
         this.functionObject = functionObject;
         this.newTarget = newTarget;
         this.homeObject = functionObject.getHomeObject();
@@ -44,7 +49,12 @@ public final class FunctionEnvironmentRecord extends DeclarativeEnvironmentRecor
     }
 
     public FunctionEnvironmentRecord(ExecutionContext cx, FunctionObject functionObject, Constructor newTarget) {
-        super(cx, false);
+        this(cx, functionObject, newTarget, (BindingLayout) null);
+    }
+
+    public FunctionEnvironmentRecord(ExecutionContext cx, FunctionObject functionObject, Constructor newTarget,
+            BindingLayout layout) {
+        super(cx, false, layout);
         this.functionObject = functionObject;
         this.newTarget = newTarget;
         this.homeObject = functionObject.getHomeObject();
@@ -97,6 +97,94 @@ public final class LexicalEnvironment<RECORD extends EnvironmentRecord> {
         throw newReferenceError(lex.cx, Messages.Key.UnresolvableReference, name);
     }
 
+    /**
+     * Retrieves the binding value from a slot of a function environment. {@code hops} is the number of environment
+     * records with a binding layout to skip. Falls back to {@link #getIdentifierValueOrThrow(LexicalEnvironment,
+     * String, boolean)} if the binding is not found in the expected slot.
+     * 
+     * @param lex
+     *            the lexical environment
+     * @param hops
+     *            the number of slotted environment records to skip
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the identifier name
+     * @param strict
+     *            the strict mode flag
+     * @return the resolved identifier value
+     */
+    static Object getSlotValueOrThrow(LexicalEnvironment<?> lex, int hops, int slot, String name, boolean strict) {
+        for (LexicalEnvironment<?> env = lex; env != null; env = env.outer) {
+            if (!(env.envRec instanceof DeclarativeEnvironmentRecord)) {
+                break;
+            }
+            DeclarativeEnvironmentRecord envRec = (DeclarativeEnvironmentRecord) env.envRec;
+            if (envRec.hasBindingLayout() && hops-- == 0) {
+                DeclarativeEnvironmentRecord.Binding b = envRec.getSlotBinding(slot, name);
+                if (b != null) {
+                    return envRec.getSlotBindingValue(b, name);
+                }
+                break;
+            }
+        }
+        return getIdentifierValueOrThrow(lex, name, strict);
+    }
+
+    /**
+     * Retrieves the environment record which holds a function environment slot binding. {@code hops} is the number
+     * of environment records with a binding layout to skip. Falls back to
+     * {@link #getIdentifierEnvironmentOrNull(LexicalEnvironment, String)} if the binding is not found in the expected
+     * slot.
+     * 
+     * @param lex
+     *            the lexical environment
+     * @param hops
+     *            the number of slotted environment records to skip
+     * @param slot
+     *            the slot index
+     * @param name
+     *            the identifier name
+     * @return the environment record of the binding or {@code null} if the reference is unresolvable
+     */
+    static EnvironmentRecord getSlotEnvironmentOrNull(LexicalEnvironment<?> lex, int hops, int slot, String name) {
+        for (LexicalEnvironment<?> env = lex; env != null; env = env.outer) {
+            if (!(env.envRec instanceof DeclarativeEnvironmentRecord)) {
+                break;
+            }
+            DeclarativeEnvironmentRecord envRec = (DeclarativeEnvironmentRecord) env.envRec;
+            if (envRec.hasBindingLayout() && hops-- == 0) {
+                if (envRec.getSlotBinding(slot, name) != null) {
+                    return envRec;
+                }
+                break;
+            }
+        }
+        return getIdentifierEnvironmentOrNull(lex, name);
+    }
+
+    /**
+     * 8.1.2.1 GetIdentifierReference (lex, name, strict)
+     * <p>
+     * Returns only the base environment record of the resolved reference.
+     * 
+     * @param lex
+     *            the lexical environment
+     * @param name
+     *            the identifier name
+     * @return the environment record of the binding or {@code null} if the reference is unresolvable
+     */
+    static EnvironmentRecord getIdentifierEnvironmentOrNull(LexicalEnvironment<?> lex, String name) {
+        /* steps 2-5 */
+        for (LexicalEnvironment<?> env = lex; env != null; env = env.outer) {
+            if (env.envRec.hasBinding(name)) {
+                return env.envRec;
+            }
+        }
+        /* step 1 */
+        return null;
+    }
+
     /**
      * 8.1.2.1 GetIdentifierReference (lex, name, strict)
      * 
@@ -197,14 +285,16 @@ public final class LexicalEnvironment<RECORD extends EnvironmentRecord> {
      *            the newTarget constructor object or {@code null}
      * @param thisValue
      *            the function this-binding or {@code null}
+     * @param layout
+     *            the binding layout or {@code null}
      * @return the new function environment
      */
     public static LexicalEnvironment<FunctionEnvironmentRecord> newFunctionEnvironment(FunctionObject f,
-            Constructor newTarget, Object thisValue) {
+            Constructor newTarget, Object thisValue, DeclarativeEnvironmentRecord.BindingLayout layout) {
         /* steps 1-2 (not applicable) */
         LexicalEnvironment<?> e = f.getEnvironment();
         /* steps 4-10 */
-        FunctionEnvironmentRecord envRec = new FunctionEnvironmentRecord(e.cx, f, newTarget, thisValue);
+        FunctionEnvironmentRecord envRec = new FunctionEnvironmentRecord(e.cx, f, newTarget, thisValue, layout);
         /* steps 3, 11-12 */
         LexicalEnvironment<FunctionEnvironmentRecord> env = new LexicalEnvironment<>(e, envRec);
         /* step 13 */
@@ -218,14 +308,16 @@ public final class LexicalEnvironment<RECORD extends EnvironmentRecord> {
      *            the function object
      * @param newTarget
      *            the newTarget constructor object
+     * @param layout
+     *            the binding layout or {@code null}
      * @return the new function environment
      */
     public static LexicalEnvironment<FunctionEnvironmentRecord> newFunctionEnvironment(FunctionObject f,
-            Constructor newTarget) {
+            Constructor newTarget, DeclarativeEnvironmentRecord.BindingLayout layout) {
         /* steps 1-2 (not applicable) */
         LexicalEnvironment<?> e = f.getEnvironment();
         /* steps 4-10 */
-        FunctionEnvironmentRecord envRec = new FunctionEnvironmentRecord(e.cx, f, newTarget);
+        FunctionEnvironmentRecord envRec = new FunctionEnvironmentRecord(e.cx, f, newTarget, layout);
         /* steps 3, 11-12 */
         LexicalEnvironment<FunctionEnvironmentRecord> env = new LexicalEnvironment<>(e, envRec);
         /* step 13 */
@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime;
+
+import java.util.Arrays;
+
+import com.github.anba.es6draft.runtime.objects.promise.PromiseAbstractOperations.PromiseReactionJob;
+import com.github.anba.es6draft.runtime.objects.promise.PromiseReaction;
+
+/**
+ * Ring buffer for the promise-jobs queue.
+ * <p>
+ * Promise reactions are stored as {@code (realm, reaction, argument)} records directly in the ring buffer, so no
+ * {@link Job} object needs to be allocated per reaction. Other promise jobs are stored as plain {@link Job} entries,
+ * both kinds of entries share the same FIFO order.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class MicrotaskQueue {
+    private static final int INITIAL_CAPACITY = 64;
+
+    // Either a Job or a PromiseReaction.
+    private Object[] tasks = new Object[INITIAL_CAPACITY];
+    private Realm[] realms = new Realm[INITIAL_CAPACITY];
+    private Object[] arguments = new Object[INITIAL_CAPACITY];
+    private int head, size;
+
+    /**
+     * Returns {@code true} if the queue is empty.
+     *
+     * @return {@code true} if the queue is empty
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of pending jobs.
+     *
+     * @return the number of pending jobs
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Appends {@code job} to the queue.
+     *
+     * @param job
+     *            the job
+     */
+    void offer(Job job) {
+        assert job != null;
+        add(job, null, null);
+    }
+
+    /**
+     * Appends a promise reaction job record to the queue.
+     *
+     * @param realm
+     *            the realm
+     * @param reaction
+     *            the promise reaction
+     * @param argument
+     *            the reaction job argument
+     */
+    void offer(Realm realm, PromiseReaction reaction, Object argument) {
+        assert realm != null && reaction != null;
+        add(reaction, realm, argument);
+    }
+
+    private void add(Object task, Realm realm, Object argument) {
+        if (size == tasks.length) {
+            grow();
+        }
+        int index = (head + size) & (tasks.length - 1);
+        tasks[index] = task;
+        realms[index] = realm;
+        arguments[index] = argument;
+        size += 1;
+    }
+
+    private void grow() {
+        int capacity = tasks.length;
+        int newCapacity = capacity << 1;
+        if (newCapacity < 0) {
+            throw new IllegalStateException("Microtask queue too large");
+        }
+        tasks = unwrap(tasks, newCapacity);
+        realms = unwrap(realms, newCapacity);
+        arguments = unwrap(arguments, newCapacity);
+        head = 0;
+    }
+
+    private <T> T[] unwrap(T[] array, int newCapacity) {
+        // Move the elements to the start of the new array.
+        T[] newArray = Arrays.copyOf(array, newCapacity);
+        if (head != 0) {
+            int n = array.length - head;
+            System.arraycopy(array, head, newArray, 0, n);
+            System.arraycopy(array, 0, newArray, n, head);
+        }
+        return newArray;
+    }
+
+    /**
+     * Removes and executes the next pending job.
+     *
+     * @return {@code true} if a job was executed, {@code false} if the queue was empty
+     */
+    boolean executeNext() {
+        if (size == 0) {
+            return false;
+        }
+        int index = head;
+        Object task = tasks[index];
+        Realm realm = realms[index];
+        Object argument = arguments[index];
+        tasks[index] = null;
+        realms[index] = null;
+        arguments[index] = null;
+        head = (index + 1) & (tasks.length - 1);
+        size -= 1;
+        if (task instanceof PromiseReaction) {
+            PromiseReactionJob.execute(realm, (PromiseReaction) task, argument);
+        } else {
+            ((Job) task).execute();
+        }
+        return true;
+    }
+}
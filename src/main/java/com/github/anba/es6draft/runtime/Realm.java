@@ -24,10 +24,12 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Random;
 import java.util.TimeZone;
+import java.util.function.Consumer;
 
 import com.github.anba.es6draft.compiler.CompilationException;
 import com.github.anba.es6draft.parser.ParserException;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Permission;
 import com.github.anba.es6draft.runtime.internal.Properties;
@@ -74,6 +76,7 @@ import com.github.anba.es6draft.runtime.objects.observable.SubscriptionObserverP
 import com.github.anba.es6draft.runtime.objects.observable.SubscriptionPrototype;
 import com.github.anba.es6draft.runtime.objects.promise.PromiseConstructor;
 import com.github.anba.es6draft.runtime.objects.promise.PromisePrototype;
+import com.github.anba.es6draft.runtime.objects.promise.PromiseReaction;
 import com.github.anba.es6draft.runtime.objects.reflect.LoaderConstructor;
 import com.github.anba.es6draft.runtime.objects.reflect.LoaderPrototype;
 import com.github.anba.es6draft.runtime.objects.reflect.ProxyConstructor;
@@ -114,6 +117,61 @@ public final class Realm {
      */
     private final EnumMap<Intrinsics, OrdinaryObject> intrinsics = new EnumMap<>(Intrinsics.class);
 
+    /**
+     * Optional built-in modules whose intrinsics have not yet been created, guarded by itself. Realms are used by a
+     * single thread at a time, but pooled realms are handed between threads, so the lazy initialization must not rely
+     * on thread confinement.
+     */
+    private final EnumSet<LazyModule> lazyModules = EnumSet.noneOf(LazyModule.class);
+
+    /**
+     * {@code true} if {@link #lazyModules} is not empty.
+     */
+    private volatile boolean hasLazyModules;
+
+    /**
+     * Optional built-in modules which are initialized when one of their intrinsics is first requested.
+     */
+    private enum LazyModule {
+        Internationalisation(Realm::initializeInternationalisation, Intrinsics.Intl, Intrinsics.Intl_Collator,
+                Intrinsics.Intl_CollatorPrototype, Intrinsics.Intl_NumberFormat, Intrinsics.Intl_NumberFormatPrototype,
+                Intrinsics.Intl_DateTimeFormat, Intrinsics.Intl_DateTimeFormatPrototype, Intrinsics.Intl_PluralRules,
+                Intrinsics.Intl_PluralRulesPrototype, Intrinsics.Intl_Segmenter, Intrinsics.Intl_SegmenterPrototype,
+                Intrinsics.Intl_SegmentIteratorPrototype, Intrinsics.Intl_ListFormat,
+                Intrinsics.Intl_ListFormatPrototype),
+
+        SIMD(Realm::initializeSIMDModule, Intrinsics.SIMD, Intrinsics.SIMD_Float64x2,
+                Intrinsics.SIMD_Float64x2Prototype, Intrinsics.SIMD_Float32x4, Intrinsics.SIMD_Float32x4Prototype,
+                Intrinsics.SIMD_Int32x4, Intrinsics.SIMD_Int32x4Prototype, Intrinsics.SIMD_Int16x8,
+                Intrinsics.SIMD_Int16x8Prototype, Intrinsics.SIMD_Int8x16, Intrinsics.SIMD_Int8x16Prototype,
+                Intrinsics.SIMD_Uint32x4, Intrinsics.SIMD_Uint32x4Prototype, Intrinsics.SIMD_Uint16x8,
+                Intrinsics.SIMD_Uint16x8Prototype, Intrinsics.SIMD_Uint8x16, Intrinsics.SIMD_Uint8x16Prototype,
+                Intrinsics.SIMD_Bool64x2, Intrinsics.SIMD_Bool64x2Prototype, Intrinsics.SIMD_Bool32x4,
+                Intrinsics.SIMD_Bool32x4Prototype, Intrinsics.SIMD_Bool16x8, Intrinsics.SIMD_Bool16x8Prototype,
+                Intrinsics.SIMD_Bool8x16, Intrinsics.SIMD_Bool8x16Prototype),
+
+        Observable(Realm::initializeObservableModule, Intrinsics.Observable, Intrinsics.ObservablePrototype,
+                Intrinsics.SubscriptionPrototype, Intrinsics.SubscriptionObserverPrototype),
+
+        Atomics(Realm::initializeAtomicsModule, Intrinsics.Atomics, Intrinsics.SharedArrayBuffer,
+                Intrinsics.SharedArrayBufferPrototype),
+
+        Zones(Realm::initializeZonesModule, Intrinsics.Zone, Intrinsics.ZonePrototype),
+
+        BigInt(Realm::initializeBigIntModule, Intrinsics.BigInt, Intrinsics.BigIntPrototype, Intrinsics.BigInt64Array,
+                Intrinsics.BigInt64ArrayPrototype, Intrinsics.BigUint64Array, Intrinsics.BigUint64ArrayPrototype),
+
+        ;
+
+        private final Consumer<Realm> initializer;
+        private final EnumSet<Intrinsics> intrinsics;
+
+        private LazyModule(Consumer<Realm> initializer, Intrinsics first, Intrinsics... rest) {
+            this.initializer = initializer;
+            this.intrinsics = EnumSet.of(first, rest);
+        }
+    }
+
     /**
      * [[realmObject]]
      */
@@ -247,7 +305,55 @@ public final class Realm {
      * @return the intrinsic object
      */
     public OrdinaryObject getIntrinsic(Intrinsics id) {
-        return intrinsics.get(id);
+        OrdinaryObject intrinsic = intrinsics.get(id);
+        if (intrinsic == null && hasLazyModules) {
+            intrinsic = initializeLazyModule(id);
+        }
+        return intrinsic;
+    }
+
+    private OrdinaryObject initializeLazyModule(Intrinsics id) {
+        synchronized (lazyModules) {
+            LazyModule module = lazyModule(id);
+            if (module != null) {
+                lazyModules.remove(module);
+                hasLazyModules = !lazyModules.isEmpty();
+                module.initializer.accept(this);
+            }
+            return intrinsics.get(id);
+        }
+    }
+
+    private void addLazyModule(LazyModule module) {
+        synchronized (lazyModules) {
+            lazyModules.add(module);
+            hasLazyModules = true;
+        }
+    }
+
+    /**
+     * Returns {@code true} if the intrinsic object is created when it is first requested.
+     * 
+     * @param id
+     *            the intrinsic identifier
+     * @return {@code true} if the intrinsic has not yet been created
+     */
+    public boolean isLazyIntrinsic(Intrinsics id) {
+        if (!hasLazyModules) {
+            return false;
+        }
+        synchronized (lazyModules) {
+            return intrinsics.get(id) == null && lazyModule(id) != null;
+        }
+    }
+
+    private LazyModule lazyModule(Intrinsics id) {
+        for (LazyModule module : lazyModules) {
+            if (module.intrinsics.contains(id)) {
+                return module;
+            }
+        }
+        return null;
     }
 
     /**
@@ -553,6 +659,20 @@ public final class Realm {
         world.enqueuePromiseJob(job);
     }
 
+    /**
+     * 8.4.1 EnqueueJob (queueName, job, arguments)
+     * <p>
+     * Enqueues a PromiseReactionJob to the queue of pending promise-jobs.
+     * 
+     * @param reaction
+     *            the promise reaction
+     * @param argument
+     *            the reaction job argument
+     */
+    public void enqueuePromiseReactionJob(PromiseReaction reaction, Object argument) {
+        world.enqueuePromiseReactionJob(this, reaction, argument);
+    }
+
     /**
      * 8.4.1 EnqueueJob (queueName, job, arguments)
      * <p>
@@ -698,6 +818,9 @@ public final class Realm {
         for (Object key : globalProperties.ownPropertyKeys(cx)) {
             Property prop = globalProperties.getOwnProperty(cx, key);
             if (prop != null) {
+                if (defineOwnPropertyUnobserved(cx, globalObject, key, prop)) {
+                    continue;
+                }
                 PropertyDescriptor desc = prop.toPropertyDescriptor();
                 DefinePropertyOrThrow(cx, globalObject, key, desc);
             }
@@ -706,6 +829,19 @@ public final class Realm {
         return globalObject;
     }
 
+    private static boolean defineOwnPropertyUnobserved(ExecutionContext cx, ScriptObject globalObject, Object key,
+            Property prop) {
+        // Copy the property if the definition cannot be observed, this also keeps lazily computed values unresolved.
+        if (globalObject instanceof GlobalObject && key instanceof String && !IndexedMap.isIndex((String) key)) {
+            GlobalObject object = (GlobalObject) globalObject;
+            if (object.isExtensible(cx) && object.getOwnProperty(cx, (String) key) == null) {
+                object.infallibleDefineOwnProperty((String) key, prop.clone());
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 8.5 InitializeHostDefinedRealm ( )
      * <p>
@@ -774,7 +910,7 @@ public final class Realm {
         initializeAsyncModule(realm);
 
         // intrinsics: Internationalization API
-        initializeInternationalisation(realm);
+        realm.addLazyModule(LazyModule.Internationalisation);
 
         // intrinsics: Async generators
         if (realm.getRuntimeContext().isEnabled(CompatibilityOption.AsyncIteration)) {
@@ -783,25 +919,25 @@ public final class Realm {
 
         // intrinsics: SIMD
         if (realm.getRuntimeContext().isEnabled(CompatibilityOption.SIMD)) {
-            initializeSIMDModule(realm);
+            realm.addLazyModule(LazyModule.SIMD);
         }
 
         // intrinsics: Observable
         if (realm.getRuntimeContext().isEnabled(CompatibilityOption.Observable)) {
-            initializeObservableModule(realm);
+            realm.addLazyModule(LazyModule.Observable);
         }
 
         // intrinsics: Shared Memory and Atomics
-        initializeAtomicsModule(realm);
+        realm.addLazyModule(LazyModule.Atomics);
 
         // intrinsics: Zones
         if (realm.getRuntimeContext().isEnabled(CompatibilityOption.Zones)) {
-            initializeZonesModule(realm);
+            realm.addLazyModule(LazyModule.Zones);
         }
 
         // intrinsics: BigInt
         if (realm.getRuntimeContext().isEnabled(CompatibilityOption.BigInt)) {
-            initializeBigIntModule(realm);
+            realm.addLazyModule(LazyModule.BigInt);
         }
 
         // Initialized last because it accesses other intrinsics.
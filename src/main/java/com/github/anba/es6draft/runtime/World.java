@@ -19,9 +19,12 @@ import com.github.anba.es6draft.runtime.internal.Messages;
 import com.github.anba.es6draft.runtime.internal.Ref;
 import com.github.anba.es6draft.runtime.internal.RuntimeContext;
 import com.github.anba.es6draft.runtime.internal.ScriptLoader;
+import com.github.anba.es6draft.runtime.internal.StackTraces;
 import com.github.anba.es6draft.runtime.internal.UnhandledRejectionException;
 import com.github.anba.es6draft.runtime.internal.WeakReferenceWithFinalizer;
 import com.github.anba.es6draft.runtime.modules.ModuleLoader;
+import com.github.anba.es6draft.runtime.objects.promise.PromiseAbstractOperations.PromiseReactionJob;
+import com.github.anba.es6draft.runtime.objects.promise.PromiseReaction;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 
 /**
@@ -39,7 +42,7 @@ public final class World {
 
     private final GlobalSymbolRegistry symbolRegistry = new GlobalSymbolRegistry();
     private final ArrayDeque<Job> scriptJobs = new ArrayDeque<>();
-    private final ArrayDeque<Job> promiseJobs = new ArrayDeque<>();
+    private final MicrotaskQueue promiseJobs = new MicrotaskQueue();
     private final ArrayDeque<Job> finalizerJobs = new ArrayDeque<>();
     private final ConcurrentLinkedDeque<Job> asyncJobs = new ConcurrentLinkedDeque<>();
     private final ArrayDeque<Object> unhandledRejections = new ArrayDeque<>();
@@ -48,6 +51,7 @@ public final class World {
     private final ReferenceQueue<ScriptObject> weakQueue = new ReferenceQueue<>();
 
     private ExecutionContext scriptContext;
+    private volatile EventLoopListener eventLoopListener;
 
     private static final JobSource EMPTY_JOB_SOURCE = new JobSource() {
         @Override
@@ -110,7 +114,7 @@ public final class World {
      *            the new script job
      */
     public void enqueueScriptJob(Job job) {
-        scriptJobs.offer(job);
+        scriptJobs.offer(instrument(EventLoopListener.JobType.Script, job));
     }
 
     /**
@@ -122,7 +126,27 @@ public final class World {
      *            the new promise job
      */
     public void enqueuePromiseJob(Job job) {
-        promiseJobs.offer(job);
+        promiseJobs.offer(instrument(EventLoopListener.JobType.Promise, job));
+    }
+
+    /**
+     * 8.4.1 EnqueueJob (queueName, job, arguments)
+     * <p>
+     * Enqueues a PromiseReactionJob to the queue of pending promise-jobs.
+     * 
+     * @param realm
+     *            the realm
+     * @param reaction
+     *            the promise reaction
+     * @param argument
+     *            the reaction job argument
+     */
+    public void enqueuePromiseReactionJob(Realm realm, PromiseReaction reaction, Object argument) {
+        if (eventLoopListener != null) {
+            enqueuePromiseJob(new PromiseReactionJob(realm, reaction, argument));
+        } else {
+            promiseJobs.offer(realm, reaction, argument);
+        }
     }
 
     /**
@@ -134,7 +158,7 @@ public final class World {
      *            the new finalizer job
      */
     public void enqueueFinalizerJob(Job job) {
-        finalizerJobs.offer(job);
+        finalizerJobs.offer(instrument(EventLoopListener.JobType.Finalizer, job));
     }
 
     /**
@@ -146,7 +170,7 @@ public final class World {
      *            the new async job
      */
     public void enqueueAsyncJob(Job job) {
-        asyncJobs.offer(job);
+        asyncJobs.offer(instrument(EventLoopListener.JobType.Async, job));
     }
 
     /**
@@ -181,14 +205,14 @@ public final class World {
      */
     public void runEventLoop(JobSource jobSource) throws InterruptedException {
         ArrayDeque<Job> scriptJobs = this.scriptJobs;
-        ArrayDeque<Job> promiseJobs = this.promiseJobs;
+        MicrotaskQueue promiseJobs = this.promiseJobs;
         ArrayDeque<Job> finalizerJobs = this.finalizerJobs;
         ConcurrentLinkedDeque<Job> asyncJobs = this.asyncJobs;
         ArrayDeque<Object> unhandledRejections = this.unhandledRejections;
         for (;;) {
             while (!(scriptJobs.isEmpty() && promiseJobs.isEmpty() && finalizerJobs.isEmpty() && asyncJobs.isEmpty())) {
                 executeJobs(scriptJobs);
-                executeJobs(promiseJobs);
+                executePromiseJobs(promiseJobs);
                 executeJobs(finalizerJobs);
                 executeJobs(asyncJobs);
             }
@@ -199,18 +223,123 @@ public final class World {
             if (job == null) {
                 break;
             }
-            enqueueScriptJob(job);
+            scriptJobs.offer(instrument(EventLoopListener.JobType.Task, job));
         }
     }
 
     private void executeJobs(Deque<Job> jobs) {
         // Execute all pending jobs until the queue is empty
-        for (Job job; (job = jobs.poll()) != null;) {
-            job.execute();
+        Job job = jobs.poll();
+        if (job != null) {
+            do {
+                job.execute();
+            } while ((job = jobs.poll()) != null);
+            enqueueWeakFinalizers();
+        }
+    }
+
+    private void executePromiseJobs(MicrotaskQueue jobs) {
+        // Execute all pending jobs until the queue is empty
+        if (jobs.executeNext()) {
+            while (jobs.executeNext()) {
+                // empty
+            }
             enqueueWeakFinalizers();
         }
     }
 
+    /**
+     * Returns the event loop listener.
+     * 
+     * @return the event loop listener or {@code null} if not present
+     */
+    public EventLoopListener getEventLoopListener() {
+        return eventLoopListener;
+    }
+
+    /**
+     * Sets the event loop listener. Only jobs enqueued after the listener was installed are reported to the listener.
+     * 
+     * @param eventLoopListener
+     *            the event loop listener or {@code null} to remove the current listener
+     */
+    public void setEventLoopListener(EventLoopListener eventLoopListener) {
+        this.eventLoopListener = eventLoopListener;
+    }
+
+    private Job instrument(EventLoopListener.JobType type, Job job) {
+        EventLoopListener listener = this.eventLoopListener;
+        if (listener == null) {
+            return job;
+        }
+        listener.jobEnqueued(type);
+        // Jobs without a description, like lambda expressions, are described by their enqueue location instead.
+        String location = hasDescription.get(job.getClass()) ? null : enqueueLocation();
+        return new InstrumentedJob(type, job, location, System.nanoTime());
+    }
+
+    private static final ClassValue<Boolean> hasDescription = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            try {
+                return type.getMethod("toString").getDeclaringClass() != Object.class;
+            } catch (NoSuchMethodException e) {
+                throw new AssertionError(e);
+            }
+        }
+    };
+
+    private static String enqueueLocation() {
+        Throwable stackTrace = new Throwable();
+        StackTraceElement scriptFrame = StackTraces.innermostScriptFrame(stackTrace);
+        if (scriptFrame != null) {
+            return scriptFrame.getFileName() + ":" + scriptFrame.getLineNumber();
+        }
+        // Otherwise use the first caller outside of the job queue methods.
+        for (StackTraceElement element : stackTrace.getStackTrace()) {
+            String className = element.getClassName();
+            if (!className.startsWith(World.class.getName()) && !className.equals(Realm.class.getName())) {
+                return element.toString();
+            }
+        }
+        return "<unknown>";
+    }
+
+    private final class InstrumentedJob implements Job {
+        private final EventLoopListener.JobType type;
+        private final Job job;
+        private final String location;
+        private final long enqueueTime;
+
+        InstrumentedJob(EventLoopListener.JobType type, Job job, String location, long enqueueTime) {
+            this.type = type;
+            this.job = job;
+            this.location = location;
+            this.enqueueTime = enqueueTime;
+        }
+
+        @Override
+        public void execute() {
+            long startTime = System.nanoTime();
+            try {
+                job.execute();
+            } finally {
+                EventLoopListener listener = eventLoopListener;
+                if (listener != null) {
+                    listener.jobExecuted(type, this, startTime - enqueueTime, System.nanoTime() - startTime);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            if (location != null) {
+                return String.format("%s job enqueued at %s", type, location);
+            }
+            return job.toString();
+        }
+    }
+
     private void enqueueWeakFinalizers() {
         // Clear any strong references.
         WeakHashMap<?, ?> strongRefs = this.reachabilityMap;
@@ -224,7 +353,7 @@ public final class World {
         for (Reference<? extends ScriptObject> ref; (ref = weakQueue.poll()) != null;) {
             Ref<Runnable> finalizer = ((WeakReferenceWithFinalizer) ref).getFinalizer();
             if (finalizer.get() != null) {
-                finalizerJobs.add(new FinalizerJob(finalizer));
+                finalizerJobs.add(instrument(EventLoopListener.JobType.Finalizer, new FinalizerJob(finalizer)));
             }
         }
     }
@@ -245,6 +374,11 @@ public final class World {
                 finalizer.run();
             }
         }
+
+        @Override
+        public String toString() {
+            return "FinalizerJob";
+        }
     }
 
     /**
@@ -9,15 +9,18 @@ package com.github.anba.es6draft.runtime.extensions.timer;
 import static com.github.anba.es6draft.runtime.AbstractOperations.IsCallable;
 import static com.github.anba.es6draft.runtime.AbstractOperations.ToFlatString;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.DelayQueue;
-import java.util.concurrent.Delayed;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.compiler.CompilationException;
 import com.github.anba.es6draft.parser.ParserException;
+import com.github.anba.es6draft.runtime.EventLoopListener;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Job;
 import com.github.anba.es6draft.runtime.internal.JobSource;
@@ -36,27 +39,27 @@ public final class Timers implements JobSource {
     private static final int TIMER_CLAMP_TIMEOUT = 0;
     private static final int TIMER_CLAMP_INTERVAL = 4;
     private static final int MAX_TIMEOUT = Integer.MAX_VALUE;
+    private static final long NANOS_PER_TICK = TimeUnit.MILLISECONDS.toNanos(1);
     private final AtomicInteger timerIds = new AtomicInteger();
-    private final DelayQueue<TimerJob> queue = new DelayQueue<>();
-    private final ConcurrentHashMap<Integer, TimerJob> activeTimers = new ConcurrentHashMap<>(16, 0.75f, 2);
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final long origin = System.nanoTime();
+    private final TimingWheel<TimerJob> wheel = new TimingWheel<>(0);
+    private final ArrayList<TimerJob> expired = new ArrayList<>();
+    private final ArrayDeque<TimerJob> ready = new ArrayDeque<>();
+    private final HashMap<Integer, TimerJob> activeTimers = new HashMap<>();
     private int nestingLevel = 0;
 
-    private abstract class TimerJob implements Job, Delayed {
+    private abstract class TimerJob extends TimingWheel.Timer implements Job {
         private final int timerId;
         private final long delay;
         private final boolean interval;
         private boolean cancelled = false;
-        private long time;
 
         protected TimerJob(long delay, boolean interval) {
             this.timerId = timerIds.incrementAndGet();
             this.delay = delay;
             this.interval = interval;
-            this.time = nextStart();
-        }
-
-        private long nextStart() {
-            return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
         }
 
         int getTimerId() {
@@ -67,30 +70,8 @@ public final class Timers implements JobSource {
             return interval;
         }
 
-        void cancel() {
-            if (!cancelled) {
-                cancelled = true;
-                queue.remove(this);
-            }
-        }
-
-        @Override
-        public int compareTo(Delayed o) {
-            if (o == this) {
-                return 0;
-            }
-            if (o instanceof TimerJob) {
-                TimerJob x = (TimerJob) o;
-                long delta = time - x.time;
-                return delta < 0 ? -1 : delta > 0 ? 1 : timerId < x.timerId ? -1 : 1;
-            }
-            long delta = getDelay(TimeUnit.NANOSECONDS) - o.getDelay(TimeUnit.NANOSECONDS);
-            return delta == 0 ? 0 : delta < 0 ? -1 : 1;
-        }
-
-        @Override
-        public long getDelay(TimeUnit unit) {
-            return unit.convert(time - System.nanoTime(), TimeUnit.NANOSECONDS);
+        long nextStart() {
+            return deadline(System.nanoTime(), delay);
         }
 
         @Override
@@ -102,9 +83,8 @@ public final class Timers implements JobSource {
                     executeInner();
                 } finally {
                     nestingLevel--;
-                    if (!cancelled && interval) {
-                        time = nextStart;
-                        queue.offer(this);
+                    if (interval) {
+                        reschedule(this, nextStart);
                     }
                 }
             }
@@ -129,6 +109,11 @@ public final class Timers implements JobSource {
         protected void executeInner() {
             f.call(cx, cx.getRealm().getGlobalThis(), args);
         }
+
+        @Override
+        public String toString() {
+            return String.format("TimerJob {id=%d, callback=%s}", getTimerId(), EventLoopListener.describe(f));
+        }
     }
 
     private final class ScriptedTimerJob extends TimerJob {
@@ -152,6 +137,23 @@ public final class Timers implements JobSource {
             }
             script.evaluate(cx);
         }
+
+        @Override
+        public String toString() {
+            return String.format("TimerJob {id=%d, callback=<Timer>}", getTimerId());
+        }
+    }
+
+    private long tick(long nanoTime) {
+        return (nanoTime - origin) / NANOS_PER_TICK;
+    }
+
+    private long deadline(long nanoTime, long delay) {
+        if (delay == 0) {
+            return tick(nanoTime);
+        }
+        // Round up to avoid firing timers before their delay elapsed.
+        return tick(nanoTime + TimeUnit.MILLISECONDS.toNanos(delay) + NANOS_PER_TICK - 1);
     }
 
     private TimerJob scheduleTimer(long delay, boolean interval, ExecutionContext cx, Object f, Object... args) {
@@ -161,33 +163,96 @@ public final class Timers implements JobSource {
         } else {
             job = new ScriptedTimerJob(delay, interval, cx, ToFlatString(cx, f));
         }
-        activeTimers.put(job.getTimerId(), job);
-        queue.offer(job);
+        lock.lock();
+        try {
+            activeTimers.put(job.getTimerId(), job);
+            wheel.schedule(job, job.nextStart());
+            available.signal();
+        } finally {
+            lock.unlock();
+        }
         return job;
     }
 
+    private void reschedule(TimerJob job, long deadline) {
+        lock.lock();
+        try {
+            if (!job.cancelled) {
+                wheel.schedule(job, deadline);
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
     private void cancelTimer(int timerId) {
-        TimerJob job = activeTimers.remove(timerId);
-        if (job != null) {
-            job.cancel();
+        lock.lock();
+        try {
+            TimerJob job = activeTimers.remove(timerId);
+            if (job != null) {
+                job.cancelled = true;
+                wheel.cancel(job);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TimerJob pollReady() {
+        assert lock.isHeldByCurrentThread();
+        if (ready.isEmpty()) {
+            // Collect all timers which expired since the last call.
+            wheel.advance(tick(System.nanoTime()), expired);
+            ready.addAll(expired);
+            expired.clear();
         }
+        for (TimerJob job; (job = ready.poll()) != null;) {
+            if (!job.cancelled) {
+                if (!job.isInterval()) {
+                    activeTimers.remove(job.getTimerId());
+                }
+                return job;
+            }
+        }
+        return null;
     }
 
     @Override
     public Job nextJob() throws InterruptedException {
-        if (queue.isEmpty()) {
-            return null;
+        lock.lock();
+        try {
+            if (wheel.isEmpty() && ready.isEmpty()) {
+                return null;
+            }
+        } finally {
+            lock.unlock();
         }
         return awaitJob();
     }
 
     @Override
     public Job awaitJob() throws InterruptedException {
-        TimerJob job = queue.take();
-        if (!job.isInterval()) {
-            activeTimers.remove(job.getTimerId());
+        lock.lock();
+        try {
+            for (;;) {
+                TimerJob job = pollReady();
+                if (job != null) {
+                    return job;
+                }
+                long nextTick = wheel.nextTick();
+                if (nextTick == Long.MAX_VALUE) {
+                    available.await();
+                } else {
+                    long waitNanos = origin + nextTick * NANOS_PER_TICK - System.nanoTime();
+                    if (waitNanos > 0) {
+                        available.awaitNanos(waitNanos);
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
         }
-        return job;
     }
 
     @Function(name = "setTimeout", arity = 2)
@@ -0,0 +1,285 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.extensions.timer;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel with a resolution of one tick.
+ * <p>
+ * The first wheel has 256 slots of one tick each, the four outer wheels have 64 slots each and cover 2<sup>14</sup>,
+ * 2<sup>20</sup>, 2<sup>26</sup> and 2<sup>32</sup> ticks. Timers are stored in intrusive doubly-linked slot lists,
+ * so scheduling and cancelling a timer takes constant time. Timers in the outer wheels are cascaded into the inner
+ * wheels when the inner wheel wraps around.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <TIMER>
+ *            the timer type
+ */
+final class TimingWheel<TIMER extends TimingWheel.Timer> {
+    private static final int ROOT_BITS = 8;
+    private static final int ROOT_SIZE = 1 << ROOT_BITS;
+    private static final int ROOT_MASK = ROOT_SIZE - 1;
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int WHEELS = 5;
+    private static final int EXPIRED_SLOT = ROOT_SIZE + (WHEELS - 1) * WHEEL_SIZE;
+    private static final int NOT_SCHEDULED = -1;
+
+    private static final Comparator<Timer> EXPIRATION_ORDER = (t1, t2) -> {
+        int c = Long.compare(t1.deadline, t2.deadline);
+        return c != 0 ? c : Long.compare(t1.sequence, t2.sequence);
+    };
+
+    /**
+     * Base class for timers stored in a {@link TimingWheel}.
+     */
+    static abstract class Timer {
+        private Timer prev, next;
+        private int slot = NOT_SCHEDULED;
+        private long deadline;
+        private long sequence;
+
+        /**
+         * Returns {@code true} if this timer is currently scheduled.
+         *
+         * @return {@code true} if scheduled
+         */
+        final boolean isScheduled() {
+            return slot != NOT_SCHEDULED;
+        }
+    }
+
+    // Slots of all wheels, followed by the list of already expired timers.
+    private final Timer[] heads = new Timer[EXPIRED_SLOT + 1];
+    private final Timer[] tails = new Timer[EXPIRED_SLOT + 1];
+    private long currentTick;
+    private long sequence;
+    private int rootCount;
+    private int size;
+
+    /**
+     * Constructs a new timing wheel.
+     *
+     * @param currentTick
+     *            the initial tick
+     */
+    TimingWheel(long currentTick) {
+        this.currentTick = currentTick;
+    }
+
+    /**
+     * Returns the number of scheduled timers.
+     *
+     * @return the number of scheduled timers
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns {@code true} if no timers are scheduled.
+     *
+     * @return {@code true} if no timers are scheduled
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Schedules {@code timer} to expire at {@code deadline}.
+     *
+     * @param timer
+     *            the timer
+     * @param deadline
+     *            the expiration tick
+     */
+    void schedule(TIMER timer, long deadline) {
+        assert !timer.isScheduled();
+        Timer t = timer;
+        t.deadline = deadline;
+        t.sequence = sequence++;
+        size += 1;
+        place(t);
+    }
+
+    /**
+     * Removes {@code timer} from this timing wheel. Does nothing if the timer is not scheduled.
+     *
+     * @param timer
+     *            the timer
+     */
+    void cancel(TIMER timer) {
+        if (timer.isScheduled()) {
+            size -= 1;
+            unlink(timer);
+        }
+    }
+
+    /**
+     * Returns the earliest tick at which {@link #advance(long, List)} may report expired timers, or
+     * {@code Long.MAX_VALUE} if no timers are scheduled. The returned tick is either the expiration tick of the next
+     * timer or the next tick when the outer wheels are cascaded.
+     *
+     * @return the next tick to advance to
+     */
+    long nextTick() {
+        if (size == 0) {
+            return Long.MAX_VALUE;
+        }
+        if (heads[EXPIRED_SLOT] != null) {
+            return currentTick;
+        }
+        long tick = currentTick + 1;
+        if (rootCount > 0) {
+            for (; (tick & ROOT_MASK) != 0; ++tick) {
+                if (heads[(int) tick & ROOT_MASK] != null) {
+                    return tick;
+                }
+            }
+        }
+        return (currentTick | ROOT_MASK) + 1;
+    }
+
+    /**
+     * Advances this timing wheel to {@code tick} and appends all expired timers to {@code expired}. The expired timers
+     * are appended in expiration order, timers with the same expiration tick are ordered by their scheduling order.
+     *
+     * @param tick
+     *            the new current tick
+     * @param expired
+     *            the list of expired timers
+     */
+    void advance(long tick, List<TIMER> expired) {
+        int start = expired.size();
+        drain(EXPIRED_SLOT, expired);
+        while (currentTick < tick) {
+            if (size == 0) {
+                currentTick = tick;
+                break;
+            }
+            if (rootCount == 0) {
+                // Skip to the next cascade when the root wheel is empty.
+                long next = (currentTick | ROOT_MASK) + 1;
+                if (next > tick) {
+                    currentTick = tick;
+                    break;
+                }
+                currentTick = next;
+            } else {
+                currentTick += 1;
+            }
+            if ((currentTick & ROOT_MASK) == 0) {
+                cascade();
+                drain(EXPIRED_SLOT, expired);
+            }
+            drain((int) currentTick & ROOT_MASK, expired);
+        }
+        if (expired.size() - start > 1) {
+            expired.subList(start, expired.size()).sort(EXPIRATION_ORDER);
+        }
+    }
+
+    private void cascade() {
+        for (int wheel = 1; wheel < WHEELS; ++wheel) {
+            int index = (int) (currentTick >>> shift(wheel)) & WHEEL_MASK;
+            int slot = slot(wheel, index);
+            Timer timer = heads[slot];
+            heads[slot] = tails[slot] = null;
+            while (timer != null) {
+                Timer next = timer.next;
+                timer.prev = timer.next = null;
+                place(timer);
+                timer = next;
+            }
+            if (index != 0) {
+                break;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drain(int slot, List<TIMER> expired) {
+        Timer timer = heads[slot];
+        if (timer == null) {
+            return;
+        }
+        heads[slot] = tails[slot] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            if (slot != EXPIRED_SLOT) {
+                rootCount -= 1;
+            }
+            timer.prev = timer.next = null;
+            timer.slot = NOT_SCHEDULED;
+            size -= 1;
+            expired.add((TIMER) timer);
+            timer = next;
+        }
+    }
+
+    private void place(Timer timer) {
+        long deadline = timer.deadline;
+        long delta = deadline - currentTick;
+        int slot;
+        if (delta <= 0) {
+            slot = EXPIRED_SLOT;
+        } else if (delta < ROOT_SIZE) {
+            slot = (int) deadline & ROOT_MASK;
+            rootCount += 1;
+        } else {
+            int wheel = 1;
+            while (wheel < WHEELS - 1 && delta >= 1L << shift(wheel + 1)) {
+                wheel += 1;
+            }
+            slot = slot(wheel, (int) (deadline >>> shift(wheel)) & WHEEL_MASK);
+        }
+        link(timer, slot);
+    }
+
+    private void link(Timer timer, int slot) {
+        timer.slot = slot;
+        Timer tail = tails[slot];
+        if (tail == null) {
+            heads[slot] = timer;
+        } else {
+            tail.next = timer;
+            timer.prev = tail;
+        }
+        tails[slot] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        int slot = timer.slot;
+        if (timer.prev == null) {
+            heads[slot] = timer.next;
+        } else {
+            timer.prev.next = timer.next;
+        }
+        if (timer.next == null) {
+            tails[slot] = timer.prev;
+        } else {
+            timer.next.prev = timer.prev;
+        }
+        if (slot < ROOT_SIZE) {
+            rootCount -= 1;
+        }
+        timer.prev = timer.next = null;
+        timer.slot = NOT_SCHEDULED;
+    }
+
+    private static int shift(int wheel) {
+        return ROOT_BITS + (wheel - 1) * WHEEL_BITS;
+    }
+
+    private static int slot(int wheel, int index) {
+        return wheel == 0 ? index : ROOT_SIZE + (wheel - 1) * WHEEL_SIZE + index;
+    }
+}
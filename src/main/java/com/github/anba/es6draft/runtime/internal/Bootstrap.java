@@ -12,6 +12,7 @@ import static com.github.anba.es6draft.runtime.AbstractOperations.StrictEquality
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.language.CallOperations.CheckCallable;
 import static com.github.anba.es6draft.runtime.language.CallOperations.CheckConstructor;
+import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
 import java.lang.invoke.CallSite;
 import java.lang.invoke.ConstantCallSite;
@@ -19,9 +20,12 @@ import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.invoke.MutableCallSite;
+import java.lang.ref.WeakReference;
 import java.math.BigInteger;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import com.github.anba.es6draft.ast.BinaryExpression;
 import com.github.anba.es6draft.ast.UnaryExpression;
@@ -31,13 +35,19 @@ import com.github.anba.es6draft.compiler.assembler.MethodName;
 import com.github.anba.es6draft.compiler.assembler.MethodTypeDescriptor;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.language.Operators;
+import com.github.anba.es6draft.runtime.language.PropertyOperations;
+import com.github.anba.es6draft.runtime.objects.ObjectPrototype;
 import com.github.anba.es6draft.runtime.objects.bigint.BigIntType;
+import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Constructor;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinConstructor;
 import com.github.anba.es6draft.runtime.types.builtins.BuiltinFunction;
 import com.github.anba.es6draft.runtime.types.builtins.FunctionObject;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 
 /**
  *
@@ -74,6 +84,8 @@ public final class Bootstrap {
         static final String NEG = "expression::neg";
         static final String INC = "expression::inc";
         static final String DEC = "expression::dec";
+        static final String GET_PROPERTY = "property::get";
+        static final String SET_PROPERTY = "property::set";
     }
 
     private static final class Descriptors {
@@ -94,6 +106,10 @@ public final class Bootstrap {
                 ExecutionContext.class, Object[].class);
         static final MethodTypeDescriptor SUPER = MethodTypeDescriptor.methodType(ScriptObject.class, Constructor.class,
                 ExecutionContext.class, Constructor.class, Object[].class);
+        static final MethodTypeDescriptor GET_PROPERTY = MethodTypeDescriptor.methodType(Object.class, Object.class,
+                String.class, ExecutionContext.class);
+        static final MethodTypeDescriptor SET_PROPERTY = MethodTypeDescriptor.methodType(void.class, Object.class,
+                String.class, Object.class, ExecutionContext.class, boolean.class);
     }
 
     private static final Handle BOOTSTRAP;
@@ -305,6 +321,350 @@ public final class Bootstrap {
         return constructor.construct(callerContext, newTarget, arguments);
     }
 
+    /**
+     * Returns the invokedynamic instruction name for property get accesses.
+     * 
+     * @return the invokedynamic instruction name
+     */
+    public static String getPropertyGetName() {
+        return CallNames.GET_PROPERTY;
+    }
+
+    /**
+     * Returns the method descriptor for property get accesses.
+     * 
+     * @return the method descriptor
+     */
+    public static MethodTypeDescriptor getPropertyGetMethodDescriptor() {
+        return Descriptors.GET_PROPERTY;
+    }
+
+    /**
+     * Returns the bootstrapping handle for property get accesses.
+     * 
+     * @return the bootstrapping handle
+     */
+    public static Handle getPropertyGetBootstrap() {
+        return BOOTSTRAP;
+    }
+
+    /**
+     * Returns the invokedynamic instruction name for property set accesses.
+     * 
+     * @return the invokedynamic instruction name
+     */
+    public static String getPropertySetName() {
+        return CallNames.SET_PROPERTY;
+    }
+
+    /**
+     * Returns the method descriptor for property set accesses.
+     * 
+     * @return the method descriptor
+     */
+    public static MethodTypeDescriptor getPropertySetMethodDescriptor() {
+        return Descriptors.SET_PROPERTY;
+    }
+
+    /**
+     * Returns the bootstrapping handle for property set accesses.
+     * 
+     * @return the bootstrapping handle
+     */
+    public static Handle getPropertySetBootstrap() {
+        return BOOTSTRAP;
+    }
+
+    private static final Object[] EMPTY_ARRAY = new Object[0];
+    private static final MethodHandle getPropertySetupMH, setPropertySetupMH;
+    private static final MethodHandle getPropertyGenericMH, setPropertyGenericMH;
+    private static final MethodHandle getPropertyObjectMH, setPropertyObjectMH;
+    private static final MethodHandle getPropertySlotMH, setPropertySlotMH;
+    private static final MethodHandle getInheritedPropertyMH, setInheritedPropertyMH;
+    private static final MethodHandle getPropertyStringMH;
+    private static final MethodHandle testReceiverClassMH, testOrdinaryShapeMH, testPrototypeChainMH, testStringBaseMH;
+
+    static {
+        MethodLookup lookup = new MethodLookup(MethodHandles.lookup());
+        testReceiverClassMH = lookup.findStatic("testReceiverClass",
+                MethodType.methodType(boolean.class, Object.class, Class.class));
+        testOrdinaryShapeMH = lookup.findStatic("testOrdinaryShape",
+                MethodType.methodType(boolean.class, Object.class, Shape.class));
+        getPropertySlotMH = lookup.findStatic("getPropertySlot",
+                MethodType.methodType(Object.class, Object.class, String.class, ExecutionContext.class, int.class));
+        setPropertySlotMH = lookup.findStatic("setPropertySlot", MethodType.methodType(void.class, Object.class,
+                String.class, Object.class, ExecutionContext.class, boolean.class, int.class));
+        testPrototypeChainMH = lookup.findStatic("testPrototypeChain",
+                MethodType.methodType(boolean.class, Object.class, PrototypeChainGuard.class));
+        getInheritedPropertyMH = lookup.findStatic("getInheritedProperty", MethodType.methodType(Object.class,
+                Object.class, String.class, ExecutionContext.class, PrototypeChainGuard.class));
+        setInheritedPropertyMH = lookup.findStatic("setInheritedProperty", MethodType.methodType(void.class,
+                Object.class, String.class, Object.class, ExecutionContext.class, boolean.class,
+                PrototypeChainGuard.class));
+        testStringBaseMH = lookup.findStatic("testStringBase", MethodType.methodType(boolean.class, Object.class));
+        getPropertyGenericMH = lookup.findStatic("getPropertyGeneric",
+                MethodType.methodType(Object.class, Object.class, String.class, ExecutionContext.class));
+        getPropertyObjectMH = lookup.findStatic("getPropertyObject",
+                MethodType.methodType(Object.class, Object.class, String.class, ExecutionContext.class));
+        getPropertyStringMH = lookup.findStatic("getPropertyString",
+                MethodType.methodType(Object.class, Object.class, String.class, ExecutionContext.class));
+        getPropertySetupMH = lookup.findStatic("getPropertySetup", MethodType.methodType(MethodHandle.class,
+                MutableCallSite.class, Object.class, String.class, ExecutionContext.class));
+        setPropertyGenericMH = lookup.findStatic("setPropertyGeneric", MethodType.methodType(void.class,
+                Object.class, String.class, Object.class, ExecutionContext.class, boolean.class));
+        setPropertyObjectMH = lookup.findStatic("setPropertyObject", MethodType.methodType(void.class, Object.class,
+                String.class, Object.class, ExecutionContext.class, boolean.class));
+        setPropertySetupMH = lookup.findStatic("setPropertySetup", MethodType.methodType(MethodHandle.class,
+                MutableCallSite.class, Object.class, String.class, Object.class, ExecutionContext.class,
+                boolean.class));
+    }
+
+    private static MethodHandle getPropertySetup(MutableCallSite callsite, Object base, String propertyName,
+            ExecutionContext cx) {
+        MethodHandle target, test;
+        int slot = getOrdinarySlot(base, propertyName);
+        PrototypeChainGuard guard;
+        if (slot >= 0) {
+            test = MethodHandles.insertArguments(testOrdinaryShapeMH, 1, ((OrdinaryObject) base).getShape());
+            target = MethodHandles.insertArguments(getPropertySlotMH, 3, slot);
+        } else if ((guard = PrototypeChainGuard.lookup(base, propertyName)) != null) {
+            test = MethodHandles.insertArguments(testPrototypeChainMH, 1, guard);
+            target = MethodHandles.insertArguments(getInheritedPropertyMH, 3, guard);
+        } else if (base instanceof ScriptObject) {
+            test = MethodHandles.insertArguments(testReceiverClassMH, 1, base.getClass());
+            target = getPropertyObjectMH;
+        } else if (Type.isString(base)) {
+            test = testStringBaseMH;
+            target = getPropertyStringMH;
+        } else {
+            target = test = null;
+        }
+        return setCallSiteTarget(callsite, target, test, getPropertyGenericMH);
+    }
+
+    private static MethodHandle setPropertySetup(MutableCallSite callsite, Object base, String propertyName,
+            Object value, ExecutionContext cx, boolean strict) {
+        MethodHandle target, test;
+        int slot = getOrdinarySlot(base, propertyName);
+        PrototypeChainGuard guard;
+        if (slot >= 0) {
+            test = MethodHandles.insertArguments(testOrdinaryShapeMH, 1, ((OrdinaryObject) base).getShape());
+            target = MethodHandles.insertArguments(setPropertySlotMH, 5, slot);
+        } else if ((guard = PrototypeChainGuard.lookup(base, propertyName)) != null && guard.isAccessor()) {
+            // Inherited data properties are (re)defined on the receiver, only inherited setters are cached.
+            test = MethodHandles.insertArguments(testPrototypeChainMH, 1, guard);
+            target = MethodHandles.insertArguments(setInheritedPropertyMH, 5, guard);
+        } else if (base instanceof ScriptObject) {
+            test = MethodHandles.insertArguments(testReceiverClassMH, 1, base.getClass());
+            target = setPropertyObjectMH;
+        } else {
+            target = test = null;
+        }
+        return setCallSiteTarget(callsite, target, test, setPropertyGenericMH);
+    }
+
+    private static int getOrdinarySlot(Object base, String propertyName) {
+        // Only plain ordinary objects are guaranteed to use the ordinary [[Get]] and [[Set]] methods.
+        if (base != null && base.getClass() == OrdinaryObject.class) {
+            Shape shape = ((OrdinaryObject) base).getShape();
+            if (shape != null) {
+                return shape.getSlot(propertyName);
+            }
+        }
+        return -1;
+    }
+
+    private static boolean testOrdinaryShape(Object base, Shape shape) {
+        return base != null && base.getClass() == OrdinaryObject.class && ((OrdinaryObject) base).getShape() == shape;
+    }
+
+    private static boolean testPrototypeChain(Object base, PrototypeChainGuard guard) {
+        return guard.test(base);
+    }
+
+    /**
+     * Guard for a property inherited by a plain ordinary object.
+     * <p>
+     * The receiver and every prototype up to and including the holder of the property are guarded on their shape.
+     * The prototype is not part of the shape, so the prototype objects are additionally guarded on their identity.
+     * Prototypes are only weakly referenced, compiled code may be shared between realms.
+     */
+    private static final class PrototypeChainGuard {
+        // Maximum number of prototype objects checked by a single guard.
+        private static final int MAX_PROTOTYPE_CHAIN_LENGTH = 4;
+
+        private final Shape shape;
+        private final WeakReference<?>[] prototypes;
+        private final Shape[] prototypeShapes;
+        private final int slot;
+        private final boolean accessor;
+
+        private PrototypeChainGuard(Shape shape, ArrayList<OrdinaryObject> prototypes, int slot) {
+            int length = prototypes.size();
+            this.shape = shape;
+            this.prototypes = new WeakReference<?>[length];
+            this.prototypeShapes = new Shape[length];
+            for (int i = 0; i < length; ++i) {
+                OrdinaryObject prototype = prototypes.get(i);
+                this.prototypes[i] = new WeakReference<>(prototype);
+                this.prototypeShapes[i] = prototype.getShape();
+            }
+            this.slot = slot;
+            this.accessor = prototypes.get(length - 1).getPropertySlot(slot).isAccessorDescriptor();
+        }
+
+        /**
+         * Returns the guard for the inherited property {@code propertyName} or {@code null} if not applicable.
+         * 
+         * @param base
+         *            the base object
+         * @param propertyName
+         *            the property name
+         * @return the prototype chain guard or {@code null}
+         */
+        static PrototypeChainGuard lookup(Object base, String propertyName) {
+            if (base == null || base.getClass() != OrdinaryObject.class) {
+                return null;
+            }
+            Shape shape = ((OrdinaryObject) base).getShape();
+            if (shape == null) {
+                return null;
+            }
+            ArrayList<OrdinaryObject> prototypes = new ArrayList<>();
+            ScriptObject proto = ((OrdinaryObject) base).getPrototype();
+            while (proto != null && prototypes.size() < MAX_PROTOTYPE_CHAIN_LENGTH && isOrdinaryPrototype(proto)) {
+                OrdinaryObject prototype = (OrdinaryObject) proto;
+                Shape prototypeShape = prototype.getShape();
+                if (prototypeShape == null) {
+                    break;
+                }
+                prototypes.add(prototype);
+                int slot = prototypeShape.getSlot(propertyName);
+                if (slot >= 0) {
+                    return new PrototypeChainGuard(shape, prototypes, slot);
+                }
+                proto = prototype.getPrototype();
+            }
+            return null;
+        }
+
+        private static boolean isOrdinaryPrototype(ScriptObject proto) {
+            // Objects using the ordinary [[GetOwnProperty]], [[Get]] and [[Set]] internal methods.
+            Class<?> c = proto.getClass();
+            return c == OrdinaryObject.class || c == ObjectPrototype.class;
+        }
+
+        boolean isAccessor() {
+            return accessor;
+        }
+
+        boolean test(Object base) {
+            if (!testOrdinaryShape(base, shape)) {
+                return false;
+            }
+            ScriptObject proto = ((OrdinaryObject) base).getPrototype();
+            for (int i = 0; i < prototypes.length; ++i) {
+                if (proto == null || proto != prototypes[i].get()) {
+                    return false;
+                }
+                OrdinaryObject prototype = (OrdinaryObject) proto;
+                if (prototype.getShape() != prototypeShapes[i]) {
+                    return false;
+                }
+                proto = prototype.getPrototype();
+            }
+            return true;
+        }
+
+        Property getProperty(Object base) {
+            OrdinaryObject holder = (OrdinaryObject) base;
+            for (int i = 0; i < prototypes.length; ++i) {
+                holder = (OrdinaryObject) holder.getPrototype();
+            }
+            return holder.getPropertySlot(slot);
+        }
+    }
+
+    private static boolean testReceiverClass(Object base, Class<?> receiverClass) {
+        return base != null && base.getClass() == receiverClass;
+    }
+
+    private static boolean testStringBase(Object base) {
+        return Type.isString(base);
+    }
+
+    private static Object getPropertyObject(Object base, String propertyName, ExecutionContext cx) {
+        return ((ScriptObject) base).get(cx, propertyName, base);
+    }
+
+    private static Object getPropertySlot(Object base, String propertyName, ExecutionContext cx, int slot) {
+        Property property = ((OrdinaryObject) base).getPropertySlot(slot);
+        if (property.isDataDescriptor()) {
+            return property.getValue();
+        }
+        return getPropertyObject(base, propertyName, cx);
+    }
+
+    private static Object getInheritedProperty(Object base, String propertyName, ExecutionContext cx,
+            PrototypeChainGuard guard) {
+        Property property = guard.getProperty(base);
+        if (property.isDataDescriptor()) {
+            return property.getValue();
+        }
+        Callable getter = property.getGetter();
+        if (getter == null) {
+            return UNDEFINED;
+        }
+        return getter.call(cx, base, EMPTY_ARRAY);
+    }
+
+    private static Object getPropertyString(Object base, String propertyName, ExecutionContext cx) {
+        if ("length".equals(propertyName)) {
+            return Type.stringValue(base).length();
+        }
+        return cx.getIntrinsic(Intrinsics.StringPrototype).get(cx, propertyName, base);
+    }
+
+    private static Object getPropertyGeneric(Object base, String propertyName, ExecutionContext cx) {
+        return PropertyOperations.getPropertyValue(base, propertyName, cx);
+    }
+
+    private static void setPropertyObject(Object base, String propertyName, Object value, ExecutionContext cx,
+            boolean strict) {
+        boolean succeeded = ((ScriptObject) base).set(cx, propertyName, value, base);
+        if (!succeeded && strict) {
+            throw newTypeError(cx, Messages.Key.PropertyNotModifiable, propertyName);
+        }
+    }
+
+    private static void setPropertySlot(Object base, String propertyName, Object value, ExecutionContext cx,
+            boolean strict, int slot) {
+        Property property = ((OrdinaryObject) base).getPropertySlot(slot);
+        if (property.isDataDescriptor() && property.isWritable()) {
+            property.setValue(value);
+            return;
+        }
+        setPropertyObject(base, propertyName, value, cx, strict);
+    }
+
+    private static void setInheritedProperty(Object base, String propertyName, Object value, ExecutionContext cx,
+            boolean strict, PrototypeChainGuard guard) {
+        Property property = guard.getProperty(base);
+        if (property.isAccessorDescriptor()) {
+            Callable setter = property.getSetter();
+            if (setter != null) {
+                setter.call(cx, base, value);
+                return;
+            }
+        }
+        setPropertyObject(base, propertyName, value, cx, strict);
+    }
+
+    private static void setPropertyGeneric(Object base, String propertyName, Object value, ExecutionContext cx,
+            boolean strict) {
+        PropertyOperations.setPropertyValue(base, propertyName, value, cx, strict);
+    }
+
     /**
      * Returns the invokedynamic instruction name for concat expressions.
      * 
@@ -2026,26 +2386,111 @@ public final class Bootstrap {
         return setCallSiteTarget(callsite, target, getTestForUnaryNumber(type), decGenericMH);
     }
 
+    /**
+     * Maximum number of cached targets per call site before switching to the generic target.
+     */
+    private static final int MAX_POLYMORPHIC_DEPTH = Math.max(Integer.getInteger("es6draft.inlinecache.depth", 8), 0);
+
+    /**
+     * Collect call site statistics?
+     */
+    private static final boolean COLLECT_STATISTICS = Boolean.getBoolean("es6draft.inlinecache.statistics");
+
+    private static final ConcurrentLinkedQueue<CallSiteStatistics> callSiteStatistics = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Returns the statistics for all linked call sites. Statistics are only collected when the system property
+     * {@code es6draft.inlinecache.statistics} is set to {@code true}, otherwise an empty list is returned.
+     * 
+     * @return the call site statistics
+     */
+    public static List<CallSiteStatistics> getCallSiteStatistics() {
+        return new ArrayList<>(callSiteStatistics);
+    }
+
+    private static final class InlineCacheCallSite extends MutableCallSite {
+        // Only allocated when statistics are collected.
+        private final CallSiteStatistics statistics;
+        // Setup target at the end of the polymorphic chain, or null if the call site cannot be relinked.
+        private MethodHandle relink;
+        private int depth;
+
+        InlineCacheCallSite(MethodHandles.Lookup caller, String name, MethodType type) {
+            super(type);
+            if (COLLECT_STATISTICS) {
+                this.statistics = new CallSiteStatistics(caller.lookupClass().getName(), name);
+                callSiteStatistics.add(statistics);
+            } else {
+                this.statistics = null;
+            }
+        }
+
+        void miss() {
+            if (statistics != null) {
+                statistics.miss();
+            }
+        }
+
+        void addEntry() {
+            if (statistics != null) {
+                statistics.addEntry();
+            }
+        }
+
+        void setMegamorphic() {
+            if (statistics != null) {
+                statistics.setMegamorphic();
+            }
+        }
+
+        void setRelinkTarget(MethodHandle relink) {
+            this.relink = relink;
+            setTarget(relink);
+        }
+    }
+
     private static MethodHandle setCallSiteTarget(MutableCallSite callsite, MethodHandle target, MethodHandle test,
             MethodHandle generic) {
-        MethodHandle callSiteTarget;
-        if (target != null) {
-            target = target.asType(callsite.type());
-            if (test != null) {
-                MethodHandle fallback = createFallback(callsite, generic);
-                callSiteTarget = MethodHandles.guardWithTest(test, target, fallback);
+        InlineCacheCallSite site = (InlineCacheCallSite) callsite;
+        synchronized (site) {
+            site.miss();
+            MethodHandle callSiteTarget;
+            if (target != null && test == null) {
+                callSiteTarget = target = target.asType(site.type());
+                site.addEntry();
+            } else if (site.relink == null) {
+                // Call site cannot be relinked, switch to generic on the first miss.
+                if (target != null) {
+                    target = target.asType(site.type());
+                    callSiteTarget = MethodHandles.guardWithTest(test, target, createFallback(site, generic));
+                    site.addEntry();
+                } else {
+                    callSiteTarget = target = generic;
+                    site.setMegamorphic();
+                }
+            } else if (site.depth >= MAX_POLYMORPHIC_DEPTH) {
+                // Polymorphic chain overflow, switch to generic.
+                callSiteTarget = target = generic;
+                site.relink = null;
+                site.setMegamorphic();
+            } else if (target != null) {
+                // Prepend the new target to the polymorphic chain.
+                target = target.asType(site.type());
+                callSiteTarget = MethodHandles.guardWithTest(test, target, site.getTarget());
+                site.depth += 1;
+                site.addEntry();
             } else {
-                callSiteTarget = target;
+                // No specialization available, use generic for this invocation only.
+                callSiteTarget = site.getTarget();
+                target = generic;
+                site.depth += 1;
             }
-        } else {
-            callSiteTarget = target = generic;
+            site.setTarget(callSiteTarget);
+            return target;
         }
-        callsite.setTarget(callSiteTarget);
-        return target;
     }
 
-    private static MethodHandle createFallback(MutableCallSite callsite, MethodHandle generic) {
-        // only perform fallback to generic for now
+    private static MethodHandle createFallback(InlineCacheCallSite callsite, MethodHandle generic) {
         MethodHandle fallback = MethodHandles.insertArguments(switchToGenericMH, 0, callsite, generic);
         return setupCallSiteTarget(callsite.type(), fallback);
     }
@@ -2059,10 +2504,11 @@ public final class Bootstrap {
     static {
         MethodLookup lookup = new MethodLookup(MethodHandles.lookup());
         switchToGenericMH = lookup.findStatic("switchToGeneric",
-                MethodType.methodType(MethodHandle.class, MutableCallSite.class, MethodHandle.class));
+                MethodType.methodType(MethodHandle.class, InlineCacheCallSite.class, MethodHandle.class));
     }
 
-    private static MethodHandle switchToGeneric(MutableCallSite callsite, MethodHandle generic) {
+    private static MethodHandle switchToGeneric(InlineCacheCallSite callsite, MethodHandle generic) {
+        callsite.setMegamorphic();
         callsite.setTarget(generic);
         return generic;
     }
@@ -2076,6 +2522,8 @@ public final class Bootstrap {
     private static final ConstantCallSite stackOverFlow_Call;
     private static final ConstantCallSite stackOverFlow_Construct;
     private static final ConstantCallSite stackOverFlow_Super;
+    private static final ConstantCallSite stackOverFlow_GetProperty;
+    private static final ConstantCallSite stackOverFlow_SetProperty;
     private static final MethodHandle stackOverFlow_Concat;
 
     static {
@@ -2098,6 +2546,11 @@ public final class Bootstrap {
                 MethodType.methodType(ScriptObject.class, Object.class, ExecutionContext.class, Object[].class)));
         stackOverFlow_Super = new ConstantCallSite(lookup.findStatic("stackOverFlow_Super", MethodType.methodType(
                 ScriptObject.class, Constructor.class, ExecutionContext.class, Constructor.class, Object[].class)));
+        stackOverFlow_GetProperty = new ConstantCallSite(lookup.findStatic("stackOverFlow_GetProperty",
+                MethodType.methodType(Object.class, Object.class, String.class, ExecutionContext.class)));
+        stackOverFlow_SetProperty = new ConstantCallSite(lookup.findStatic("stackOverFlow_SetProperty",
+                MethodType.methodType(void.class, Object.class, String.class, Object.class, ExecutionContext.class,
+                        boolean.class)));
         stackOverFlow_Concat = lookup.findStatic("stackOverFlow_Concat", MethodType.methodType(CharSequence.class));
     }
 
@@ -2138,6 +2591,15 @@ public final class Bootstrap {
         throw new StackOverflowError("bootstrap stack overflow");
     }
 
+    private static Object stackOverFlow_GetProperty(Object base, String propertyName, ExecutionContext cx) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
+    private static void stackOverFlow_SetProperty(Object base, String propertyName, Object value, ExecutionContext cx,
+            boolean strict) {
+        throw new StackOverflowError("bootstrap stack overflow");
+    }
+
     private static CharSequence stackOverFlow_Concat() {
         throw new StackOverflowError("bootstrap stack overflow");
     }
@@ -2158,7 +2620,7 @@ public final class Bootstrap {
         // System.out.printf("name: %s\n", name);
         // System.out.printf("type: %s\n", type);
         try {
-            MutableCallSite callsite = new MutableCallSite(type);
+            InlineCacheCallSite callsite = new InlineCacheCallSite(caller, name, type);
 
             MethodHandle setup;
             switch (name) {
@@ -2171,6 +2633,12 @@ public final class Bootstrap {
             case CallNames.SUPER:
                 setup = MethodHandles.insertArguments(superSetupMH, 0, callsite);
                 break;
+            case CallNames.GET_PROPERTY:
+                setup = MethodHandles.insertArguments(getPropertySetupMH, 0, callsite);
+                break;
+            case CallNames.SET_PROPERTY:
+                setup = MethodHandles.insertArguments(setPropertySetupMH, 0, callsite);
+                break;
             case CallNames.ADD:
                 setup = MethodHandles.insertArguments(addSetupMH, 0, callsite);
                 break;
@@ -2244,7 +2712,7 @@ public final class Bootstrap {
                 throw new IllegalArgumentException(name);
             }
 
-            callsite.setTarget(setupCallSiteTarget(type, setup));
+            callsite.setRelinkTarget(setupCallSiteTarget(type, setup));
             return callsite;
         } catch (StackOverflowError e) {
             switch (name) {
@@ -2254,6 +2722,10 @@ public final class Bootstrap {
                 return stackOverFlow_Construct;
             case CallNames.SUPER:
                 return stackOverFlow_Super;
+            case CallNames.GET_PROPERTY:
+                return stackOverFlow_GetProperty;
+            case CallNames.SET_PROPERTY:
+                return stackOverFlow_SetProperty;
             case CallNames.CONCAT:
                 return new ConstantCallSite(
                         MethodHandles.dropArguments(stackOverFlow_Concat, 0, type.parameterArray()));
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+/**
+ * Inline cache statistics for a single invokedynamic call site.
+ *
+ * @see Bootstrap#getCallSiteStatistics()
+ */
+public final class CallSiteStatistics {
+    private final String callerClassName;
+    private final String name;
+    private volatile int entries;
+    private volatile int misses;
+    private volatile boolean megamorphic;
+
+    CallSiteStatistics(String callerClassName, String name) {
+        this.callerClassName = callerClassName;
+        this.name = name;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s [%s]: entries=%d, misses=%d, megamorphic=%b", callerClassName, name, entries,
+                misses, megamorphic);
+    }
+
+    /**
+     * Returns the name of the class which contains the call site.
+     *
+     * @return the caller class name
+     */
+    public String getCallerClassName() {
+        return callerClassName;
+    }
+
+    /**
+     * Returns the invokedynamic instruction name.
+     *
+     * @return the instruction name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the number of cached targets in the call site's polymorphic chain.
+     *
+     * @return the number of cached targets
+     */
+    public int getEntries() {
+        return entries;
+    }
+
+    /**
+     * Returns the number of inline cache misses, including the initial linkage.
+     *
+     * @return the number of inline cache misses
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns {@code true} if the call site was switched to its generic target.
+     *
+     * @return {@code true} if the call site is megamorphic
+     */
+    public boolean isMegamorphic() {
+        return megamorphic;
+    }
+
+    void miss() {
+        misses += 1;
+    }
+
+    void addEntry() {
+        entries += 1;
+    }
+
+    void setMegamorphic() {
+        megamorphic = true;
+    }
+}
@@ -0,0 +1,369 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Persistent cache for the class files of compiled scripts and modules.
+ * <p>
+ * Cache entries are keyed by the source code, the source location, the compatibility, parser and compiler options,
+ * and the engine version. Each entry is stored in its own file in the cache directory. I/O errors when reading or
+ * writing cache entries are not reported, instead the cache lookup is treated as a miss.
+ * <p>
+ * The cache is disabled if the engine version is not available, for example when running from unfiltered build
+ * resources. Otherwise stale class files from a different engine build could be loaded.
+ */
+public final class CodeCache {
+    private static final int MAGIC = 0xE56DCAC4;
+    private static final String FILE_EXTENSION = ".jsc";
+    private static final String ENGINE_VERSION = engineVersion();
+
+    private final Path directory;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * The kind of the cached code.
+     */
+    public enum Kind {
+        Script, Module
+    }
+
+    /**
+     * Cache key for compiled code.
+     */
+    public static final class Key {
+        private final Kind kind;
+        private final String hash;
+
+        Key(Kind kind, String hash) {
+            this.kind = kind;
+            this.hash = hash;
+        }
+
+        /**
+         * Returns the code kind.
+         *
+         * @return the code kind
+         */
+        public Kind getKind() {
+            return kind;
+        }
+
+        @Override
+        public String toString() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != Key.class) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return kind == other.kind && hash.equals(other.hash);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash.hashCode();
+        }
+    }
+
+    /**
+     * Cache entry with the class files of a compiled script or module.
+     */
+    public static final class Entry {
+        private final String mainClassName;
+        private final Map<String, byte[]> classes;
+
+        /**
+         * Constructs a new cache entry.
+         *
+         * @param mainClassName
+         *            the main class name
+         * @param classes
+         *            the class files, mapped by class name, in definition order
+         */
+        public Entry(String mainClassName, Map<String, byte[]> classes) {
+            this.mainClassName = Objects.requireNonNull(mainClassName);
+            this.classes = Collections.unmodifiableMap(new LinkedHashMap<>(classes));
+        }
+
+        /**
+         * Returns the main class name.
+         *
+         * @return the main class name
+         */
+        public String getMainClassName() {
+            return mainClassName;
+        }
+
+        /**
+         * Returns the class files mapped by class name, in definition order.
+         *
+         * @return the class files
+         */
+        public Map<String, byte[]> getClasses() {
+            return classes;
+        }
+    }
+
+    /**
+     * Constructs a new {@link CodeCache} object.
+     *
+     * @param directory
+     *            the cache directory
+     * @throws IOException
+     *             if the cache directory could not be created
+     */
+    public CodeCache(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory.toAbsolutePath());
+    }
+
+    /**
+     * Returns the cache directory.
+     *
+     * @return the cache directory
+     */
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Returns the number of cache misses.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Returns the cache key for the script or module source code.
+     *
+     * @param context
+     *            the runtime context
+     * @param kind
+     *            the code kind
+     * @param source
+     *            the source descriptor
+     * @param sourceCode
+     *            the source code
+     * @return the cache key
+     */
+    public Key keyFor(RuntimeContext context, Kind kind, Source source, String sourceCode) {
+        MessageDigest digest = newMessageDigest();
+        update(digest, String.valueOf(ENGINE_VERSION));
+        update(digest, kind.name());
+        update(digest, optionNames(context.getOptions()));
+        update(digest, optionNames(context.getParserOptions()));
+        update(digest, optionNames(context.getCompilerOptions()));
+        update(digest, source.getName());
+        update(digest, Integer.toString(source.getLine()));
+        update(digest, sourceCode);
+        return new Key(kind, toHexString(digest.digest()));
+    }
+
+    /**
+     * Returns the cached entry for {@code key} or {@code null} if not present.
+     *
+     * @param key
+     *            the cache key
+     * @return the cache entry or {@code null} if not present
+     */
+    public Entry get(Key key) {
+        if (ENGINE_VERSION == null) {
+            misses.increment();
+            return null;
+        }
+        Path file = fileFor(key);
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            Entry entry = read(in);
+            if (entry != null) {
+                hits.increment();
+                return entry;
+            }
+        } catch (NoSuchFileException e) {
+            // Cache miss.
+        } catch (IOException e) {
+            // Corrupted or concurrently modified entry, treat as a cache miss.
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores the entry in the cache.
+     *
+     * @param key
+     *            the cache key
+     * @param entry
+     *            the cache entry
+     */
+    public void put(Key key, Entry entry) {
+        if (ENGINE_VERSION == null) {
+            return;
+        }
+        Path file = fileFor(key);
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile(directory, key.toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+                write(out, entry);
+            }
+            try {
+                Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tempFile = null;
+        } catch (IOException e) {
+            // Ignore, a failure to store the entry only results in a cache miss.
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    // Ignore.
+                }
+            }
+        }
+    }
+
+    private Path fileFor(Key key) {
+        return directory.resolve(key.toString() + FILE_EXTENSION);
+    }
+
+    private static Entry read(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC || !ENGINE_VERSION.equals(in.readUTF())) {
+            return null;
+        }
+        String mainClassName = in.readUTF();
+        int count = in.readInt();
+        LinkedHashMap<String, byte[]> classes = new LinkedHashMap<>();
+        for (int i = 0; i < count; ++i) {
+            String className = in.readUTF();
+            byte[] bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+            classes.put(className, bytes);
+        }
+        if (!classes.containsKey(mainClassName)) {
+            return null;
+        }
+        return new Entry(mainClassName, classes);
+    }
+
+    private static void write(DataOutputStream out, Entry entry) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeUTF(ENGINE_VERSION);
+        out.writeUTF(entry.getMainClassName());
+        out.writeInt(entry.getClasses().size());
+        for (Map.Entry<String, byte[]> classFile : entry.getClasses().entrySet()) {
+            out.writeUTF(classFile.getKey());
+            out.writeInt(classFile.getValue().length);
+            out.write(classFile.getValue());
+        }
+    }
+
+    private static String optionNames(Set<? extends Enum<?>> options) {
+        return options.stream().map(Enum::name).sorted().collect(Collectors.joining(","));
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Returns {@code true} if the engine version is available and the cache is enabled.
+     *
+     * @return {@code true} if the cache is enabled
+     */
+    public static boolean isEnabled() {
+        return ENGINE_VERSION != null;
+    }
+
+    private static String engineVersion() {
+        String version = resourceInfo("/version");
+        String buildDate = resourceInfo("/build-date");
+        if (version == null || buildDate == null) {
+            return null;
+        }
+        return version + "; " + buildDate;
+    }
+
+    private static String resourceInfo(String resourceName) {
+        InputStream stream = CodeCache.class.getResourceAsStream(resourceName);
+        if (stream == null) {
+            return null;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            // Unfiltered resources still contain the '@property@' placeholders.
+            if (line == null || line.isEmpty() || line.indexOf('@') != -1) {
+                return null;
+            }
+            return line;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+}
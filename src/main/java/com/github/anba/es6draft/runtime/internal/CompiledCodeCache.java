@@ -0,0 +1,207 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import com.github.anba.es6draft.Module;
+import com.github.anba.es6draft.Script;
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.parser.Parser;
+
+/**
+ * Thread-safe in-memory cache for compiled scripts and modules.
+ * <p>
+ * Compiled {@link Script} and {@link Module} objects are immutable and not bound to a specific world, so a single
+ * cache instance can be shared by all runtime contexts and worlds of an application. Cache entries are keyed by the
+ * source code, the source location, and the compatibility, parser and compiler options.
+ *
+ * @see com.github.anba.es6draft.runtime.EnginePool
+ */
+public final class CompiledCodeCache {
+    private static final int DEFAULT_MAX_SIZE = 256;
+    private static final int DEFAULT_INITIAL_CAPACITY = 16;
+    private static final float DEFAULT_LOAD_FACTOR = .75f;
+    private final Map<Key, Object> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @SuppressWarnings("serial")
+    private static final class Cache extends LinkedHashMap<Key, Object> {
+        private final int maxSize;
+
+        Cache(int maxSize, int initialCapacity, float loadFactor) {
+            super(initialCapacity, loadFactor, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Object> eldest) {
+            return size() > maxSize;
+        }
+    }
+
+    private static final class Key {
+        private final CodeCache.Kind kind;
+        private final String sourceName;
+        private final int sourceLine;
+        private final Object sourceLocation;
+        private final String sourceCode;
+        private final EnumSet<CompatibilityOption> options;
+        private final EnumSet<Parser.Option> parserOptions;
+        private final EnumSet<Compiler.Option> compilerOptions;
+        private final int hashCode;
+
+        Key(RuntimeContext context, CodeCache.Kind kind, Source source, String sourceCode) {
+            this.kind = kind;
+            this.sourceName = source.getName();
+            this.sourceLine = source.getLine();
+            this.sourceLocation = source.getSourceId() != null ? source.getSourceId().toUri() : source.getFile();
+            this.sourceCode = sourceCode;
+            this.options = context.getOptions();
+            this.parserOptions = context.getParserOptions();
+            this.compilerOptions = context.getCompilerOptions();
+            this.hashCode = Objects.hash(kind, sourceName, sourceLine, sourceLocation, sourceCode);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != Key.class) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return hashCode == other.hashCode && kind == other.kind && sourceLine == other.sourceLine
+                    && sourceName.equals(other.sourceName) && Objects.equals(sourceLocation, other.sourceLocation)
+                    && sourceCode.equals(other.sourceCode) && options.equals(other.options)
+                    && parserOptions.equals(other.parserOptions) && compilerOptions.equals(other.compilerOptions);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * Constructs a new {@link CompiledCodeCache} object.
+     */
+    public CompiledCodeCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new {@link CompiledCodeCache} object.
+     *
+     * @param maxSize
+     *            the maximum size
+     */
+    public CompiledCodeCache(int maxSize) {
+        this(maxSize, DEFAULT_INITIAL_CAPACITY, DEFAULT_LOAD_FACTOR);
+    }
+
+    /**
+     * Constructs a new {@link CompiledCodeCache} object.
+     *
+     * @param maxSize
+     *            the maximum capacity
+     * @param initialCapacity
+     *            the initial capacity
+     * @param loadFactor
+     *            the load factor
+     */
+    public CompiledCodeCache(int maxSize, int initialCapacity, float loadFactor) {
+        this.cache = Collections.synchronizedMap(new Cache(maxSize, initialCapacity, loadFactor));
+    }
+
+    /**
+     * Returns the number of cache hits.
+     *
+     * @return the number of cache hits
+     */
+    public long getHits() {
+        return hits.longValue();
+    }
+
+    /**
+     * Returns the number of cache misses.
+     *
+     * @return the number of cache misses
+     */
+    public long getMisses() {
+        return misses.longValue();
+    }
+
+    /**
+     * Returns the number of cached scripts and modules.
+     *
+     * @return the number of cache entries
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * Removes all entries from this cache.
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * Returns the cached script for the source code or compiles and caches a new script.
+     *
+     * @param context
+     *            the runtime context
+     * @param source
+     *            the script source descriptor
+     * @param sourceCode
+     *            the source code
+     * @param compiler
+     *            the compiler function
+     * @return the compiled script
+     */
+    public Script getScript(RuntimeContext context, Source source, String sourceCode, Supplier<Script> compiler) {
+        return get(new Key(context, CodeCache.Kind.Script, source, sourceCode), Script.class, compiler);
+    }
+
+    /**
+     * Returns the cached module for the source code or compiles and caches a new module.
+     *
+     * @param context
+     *            the runtime context
+     * @param source
+     *            the module source descriptor
+     * @param sourceCode
+     *            the source code
+     * @param compiler
+     *            the compiler function
+     * @return the compiled module
+     */
+    public Module getModule(RuntimeContext context, Source source, String sourceCode, Supplier<Module> compiler) {
+        return get(new Key(context, CodeCache.Kind.Module, source, sourceCode), Module.class, compiler);
+    }
+
+    private <T> T get(Key key, Class<T> type, Supplier<T> compiler) {
+        Object cached = cache.get(key);
+        if (cached != null) {
+            hits.increment();
+            return type.cast(cached);
+        }
+        misses.increment();
+        // Compile outside of the lock. If another thread compiled the same code concurrently, the first result wins
+        // so that all worlds share the same classes.
+        T compiled = Objects.requireNonNull(compiler.get());
+        Object previous = cache.putIfAbsent(key, compiled);
+        return previous != null ? type.cast(previous) : compiled;
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import com.github.anba.es6draft.runtime.EventLoopListener;
+import com.github.anba.es6draft.runtime.Job;
+
+/**
+ * {@link EventLoopListener} which collects event loop statistics.
+ * <p>
+ * Instances can be registered with an {@link javax.management.MBeanServer MBeanServer} to expose the statistics
+ * through JMX:
+ *
+ * <pre>
+ * EventLoopMetrics metrics = new EventLoopMetrics();
+ * world.setEventLoopListener(metrics);
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(metrics,
+ *         new ObjectName("com.github.anba.es6draft:type=EventLoopMetrics"));
+ * </pre>
+ */
+public final class EventLoopMetrics implements EventLoopListener, EventLoopMetricsMXBean {
+    private static final EventLoopListener.JobType[] JOB_TYPES = EventLoopListener.JobType.values();
+    private static final int LATENCY_BUCKETS = 24;
+    private static final int DEFAULT_MAX_LONGEST_JOBS = 16;
+
+    private final LongAdder[] enqueued = newCounters();
+    private final LongAdder[] executed = newCounters();
+    private final LongAdder[] executionTime = newCounters();
+    private final AtomicLongArray latencies = new AtomicLongArray(JOB_TYPES.length * LATENCY_BUCKETS);
+    private final int maxLongestJobs;
+    private final ArrayList<JobRecord> longestJobs = new ArrayList<>();
+    private volatile long longestJobsThreshold = 0;
+
+    private static final class JobRecord {
+        final EventLoopListener.JobType type;
+        final String description;
+        final long durationNanos;
+        final long timestamp;
+
+        JobRecord(EventLoopListener.JobType type, String description, long durationNanos, long timestamp) {
+            this.type = type;
+            this.description = description;
+            this.durationNanos = durationNanos;
+            this.timestamp = timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.3f ms, type=%s, job=%s, timestamp=%tFT%<tT.%<tL", durationNanos / 1_000_000.0,
+                    type, description, timestamp);
+        }
+    }
+
+    /**
+     * Constructs a new {@link EventLoopMetrics} object.
+     */
+    public EventLoopMetrics() {
+        this(DEFAULT_MAX_LONGEST_JOBS);
+    }
+
+    /**
+     * Constructs a new {@link EventLoopMetrics} object.
+     *
+     * @param maxLongestJobs
+     *            the maximum number of longest running jobs to record
+     */
+    public EventLoopMetrics(int maxLongestJobs) {
+        this.maxLongestJobs = maxLongestJobs;
+    }
+
+    private static LongAdder[] newCounters() {
+        LongAdder[] counters = new LongAdder[JOB_TYPES.length];
+        for (int i = 0; i < counters.length; ++i) {
+            counters[i] = new LongAdder();
+        }
+        return counters;
+    }
+
+    private static Map<String, Long> toMap(LongAdder[] counters) {
+        LinkedHashMap<String, Long> map = new LinkedHashMap<>();
+        for (EventLoopListener.JobType type : JOB_TYPES) {
+            map.put(type.name(), counters[type.ordinal()].sum());
+        }
+        return map;
+    }
+
+    private static int latencyBucket(long latencyNanos) {
+        long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(latencyNanos, 0));
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(micros), LATENCY_BUCKETS - 1);
+    }
+
+    @Override
+    public void jobEnqueued(EventLoopListener.JobType type) {
+        enqueued[type.ordinal()].increment();
+    }
+
+    @Override
+    public void jobExecuted(EventLoopListener.JobType type, Job job, long latencyNanos, long durationNanos) {
+        int index = type.ordinal();
+        executed[index].increment();
+        executionTime[index].add(durationNanos);
+        latencies.incrementAndGet(index * LATENCY_BUCKETS + latencyBucket(latencyNanos));
+        if (durationNanos > longestJobsThreshold) {
+            recordLongestJob(type, job, durationNanos);
+        }
+    }
+
+    private synchronized void recordLongestJob(EventLoopListener.JobType type, Job job, long durationNanos) {
+        ArrayList<JobRecord> longestJobs = this.longestJobs;
+        int size = longestJobs.size();
+        if (maxLongestJobs <= 0 || (size == maxLongestJobs && durationNanos <= longestJobsThreshold)) {
+            return;
+        }
+        int index = 0;
+        while (index < size && longestJobs.get(index).durationNanos >= durationNanos) {
+            index += 1;
+        }
+        longestJobs.add(index, new JobRecord(type, job.toString(), durationNanos, System.currentTimeMillis()));
+        if (longestJobs.size() > maxLongestJobs) {
+            longestJobs.remove(longestJobs.size() - 1);
+        }
+        if (longestJobs.size() == maxLongestJobs) {
+            longestJobsThreshold = longestJobs.get(longestJobs.size() - 1).durationNanos;
+        }
+    }
+
+    @Override
+    public Map<String, Long> getQueueDepths() {
+        LinkedHashMap<String, Long> map = new LinkedHashMap<>();
+        for (EventLoopListener.JobType type : JOB_TYPES) {
+            int index = type.ordinal();
+            map.put(type.name(), Math.max(enqueued[index].sum() - executed[index].sum(), 0));
+        }
+        return map;
+    }
+
+    @Override
+    public Map<String, Long> getExecutedJobs() {
+        return toMap(executed);
+    }
+
+    @Override
+    public Map<String, Long> getExecutionTimeNanos() {
+        return toMap(executionTime);
+    }
+
+    @Override
+    public Map<String, long[]> getLatencyHistograms() {
+        LinkedHashMap<String, long[]> map = new LinkedHashMap<>();
+        for (EventLoopListener.JobType type : JOB_TYPES) {
+            long[] histogram = new long[LATENCY_BUCKETS];
+            for (int i = 0; i < LATENCY_BUCKETS; ++i) {
+                histogram[i] = latencies.get(type.ordinal() * LATENCY_BUCKETS + i);
+            }
+            map.put(type.name(), histogram);
+        }
+        return map;
+    }
+
+    @Override
+    public long[] getLatencyBucketBoundsMicros() {
+        long[] bounds = new long[LATENCY_BUCKETS - 1];
+        for (int i = 0; i < bounds.length; ++i) {
+            bounds[i] = 1L << i;
+        }
+        return bounds;
+    }
+
+    @Override
+    public synchronized String[] getLongestJobs() {
+        String[] jobs = new String[longestJobs.size()];
+        for (int i = 0; i < jobs.length; ++i) {
+            jobs[i] = longestJobs.get(i).toString();
+        }
+        return jobs;
+    }
+
+    @Override
+    public synchronized void reset() {
+        for (int i = 0; i < JOB_TYPES.length; ++i) {
+            // Keep the queue depth intact.
+            long pending = enqueued[i].sumThenReset() - executed[i].sumThenReset();
+            enqueued[i].add(Math.max(pending, 0));
+            executionTime[i].reset();
+        }
+        for (int i = 0; i < latencies.length(); ++i) {
+            latencies.set(i, 0);
+        }
+        longestJobs.clear();
+        longestJobsThreshold = 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: [queued=%s, executed=%s, time=%s]", getClass().getSimpleName(), getQueueDepths(),
+                getExecutedJobs(), getExecutionTimeNanos());
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.util.Map;
+
+/**
+ * Management interface for {@link EventLoopMetrics}.
+ * <p>
+ * All maps are keyed by the {@link com.github.anba.es6draft.runtime.EventLoopListener.JobType JobType} names.
+ */
+public interface EventLoopMetricsMXBean {
+    /**
+     * Returns the number of pending jobs per job type.
+     *
+     * @return the number of pending jobs
+     */
+    Map<String, Long> getQueueDepths();
+
+    /**
+     * Returns the number of executed jobs per job type.
+     *
+     * @return the number of executed jobs
+     */
+    Map<String, Long> getExecutedJobs();
+
+    /**
+     * Returns the total execution time in nanoseconds per job type.
+     *
+     * @return the total execution time in nanoseconds
+     */
+    Map<String, Long> getExecutionTimeNanos();
+
+    /**
+     * Returns the enqueue-to-execute latency histograms per job type. The bucket upper bounds are reported by
+     * {@link #getLatencyBucketBoundsMicros()}.
+     *
+     * @return the latency histograms
+     */
+    Map<String, long[]> getLatencyHistograms();
+
+    /**
+     * Returns the exclusive upper bounds of the latency histogram buckets in microseconds. The last bucket has no
+     * upper bound.
+     *
+     * @return the latency bucket bounds in microseconds
+     */
+    long[] getLatencyBucketBoundsMicros();
+
+    /**
+     * Returns the longest running jobs, longest first.
+     *
+     * @return the description of the longest running jobs
+     */
+    String[] getLongestJobs();
+
+    /**
+     * Resets all metrics, except for the queue depths.
+     */
+    void reset();
+}
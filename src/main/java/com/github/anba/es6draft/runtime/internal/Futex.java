@@ -6,8 +6,8 @@
  */
 package com.github.anba.es6draft.runtime.internal;
 
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
@@ -20,27 +20,93 @@ import com.github.anba.es6draft.runtime.objects.atomics.SharedByteBuffer;
  * <ul>
  * <li>Runtime semantics
  * </ul>
+ * <p>
+ * Waiters are kept in a separate FIFO queue per location, i.e. per shared memory block and byte index. The queues are
+ * distributed over a fixed number of lock stripes, so wait and wake operations on unrelated locations don't contend
+ * for the same lock.
  */
 public final class Futex {
-    private static final class Entry {
-        private final Condition condition;
+    private static final int STRIPES = 64;
+
+    private static final class Location {
         private final SharedByteBuffer buffer;
         private final int index;
 
-        Entry(Condition condition, SharedByteBuffer buffer, int index) {
-            this.condition = condition;
+        Location(SharedByteBuffer buffer, int index) {
             this.buffer = buffer;
             this.index = index;
         }
 
-        boolean matches(SharedByteBuffer buffer, int index) {
-            return this.buffer.sameData(buffer) && this.index == index;
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != Location.class) {
+                return false;
+            }
+            Location other = (Location) obj;
+            return buffer.sameData(other.buffer) && index == other.index;
+        }
+
+        @Override
+        public int hashCode() {
+            return buffer.dataHashCode() * 31 + index;
+        }
+    }
+
+    private static final class Stripe {
+        // FIXME: spec issue - define fairness property for 'futex critical section'?
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private final HashMap<Location, ArrayDeque<Condition>> waiters = new HashMap<>();
+
+        State await(Location location, long timeout, TimeUnit timeUnit) throws InterruptedException {
+            assert lock.isHeldByCurrentThread();
+            Condition condition = lock.newCondition();
+            ArrayDeque<Condition> queue = waiters.computeIfAbsent(location, k -> new ArrayDeque<>());
+            queue.add(condition);
+            boolean signaled = false;
+            try {
+                signaled = condition.await(timeout, timeUnit);
+            } finally {
+                // Signaled conditions were already removed from the queue in wake().
+                if (!signaled && queue.remove(condition) && queue.isEmpty()) {
+                    waiters.remove(location);
+                }
+            }
+            return signaled ? State.OK : State.Timedout;
+        }
+
+        int wake(Location location, int count) {
+            assert lock.isHeldByCurrentThread();
+            ArrayDeque<Condition> queue = waiters.get(location);
+            if (queue == null) {
+                return 0;
+            }
+            int n = 0;
+            for (; n < count && !queue.isEmpty(); ++n) {
+                queue.poll().signal();
+            }
+            if (queue.isEmpty()) {
+                waiters.remove(location);
+            }
+            return n;
+        }
+    }
+
+    private final Stripe[] stripes;
+
+    /**
+     * Constructs a new {@link Futex} object.
+     */
+    public Futex() {
+        stripes = new Stripe[STRIPES];
+        for (int i = 0; i < STRIPES; ++i) {
+            stripes[i] = new Stripe();
         }
     }
 
-    // FIXME: spec issue - define fairness property for 'futex critical section'?
-    private final ReentrantLock lock = new ReentrantLock(true);
-    private final LinkedList<Futex.Entry> queue = new LinkedList<>();
+    private Stripe stripe(Location location) {
+        int h = location.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (STRIPES - 1)];
+    }
 
     /**
      * Result enumeration for {@link Futex#wait(SharedByteBuffer, int, int, long, TimeUnit)}.
@@ -68,21 +134,17 @@ public final class Futex {
      */
     public Futex.State wait(SharedByteBuffer buffer, int index, int value, long timeout, TimeUnit timeUnit)
             throws InterruptedException {
-        lock.lock();
+        Location location = new Location(buffer, index);
+        Stripe stripe = stripe(location);
+        stripe.lock.lock();
         try {
             int w = UnsafeHolder.getIntVolatile(buffer.get(), index);
             if (w != value) {
                 return State.NotEqual;
             }
-            Futex.Entry entry = new Entry(lock.newCondition(), buffer, index);
-            queue.add(entry);
-            if (entry.condition.await(timeout, timeUnit)) {
-                return State.OK;
-            }
-            queue.remove(entry);
-            return State.Timedout;
+            return stripe.await(location, timeout, timeUnit);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
         }
     }
 
@@ -105,26 +167,22 @@ public final class Futex {
      */
     public Futex.State wait(SharedByteBuffer buffer, int index, long value, long timeout, TimeUnit timeUnit)
             throws InterruptedException {
-        lock.lock();
+        Location location = new Location(buffer, index);
+        Stripe stripe = stripe(location);
+        stripe.lock.lock();
         try {
             long w = UnsafeHolder.getLongVolatile(buffer.get(), index);
             if (w != value) {
                 return State.NotEqual;
             }
-            Futex.Entry entry = new Entry(lock.newCondition(), buffer, index);
-            queue.add(entry);
-            if (entry.condition.await(timeout, timeUnit)) {
-                return State.OK;
-            }
-            queue.remove(entry);
-            return State.Timedout;
+            return stripe.await(location, timeout, timeUnit);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
         }
     }
 
     /**
-     * Wakes up a number of currently waiting agents.
+     * Wakes up a number of currently waiting agents. Agents waiting on the same location are woken in FIFO order.
      * 
      * @param buffer
      *            the byte buffer
@@ -135,21 +193,13 @@ public final class Futex {
      * @return the actual number of agents awoken
      */
     public int wake(SharedByteBuffer buffer, int index, int count) {
-        lock.lock();
+        Location location = new Location(buffer, index);
+        Stripe stripe = stripe(location);
+        stripe.lock.lock();
         try {
-            int n = 0;
-            for (Iterator<Futex.Entry> it = queue.iterator(); count > 0 && it.hasNext();) {
-                Futex.Entry entry = it.next();
-                if (entry.matches(buffer, index)) {
-                    it.remove();
-                    entry.condition.signal();
-                    count -= 1;
-                    n += 1;
-                }
-            }
-            return n;
+            return stripe.wake(location, count);
         } finally {
-            lock.unlock();
+            stripe.lock.unlock();
         }
     }
 }
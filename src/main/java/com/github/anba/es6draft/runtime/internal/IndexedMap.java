@@ -7,6 +7,8 @@
 package com.github.anba.es6draft.runtime.internal;
 
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.LongStream;
 
 /**
  * 
@@ -23,8 +25,27 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         return (Elements<VALUE>) EMPTY_ELEMENTS;
     }
 
+    /**
+     * Element kinds of maps with {@link #enableElementKinds(Function) enabled} element kinds.
+     */
+    public enum ElementKind {
+        /** Packed int32 elements */
+        PackedInt,
+
+        /** Packed double elements */
+        PackedDouble,
+
+        /** Packed elements with arbitrary values */
+        PackedObject,
+
+        /** General representation, every element is stored as a {@code VALUE} object */
+        Generic
+    }
+
     private long length;
     private Elements<VALUE> elements;
+    // Wraps plain element values, or null if element kinds are disabled.
+    private Function<Object, VALUE> boxing;
 
     public IndexedMap() {
         this.length = 0;
@@ -567,6 +588,294 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         }
     }
 
+    /**
+     * Packed elements without holes. The elements are stored without a {@code VALUE} wrapper in a primitive
+     * {@code int[]} or {@code double[]} array when possible.
+     */
+    private static final class PackedElements<VALUE> extends Elements<VALUE> {
+        private static final int MIN_CAPACITY = 8;
+
+        private final Function<Object, VALUE> boxing;
+        private ElementKind kind;
+        private int[] ints;
+        private double[] doubles;
+        private Object[] objects;
+        private int size;
+
+        PackedElements(Function<Object, VALUE> boxing, Object value) {
+            this.boxing = boxing;
+            this.kind = kindOf(value);
+            switch (kind) {
+            case PackedInt:
+                ints = new int[MIN_CAPACITY];
+                break;
+            case PackedDouble:
+                doubles = new double[MIN_CAPACITY];
+                break;
+            default:
+                objects = new Object[MIN_CAPACITY];
+                break;
+            }
+            add(value);
+        }
+
+        private static ElementKind kindOf(Object value) {
+            if (value instanceof Integer) {
+                return ElementKind.PackedInt;
+            }
+            if (value instanceof Double || value instanceof Long) {
+                return ElementKind.PackedDouble;
+            }
+            return ElementKind.PackedObject;
+        }
+
+        ElementKind kind() {
+            return kind;
+        }
+
+        Object value(int index) {
+            assert 0 <= index && index < size;
+            switch (kind) {
+            case PackedInt:
+                return ints[index];
+            case PackedDouble:
+                return doubles[index];
+            default:
+                return objects[index];
+            }
+        }
+
+        void set(int index, Object value) {
+            assert 0 <= index && index < size && value != null;
+            ensureKind(value);
+            store(index, value);
+        }
+
+        void add(Object value) {
+            assert value != null;
+            ensureKind(value);
+            if (size == storageLength()) {
+                grow(Math.max(MIN_CAPACITY, size * 2));
+            }
+            store(size++, value);
+        }
+
+        void truncate(int newSize) {
+            assert 0 <= newSize && newSize <= size;
+            if (objects != null) {
+                Arrays.fill(objects, newSize, size, null);
+            }
+            size = newSize;
+        }
+
+        private void store(int index, Object value) {
+            switch (kind) {
+            case PackedInt:
+                ints[index] = (Integer) value;
+                break;
+            case PackedDouble:
+                doubles[index] = ((Number) value).doubleValue();
+                break;
+            default:
+                objects[index] = value;
+                break;
+            }
+        }
+
+        private void ensureKind(Object value) {
+            switch (kind) {
+            case PackedInt:
+                if (!(value instanceof Integer)) {
+                    if (value instanceof Double || value instanceof Long) {
+                        toDoubles();
+                    } else {
+                        toObjects();
+                    }
+                }
+                break;
+            case PackedDouble:
+                if (!(value instanceof Double || value instanceof Integer || value instanceof Long)) {
+                    toObjects();
+                }
+                break;
+            default:
+                break;
+            }
+        }
+
+        private void toDoubles() {
+            assert kind == ElementKind.PackedInt;
+            int[] ints = this.ints;
+            double[] doubles = new double[ints.length];
+            for (int i = 0; i < size; ++i) {
+                doubles[i] = ints[i];
+            }
+            this.doubles = doubles;
+            this.ints = null;
+            this.kind = ElementKind.PackedDouble;
+        }
+
+        private void toObjects() {
+            assert kind != ElementKind.PackedObject;
+            Object[] objects = new Object[storageLength()];
+            for (int i = 0; i < size; ++i) {
+                objects[i] = value(i);
+            }
+            this.objects = objects;
+            this.ints = null;
+            this.doubles = null;
+            this.kind = ElementKind.PackedObject;
+        }
+
+        private int storageLength() {
+            switch (kind) {
+            case PackedInt:
+                return ints.length;
+            case PackedDouble:
+                return doubles.length;
+            default:
+                return objects.length;
+            }
+        }
+
+        private void grow(int newLength) {
+            switch (kind) {
+            case PackedInt:
+                ints = Arrays.copyOf(ints, newLength);
+                break;
+            case PackedDouble:
+                doubles = Arrays.copyOf(doubles, newLength);
+                break;
+            default:
+                objects = Arrays.copyOf(objects, newLength);
+                break;
+            }
+        }
+
+        /**
+         * Returns the general representation for this object, every element is wrapped into a {@code VALUE} object.
+         * 
+         * @return the general dense representation
+         */
+        DenseElements<VALUE> unpack() {
+            VALUE[] array = newArray(DenseElements.nextCapacity(size));
+            for (int i = 0; i < size; ++i) {
+                array[i] = boxing.apply(value(i));
+            }
+            return new DenseElements<>(array, size);
+        }
+
+        @Override
+        long length() {
+            return size;
+        }
+
+        @Override
+        int capacity() {
+            return storageLength();
+        }
+
+        @Override
+        int count() {
+            return size;
+        }
+
+        @Override
+        boolean has(long propertyKey) {
+            return propertyKey < size;
+        }
+
+        @Override
+        VALUE get(long propertyKey) {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        void put(long propertyKey, VALUE value) {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        void delete(long propertyKey) {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        Elements<VALUE> toDense() {
+            return unpack();
+        }
+
+        @Override
+        Elements<VALUE> toSparse() {
+            return unpack().toSparse();
+        }
+
+        @Override
+        Elements<VALUE> toSparseOrShrink() {
+            return unpack().toSparseOrShrink();
+        }
+
+        @Override
+        List<String> keys() {
+            return keys(0, size);
+        }
+
+        @Override
+        List<String> keys(long from, long to) {
+            assert from <= to;
+            int fromIndex = (int) Math.min(from, size);
+            int toIndex = (int) Math.min(to, size);
+            ArrayList<String> keys = new ArrayList<>(toIndex - fromIndex);
+            for (int i = fromIndex; i < toIndex; ++i) {
+                keys.add(Integer.toString(i));
+            }
+            return keys;
+        }
+
+        @Override
+        long[] indices() {
+            return indices(0, size);
+        }
+
+        @Override
+        long[] indices(long from, long to) {
+            if (from >= size || from >= to) {
+                return new long[0];
+            }
+            return LongStream.range(from, Math.min(to, size)).toArray();
+        }
+
+        @Override
+        Iterator<Map.Entry<Long, VALUE>> iterator() {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        Iterator<Long> keysIterator() {
+            return LongStream.range(0, size).iterator();
+        }
+
+        @Override
+        Iterator<VALUE> valuesIterator() {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        Iterator<Map.Entry<Long, VALUE>> ascendingIterator(long from, long to) {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        Iterator<Map.Entry<Long, VALUE>> descendingIterator(long from, long to) {
+            throw new AssertionError("packed elements");
+        }
+
+        @Override
+        public String toString() {
+            return kind + "[" + size + "]";
+        }
+    }
+
     private static final class SparseElements<VALUE> extends Elements<VALUE> {
         private final TreeMap<Long, VALUE> map;
 
@@ -917,6 +1226,143 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         return Strings.toIndex(propertyKey);
     }
 
+    /**
+     * Enables element kind tracking. Elements which are added through {@link #putPlainValue(long, Object)} are stored
+     * without a {@code VALUE} wrapper as long as the elements are packed. The map switches to the general
+     * representation when an element is accessed through its {@code VALUE} object or when a hole is created.
+     * 
+     * @param boxing
+     *            the function to create the {@code VALUE} object for a plain element value
+     */
+    public void enableElementKinds(Function<Object, VALUE> boxing) {
+        assert isEmpty() && length == 0;
+        this.boxing = boxing;
+    }
+
+    /**
+     * Returns the current element kind.
+     * 
+     * @return the element kind
+     */
+    public ElementKind getElementKind() {
+        Elements<VALUE> elements = this.elements;
+        if (elements instanceof PackedElements) {
+            return ((PackedElements<VALUE>) elements).kind();
+        }
+        if (elements == EMPTY_ELEMENTS && boxing != null && length == 0) {
+            return ElementKind.PackedInt;
+        }
+        return ElementKind.Generic;
+    }
+
+    private PackedElements<VALUE> packed() {
+        Elements<VALUE> elements = this.elements;
+        return elements instanceof PackedElements ? (PackedElements<VALUE>) elements : null;
+    }
+
+    private Elements<VALUE> general() {
+        Elements<VALUE> elements = this.elements;
+        if (elements instanceof PackedElements) {
+            this.elements = elements = ((PackedElements<VALUE>) elements).unpack();
+        }
+        return elements;
+    }
+
+    /**
+     * Returns the element value if the element is stored without a {@code VALUE} wrapper, otherwise returns
+     * {@code null}.
+     * 
+     * @param propertyKey
+     *            the property key
+     * @return the plain element value or {@code null}
+     */
+    public Object getPlainValue(long propertyKey) {
+        PackedElements<VALUE> packed = packed();
+        if (packed != null && 0 <= propertyKey && propertyKey < packed.size) {
+            return packed.value((int) propertyKey);
+        }
+        return null;
+    }
+
+    /**
+     * Updates an existing element which is stored without a {@code VALUE} wrapper.
+     * 
+     * @param propertyKey
+     *            the property key
+     * @param value
+     *            the new element value
+     * @return {@code true} if the element was updated
+     */
+    public boolean setPlainValue(long propertyKey, Object value) {
+        PackedElements<VALUE> packed = packed();
+        if (packed != null && 0 <= propertyKey && propertyKey < packed.size) {
+            packed.set((int) propertyKey, value);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stores the element value without a {@code VALUE} wrapper if element kinds are enabled and the elements stay
+     * packed.
+     * 
+     * @param propertyKey
+     *            the property key
+     * @param value
+     *            the new element value
+     * @return {@code true} if the element was stored
+     */
+    public boolean putPlainValue(long propertyKey, Object value) {
+        if (boxing == null) {
+            return false;
+        }
+        Elements<VALUE> elements = this.elements;
+        if (elements == EMPTY_ELEMENTS) {
+            if (propertyKey != 0 || length != 0) {
+                return false;
+            }
+            this.elements = new PackedElements<>(boxing, value);
+            this.length = 1;
+            return true;
+        }
+        if (!(elements instanceof PackedElements)) {
+            return false;
+        }
+        PackedElements<VALUE> packed = (PackedElements<VALUE>) elements;
+        if (0 <= propertyKey && propertyKey < packed.size) {
+            packed.set((int) propertyKey, value);
+            return true;
+        }
+        if (propertyKey == packed.size && propertyKey < MAX_DENSE_LENGTH) {
+            packed.add(value);
+            this.length = packed.size;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Removes all elements in {@code [from, to)} if the elements are stored without a {@code VALUE} wrapper and the
+     * elements stay packed.
+     * 
+     * @param from
+     *            from index (inclusive)
+     * @param to
+     *            to index (exclusive)
+     * @return {@code true} if the elements were removed
+     */
+    public boolean removePlainRange(long from, long to) {
+        PackedElements<VALUE> packed = packed();
+        if (packed != null && 0 <= from && from <= to && to >= packed.size) {
+            if (from < packed.size) {
+                packed.truncate((int) from);
+                this.length = packed.size;
+            }
+            return true;
+        }
+        return false;
+    }
+
     /**
      * Returns the length.
      * 
@@ -951,7 +1397,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
     public VALUE get(long propertyKey) {
         assert isIndex(propertyKey) : "invalid index: " + propertyKey;
         if (0 <= propertyKey && propertyKey < length) {
-            return elements.get(propertyKey);
+            return general().get(propertyKey);
         }
         return null;
     }
@@ -984,7 +1430,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
     private void smallPut(int propertyKey, VALUE value) {
         assert propertyKey <= (int) MAX_DENSE_LENGTH : "index too large: " + propertyKey;
 
-        Elements<VALUE> elements = this.elements;
+        Elements<VALUE> elements = general();
         if (elements == EMPTY_ELEMENTS) {
             this.elements = elements = createElements(propertyKey);
         }
@@ -1010,7 +1456,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         assert propertyKey > MAX_DENSE_LENGTH : "index too small: " + propertyKey;
 
         // Require sparse representation
-        Elements<VALUE> elements = this.elements = this.elements.toSparse();
+        Elements<VALUE> elements = this.elements = general().toSparse();
         elements.put(propertyKey, value);
         length = Math.max(length, propertyKey + 1);
     }
@@ -1024,7 +1470,10 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
     public void remove(long propertyKey) {
         assert isIndex(propertyKey) : "invalid index: " + propertyKey;
         if (0 <= propertyKey && propertyKey < length) {
-            elements.delete(propertyKey);
+            if (removePlainRange(propertyKey, propertyKey + 1)) {
+                return;
+            }
+            general().delete(propertyKey);
             updateLength();
         }
     }
@@ -1039,7 +1488,10 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
     public void removeUnchecked(long propertyKey) {
         assert isIndex(propertyKey) : "invalid index: " + propertyKey;
         if (0 <= propertyKey && propertyKey < length) {
-            elements.delete(propertyKey);
+            if (removePlainRange(propertyKey, propertyKey + 1)) {
+                return;
+            }
+            general().delete(propertyKey);
         }
     }
 
@@ -1047,6 +1499,11 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
      * Updates the length and adjusts the internal representation.
      */
     public void updateLength() {
+        PackedElements<VALUE> packed = packed();
+        if (packed != null) {
+            this.length = packed.size;
+            return;
+        }
         // Switch to sparse representation?
         Elements<VALUE> elements = this.elements;
         int count = elements.count(), capacity = elements.capacity();
@@ -1152,7 +1609,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
      */
     @Override
     public Iterator<Map.Entry<Long, VALUE>> iterator() {
-        return elements.iterator();
+        return general().iterator();
     }
 
     /**
@@ -1170,7 +1627,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
      * @return the range iterator
      */
     public Iterator<VALUE> valuesIterator() {
-        return elements.valuesIterator();
+        return general().valuesIterator();
     }
 
     /**
@@ -1186,7 +1643,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         if (from < 0 || to < 0 || from > to) {
             throw new IndexOutOfBoundsException();
         }
-        return elements.ascendingIterator(from, to);
+        return general().ascendingIterator(from, to);
     }
 
     /**
@@ -1202,7 +1659,7 @@ public final class IndexedMap<VALUE> implements Iterable<Map.Entry<Long, VALUE>>
         if (from < 0 || to < 0 || from > to) {
             throw new IndexOutOfBoundsException();
         }
-        return elements.descendingIterator(from, to);
+        return general().descendingIterator(from, to);
     }
 
     @Override
@@ -30,6 +30,7 @@ import java.util.EnumMap;
 import java.util.LinkedHashMap;
 import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import com.github.anba.es6draft.repl.functions.StopExecutionException;
 import com.github.anba.es6draft.runtime.AbstractOperations;
@@ -475,6 +476,9 @@ public final class Properties {
         final ArrayList<PropertyLayout> properties;
         final CompatibilityOption option;
 
+        // Shapes recorded when this layout was first applied, shared by all subsequently created realms.
+        volatile ShapeSnapshot snapshot;
+
         CompactLayout(Object prototype, ArrayList<PropertyLayout> properties, CompatibilityOption option) {
             this.prototype = prototype;
             this.properties = properties;
@@ -482,6 +486,18 @@ public final class Properties {
         }
     }
 
+    private static final class ShapeSnapshot {
+        final Shape initial;
+        final Shape shape; // Shape after all properties were added, or null if not all transitions were recorded.
+        final int[] slots; // Slot of the n-th property relative to the initial shape, or -1 for symbol properties.
+
+        ShapeSnapshot(Shape initial, Shape shape, int[] slots) {
+            this.initial = initial;
+            this.shape = shape;
+            this.slots = slots;
+        }
+    }
+
     /**
      * Sets the {@link Prototype} and creates own properties for {@link Value}, {@link Function} and {@link Accessor}
      * fields.
@@ -1530,24 +1546,134 @@ public final class Properties {
         if (layout.prototype != CompactLayout.EMPTY) {
             createPrototype(realm, target, layout.prototype);
         }
-        for (PropertyLayout property : layout.properties) {
-            switch (property.tag()) {
-            case Value:
-                createValue(realm, target, (ValueLayout) property);
-                break;
-            case Function:
-                createFunction(realm, target, (FunctionLayout) property);
-                break;
-            case Accessor:
-                createAccessor(realm, target, (AccessorLayout) property);
-                break;
-            case Alias:
-                createAliasFunction(realm, target, (AliasFunctionLayout) property);
-                break;
-            default:
-                throw new AssertionError();
+        // Copy all string valued properties in one step when the shapes from a previous realm can be reused.
+        // Otherwise add the properties one by one and record the shapes, which also keeps the built-in shapes alive
+        // across realms.
+        Shape initial = target.getShape();
+        ShapeSnapshot snapshot = layout.snapshot;
+        if (snapshot != null && snapshot.initial == initial && snapshot.shape != null) {
+            createInternalProperties(realm, target, layout.properties, snapshot);
+            return;
+        }
+        ArrayList<PropertyLayout> properties = layout.properties;
+        int[] slots = snapshot == null && initial != null ? new int[properties.size()] : null;
+        Shape previous = initial;
+        for (int i = 0, size = properties.size(); i < size; ++i) {
+            PropertyLayout property = properties.get(i);
+            Property newProperty = createProperty(realm, property, lookupPrevious(target, property, null, null));
+            if (newProperty != null) {
+                defineProperty(target, property, newProperty);
+            }
+            if (slots != null) {
+                Shape current = target.getShape();
+                if (property.symbol != null) {
+                    slots[i] = -1;
+                } else if (current != null && (newProperty == null ? current == previous
+                        : current.getParent() == previous && current.getKey(previous.size()).equals(property.name))) {
+                    slots[i] = current.getSlot(property.name) - initial.size();
+                } else {
+                    // Transition not recorded, always add the properties one by one for this layout.
+                    slots = null;
+                    layout.snapshot = new ShapeSnapshot(initial, null, null);
+                }
+                previous = current;
+            }
+        }
+        if (slots != null) {
+            layout.snapshot = new ShapeSnapshot(initial, previous, slots);
+        }
+    }
+
+    private static void createInternalProperties(Realm realm, OrdinaryObject target,
+            ArrayList<PropertyLayout> properties, ShapeSnapshot snapshot) {
+        Shape shape = snapshot.shape;
+        int[] slots = snapshot.slots;
+        Property[] newProperties = new Property[shape.size() - snapshot.initial.size()];
+        for (int i = 0, size = properties.size(); i < size; ++i) {
+            PropertyLayout property = properties.get(i);
+            Property previous = lookupPrevious(target, property, shape, newProperties);
+            Property newProperty = createProperty(realm, property, previous);
+            if (newProperty == null) {
+                // Accessor property was already created.
+                continue;
+            }
+            int slot = slots[i];
+            if (slot < 0) {
+                defineProperty(target, property, newProperty);
+            } else {
+                assert newProperties[slot] == null;
+                newProperties[slot] = newProperty;
+            }
+        }
+        target.infallibleDefineOwnProperties(shape, newProperties);
+    }
+
+    /**
+     * Returns the property an accessor or alias function layout applies to, or {@code null} if not present.
+     * 
+     * @param target
+     *            the target object
+     * @param property
+     *            the property layout
+     * @param shape
+     *            the final shape if {@code newProperties} is present, otherwise {@code null}
+     * @param newProperties
+     *            the string valued properties which are not yet added to {@code target} or {@code null}
+     * @return the previous property or {@code null}
+     */
+    private static Property lookupPrevious(OrdinaryObject target, PropertyLayout property, Shape shape,
+            Property[] newProperties) {
+        Object propertyKey;
+        switch (property.tag()) {
+        case Accessor:
+            propertyKey = property.symbol != null ? property.symbol : property.name;
+            break;
+        case Alias:
+            propertyKey = ((AliasFunctionLayout) property).propertyKey;
+            if (propertyKey instanceof BuiltinSymbol) {
+                propertyKey = ((BuiltinSymbol) propertyKey).get();
+            }
+            break;
+        default:
+            return null;
+        }
+        if (!(propertyKey instanceof String)) {
+            return target.lookupOwnProperty((Symbol) propertyKey);
+        }
+        if (newProperties != null) {
+            int slot = shape.getSlot(propertyKey) - (shape.size() - newProperties.length);
+            if (slot >= 0) {
+                return newProperties[slot];
             }
         }
+        return target.lookupOwnProperty((String) propertyKey);
+    }
+
+    /**
+     * Creates the property for {@code property}. Returns {@code null} if the accessor property was already created
+     * and was updated in place.
+     * 
+     * @param realm
+     *            the realm instance
+     * @param property
+     *            the property layout
+     * @param previous
+     *            the previous property for accessor and alias function layouts
+     * @return the new property or {@code null}
+     */
+    private static Property createProperty(Realm realm, PropertyLayout property, Property previous) {
+        switch (property.tag()) {
+        case Value:
+            return createValue(realm, (ValueLayout) property);
+        case Function:
+            return createFunction(realm, (FunctionLayout) property);
+        case Accessor:
+            return createAccessor(realm, (AccessorLayout) property, previous);
+        case Alias:
+            return createAliasFunction((AliasFunctionLayout) property, previous);
+        default:
+            throw new AssertionError();
+        }
     }
 
     private static void createPrototype(Realm realm, OrdinaryObject target, Object rawValue) {
@@ -1556,48 +1682,45 @@ public final class Properties {
         target.infallibleSetPrototype((ScriptObject) value);
     }
 
-    private static void createValue(Realm realm, OrdinaryObject target, ValueLayout layout) {
-        Object value = resolveValue(realm, layout.rawValue);
-        defineProperty(target, layout, valueProperty(layout, value));
+    private static Property createValue(Realm realm, ValueLayout layout) {
+        Object rawValue = layout.rawValue;
+        if (rawValue instanceof Intrinsics && realm.isLazyIntrinsic((Intrinsics) rawValue)) {
+            Intrinsics id = (Intrinsics) rawValue;
+            return lazyValueProperty(layout, () -> realm.getIntrinsic(id));
+        }
+        Object value = resolveValue(realm, rawValue);
+        return valueProperty(layout, value);
     }
 
-    private static void createFunction(Realm realm, OrdinaryObject target, FunctionLayout layout) {
+    private static Property createFunction(Realm realm, FunctionLayout layout) {
         BuiltinFunction fun;
         if (layout.isTailCall()) {
             fun = new NativeTailCallFunction(realm, layout.name, layout.arity, layout.methodHandle);
         } else {
             fun = new NativeFunction(realm, layout.name, layout.arity, layout.nativeId, layout.methodHandle);
         }
-        defineProperty(target, layout, valueProperty(layout, fun));
+        return valueProperty(layout, fun);
     }
 
-    private static void createAccessor(Realm realm, OrdinaryObject target, AccessorLayout layout) {
+    private static Property createAccessor(Realm realm, AccessorLayout layout, Property accessorProperty) {
         int arity = accessorArity(layout.type);
         NativeFunction fun = new NativeFunction(realm, layout.accessorName, arity, layout.nativeId,
                 layout.methodHandle);
-        Property accessorProperty = lookupOwnProperty(target, layout);
         if (accessorProperty == null) {
-            defineProperty(target, layout, accessorProperty(layout, fun));
-        } else {
-            assert accessorProperty.isAccessorDescriptor();
-            assert accessorProperty.isConfigurable() == layout.configurable();
-            assert accessorProperty.isEnumerable() == layout.enumerable();
-            assert (layout.type == Accessor.Type.Getter ? accessorProperty.getGetter()
-                    : accessorProperty.getSetter()) == null;
-            accessorProperty.apply(accessorPropertyDescriptor(layout, fun));
-        }
+            return accessorProperty(layout, fun);
+        }
+        assert accessorProperty.isAccessorDescriptor();
+        assert accessorProperty.isConfigurable() == layout.configurable();
+        assert accessorProperty.isEnumerable() == layout.enumerable();
+        assert (layout.type == Accessor.Type.Getter ? accessorProperty.getGetter()
+                : accessorProperty.getSetter()) == null;
+        accessorProperty.apply(accessorPropertyDescriptor(layout, fun));
+        return null;
     }
 
-    private static void createAliasFunction(Realm realm, OrdinaryObject target, AliasFunctionLayout layout) {
-        Object propertyKey = layout.propertyKey;
-        Property fun;
-        if (propertyKey instanceof String) {
-            fun = target.lookupOwnProperty((String) propertyKey);
-        } else {
-            fun = target.lookupOwnProperty(((BuiltinSymbol) propertyKey).get());
-        }
-        assert fun != null : "property not found: " + propertyKey;
-        defineProperty(target, layout, valueProperty(layout, fun.getValue()));
+    private static Property createAliasFunction(AliasFunctionLayout layout, Property fun) {
+        assert fun != null : "property not found: " + layout.propertyKey;
+        return valueProperty(layout, fun.getValue());
     }
 
     private static Object resolveValue(Realm realm, Object value) {
@@ -1645,14 +1768,6 @@ public final class Properties {
         }
     }
 
-    private static Property lookupOwnProperty(OrdinaryObject target, PropertyLayout layout) {
-        if (layout.symbol == null) {
-            return target.lookupOwnProperty(layout.name);
-        } else {
-            return target.lookupOwnProperty(layout.symbol);
-        }
-    }
-
     private static void defineProperty(ExecutionContext cx, ScriptObject target, String name, BuiltinSymbol sym,
             Attributes attrs, Object value) {
         if (sym == BuiltinSymbol.NONE) {
@@ -1688,6 +1803,10 @@ public final class Properties {
         return new Property(value, layout.writable(), layout.enumerable(), layout.configurable());
     }
 
+    private static Property lazyValueProperty(PropertyLayout layout, Supplier<?> value) {
+        return Property.lazyDataProperty(value, layout.writable(), layout.enumerable(), layout.configurable());
+    }
+
     private static Property accessorProperty(AccessorLayout layout, NativeFunction accessor) {
         if (layout.type == Accessor.Type.Getter) {
             return new Property(accessor, null, layout.enumerable(), layout.configurable());
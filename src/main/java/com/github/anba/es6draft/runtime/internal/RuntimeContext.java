@@ -27,6 +27,7 @@ import java.util.function.Supplier;
 
 import com.github.anba.es6draft.compiler.Compiler;
 import com.github.anba.es6draft.parser.Parser;
+import com.github.anba.es6draft.regexp.RegExpCache;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.RealmData;
@@ -48,6 +49,9 @@ public final class RuntimeContext {
     private Console console;
 
     private final ScriptCache scriptCache;
+    private final CodeCache codeCache;
+    private final CompiledCodeCache compiledCodeCache;
+    private final RegExpCache regExpCache;
     private final ExecutorService executor;
     private final boolean shutdownExecutorOnFinalization;
     private final ExecutorService workerExecutor;
@@ -58,11 +62,26 @@ public final class RuntimeContext {
     private final Consumer<ExecutionContext> debugger;
     private final BiFunction<String, MethodType, MethodHandle> nativeCallResolver;
     private final BiConsumer<ScriptObject, ModuleRecord> importMeta;
+    private final StackTraceMode stackTraceMode;
 
     private final EnumSet<CompatibilityOption> options;
     private final EnumSet<Parser.Option> parserOptions;
     private final EnumSet<Compiler.Option> compilerOptions;
 
+    /**
+     * Stack trace capture modes for script exceptions.
+     */
+    public enum StackTraceMode {
+        /** Capture the stack trace for Error objects and all other thrown values */
+        All,
+
+        /** Capture the stack trace only for Error objects, other thrown values are stackless */
+        ErrorObjects,
+
+        /** Never capture the stack trace */
+        None
+    }
+
     public static class Data {
         // User-overridable data.
     }
@@ -72,12 +91,14 @@ public final class RuntimeContext {
 
     RuntimeContext(Supplier<? extends RuntimeContext.Data> runtimeData, Function<Realm, ? extends RealmData> realmData,
             BiFunction<RuntimeContext, ScriptLoader, ? extends ModuleLoader> moduleLoader, Locale locale,
-            TimeZone timeZone, Path baseDirectory, Console console, ScriptCache scriptCache, ExecutorService executor,
+            TimeZone timeZone, Path baseDirectory, Console console, ScriptCache scriptCache, CodeCache codeCache,
+            CompiledCodeCache compiledCodeCache, RegExpCache regExpCache, ExecutorService executor,
             BiConsumer<ExecutionContext, Throwable> errorReporter, ExecutorService workerExecutor,
             BiConsumer<ExecutionContext, Throwable> workerErrorReporter, Futex futex,
             Consumer<ExecutionContext> debugger, BiFunction<String, MethodType, MethodHandle> nativeCallResolver,
-            BiConsumer<ScriptObject, ModuleRecord> importMeta, EnumSet<CompatibilityOption> options,
-            EnumSet<Parser.Option> parserOptions, EnumSet<Compiler.Option> compilerOptions) {
+            BiConsumer<ScriptObject, ModuleRecord> importMeta, StackTraceMode stackTraceMode,
+            EnumSet<CompatibilityOption> options, EnumSet<Parser.Option> parserOptions,
+            EnumSet<Compiler.Option> compilerOptions) {
         this.runtimeData = runtimeData;
         this.contextData = runtimeData.get();
         this.realmData = realmData;
@@ -87,6 +108,9 @@ public final class RuntimeContext {
         this.baseDirectory = baseDirectory;
         this.console = console;
         this.scriptCache = scriptCache;
+        this.codeCache = codeCache;
+        this.compiledCodeCache = compiledCodeCache;
+        this.regExpCache = regExpCache;
         this.executor = executor != null ? executor : createThreadPoolExecutor();
         this.shutdownExecutorOnFinalization = executor == null;
         this.workerExecutor = workerExecutor != null ? workerExecutor : createWorkerThreadPoolExecutor();
@@ -97,6 +121,7 @@ public final class RuntimeContext {
         this.debugger = debugger;
         this.nativeCallResolver = nativeCallResolver;
         this.importMeta = importMeta;
+        this.stackTraceMode = stackTraceMode;
         this.options = EnumSet.copyOf(options);
         this.parserOptions = EnumSet.copyOf(parserOptions);
         this.compilerOptions = EnumSet.copyOf(compilerOptions);
@@ -194,6 +219,33 @@ public final class RuntimeContext {
         return scriptCache;
     }
 
+    /**
+     * Returns the optional persistent code cache for this instance.
+     * 
+     * @return the code cache or {@code null}
+     */
+    public CodeCache getCodeCache() {
+        return codeCache;
+    }
+
+    /**
+     * Returns the optional in-memory cache for compiled scripts and modules.
+     * 
+     * @return the compiled code cache or {@code null}
+     */
+    public CompiledCodeCache getCompiledCodeCache() {
+        return compiledCodeCache;
+    }
+
+    /**
+     * Returns the compiled regular expression cache for this instance.
+     * 
+     * @return the regular expression cache
+     */
+    public RegExpCache getRegExpCache() {
+        return regExpCache;
+    }
+
     /**
      * Returns the optional console object for this instance.
      * 
@@ -285,6 +337,15 @@ public final class RuntimeContext {
         return importMeta;
     }
 
+    /**
+     * Returns the stack trace capture mode.
+     * 
+     * @return the stack trace capture mode
+     */
+    public StackTraceMode getStackTraceMode() {
+        return stackTraceMode;
+    }
+
     /**
      * Returns the compatibility options for this instance.
      * 
@@ -363,6 +424,9 @@ public final class RuntimeContext {
         private Path baseDirectory;
         private Console console;
         private ScriptCache scriptCache;
+        private CodeCache codeCache;
+        private CompiledCodeCache compiledCodeCache;
+        private RegExpCache regExpCache;
         private ExecutorService executor;
         private ExecutorService workerExecutor;
         private BiConsumer<ExecutionContext, Throwable> errorReporter;
@@ -371,6 +435,7 @@ public final class RuntimeContext {
         private Consumer<ExecutionContext> debugger;
         private BiFunction<String, MethodType, MethodHandle> nativeCallResolver;
         private BiConsumer<ScriptObject, ModuleRecord> importMeta;
+        private StackTraceMode stackTraceMode;
         private final EnumSet<CompatibilityOption> options = EnumSet.noneOf(CompatibilityOption.class);
         private final EnumSet<Parser.Option> parserOptions = EnumSet.noneOf(Parser.Option.class);
         private final EnumSet<Compiler.Option> compilerOptions = EnumSet.noneOf(Compiler.Option.class);
@@ -383,6 +448,7 @@ public final class RuntimeContext {
             timeZone = TimeZone.getDefault();
             baseDirectory = Paths.get("");
             scriptCache = new ScriptCache();
+            regExpCache = new RegExpCache();
             errorReporter = (cx, e) -> {
                 e.printStackTrace();
             };
@@ -397,6 +463,7 @@ public final class RuntimeContext {
             importMeta = (meta, module) -> {
                 // empty
             };
+            stackTraceMode = StackTraceMode.All;
         }
 
         public Builder(RuntimeContext context) {
@@ -408,13 +475,18 @@ public final class RuntimeContext {
             baseDirectory = context.baseDirectory;
             console = context.console;
             scriptCache = context.scriptCache;
+            codeCache = context.codeCache;
+            compiledCodeCache = context.compiledCodeCache;
+            regExpCache = context.regExpCache;
             executor = context.executor;
             workerExecutor = context.workerExecutor;
             errorReporter = context.errorReporter;
             workerErrorReporter = context.workerErrorReporter;
             futex = context.futex;
             debugger = context.debugger;
+            nativeCallResolver = context.nativeCallResolver;
             importMeta = context.importMeta;
+            stackTraceMode = context.stackTraceMode;
             options.addAll(context.options);
             parserOptions.addAll(context.parserOptions);
             compilerOptions.addAll(context.compilerOptions);
@@ -427,8 +499,9 @@ public final class RuntimeContext {
          */
         public RuntimeContext build() {
             return new RuntimeContext(runtimeData, realmData, moduleLoader, locale, timeZone, baseDirectory, console,
-                    scriptCache, executor, errorReporter, workerExecutor, workerErrorReporter, futex, debugger,
-                    nativeCallResolver, importMeta, options, parserOptions, compilerOptions);
+                    scriptCache, codeCache, compiledCodeCache, regExpCache, executor, errorReporter, workerExecutor,
+                    workerErrorReporter, futex, debugger, nativeCallResolver, importMeta, stackTraceMode, options,
+                    parserOptions, compilerOptions);
         }
 
         /**
@@ -515,6 +588,42 @@ public final class RuntimeContext {
             return this;
         }
 
+        /**
+         * Sets the persistent code cache.
+         * 
+         * @param codeCache
+         *            the code cache or {@code null} to disable the persistent code cache
+         * @return this builder
+         */
+        public Builder setCodeCache(CodeCache codeCache) {
+            this.codeCache = codeCache; // null allowed
+            return this;
+        }
+
+        /**
+         * Sets the in-memory cache for compiled scripts and modules.
+         * 
+         * @param compiledCodeCache
+         *            the compiled code cache or {@code null} to disable the compiled code cache
+         * @return this builder
+         */
+        public Builder setCompiledCodeCache(CompiledCodeCache compiledCodeCache) {
+            this.compiledCodeCache = compiledCodeCache; // null allowed
+            return this;
+        }
+
+        /**
+         * Sets the compiled regular expression cache.
+         * 
+         * @param regExpCache
+         *            the regular expression cache
+         * @return this builder
+         */
+        public Builder setRegExpCache(RegExpCache regExpCache) {
+            this.regExpCache = Objects.requireNonNull(regExpCache);
+            return this;
+        }
+
         /**
          * Sets the console.
          * 
@@ -623,6 +732,18 @@ public final class RuntimeContext {
             return this;
         }
 
+        /**
+         * Sets the stack trace capture mode.
+         * 
+         * @param stackTraceMode
+         *            the stack trace capture mode
+         * @return this builder
+         */
+        public Builder setStackTraceMode(StackTraceMode stackTraceMode) {
+            this.stackTraceMode = Objects.requireNonNull(stackTraceMode);
+            return this;
+        }
+
         /**
          * Sets the compatibility options.
          * 
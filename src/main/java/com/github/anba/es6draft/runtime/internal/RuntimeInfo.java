@@ -12,6 +12,8 @@ import java.lang.invoke.ConstantCallSite;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.invoke.MutableCallSite;
+import java.util.function.Supplier;
 
 import com.github.anba.es6draft.Script;
 import com.github.anba.es6draft.runtime.ExecutionContext;
@@ -96,6 +98,90 @@ public final class RuntimeInfo {
                 handle, callMethod, constructMethod, debugInfo);
     }
 
+    /**
+     * Returns a new {@link Function} object which compiles its code on first use.
+     * <p>
+     * The method handles of the returned function object are stable: they forward to the compiled function's method
+     * handles after {@code compiler} was invoked.
+     * 
+     * @param functionName
+     *            the function name
+     * @param functionFlags
+     *            the function flags
+     * @param expectedArgumentCount
+     *            the number of expected arguments
+     * @param parameters
+     *            the parameter names or {@code null}
+     * @param source
+     *            the encoded source string
+     * @param handleType
+     *            the method type of the method handle or {@code null}
+     * @param callType
+     *            the method type of the call method handle
+     * @param constructType
+     *            the method type of the construct method handle or {@code null}
+     * @param compiler
+     *            the function compiler
+     * @return the new function object
+     */
+    public static Function newLazyFunction(String functionName, int functionFlags, int expectedArgumentCount,
+            String[] parameters, String source, MethodType handleType, MethodType callType, MethodType constructType,
+            Supplier<Function> compiler) {
+        return new LazyFunction(functionName, functionFlags, expectedArgumentCount, parameters, source, handleType,
+                callType, constructType, compiler, null);
+    }
+
+    /**
+     * Returns a new {@link Function} object which interprets calls until it becomes hot and then compiles its code.
+     * <p>
+     * The method handles of the returned function object are stable: they forward to the compiled function's method
+     * handles after {@code compiler} was invoked. Construct calls always compile the function.
+     * 
+     * @param functionName
+     *            the function name
+     * @param functionFlags
+     *            the function flags
+     * @param expectedArgumentCount
+     *            the number of expected arguments
+     * @param parameters
+     *            the parameter names or {@code null}
+     * @param source
+     *            the encoded source string
+     * @param handleType
+     *            the method type of the method handle or {@code null}
+     * @param callType
+     *            the method type of the call method handle
+     * @param constructType
+     *            the method type of the construct method handle or {@code null}
+     * @param compiler
+     *            the function compiler
+     * @param interpreter
+     *            the function interpreter
+     * @return the new function object
+     */
+    public static Function newLazyFunction(String functionName, int functionFlags, int expectedArgumentCount,
+            String[] parameters, String source, MethodType handleType, MethodType callType, MethodType constructType,
+            Supplier<Function> compiler, FunctionInterpreter interpreter) {
+        return new LazyFunction(functionName, functionFlags, expectedArgumentCount, parameters, source, handleType,
+                callType, constructType, compiler, interpreter);
+    }
+
+    /**
+     * Interpreter tier of a lazily compiled function.
+     */
+    @FunctionalInterface
+    public interface FunctionInterpreter {
+        /**
+         * Returns the call method handle which interprets the function. The interpreter invokes {@code tierUp} once
+         * the function has become hot, which compiles the function and redirects later calls to the compiled code.
+         * 
+         * @param tierUp
+         *            the tier-up callback
+         * @return the call method handle
+         */
+        MethodHandle callMethod(Runnable tierUp);
+    }
+
     /**
      * Returns a new {@link ModuleBody} object.
      * 
@@ -667,4 +753,175 @@ public final class RuntimeInfo {
             return null;
         }
     }
+
+    private static final class LazyFunction implements Function {
+        private static final MethodHandle handleTargetMH, callTargetMH, constructTargetMH;
+
+        static {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodType targetType = MethodType.methodType(MethodHandle.class);
+            try {
+                handleTargetMH = lookup.findVirtual(LazyFunction.class, "handleTarget", targetType);
+                callTargetMH = lookup.findVirtual(LazyFunction.class, "callTarget", targetType);
+                constructTargetMH = lookup.findVirtual(LazyFunction.class, "constructTarget", targetType);
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private final Object methodInfo = new Object();
+        private final String functionName;
+        private final int functionFlags;
+        private final int expectedArgumentCount;
+        private final String[] parameters;
+        private final FunctionSource source;
+        private final MutableCallSite handle;
+        private final MutableCallSite callMethod;
+        private final MutableCallSite constructMethod;
+        private Supplier<Function> compiler;
+        private volatile Function function;
+
+        LazyFunction(String functionName, int functionFlags, int expectedArgumentCount, String[] parameters,
+                String source, MethodType handleType, MethodType callType, MethodType constructType,
+                Supplier<Function> compiler, FunctionInterpreter interpreter) {
+            this.functionName = functionName;
+            this.functionFlags = functionFlags;
+            this.expectedArgumentCount = expectedArgumentCount;
+            this.parameters = parameters;
+            this.source = source != null ? new FunctionSource(source) : null;
+            this.handle = handleType != null ? trampoline(handleType, handleTargetMH) : null;
+            if (interpreter != null) {
+                this.callMethod = new MutableCallSite(interpreter.callMethod(this::tierUp).asType(callType));
+            } else {
+                this.callMethod = trampoline(callType, callTargetMH);
+            }
+            this.constructMethod = constructType != null ? trampoline(constructType, constructTargetMH) : null;
+            this.compiler = compiler;
+        }
+
+        private MutableCallSite trampoline(MethodType type, MethodHandle target) {
+            MethodHandle invoker = MethodHandles.exactInvoker(type);
+            return new MutableCallSite(MethodHandles.foldArguments(invoker, target.bindTo(this)));
+        }
+
+        private Function function() {
+            Function function = this.function;
+            if (function == null) {
+                function = compile();
+            }
+            return function;
+        }
+
+        private synchronized Function compile() {
+            Function function = this.function;
+            if (function == null) {
+                function = compiler.get();
+                if (handle != null) {
+                    handle.setTarget(function.handle().asType(handle.type()));
+                }
+                callMethod.setTarget(function.callMethod().asType(callMethod.type()));
+                if (constructMethod != null) {
+                    constructMethod.setTarget(function.constructMethod().asType(constructMethod.type()));
+                }
+                this.function = function;
+                // Release the function node.
+                this.compiler = null;
+            }
+            return function;
+        }
+
+        private void tierUp() {
+            try {
+                function();
+            } catch (RuntimeException e) {
+                // Ignore compilation errors, calls are still interpreted.
+            }
+        }
+
+        @SuppressWarnings("unused")
+        private MethodHandle handleTarget() {
+            return function().handle().asType(handle.type());
+        }
+
+        @SuppressWarnings("unused")
+        private MethodHandle callTarget() {
+            return function().callMethod().asType(callMethod.type());
+        }
+
+        @SuppressWarnings("unused")
+        private MethodHandle constructTarget() {
+            return function().constructMethod().asType(constructMethod.type());
+        }
+
+        @Override
+        public Object methodInfo() {
+            return methodInfo;
+        }
+
+        @Override
+        public String functionName() {
+            return functionName;
+        }
+
+        @Override
+        public boolean isStrict() {
+            return FunctionFlags.Strict.isSet(functionFlags);
+        }
+
+        @Override
+        public boolean isGenerator() {
+            return FunctionFlags.Generator.isSet(functionFlags);
+        }
+
+        @Override
+        public boolean isAsync() {
+            return FunctionFlags.Async.isSet(functionFlags);
+        }
+
+        @Override
+        public boolean is(FunctionFlags flag) {
+            return flag.isSet(functionFlags);
+        }
+
+        @Override
+        public int functionFlags() {
+            return functionFlags;
+        }
+
+        @Override
+        public int expectedArgumentCount() {
+            return expectedArgumentCount;
+        }
+
+        @Override
+        public String[] parameters() {
+            return parameters;
+        }
+
+        @Override
+        public FunctionSource source() {
+            return source;
+        }
+
+        @Override
+        public MethodHandle handle() {
+            return handle != null ? handle.dynamicInvoker() : null;
+        }
+
+        @Override
+        public MethodHandle callMethod() {
+            return callMethod.dynamicInvoker();
+        }
+
+        @Override
+        public MethodHandle constructMethod() {
+            return constructMethod != null ? constructMethod.dynamicInvoker() : null;
+        }
+
+        @Override
+        public DebugInfo debugInfo() {
+            Function function = this.function;
+            return function != null ? function.debugInfo() : null;
+        }
+    }
 }
@@ -43,6 +43,21 @@ public final class ScriptException extends RuntimeException implements InternalT
         this.value = value;
     }
 
+    /**
+     * Create a new {@link ScriptException} instance.
+     * 
+     * @param value
+     *            the wrapped exception value
+     * @param cause
+     *            the exception's cause or {@code null}
+     * @param stackTrace
+     *            if {@code false} the stack trace is not captured
+     */
+    public ScriptException(Object value, Throwable cause, boolean stackTrace) {
+        super(cause != null ? cause.toString() : null, cause, true, stackTrace);
+        this.value = value;
+    }
+
     /**
      * Creates a new {@link ScriptException} instance, unless {@code value} is an instance of {@link ErrorObject}, in
      * that case {@link ErrorObject#getException()} is returned.
@@ -58,6 +73,25 @@ public final class ScriptException extends RuntimeException implements InternalT
         return new ScriptException(value);
     }
 
+    /**
+     * Creates a new {@link ScriptException} instance, unless {@code value} is an instance of {@link ErrorObject}, in
+     * that case {@link ErrorObject#getException()} is returned. The stack trace is only captured if requested by the
+     * {@link RuntimeContext.StackTraceMode stack trace mode}.
+     * 
+     * @param value
+     *            the wrapped exception value
+     * @param cx
+     *            the execution context
+     * @return the script exception instance
+     */
+    public static ScriptException create(Object value, ExecutionContext cx) {
+        if (value instanceof ErrorObject) {
+            return ((ErrorObject) value).getException();
+        }
+        boolean stackTrace = cx.getRuntimeContext().getStackTraceMode() == RuntimeContext.StackTraceMode.All;
+        return new ScriptException(value, null, stackTrace);
+    }
+
     /**
      * Returns the wrapped value of this exception.
      * 
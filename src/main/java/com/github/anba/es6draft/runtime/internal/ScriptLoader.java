@@ -150,7 +150,7 @@ public final class ScriptLoader {
         if (parsedScript.getStatements().isEmpty()) {
             return null;
         }
-        return load(parsedScript, nextEvalName());
+        return load(parsedScript, nextEvalName(), null, sourceCode);
     }
 
     /**
@@ -317,8 +317,28 @@ public final class ScriptLoader {
         if (!file.isAbsolute()) {
             throw new IllegalArgumentException(String.format("'%s' is not an absolute path", file));
         }
-        // Don't interpret script files to get better stack trace information.
-        com.github.anba.es6draft.ast.Script parsedScript = parseScript(source, readFully(file));
+        String sourceCode = readFully(file);
+        CompiledCodeCache compiledCodeCache = context.getCompiledCodeCache();
+        if (compiledCodeCache != null) {
+            return compiledCodeCache.getScript(context, source, sourceCode, () -> compileScript(source, sourceCode));
+        }
+        return compileScript(source, sourceCode);
+    }
+
+    private Script compileScript(Source source, String sourceCode) throws ParserException, CompilationException {
+        CodeCache codeCache = context.getCodeCache();
+        if (codeCache != null) {
+            CodeCache.Key cacheKey = codeCache.keyFor(context, CodeCache.Kind.Script, source, sourceCode);
+            CodeCache.Entry cacheEntry = codeCache.get(cacheKey);
+            if (cacheEntry != null) {
+                return new Compiler(context).loadScript(source, cacheEntry);
+            }
+            com.github.anba.es6draft.ast.Script parsedScript = parseScript(source, sourceCode);
+            return new Compiler(context).compile(parsedScript, nextScriptName(), cacheKey);
+        }
+        // Don't interpret script files to get better stack trace information. Scripts stored in the compiled code
+        // cache are never interpreted, because interpreted scripts keep per-context tier-up state.
+        com.github.anba.es6draft.ast.Script parsedScript = parseScript(source, sourceCode);
         return compile(parsedScript, nextScriptName());
     }
 
@@ -336,8 +356,26 @@ public final class ScriptLoader {
      *             if the parsed source could not be compiled
      */
     public Script script(Source source, String sourceCode) throws ParserException, CompilationException {
+        CompiledCodeCache compiledCodeCache = context.getCompiledCodeCache();
+        if (compiledCodeCache != null) {
+            return compiledCodeCache.getScript(context, source, sourceCode, () -> compileScript(source, sourceCode));
+        }
+        return scriptSource(source, sourceCode);
+    }
+
+    private Script scriptSource(Source source, String sourceCode) throws ParserException, CompilationException {
+        CodeCache codeCache = context.getCodeCache();
+        if (codeCache != null) {
+            CodeCache.Key cacheKey = codeCache.keyFor(context, CodeCache.Kind.Script, source, sourceCode);
+            CodeCache.Entry cacheEntry = codeCache.get(cacheKey);
+            if (cacheEntry != null) {
+                return new Compiler(context).loadScript(source, cacheEntry);
+            }
+            com.github.anba.es6draft.ast.Script parsedScript = parseScript(source, sourceCode);
+            return load(parsedScript, nextScriptName(), cacheKey, sourceCode);
+        }
         com.github.anba.es6draft.ast.Script parsedScript = parseScript(source, sourceCode);
-        return load(parsedScript, nextScriptName());
+        return load(parsedScript, nextScriptName(), null, sourceCode);
     }
 
     /**
@@ -361,12 +399,29 @@ public final class ScriptLoader {
      * @return the script object
      */
     public Script load(com.github.anba.es6draft.ast.Script parsedScript, String className) throws CompilationException {
+        return load(parsedScript, className, null, null);
+    }
+
+    private Script load(com.github.anba.es6draft.ast.Script parsedScript, String className, CodeCache.Key cacheKey,
+            String sourceCode) throws CompilationException {
         Script script = null;
         if (!context.isEnabled(Compiler.Option.NoInterpreter)) {
-            script = Interpreter.script(parsedScript);
+            if (sourceCode != null) {
+                // Hot scripts are compiled from a new script node, the interpreter continues to use the old node.
+                Source source = parsedScript.getSource();
+                EnumSet<Parser.Option> parserOptions = EnumSet.copyOf(parsedScript.getParserOptions());
+                script = Interpreter.script(parsedScript, context.getExecutor(), () -> {
+                    Parser parser = new Parser(context, source, parserOptions);
+                    com.github.anba.es6draft.ast.Script compiledScript = parser.parseScript(sourceCode);
+                    return new Compiler(context).compile(compiledScript, className, cacheKey).getScriptBody();
+                });
+            } else {
+                script = Interpreter.script(parsedScript);
+            }
         }
         if (script == null) {
-            script = compile(parsedScript, className);
+            Compiler compiler = new Compiler(context);
+            script = compiler.compile(parsedScript, className, cacheKey);
         }
         return script;
     }
@@ -385,6 +440,45 @@ public final class ScriptLoader {
         return compile(parsedModule, moduleRecord, nextModuleName());
     }
 
+    /**
+     * Returns an executable {@link Module} object for the {@link com.github.anba.es6draft.ast.Module Module} AST-node.
+     * <p>
+     * If the compiled code cache or the persistent code cache is enabled, the compiled module is retrieved from or
+     * stored in the code cache.
+     * 
+     * @param parsedModule
+     *            the module node
+     * @param moduleRecord
+     *            the module record
+     * @param sourceCode
+     *            the module source code
+     * @return the module object
+     */
+    public Module loadModule(com.github.anba.es6draft.ast.Module parsedModule, SourceTextModuleRecord moduleRecord,
+            String sourceCode) throws CompilationException {
+        CompiledCodeCache compiledCodeCache = context.getCompiledCodeCache();
+        if (compiledCodeCache != null) {
+            return compiledCodeCache.getModule(context, parsedModule.getSource(), sourceCode,
+                    () -> loadModuleUncached(parsedModule, moduleRecord, sourceCode));
+        }
+        return loadModuleUncached(parsedModule, moduleRecord, sourceCode);
+    }
+
+    private Module loadModuleUncached(com.github.anba.es6draft.ast.Module parsedModule,
+            SourceTextModuleRecord moduleRecord, String sourceCode) throws CompilationException {
+        CodeCache codeCache = context.getCodeCache();
+        if (codeCache != null) {
+            Source source = parsedModule.getSource();
+            CodeCache.Key cacheKey = codeCache.keyFor(context, CodeCache.Kind.Module, source, sourceCode);
+            CodeCache.Entry cacheEntry = codeCache.get(cacheKey);
+            if (cacheEntry != null) {
+                return new Compiler(context).loadModule(source, cacheEntry);
+            }
+            return new Compiler(context).compile(parsedModule, moduleRecord, nextModuleName(), cacheKey);
+        }
+        return compile(parsedModule, moduleRecord, nextModuleName());
+    }
+
     /**
      * Returns an executable {@link Module} object for the {@link com.github.anba.es6draft.ast.Module Module} AST-node.
      * 
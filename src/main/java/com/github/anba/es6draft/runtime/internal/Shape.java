@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable property layout shared between objects with the same property insertion order.
+ * <p>
+ * Shapes form a transition tree rooted at the {@link #empty() empty shape}, each transition appends a single property
+ * key. The slot index of a property key is its position in the insertion order.
+ * <p>
+ * Child shapes are only weakly referenced from their parent, transitions to collected shapes are removed the next time
+ * a new shape is created. The number of transitions per shape is limited to {@link #MAX_TRANSITIONS}, callers need to
+ * switch to a non-shared property representation when {@link #addProperty(Object)} returns {@code null}.
+ */
+public final class Shape {
+    private static final int LINEAR_LOOKUP_LIMIT = 8;
+    private static final int MAX_TRANSITIONS = 256;
+    private static final ReferenceQueue<Shape> collectedShapes = new ReferenceQueue<>();
+    private static final Object[] EMPTY_KEYS = new Object[0];
+    private static final Shape EMPTY = new Shape();
+
+    private final Shape parent;
+    private final Object[] keys;
+    private final HashMap<Object, Integer> slots;
+
+    // Transitions to child shapes, lazily created.
+    private volatile ConcurrentHashMap<Object, Transition> transitions;
+
+    private static final class Transition extends WeakReference<Shape> {
+        private final Shape parent;
+        private final Object key;
+
+        Transition(Shape parent, Object key, Shape child) {
+            super(child, collectedShapes);
+            this.parent = parent;
+            this.key = key;
+        }
+    }
+
+    private Shape() {
+        this.parent = null;
+        this.keys = EMPTY_KEYS;
+        this.slots = null;
+    }
+
+    private Shape(Shape parent, Object key) {
+        Object[] keys = Arrays.copyOf(parent.keys, parent.keys.length + 1);
+        keys[parent.keys.length] = key;
+        this.parent = parent;
+        this.keys = keys;
+        this.slots = keys.length > LINEAR_LOOKUP_LIMIT ? createSlots(keys) : null;
+    }
+
+    private static HashMap<Object, Integer> createSlots(Object[] keys) {
+        HashMap<Object, Integer> slots = new HashMap<>(keys.length * 2);
+        for (int i = 0; i < keys.length; ++i) {
+            slots.put(keys[i], i);
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the empty shape.
+     *
+     * @return the empty shape
+     */
+    public static Shape empty() {
+        return EMPTY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Shape@%x: %s", System.identityHashCode(this), Arrays.toString(keys));
+    }
+
+    /**
+     * Returns the parent shape or {@code null} for the empty shape.
+     *
+     * @return the parent shape
+     */
+    public Shape getParent() {
+        return parent;
+    }
+
+    /**
+     * Returns the number of properties in this shape.
+     *
+     * @return the number of properties
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    /**
+     * Returns the property key stored at {@code slot}.
+     *
+     * @param slot
+     *            the slot index
+     * @return the property key
+     */
+    public Object getKey(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Returns the slot index of {@code key} or {@code -1} if not present.
+     *
+     * @param key
+     *            the property key
+     * @return the slot index or {@code -1}
+     */
+    public int getSlot(Object key) {
+        if (slots != null) {
+            Integer slot = slots.get(key);
+            return slot != null ? slot : -1;
+        }
+        Object[] keys = this.keys;
+        for (int i = 0; i < keys.length; ++i) {
+            Object k = keys[i];
+            if (k == key || k.equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the shape with {@code key} appended to this shape, or {@code null} if this shape already has the maximum
+     * number of transitions.
+     *
+     * @param key
+     *            the new property key
+     * @return the child shape or {@code null}
+     */
+    public Shape addProperty(Object key) {
+        assert getSlot(key) < 0 : "duplicate property key: " + key;
+        ConcurrentHashMap<Object, Transition> transitions = transitions();
+        Transition transition = transitions.get(key);
+        Shape child = transition != null ? transition.get() : null;
+        if (child != null) {
+            return child;
+        }
+        removeCollectedTransitions();
+        if (transition == null && transitions.size() >= MAX_TRANSITIONS) {
+            return null;
+        }
+        // Keep a strong reference to the new shape, it's only weakly reachable from the transition table.
+        Shape[] result = new Shape[1];
+        transitions.compute(key, (k, t) -> {
+            Shape c = t != null ? t.get() : null;
+            if (c == null) {
+                c = new Shape(this, k);
+                t = new Transition(this, k, c);
+            }
+            result[0] = c;
+            return t;
+        });
+        return result[0];
+    }
+
+    private ConcurrentHashMap<Object, Transition> transitions() {
+        ConcurrentHashMap<Object, Transition> transitions = this.transitions;
+        if (transitions == null) {
+            synchronized (this) {
+                transitions = this.transitions;
+                if (transitions == null) {
+                    this.transitions = transitions = new ConcurrentHashMap<>(4);
+                }
+            }
+        }
+        return transitions;
+    }
+
+    private static void removeCollectedTransitions() {
+        for (Reference<? extends Shape> ref; (ref = collectedShapes.poll()) != null;) {
+            Transition transition = (Transition) ref;
+            transition.parent.transitions.remove(transition.key, transition);
+        }
+    }
+}
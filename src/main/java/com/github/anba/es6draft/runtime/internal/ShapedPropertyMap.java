@@ -0,0 +1,241 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import com.github.anba.es6draft.runtime.types.Property;
+
+/**
+ * Insertion ordered property table backed by a shared {@link Shape} and a flat slot array.
+ * <p>
+ * The table switches to a non-shared dictionary representation when properties are removed out of insertion order,
+ * when the number of properties exceeds {@link #MAX_SHAPE_PROPERTIES}, or when the current shape has no room for
+ * another transition.
+ */
+public final class ShapedPropertyMap<KEY> {
+    private static final int MAX_SHAPE_PROPERTIES = 64;
+    private static final int MIN_SLOTS_CAPACITY = 4;
+    private static final Property[] EMPTY_SLOTS = new Property[0];
+    private static final int DICTIONARY_INITIAL_CAPACITY = 16;
+
+    // Shape and slots, or null if in dictionary mode.
+    private Shape shape;
+    private Property[] slots;
+    // Dictionary, or null if in shape mode.
+    private PropertyMap<KEY, Property> dictionary;
+
+    public ShapedPropertyMap() {
+        this.shape = Shape.empty();
+        this.slots = EMPTY_SLOTS;
+    }
+
+    private ShapedPropertyMap(ShapedPropertyMap<KEY> original) {
+        this.shape = original.shape;
+        this.slots = original.slots != null ? original.slots.clone() : null;
+        this.dictionary = original.dictionary != null ? original.dictionary.clone() : null;
+    }
+
+    @Override
+    public ShapedPropertyMap<KEY> clone() {
+        return new ShapedPropertyMap<>(this);
+    }
+
+    @Override
+    public String toString() {
+        return keySet().toString();
+    }
+
+    /**
+     * Returns the current shape or {@code null} if this table is in dictionary mode.
+     *
+     * @return the current shape or {@code null}
+     */
+    public Shape getShape() {
+        return shape;
+    }
+
+    /**
+     * Returns the property stored at {@code slot}. Only valid if this table is in shape mode.
+     *
+     * @param slot
+     *            the slot index
+     * @return the property
+     */
+    public Property getSlot(int slot) {
+        assert shape != null && slot < shape.size();
+        return slots[slot];
+    }
+
+    public int size() {
+        return shape != null ? shape.size() : dictionary.size();
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(KEY key) {
+        if (shape != null) {
+            return shape.getSlot(key) >= 0;
+        }
+        return dictionary.containsKey(key);
+    }
+
+    public Property get(KEY key) {
+        if (shape != null) {
+            int slot = shape.getSlot(key);
+            return slot >= 0 ? slots[slot] : null;
+        }
+        return dictionary.get(key);
+    }
+
+    public void put(KEY key, Property property) {
+        if (shape != null) {
+            int slot = shape.getSlot(key);
+            if (slot >= 0) {
+                slots[slot] = property;
+                return;
+            }
+            int size = shape.size();
+            Shape next = size < MAX_SHAPE_PROPERTIES ? shape.addProperty(key) : null;
+            if (next != null) {
+                if (size == slots.length) {
+                    slots = Arrays.copyOf(slots, Math.max(MIN_SLOTS_CAPACITY, size * 2));
+                }
+                shape = next;
+                slots[size] = property;
+                return;
+            }
+            toDictionary();
+        }
+        dictionary.put(key, property);
+    }
+
+    /**
+     * Appends a new property using the precomputed transition {@code next}. Falls back to
+     * {@link #put(Object, Property)} if {@code next} is not a direct child of the current shape.
+     * 
+     * @param key
+     *            the property key
+     * @param property
+     *            the property
+     * @param next
+     *            the expected shape after adding {@code key}
+     */
+    public void put(KEY key, Property property, Shape next) {
+        if (shape != null && next.getParent() == shape) {
+            int size = shape.size();
+            assert next.getKey(size).equals(key) : "unexpected transition: " + next;
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, Math.max(MIN_SLOTS_CAPACITY, size * 2));
+            }
+            shape = next;
+            slots[size] = property;
+            return;
+        }
+        put(key, property);
+    }
+
+    /**
+     * Appends new properties using the precomputed shape {@code next}. The current shape must be the ancestor of
+     * {@code next} which has exactly {@code properties.length} fewer properties.
+     * 
+     * @param next
+     *            the expected shape after adding all properties
+     * @param properties
+     *            the new properties in slot order
+     */
+    public void putAll(Shape next, Property[] properties) {
+        assert shape != null && isAncestor(shape, next, properties.length) : "unexpected shape: " + next;
+        int size = shape.size();
+        Property[] newSlots = Arrays.copyOf(slots, size + properties.length);
+        System.arraycopy(properties, 0, newSlots, size, properties.length);
+        shape = next;
+        slots = newSlots;
+    }
+
+    private static boolean isAncestor(Shape ancestor, Shape shape, int distance) {
+        for (int i = 0; i < distance && shape != null; ++i) {
+            shape = shape.getParent();
+        }
+        return shape == ancestor;
+    }
+
+    public void putAll(ShapedPropertyMap<KEY> other) {
+        other.forEach(this::put);
+    }
+
+    public void remove(KEY key) {
+        if (shape != null) {
+            int slot = shape.getSlot(key);
+            if (slot < 0) {
+                return;
+            }
+            if (slot == shape.size() - 1) {
+                // Removing the last added property reverts to the parent shape.
+                shape = shape.getParent();
+                slots[slot] = null;
+                return;
+            }
+            toDictionary();
+        }
+        dictionary.remove(key);
+    }
+
+    public void clear() {
+        shape = Shape.empty();
+        slots = EMPTY_SLOTS;
+        dictionary = null;
+    }
+
+    public List<KEY> keySet() {
+        if (shape != null) {
+            int size = shape.size();
+            ArrayList<KEY> keys = new ArrayList<>(size);
+            for (int i = 0; i < size; ++i) {
+                keys.add(key(i));
+            }
+            return keys;
+        }
+        return new ArrayList<>(dictionary.keySet());
+    }
+
+    public void forEach(BiConsumer<? super KEY, ? super Property> action) {
+        if (shape != null) {
+            Shape shape = this.shape;
+            Property[] slots = this.slots;
+            for (int i = 0, size = shape.size(); i < size; ++i) {
+                action.accept(key(i), slots[i]);
+            }
+        } else {
+            for (Map.Entry<KEY, Property> entry : dictionary.entrySet()) {
+                action.accept(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private KEY key(int slot) {
+        return (KEY) shape.getKey(slot);
+    }
+
+    private void toDictionary() {
+        PropertyMap<KEY, Property> dictionary = new PropertyMap<>(
+                Math.max(DICTIONARY_INITIAL_CAPACITY, shape.size() * 2));
+        for (int i = 0, size = shape.size(); i < size; ++i) {
+            dictionary.put(key(i), slots[i]);
+        }
+        this.dictionary = dictionary;
+        this.shape = null;
+        this.slots = null;
+    }
+}
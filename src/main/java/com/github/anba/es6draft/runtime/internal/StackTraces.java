@@ -49,6 +49,22 @@ public final class StackTraces {
         return list.toArray(new StackTraceElement[0]);
     }
 
+    /**
+     * Returns the innermost script stack trace element.
+     * 
+     * @param e
+     *            the throwable object
+     * @return the innermost script stack trace element or {@code null} if not present
+     */
+    public static StackTraceElement innermostScriptFrame(Throwable e) {
+        for (StackTraceElement element : e.getStackTrace()) {
+            if (StackTraceElementIterator.isScriptStackFrame(element)) {
+                return toScriptFrame(element);
+            }
+        }
+        return null;
+    }
+
     /**
      * Returns a script stack trace element.
      * 
@@ -84,8 +100,9 @@ public final class StackTraces {
                     }
                 }
                 this.elements = null;
-                // Return an "Interpreter" frame if no script stack frames were found.
-                if (c == 0) {
+                // Return an "Interpreter" frame if no script stack frames were found, unless the stack trace
+                // was not captured at all.
+                if (c == 0 && elements.length != 0) {
                     return interpreterFrame();
                 }
             }
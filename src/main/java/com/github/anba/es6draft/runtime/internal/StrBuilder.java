@@ -95,6 +95,34 @@ public final class StrBuilder implements Appendable, CharSequence {
         sb.ensureCapacity(minimumCapacity);
     }
 
+    /**
+     * Sets the length of the underlying {@link StringBuilder}.
+     *
+     * @param newLength
+     *            the new length
+     * @see StringBuilder#setLength(int)
+     */
+    public void setLength(int newLength) {
+        sb.setLength(newLength);
+    }
+
+    /**
+     * Copies characters from this builder into the destination array.
+     *
+     * @param srcBegin
+     *            the start index (inclusive)
+     * @param srcEnd
+     *            the end index (exclusive)
+     * @param dst
+     *            the destination array
+     * @param dstBegin
+     *            the start offset in the destination array
+     * @see StringBuilder#getChars(int, int, char[], int)
+     */
+    public void getChars(int srcBegin, int srcEnd, char[] dst, int dstBegin) {
+        sb.getChars(srcBegin, srcEnd, dst, dstBegin);
+    }
+
     /**
      * Appends the boolean to this builder.
      * 
@@ -8,6 +8,7 @@ package com.github.anba.es6draft.runtime.language;
 
 import static com.github.anba.es6draft.runtime.AbstractOperations.*;
 import static com.github.anba.es6draft.runtime.internal.Errors.newInternalError;
+import static com.github.anba.es6draft.runtime.internal.Errors.newReferenceError;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
@@ -21,6 +22,8 @@ import java.math.BigInteger;
 import org.mozilla.javascript.ConsString;
 
 import com.github.anba.es6draft.runtime.AbstractOperations.ToPrimitiveHint;
+import com.github.anba.es6draft.runtime.DeclarativeEnvironmentRecord;
+import com.github.anba.es6draft.runtime.EnvironmentRecord;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.Messages;
@@ -314,6 +317,58 @@ public final class Operators {
         return lval.length() == rval.length() && lval.toString().equals(rval.toString());
     }
 
+    /**
+     * 6.2.3.1 GetValue (V)
+     * <p>
+     * Specialized for identifier references which were statically resolved to a function environment slot.
+     * 
+     * @param envRec
+     *            the environment record of the identifier reference or {@code null} if unresolvable
+     * @param name
+     *            the identifier name
+     * @param slot
+     *            the slot index
+     * @param strict
+     *            the strict mode flag
+     * @param cx
+     *            the execution context
+     * @return the binding value
+     */
+    public static Object getSlotBindingValue(EnvironmentRecord envRec, String name, int slot, boolean strict,
+            ExecutionContext cx) {
+        if (envRec instanceof DeclarativeEnvironmentRecord) {
+            return ((DeclarativeEnvironmentRecord) envRec).getSlotBindingValue(slot, name, strict);
+        }
+        return getBindingValue(envRec, name, strict, cx);
+    }
+
+    /**
+     * 6.2.3.2 PutValue (V, W)
+     * <p>
+     * Specialized for identifier references which were statically resolved to a function environment slot.
+     * 
+     * @param envRec
+     *            the environment record of the identifier reference or {@code null} if unresolvable
+     * @param name
+     *            the identifier name
+     * @param value
+     *            the new binding value
+     * @param slot
+     *            the slot index
+     * @param strict
+     *            the strict mode flag
+     * @param cx
+     *            the execution context
+     */
+    public static void setSlotBindingValue(EnvironmentRecord envRec, String name, Object value, int slot,
+            boolean strict, ExecutionContext cx) {
+        if (envRec instanceof DeclarativeEnvironmentRecord) {
+            ((DeclarativeEnvironmentRecord) envRec).setSlotMutableBinding(slot, name, value, strict);
+            return;
+        }
+        setBindingValue(envRec, name, value, strict, cx);
+    }
+
     /**
      * 12.5 Unary Operators<br>
      * 12.5.5 The typeof Operator
@@ -343,19 +398,76 @@ public final class Operators {
      * 12.5 Unary Operators<br>
      * 12.5.5 The typeof Operator
      * 
-     * @param ref
-     *            the reference
-     * @param cx
-     *            the execution context
+     * @param envRec
+     *            the environment record of the identifier reference or {@code null} if unresolvable
+     * @param name
+     *            the identifier name
+     * @param strict
+     *            the strict mode flag
      * @return the typeof descriptor string
      */
-    public static String typeof(Reference<?, ?> ref, ExecutionContext cx) {
+    public static String typeof(EnvironmentRecord envRec, String name, boolean strict) {
         /* step 2 */
-        if (ref.isUnresolvableReference()) {
+        if (envRec == null) {
             return "undefined";
         }
         /* steps 3-4 */
-        return typeof(ref.getValue(cx));
+        return typeof(envRec.getBindingValue(name, strict));
+    }
+
+    /**
+     * 6.2.3.1 GetValue (V)
+     * <p>
+     * Specialized for identifier references, the reference is represented by its base environment record.
+     * 
+     * @param envRec
+     *            the environment record of the identifier reference or {@code null} if unresolvable
+     * @param name
+     *            the identifier name
+     * @param strict
+     *            the strict mode flag
+     * @param cx
+     *            the execution context
+     * @return the binding value
+     */
+    public static Object getBindingValue(EnvironmentRecord envRec, String name, boolean strict,
+            ExecutionContext cx) {
+        /* step 4 */
+        if (envRec == null) {
+            throw newReferenceError(cx, Messages.Key.UnresolvableReference, name);
+        }
+        /* step 6 */
+        return envRec.getBindingValue(name, strict);
+    }
+
+    /**
+     * 6.2.3.2 PutValue (V, W)
+     * <p>
+     * Specialized for identifier references, the reference is represented by its base environment record.
+     * 
+     * @param envRec
+     *            the environment record of the identifier reference or {@code null} if unresolvable
+     * @param name
+     *            the identifier name
+     * @param value
+     *            the new binding value
+     * @param strict
+     *            the strict mode flag
+     * @param cx
+     *            the execution context
+     */
+    public static void setBindingValue(EnvironmentRecord envRec, String name, Object value, boolean strict,
+            ExecutionContext cx) {
+        /* step 5 */
+        if (envRec == null) {
+            if (strict) {
+                throw newReferenceError(cx, Messages.Key.UnresolvableReference, name);
+            }
+            Set(cx, cx.getGlobalObject(), name, value, false);
+            return;
+        }
+        /* step 7 */
+        envRec.setMutableBinding(name, value, strict);
     }
 
     /**
@@ -545,9 +657,11 @@ public final class Operators {
      * 
      * @param value
      *            the value to throw
+     * @param cx
+     *            the execution context
      * @return always throws an exception
      */
-    public static Object _throw(Object value) {
-        throw ScriptException.create(value);
+    public static Object _throw(Object value, ExecutionContext cx) {
+        throw ScriptException.create(value, cx);
     }
 }
@@ -334,11 +334,13 @@ public final class SourceTextModuleRecord implements ModuleRecord, Cloneable {
     public static SourceTextModuleRecord ParseModule(ScriptLoader scriptLoader, SourceIdentifier sourceCodeId,
             ModuleSource source) throws IOException, ParserException, CompilationException {
         /* step 1 (not applicable) */
+        String sourceCode = source.sourceCode();
         /* steps 2-3 */
-        com.github.anba.es6draft.ast.Module parsedBody = scriptLoader.parseModule(source.toSource(),
-                source.sourceCode());
+        com.github.anba.es6draft.ast.Module parsedBody = scriptLoader.parseModule(source.toSource(), sourceCode);
         /* steps 4-12 */
-        return ParseModule(scriptLoader, sourceCodeId, parsedBody);
+        SourceTextModuleRecord m = CreateModuleRecord(sourceCodeId, parsedBody);
+        m.scriptCode = scriptLoader.loadModule(parsedBody, m, sourceCode);
+        return m;
     }
 
     /**
@@ -357,6 +359,14 @@ public final class SourceTextModuleRecord implements ModuleRecord, Cloneable {
     public static SourceTextModuleRecord ParseModule(ScriptLoader scriptLoader, SourceIdentifier sourceCodeId,
             com.github.anba.es6draft.ast.Module parsedBody) throws CompilationException {
         /* steps 1-3 (not applicable) */
+        /* steps 4-12 */
+        SourceTextModuleRecord m = CreateModuleRecord(sourceCodeId, parsedBody);
+        m.scriptCode = scriptLoader.load(parsedBody, m);
+        return m;
+    }
+
+    private static SourceTextModuleRecord CreateModuleRecord(SourceIdentifier sourceCodeId,
+            com.github.anba.es6draft.ast.Module parsedBody) {
         /* step 4 */
         Set<String> requestedModules = ModuleRequests(parsedBody);
         /* step 5 */
@@ -393,10 +403,8 @@ public final class SourceTextModuleRecord implements ModuleRecord, Cloneable {
             }
         }
         /* step 12 */
-        SourceTextModuleRecord m = new SourceTextModuleRecord(sourceCodeId, requestedModules, importEntries,
-                localExportEntries, indirectExportEntries, starExportEntries, nameSpaceExportEntries);
-        m.scriptCode = scriptLoader.load(parsedBody, m);
-        return m;
+        return new SourceTextModuleRecord(sourceCodeId, requestedModules, importEntries, localExportEntries,
+                indirectExportEntries, starExportEntries, nameSpaceExportEntries);
     }
 
     /**
@@ -7,6 +7,7 @@
 package com.github.anba.es6draft.runtime.objects;
 
 import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
 import com.github.anba.es6draft.runtime.internal.ScriptException;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.Property;
@@ -36,7 +37,7 @@ public final class ErrorObject extends OrdinaryObject {
      */
     public ErrorObject(Realm realm) {
         super(realm);
-        this.exception = new ScriptException(this);
+        this.exception = new ScriptException(this, null, captureStackTrace(realm));
     }
 
     /**
@@ -51,7 +52,7 @@ public final class ErrorObject extends OrdinaryObject {
      */
     public ErrorObject(Realm realm, Intrinsics prototype, String message) {
         super(realm, realm.getIntrinsic(prototype));
-        this.exception = new ScriptException(this);
+        this.exception = new ScriptException(this, null, captureStackTrace(realm));
         defineErrorProperty("message", message, false);
     }
 
@@ -69,7 +70,7 @@ public final class ErrorObject extends OrdinaryObject {
      */
     public ErrorObject(Realm realm, Throwable cause, Intrinsics prototype, String message) {
         super(realm, realm.getIntrinsic(prototype));
-        this.exception = new ScriptException(this, cause);
+        this.exception = new ScriptException(this, cause, captureStackTrace(realm));
         defineErrorProperty("message", message, false);
     }
 
@@ -92,7 +93,7 @@ public final class ErrorObject extends OrdinaryObject {
     public ErrorObject(Realm realm, Intrinsics prototype, String message, String fileName, int lineNumber,
             int columnNumber) {
         super(realm, realm.getIntrinsic(prototype));
-        this.exception = new ScriptException(this);
+        this.exception = new ScriptException(this, null, captureStackTrace(realm));
         defineErrorProperty("message", message, false);
         defineErrorProperty("fileName", fileName, true);
         defineErrorProperty("lineNumber", lineNumber, true);
@@ -120,13 +121,17 @@ public final class ErrorObject extends OrdinaryObject {
     public ErrorObject(Realm realm, Throwable cause, Intrinsics prototype, String message, String fileName,
             int lineNumber, int columnNumber) {
         super(realm, realm.getIntrinsic(prototype));
-        this.exception = new ScriptException(this, cause);
+        this.exception = new ScriptException(this, cause, captureStackTrace(realm));
         defineErrorProperty("message", message, false);
         defineErrorProperty("fileName", fileName, true);
         defineErrorProperty("lineNumber", lineNumber, true);
         defineErrorProperty("columnNumber", columnNumber, true);
     }
 
+    private static boolean captureStackTrace(Realm realm) {
+        return realm.getRuntimeContext().getStackTraceMode() != RuntimeContext.StackTraceMode.None;
+    }
+
     void defineErrorProperty(String name, Object value, boolean enumerable) {
         infallibleDefineOwnProperty(name, new Property(value, true, enumerable, true));
     }
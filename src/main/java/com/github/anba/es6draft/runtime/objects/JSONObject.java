@@ -12,6 +12,9 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.internal.Properties.createProperties;
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -26,6 +29,7 @@ import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.Function;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
+import com.github.anba.es6draft.runtime.internal.Shape;
 import com.github.anba.es6draft.runtime.internal.StrBuilder;
 import com.github.anba.es6draft.runtime.internal.Strings;
 import com.github.anba.es6draft.runtime.objects.bigint.BigIntObject;
@@ -33,8 +37,10 @@ import com.github.anba.es6draft.runtime.objects.number.NumberObject;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.Property;
 import com.github.anba.es6draft.runtime.types.ScriptObject;
 import com.github.anba.es6draft.runtime.types.Type;
+import com.github.anba.es6draft.runtime.types.builtins.ArrayObject;
 import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
 import com.github.anba.es6draft.runtime.types.builtins.StringObject;
 
@@ -181,7 +187,7 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
             assert status;
             /* step 12 */
             StrBuilder result = new StrBuilder(cx);
-            JSONSerializer serializer = new JSONSerializer(propertyList, replacerFunction, gap, result);
+            JSONSerializer serializer = new JSONSerializer(propertyList, replacerFunction, gap, result, null);
             value = TransformJSONValue(cx, serializer, wrapper, "", value);
             if (!IsJSONSerializable(value)) {
                 return UNDEFINED;
@@ -202,7 +208,7 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         OrdinaryObject wrapper = ObjectCreate(cx, Intrinsics.ObjectPrototype);
         CreateDataProperty(cx, wrapper, "", value);
         StrBuilder result = new StrBuilder(cx);
-        JSONSerializer serializer = new JSONSerializer(null, null, "", result);
+        JSONSerializer serializer = new JSONSerializer(null, null, "", result, null);
         value = TransformJSONValue(cx, serializer, wrapper, "", value);
         if (!IsJSONSerializable(value)) {
             return "";
@@ -211,6 +217,40 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         return result.toString();
     }
 
+    /**
+     * Serializes {@code value} to JSON text and writes the output to {@code writer}.
+     * <p>
+     * The output is written in chunks while the value is serialized, so the complete JSON text is never held in memory.
+     * If an exception is thrown during serialization, partial output may already have been written.
+     * 
+     * @param cx
+     *            the execution context
+     * @param value
+     *            the value
+     * @param writer
+     *            the output writer
+     * @return {@code true} if the value was serialized, {@code false} if the value is not serializable
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static boolean stringify(ExecutionContext cx, Object value, Writer writer) throws IOException {
+        OrdinaryObject wrapper = ObjectCreate(cx, Intrinsics.ObjectPrototype);
+        CreateDataProperty(cx, wrapper, "", value);
+        StrBuilder result = new StrBuilder(cx);
+        JSONSerializer serializer = new JSONSerializer(null, null, "", result, writer);
+        value = TransformJSONValue(cx, serializer, wrapper, "", value);
+        if (!IsJSONSerializable(value)) {
+            return false;
+        }
+        try {
+            SerializeJSONValue(cx, serializer, value);
+            serializer.write();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return true;
+    }
+
     /**
      * 24.3.1.1 Runtime Semantics: InternalizeJSONProperty( holder, name)
      * 
@@ -292,22 +332,133 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
     }
 
     private static final class JSONSerializer {
+        private static final int FLUSH_THRESHOLD = 8 * 1024;
+
         final HashSet<ScriptObject> stack;
         final LinkedHashSet<String> propertyList;
         final Callable replacerFunction;
         final String gap;
         final StrBuilder result;
+        final Writer writer;
+        final char[] chunk;
+        final boolean fastPath;
         int level = 0;
 
-        JSONSerializer(LinkedHashSet<String> propertyList, Callable replacerFunction, String gap, StrBuilder result) {
+        // Incremented whenever user code may have been executed.
+        int generation = 0;
+        int prototypesGeneration = -1;
+        boolean plainPrototypes;
+
+        JSONSerializer(LinkedHashSet<String> propertyList, Callable replacerFunction, String gap, StrBuilder result,
+                Writer writer) {
             this.stack = new HashSet<>();
             this.propertyList = propertyList;
             this.replacerFunction = replacerFunction;
             this.gap = gap;
             this.result = result;
+            this.writer = writer;
+            this.chunk = writer != null ? new char[FLUSH_THRESHOLD] : null;
+            this.fastPath = propertyList == null && replacerFunction == null;
+        }
+
+        /**
+         * Returns {@code true} if neither %ObjectPrototype% nor %ArrayPrototype% provide a "toJSON" property.
+         * 
+         * @param cx
+         *            the execution context
+         * @return {@code true} if the built-in prototypes don't have a "toJSON" property
+         */
+        boolean hasPlainPrototypes(ExecutionContext cx) {
+            if (prototypesGeneration != generation) {
+                OrdinaryObject objectPrototype = cx.getIntrinsic(Intrinsics.ObjectPrototype);
+                OrdinaryObject arrayPrototype = cx.getIntrinsic(Intrinsics.ArrayPrototype);
+                plainPrototypes = objectPrototype.lookupOwnProperty("toJSON") == null
+                        && arrayPrototype.lookupOwnProperty("toJSON") == null
+                        && arrayPrototype.getPrototype() == objectPrototype;
+                prototypesGeneration = generation;
+            }
+            return plainPrototypes;
+        }
+
+        /**
+         * Writes the buffered output if the buffer size exceeds the flush threshold.
+         */
+        void flush() {
+            if (writer != null && result.length() >= FLUSH_THRESHOLD) {
+                write();
+            }
+        }
+
+        /**
+         * Writes the buffered output and resets the buffer.
+         */
+        void write() {
+            StrBuilder result = this.result;
+            char[] chunk = this.chunk;
+            try {
+                for (int i = 0, len = result.length(); i < len; i += chunk.length) {
+                    int n = Math.min(chunk.length, len - i);
+                    result.getChars(i, i + n, chunk, 0);
+                    writer.write(chunk, 0, n);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            result.setLength(0);
         }
     }
 
+    /**
+     * Returns {@code true} if {@code value} is an ordinary object or array which inherits from the built-in prototypes
+     * and neither the object nor its prototypes have a "toJSON" property.
+     * 
+     * @param cx
+     *            the execution context
+     * @param serializer
+     *            the serializer state
+     * @param value
+     *            the script object
+     * @return {@code true} if {@code value} is a plain object or array
+     */
+    private static boolean IsPlainJSONValue(ExecutionContext cx, JSONSerializer serializer, ScriptObject value) {
+        if (!serializer.fastPath) {
+            return false;
+        }
+        Intrinsics prototype;
+        if (value.getClass() == OrdinaryObject.class) {
+            prototype = Intrinsics.ObjectPrototype;
+        } else if (value.getClass() == ArrayObject.class) {
+            prototype = Intrinsics.ArrayPrototype;
+        } else {
+            return false;
+        }
+        OrdinaryObject object = (OrdinaryObject) value;
+        return object.getPrototype() == cx.getIntrinsic(prototype) && object.lookupOwnProperty("toJSON") == null
+                && serializer.hasPlainPrototypes(cx);
+    }
+
+    /**
+     * Returns {@code true} if all string valued properties of {@code value} are stored in shape mode and are
+     * enumerable data properties, and {@code value} has no indexed properties.
+     * 
+     * @param value
+     *            the ordinary object
+     * @return {@code true} if the properties can be read directly from the property slots
+     */
+    private static boolean HasPlainProperties(OrdinaryObject value) {
+        Shape shape = value.getShape();
+        if (shape == null || value.hasIndexedProperties()) {
+            return false;
+        }
+        for (int i = 0, size = shape.size(); i < size; ++i) {
+            Property prop = value.getPropertySlot(i);
+            if (!prop.isDataDescriptor() || !prop.isEnumerable()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * 24.3.2.1 Runtime Semantics: SerializeJSONProperty (key, holder )
      * 
@@ -327,7 +478,10 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
             String key, Object value) {
         /* step 1 (not applicable) */
         /* step 2 */
-        if (Type.isObject(value) || Type.isBigInt(value)) {
+        if ((Type.isObject(value) && !IsPlainJSONValue(cx, serializer, Type.objectValue(value)))
+                || Type.isBigInt(value)) {
+            // GetV and toJSON may execute user code.
+            serializer.generation += 1;
             Object toJSON = GetV(cx, value, "toJSON");
             if (IsCallable(toJSON)) {
                 value = ((Callable) toJSON).call(cx, value, key);
@@ -335,6 +489,7 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         }
         /* step 3 */
         if (serializer.replacerFunction != null) {
+            serializer.generation += 1;
             value = serializer.replacerFunction.call(cx, holder, key, value);
         }
         return value;
@@ -372,15 +527,25 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
             assert !IsCallable(value);
             ScriptObject valueObj = Type.objectValue(value);
             if (valueObj instanceof NumberObject) {
+                serializer.generation += 1;
                 SerializeJSONNumber(serializer, ToNumber(cx, value));
             } else if (valueObj instanceof StringObject) {
+                serializer.generation += 1;
                 SerializeJSONString(serializer, ToString(cx, value));
             } else if (valueObj instanceof BooleanObject) {
                 SerializeJSONBoolean(serializer, ((BooleanObject) valueObj).getBooleanData());
             } else if (valueObj instanceof BigIntObject) {
                 throw newTypeError(cx, Messages.Key.BigIntCannotJSONStringify);
             } else if (IsArray(cx, valueObj)) {
-                SerializeJSONArray(cx, serializer, valueObj);
+                if (serializer.fastPath && valueObj.getClass() == ArrayObject.class
+                        && ((ArrayObject) valueObj).isDenseArray()) {
+                    SerializePlainJSONArray(cx, serializer, (ArrayObject) valueObj);
+                } else {
+                    SerializeJSONArray(cx, serializer, valueObj);
+                }
+            } else if (serializer.fastPath && valueObj.getClass() == OrdinaryObject.class
+                    && HasPlainProperties((OrdinaryObject) valueObj)) {
+                SerializePlainJSONObject(cx, serializer, (OrdinaryObject) valueObj);
             } else {
                 SerializeJSONObject(cx, serializer, valueObj);
             }
@@ -507,6 +672,8 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         if (!serializer.stack.add(value)) {
             throw newTypeError(cx, Messages.Key.JSONCyclicValue);
         }
+        // Getters and proxy traps may execute user code.
+        serializer.generation += 1;
         /* steps 3-4 (not applicable) */
         /* steps 5-6 */
         Iterable<String> k;
@@ -525,6 +692,75 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         for (String p : k) {
             // Inlined: SerializeJSONProperty
             Object v = Get(cx, value, (Object) p);
+            // Getters and proxy traps may execute user code.
+            serializer.generation += 1;
+            v = TransformJSONValue(cx, serializer, value, p, v);
+            if (!IsJSONSerializable(v)) {
+                continue;
+            }
+            if (!isEmpty) {
+                result.append(',');
+            }
+            isEmpty = false;
+            if (!gap.isEmpty()) {
+                indent(serializer, result);
+            }
+            QuoteJSONString(result, p);
+            result.append(':');
+            if (!gap.isEmpty()) {
+                result.append(' ');
+            }
+            SerializeJSONValue(cx, serializer, v);
+            serializer.flush();
+        }
+        serializer.level -= 1;
+        if (!isEmpty && !gap.isEmpty()) {
+            indent(serializer, result);
+        }
+        result.append('}');
+        /* step 11 */
+        serializer.stack.remove(value);
+        /* steps 12-13 (not applicable) */
+    }
+
+    /**
+     * 24.3.2.3 Runtime Semantics: SerializeJSONObject ( value )
+     * <p>
+     * Specialized for ordinary objects whose properties are all enumerable data properties, see
+     * {@link #HasPlainProperties(OrdinaryObject)}. Property values are read directly from the property slots as long as
+     * no user code was executed.
+     * 
+     * @param cx
+     *            the execution context
+     * @param serializer
+     *            the serializer state
+     * @param value
+     *            the ordinary object
+     */
+    private static void SerializePlainJSONObject(ExecutionContext cx, JSONSerializer serializer,
+            OrdinaryObject value) {
+        /* steps 1-2 */
+        if (!serializer.stack.add(value)) {
+            throw newTypeError(cx, Messages.Key.JSONCyclicValue);
+        }
+        /* steps 3-7 */
+        Shape shape = value.getShape();
+        int generation = serializer.generation;
+        /* steps 8-10 */
+        boolean isEmpty = true;
+        String gap = serializer.gap;
+        StrBuilder result = serializer.result;
+        result.append('{');
+        serializer.level += 1;
+        for (int i = 0, size = shape.size(); i < size; ++i) {
+            String p = (String) shape.getKey(i);
+            // Inlined: SerializeJSONProperty
+            Object v;
+            if (serializer.generation == generation) {
+                v = value.getPropertySlot(i).getValue();
+            } else {
+                v = Get(cx, value, (Object) p);
+            }
             v = TransformJSONValue(cx, serializer, value, p, v);
             if (!IsJSONSerializable(v)) {
                 continue;
@@ -542,6 +778,7 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
                 result.append(' ');
             }
             SerializeJSONValue(cx, serializer, v);
+            serializer.flush();
         }
         serializer.level -= 1;
         if (!isEmpty && !gap.isEmpty()) {
@@ -570,9 +807,12 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
         if (!serializer.stack.add(value)) {
             throw newTypeError(cx, Messages.Key.JSONCyclicValue);
         }
+        // Getters and proxy traps may execute user code.
+        serializer.generation += 1;
         /* steps 3-5 (not applicable) */
         /* step 6 */
         long len = ToLength(cx, Get(cx, value, "length"));
+        serializer.generation += 1;
         /* steps 7-10 */
         String gap = serializer.gap;
         StrBuilder result = serializer.result;
@@ -585,6 +825,8 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
                 }
                 // Inlined: SerializeJSONProperty
                 Object v = Get(cx, value, index);
+                // Getters and proxy traps may execute user code.
+                serializer.generation += 1;
                 v = TransformJSONValue(cx, serializer, value, ToString(index), v);
                 if (!IsJSONSerializable(v)) {
                     result.append("null");
@@ -594,6 +836,71 @@ public final class JSONObject extends OrdinaryObject implements Initializable {
                 if (index + 1 < len) {
                     result.append(',');
                 }
+                serializer.flush();
+            }
+            serializer.level -= 1;
+            if (!gap.isEmpty()) {
+                indent(serializer, result);
+            }
+        }
+        result.append(']');
+        /* step 11 */
+        serializer.stack.remove(value);
+        /* steps 12-13 (not applicable) */
+    }
+
+    /**
+     * 24.3.2.4 Runtime Semantics: SerializeJSONArray( value )
+     * <p>
+     * Specialized for dense arrays. Elements are read directly from the indexed storage as long as no user code was
+     * executed.
+     * 
+     * @param cx
+     *            the execution context
+     * @param serializer
+     *            the serializer state
+     * @param value
+     *            the dense array object
+     */
+    private static void SerializePlainJSONArray(ExecutionContext cx, JSONSerializer serializer, ArrayObject value) {
+        /* steps 1-2 */
+        if (!serializer.stack.add(value)) {
+            throw newTypeError(cx, Messages.Key.JSONCyclicValue);
+        }
+        /* steps 3-5 (not applicable) */
+        /* step 6 */
+        long len = value.getLength();
+        int generation = serializer.generation;
+        /* steps 7-10 */
+        String gap = serializer.gap;
+        StrBuilder result = serializer.result;
+        result.append('[');
+        if (len > 0) {
+            serializer.level += 1;
+            for (long index = 0; index < len; ++index) {
+                if (!gap.isEmpty()) {
+                    indent(serializer, result);
+                }
+                // Inlined: SerializeJSONProperty
+                Object v;
+                if (serializer.generation == generation) {
+                    v = value.getDenseElement(index);
+                } else {
+                    v = Get(cx, value, index);
+                }
+                if ((Type.isObject(v) && !IsPlainJSONValue(cx, serializer, Type.objectValue(v)))
+                        || Type.isBigInt(v)) {
+                    v = TransformJSONValue(cx, serializer, value, ToString(index), v);
+                }
+                if (!IsJSONSerializable(v)) {
+                    result.append("null");
+                } else {
+                    SerializeJSONValue(cx, serializer, v);
+                }
+                if (index + 1 < len) {
+                    result.append(',');
+                }
+                serializer.flush();
             }
             serializer.level -= 1;
             if (!gap.isEmpty()) {
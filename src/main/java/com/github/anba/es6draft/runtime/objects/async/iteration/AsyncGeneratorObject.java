@@ -162,7 +162,7 @@ public final class AsyncGeneratorObject extends OrdinaryObject implements Async
             throw new AssertionError();
         case SuspendedAwait:
             state = AsyncGeneratorState.Executing;
-            continuation._throw(cx, ScriptException.create(value));
+            continuation._throw(cx, ScriptException.create(value, cx));
             return;
         default:
             throw new AssertionError();
@@ -424,7 +424,7 @@ public final class AsyncGeneratorObject extends OrdinaryObject implements Async
             /* step 1 */
             generator.close();
             /* step 2 */
-            generator.reject(calleeContext, ScriptException.create(reason));
+            generator.reject(calleeContext, ScriptException.create(reason, calleeContext));
             return UNDEFINED;
         }
     }
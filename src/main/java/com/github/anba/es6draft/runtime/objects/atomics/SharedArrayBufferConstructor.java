@@ -11,7 +11,9 @@ import static com.github.anba.es6draft.runtime.internal.Errors.newRangeError;
 import static com.github.anba.es6draft.runtime.internal.Errors.newTypeError;
 import static com.github.anba.es6draft.runtime.internal.Properties.createProperties;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
 
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
@@ -116,6 +118,37 @@ public final class SharedArrayBufferConstructor extends BuiltinConstructor imple
         return new SharedArrayBufferObject(cx.getRealm(), block, byteLength, proto);
     }
 
+    /**
+     * Creates a new SharedArrayBuffer object whose data block is the memory-mapped file region starting at
+     * {@code position} with {@code byteLength} bytes.
+     * <p>
+     * Host API to share data between multiple processes without copying, see
+     * {@link SharedByteBuffer#map(Path, long, int)}.
+     * 
+     * @param cx
+     *            the execution context
+     * @param file
+     *            the file path
+     * @param position
+     *            the start position of the mapped region, must be a multiple of eight
+     * @param byteLength
+     *            the buffer byte length
+     * @return the new shared array buffer object
+     * @throws IOException
+     *             if there was any I/O error
+     */
+    public static SharedArrayBufferObject MapSharedArrayBuffer(ExecutionContext cx, Path file, long position,
+            long byteLength) throws IOException {
+        assert byteLength >= 0;
+        // The mapped region is aligned to int32-size, see SharedByteBuffer#map().
+        if (((byteLength + 0b11) & ~0b11) > Integer.MAX_VALUE) {
+            throw newRangeError(cx, Messages.Key.OutOfMemory);
+        }
+        SharedByteBuffer block = SharedByteBuffer.map(file, position, (int) byteLength);
+        ScriptObject proto = cx.getIntrinsic(Intrinsics.SharedArrayBufferPrototype);
+        return new SharedArrayBufferObject(cx.getRealm(), block, byteLength, proto);
+    }
+
     /**
      * 24.2.1.2 IsSharedArrayBuffer( obj )
      * 
@@ -6,9 +6,18 @@
  */
 package com.github.anba.es6draft.runtime.objects.atomics;
 
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Objects;
 
+import com.github.anba.es6draft.runtime.internal.Bytes;
+
 /**
  *
  */
@@ -16,6 +25,33 @@ public final class SharedByteBuffer {
     private final ByteBuffer byteBuffer;
     private final Object uniqueKey;
 
+    /**
+     * Identity of a memory-mapped file region.
+     */
+    private static final class MappedRegion {
+        private final Object file;
+        private final long position;
+
+        MappedRegion(Object file, long position) {
+            this.file = file;
+            this.position = position;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == null || obj.getClass() != MappedRegion.class) {
+                return false;
+            }
+            MappedRegion other = (MappedRegion) obj;
+            return position == other.position && file.equals(other.file);
+        }
+
+        @Override
+        public int hashCode() {
+            return file.hashCode() * 31 + Long.hashCode(position);
+        }
+    }
+
     public SharedByteBuffer(ByteBuffer byteBuffer) {
         this(byteBuffer, new Object());
     }
@@ -25,6 +61,58 @@ public final class SharedByteBuffer {
         this.uniqueKey = uniqueKey;
     }
 
+    /**
+     * Creates a new shared byte buffer which is backed by a memory-mapped region of {@code file}.
+     * <p>
+     * The region is mapped in {@link FileChannel.MapMode#READ_WRITE} mode, so modifications are visible to all other
+     * mappings of the same file region, including mappings in other processes. The file is created if it doesn't
+     * exist, and it is extended if it is smaller than the mapped region. The mapped region size is aligned to int32
+     * size to allow access with Unsafe#compareAndSwapInt().
+     * <p>
+     * Atomic operations on the returned buffer are also atomic with respect to other processes, but waiting and waking
+     * through the futex operations only works within the current process. All mappings of the same file starting at
+     * the same position share the same memory space, so futex operations on one mapping wake agents waiting on
+     * another mapping of that region.
+     * 
+     * @param file
+     *            the file path
+     * @param position
+     *            the start position of the mapped region, must be a multiple of eight
+     * @param size
+     *            the size of the mapped region in bytes
+     * @return the new shared byte buffer
+     * @throws IOException
+     *             if there was any I/O error
+     * @throws IllegalArgumentException
+     *             if the position or size are invalid
+     */
+    public static SharedByteBuffer map(Path file, long position, int size) throws IOException {
+        if (position < 0 || (position & 0b111) != 0) {
+            throw new IllegalArgumentException("Invalid position: " + position);
+        }
+        // Align requested size to int32-size to allow access with Unsafe#compareAndSwapInt().
+        int requestedSize = (size + 0b11) & ~0b11;
+        if (size < 0 || requestedSize < 0) {
+            throw new IllegalArgumentException("Invalid size: " + size);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            // The mapping remains valid after the channel was closed.
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, requestedSize);
+            MappedRegion region = new MappedRegion(fileKey(file), position);
+            return new SharedByteBuffer(buffer.order(Bytes.DEFAULT_BYTE_ORDER), region);
+        }
+    }
+
+    private static Object fileKey(Path file) throws IOException {
+        Object fileKey = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+        if (fileKey != null) {
+            return fileKey;
+        }
+        // File keys are not supported on all platforms, fall back to the canonical path.
+        return file.toRealPath();
+    }
+
     /**
      * Returns the byte buffer.
      * 
@@ -42,7 +130,16 @@ public final class SharedByteBuffer {
      * @return {@code true} if the same memory space is used
      */
     public boolean sameData(SharedByteBuffer other) {
-        return other.uniqueKey == uniqueKey;
+        return other.uniqueKey == uniqueKey || other.uniqueKey.equals(uniqueKey);
+    }
+
+    /**
+     * Returns a hash code for the underlying memory space, consistent with {@link #sameData(SharedByteBuffer)}.
+     * 
+     * @return the hash code of the underlying memory space
+     */
+    public int dataHashCode() {
+        return uniqueKey.hashCode();
     }
 
     /**
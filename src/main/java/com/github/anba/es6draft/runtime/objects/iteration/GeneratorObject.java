@@ -198,10 +198,10 @@ public final class GeneratorObject extends OrdinaryObject {
             close();
             // fall-through
         case Completed:
-            throw ScriptException.create(value);
+            throw ScriptException.create(value, cx);
         case SuspendedYield:
             this.state = GeneratorState.Executing;
-            return continuation._throw(cx, ScriptException.create(value));
+            return continuation._throw(cx, ScriptException.create(value, cx));
         default:
             throw new AssertionError();
         }
@@ -16,6 +16,7 @@ import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import com.github.anba.es6draft.runtime.EventLoopListener;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Job;
 import com.github.anba.es6draft.runtime.Realm;
@@ -367,7 +368,7 @@ public final class PromiseAbstractOperations {
         /* step 1 */
         Realm realm = cx.getRealm();
         for (PromiseReaction reaction : reactions) {
-            realm.enqueuePromiseJob(new PromiseReactionJob(realm, reaction, argument));
+            realm.enqueuePromiseReactionJob(reaction, argument);
         }
         /* step 2 (return) */
     }
@@ -390,6 +391,20 @@ public final class PromiseAbstractOperations {
 
         @Override
         public void execute() {
+            execute(realm, reaction, argument);
+        }
+
+        /**
+         * Executes the PromiseReactionJob for {@code reaction}.
+         * 
+         * @param realm
+         *            the realm
+         * @param reaction
+         *            the promise reaction
+         * @param argument
+         *            the reaction job argument
+         */
+        public static void execute(Realm realm, PromiseReaction reaction, Object argument) {
             ExecutionContext cx = realm.defaultContext();
             /* step 1 (not applicable) */
             /* step 2 */
@@ -428,6 +443,12 @@ public final class PromiseAbstractOperations {
             }
             /* step 9 (return) */
         }
+
+        @Override
+        public String toString() {
+            return String.format("PromiseReactionJob {type=%s, handler=%s}", reaction.getType(),
+                    reaction.getHandler() != null ? EventLoopListener.describe(reaction.getHandler()) : "default");
+        }
     }
 
     /**
@@ -481,6 +502,11 @@ public final class PromiseAbstractOperations {
                 resolvingFunctions.getReject().call(cx, UNDEFINED, e.getValue());
             }
         }
+
+        @Override
+        public String toString() {
+            return String.format("PromiseResolveThenableJob {then=%s}", EventLoopListener.describe(then));
+        }
     }
 
     /**
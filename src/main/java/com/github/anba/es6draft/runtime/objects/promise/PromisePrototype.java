@@ -27,7 +27,6 @@ import com.github.anba.es6draft.runtime.internal.Properties.Function;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
 import com.github.anba.es6draft.runtime.internal.ScriptException;
-import com.github.anba.es6draft.runtime.objects.promise.PromiseAbstractOperations.PromiseReactionJob;
 import com.github.anba.es6draft.runtime.objects.zone.ZoneObject;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Callable;
@@ -178,15 +177,13 @@ public final class PromisePrototype extends OrdinaryObject implements Initializa
         /* step 8 */
         else if (promise.getState() == PromiseObject.State.Fulfilled) {
             Object value = promise.getResult();
-            Realm realm = cx.getRealm();
-            realm.enqueuePromiseJob(new PromiseReactionJob(realm, fulfillReaction, value));
+            cx.getRealm().enqueuePromiseReactionJob(fulfillReaction, value);
         }
         /* step 9 */
         else {
             assert promise.getState() == PromiseObject.State.Rejected;
             Object reason = promise.getResult();
-            Realm realm = cx.getRealm();
-            realm.enqueuePromiseJob(new PromiseReactionJob(realm, rejectReaction, reason));
+            cx.getRealm().enqueuePromiseReactionJob(rejectReaction, reason);
             promise.notifyRejectReaction(rejectReaction);
         }
         /* step 10 (not applicable) */
@@ -316,7 +313,7 @@ public final class PromisePrototype extends OrdinaryObject implements Initializa
 
         @Override
         public Object call(ExecutionContext callerContext, Object thisValue, Object... args) {
-            throw ScriptException.create(reason);
+            throw ScriptException.create(reason, callerContext);
         }
     }
 
@@ -21,7 +21,6 @@ import com.github.anba.es6draft.parser.Characters;
 import com.github.anba.es6draft.parser.ParserException;
 import com.github.anba.es6draft.regexp.MatcherResult;
 import com.github.anba.es6draft.regexp.RegExpMatcher;
-import com.github.anba.es6draft.regexp.RegExpParser;
 import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
@@ -31,6 +30,7 @@ import com.github.anba.es6draft.runtime.internal.Properties.Accessor;
 import com.github.anba.es6draft.runtime.internal.Properties.Attributes;
 import com.github.anba.es6draft.runtime.internal.Properties.Prototype;
 import com.github.anba.es6draft.runtime.internal.Properties.Value;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
 import com.github.anba.es6draft.runtime.internal.StrBuilder;
 import com.github.anba.es6draft.runtime.types.BuiltinSymbol;
 import com.github.anba.es6draft.runtime.types.Constructor;
@@ -201,7 +201,8 @@ public final class RegExpConstructor extends BuiltinConstructor implements Initi
         /* steps 5-8 */
         RegExpMatcher matcher;
         try {
-            matcher = RegExpParser.parse(cx.getRuntimeContext(), p, f, "<regexp>", 1, 1);
+            RuntimeContext context = cx.getRuntimeContext();
+            matcher = context.getRegExpCache().get(context, p, f, "<regexp>", 1, 1);
         } catch (ParserException e) {
             throw e.toScriptException(cx);
         }
@@ -8,6 +8,8 @@ package com.github.anba.es6draft.runtime.types;
 
 import static com.github.anba.es6draft.runtime.types.Undefined.UNDEFINED;
 
+import java.util.function.Supplier;
+
 /**
  * <h1>6 ECMAScript Data Types and Values</h1><br>
  * <h2>6.1 ECMAScript Language Types</h2><br>
@@ -85,6 +87,43 @@ public final class Property implements Cloneable {
         this.configurable = configurable;
     }
 
+    /**
+     * Create a new {@link Property} object for a data-property whose value is computed on first access.
+     * 
+     * @param value
+     *            the supplier for the property value
+     * @param writable
+     *            the enumerable flag
+     * @param enumerable
+     *            the writable flag
+     * @param configurable
+     *            the configurable flag
+     * @return the new data-property
+     */
+    public static Property lazyDataProperty(Supplier<?> value, boolean writable, boolean enumerable,
+            boolean configurable) {
+        return new Property(new LazyValue(value), writable, enumerable, configurable);
+    }
+
+    private static final class LazyValue {
+        private Supplier<?> supplier;
+        private Object value;
+
+        LazyValue(Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        // Synchronized because pooled realms are handed between threads, the supplier must run only once.
+        synchronized Object get() {
+            if (supplier != null) {
+                value = supplier.get();
+                supplier = null;
+                assert value != null;
+            }
+            return value;
+        }
+    }
+
     /**
      * Create a new {@link Property} object for an accessor-property.
      * 
@@ -231,6 +270,10 @@ public final class Property implements Cloneable {
      * @return the value field
      */
     public Object getValue() {
+        Object value = this.value;
+        if (value instanceof LazyValue) {
+            this.value = value = ((LazyValue) value).get();
+        }
         return value;
     }
 
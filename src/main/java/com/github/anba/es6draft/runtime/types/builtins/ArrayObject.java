@@ -48,6 +48,7 @@ public class ArrayObject extends OrdinaryObject {
      */
     public ArrayObject(Realm realm) {
         super(realm);
+        enableElementKinds();
     }
 
     /**
@@ -63,6 +64,7 @@ public class ArrayObject extends OrdinaryObject {
     protected ArrayObject(Realm realm, long length, ScriptObject prototype) {
         super(realm, prototype);
         this.length = length;
+        enableElementKinds();
     }
 
     /**
@@ -198,6 +200,23 @@ public class ArrayObject extends OrdinaryObject {
         return super.set(cx, propertyKey, value, receiver);
     }
 
+    @Override
+    public final Object get(ExecutionContext cx, long propertyKey, Object receiver) {
+        Object value = getPlainIndexed(propertyKey);
+        if (value != null) {
+            return value;
+        }
+        return super.get(cx, propertyKey, receiver);
+    }
+
+    @Override
+    public final boolean set(ExecutionContext cx, long propertyKey, Object value, Object receiver) {
+        if (this == receiver && setPlainIndexed(propertyKey, value)) {
+            return true;
+        }
+        return super.set(cx, propertyKey, value, receiver);
+    }
+
     @Override
     protected final void ownPropertyNames(List<? super String> list) {
         list.add("length");
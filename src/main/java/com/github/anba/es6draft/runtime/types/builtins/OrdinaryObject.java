@@ -21,7 +21,8 @@ import com.github.anba.es6draft.runtime.ExecutionContext;
 import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.internal.IndexedMap;
 import com.github.anba.es6draft.runtime.internal.ObjectAllocator;
-import com.github.anba.es6draft.runtime.internal.PropertyMap;
+import com.github.anba.es6draft.runtime.internal.Shape;
+import com.github.anba.es6draft.runtime.internal.ShapedPropertyMap;
 import com.github.anba.es6draft.runtime.types.Callable;
 import com.github.anba.es6draft.runtime.types.Intrinsics;
 import com.github.anba.es6draft.runtime.types.PrivateName;
@@ -38,19 +39,17 @@ import com.github.anba.es6draft.runtime.types.Type;
  * </ul>
  */
 public class OrdinaryObject implements ScriptObject {
-    private static final int STRING_PROPERTIES_DEFAULT_INITIAL_CAPACITY = 16;
-    private static final int SYMBOL_PROPERTIES_DEFAULT_INITIAL_CAPACITY = 4;
     private static final int PRIVATE_NAMES_DEFAULT_INITIAL_CAPACITY = 4;
     private static final Object[] EMPTY_ARRAY = new Object[0];
 
     // Map for String valued property keys
-    private final PropertyMap<String, Property> properties;
-    // Map for Symbol valued property keys
-    private final PropertyMap<Symbol, Property> symbolProperties;
+    private final ShapedPropertyMap<String> properties;
+    // Map for Symbol valued property keys, lazily allocated
+    private ShapedPropertyMap<Symbol> symbolProperties;
     // Map for indexed properties [0, 2^53 - 1]
     private final IndexedMap<Property> indexedProperties;
-    // Map for private names
-    private final HashMap<PrivateName, Property> privateNames;
+    // Map for private names, lazily allocated
+    private HashMap<PrivateName, Property> privateNames;
 
     /** [[Realm]] */
     @SuppressWarnings("unused")
@@ -70,10 +69,8 @@ public class OrdinaryObject implements ScriptObject {
      */
     public OrdinaryObject(Realm realm) {
         this.realm = realm;
-        this.properties = new PropertyMap<>(STRING_PROPERTIES_DEFAULT_INITIAL_CAPACITY);
-        this.symbolProperties = new PropertyMap<>(SYMBOL_PROPERTIES_DEFAULT_INITIAL_CAPACITY);
+        this.properties = new ShapedPropertyMap<>();
         this.indexedProperties = new IndexedMap<>();
-        this.privateNames = new HashMap<>(PRIVATE_NAMES_DEFAULT_INITIAL_CAPACITY);
     }
 
     /**
@@ -93,7 +90,15 @@ public class OrdinaryObject implements ScriptObject {
     public String toString() {
         return String.format("%s@%x: indexed=%s, strings=%s, symbols=%s, private=%s, extensible=%b",
                 getClass().getSimpleName(), System.identityHashCode(this), indexedProperties, properties.keySet(),
-                symbolProperties.keySet(), privateNames.keySet(), extensible);
+                symbolProperties != null ? symbolProperties.keySet() : "[]",
+                privateNames != null ? privateNames.keySet() : "[]", extensible);
+    }
+
+    private ShapedPropertyMap<Symbol> symbolProperties() {
+        if (symbolProperties == null) {
+            symbolProperties = new ShapedPropertyMap<>();
+        }
+        return symbolProperties;
     }
 
     final void defineOwnPropertiesUncheckedAtFront(Consumer<BiConsumer<String, Property>> newProperties) {
@@ -103,7 +108,7 @@ public class OrdinaryObject implements ScriptObject {
         } else {
             // Otherwise remove all entries from table, insert new properties and then append old properties, that way
             // the property insertion order is preserved.
-            PropertyMap<String, Property> oldProperties = properties.clone();
+            ShapedPropertyMap<String> oldProperties = properties.clone();
             properties.clear();
             newProperties.accept(properties::put);
             properties.putAll(oldProperties);
@@ -117,10 +122,41 @@ public class OrdinaryObject implements ScriptObject {
         properties.put(propertyKey, property);
     }
 
+    /**
+     * Defines a new string valued property, {@code shape} is the expected shape after the property was added.
+     * 
+     * @param propertyKey
+     *            the property key
+     * @param property
+     *            the property record
+     * @param shape
+     *            the expected shape after adding the property
+     */
+    public final void infallibleDefineOwnProperty(String propertyKey, Property property, Shape shape) {
+        assert extensible : "object not extensible";
+        assert !properties.containsKey(propertyKey) : "illegal property = " + propertyKey;
+        assert !IndexedMap.isIndex(propertyKey);
+        properties.put(propertyKey, property, shape);
+    }
+
+    /**
+     * Defines new string valued properties, {@code shape} is the expected shape after all properties were added.
+     * 
+     * @param shape
+     *            the expected shape after adding the properties
+     * @param newProperties
+     *            the property records in slot order
+     */
+    public final void infallibleDefineOwnProperties(Shape shape, Property[] newProperties) {
+        assert extensible : "object not extensible";
+        properties.putAll(shape, newProperties);
+    }
+
     public final void infallibleDefineOwnProperty(Symbol propertyKey, Property property) {
         assert extensible : "object not extensible";
-        assert !symbolProperties.containsKey(propertyKey) : "illegal property = " + propertyKey;
-        symbolProperties.put(propertyKey, property);
+        assert symbolProperties == null || !symbolProperties.containsKey(propertyKey) : "illegal property = "
+                + propertyKey;
+        symbolProperties().put(propertyKey, property);
     }
 
     public final Property lookupOwnProperty(String propertyKey) {
@@ -129,7 +165,28 @@ public class OrdinaryObject implements ScriptObject {
     }
 
     public final Property lookupOwnProperty(Symbol propertyKey) {
-        return symbolProperties.get(propertyKey);
+        return symbolProperties != null ? symbolProperties.get(propertyKey) : null;
+    }
+
+    /**
+     * Returns the shape of the string valued properties or {@code null} if the properties are stored in dictionary
+     * mode.
+     * 
+     * @return the properties shape or {@code null}
+     */
+    public final Shape getShape() {
+        return properties.getShape();
+    }
+
+    /**
+     * Returns the string valued property stored at {@code slot} of the current {@link #getShape() shape}.
+     * 
+     * @param slot
+     *            the slot index
+     * @return the property record
+     */
+    public final Property getPropertySlot(int slot) {
+        return properties.getSlot(slot);
     }
 
     public final void infallibleSetPrototype(ScriptObject prototype) {
@@ -153,6 +210,10 @@ public class OrdinaryObject implements ScriptObject {
      * @return the property value
      */
     Object getIndexed(long propertyKey) {
+        Object value = indexedProperties.getPlainValue(propertyKey);
+        if (value != null) {
+            return value;
+        }
         return indexedProperties.get(propertyKey).getValue();
     }
 
@@ -165,7 +226,54 @@ public class OrdinaryObject implements ScriptObject {
      *            the property value
      */
     final void setIndexed(long propertyKey, Object value) {
-        indexedProperties.put(propertyKey, new Property(value, true, true, true));
+        if (!indexedProperties.putPlainValue(propertyKey, value)) {
+            indexedProperties.put(propertyKey, new Property(value, true, true, true));
+        }
+    }
+
+    /**
+     * Returns the own property value from the given index if the property is stored as a plain element value, i.e. it
+     * is a data property with default attributes.
+     * 
+     * @param propertyKey
+     *            the indexed property key
+     * @return the property value or {@code null} if not a plain element
+     */
+    final Object getPlainIndexed(long propertyKey) {
+        return indexedProperties.getPlainValue(propertyKey);
+    }
+
+    /**
+     * Updates the own property value at the given index if the property is stored as a plain element value.
+     * 
+     * @param propertyKey
+     *            the indexed property key
+     * @param value
+     *            the new property value
+     * @return {@code true} if the property was updated
+     */
+    final boolean setPlainIndexed(long propertyKey, Object value) {
+        return indexedProperties.setPlainValue(propertyKey, value);
+    }
+
+    /**
+     * Stores indexed properties with default attributes as plain element values in a packed representation.
+     */
+    final void enableElementKinds() {
+        indexedProperties.enableElementKinds(OrdinaryObject::defaultDataProperty);
+    }
+
+    private static Property defaultDataProperty(Object value) {
+        return new Property(value, true, true, true);
+    }
+
+    /**
+     * Returns the current element kind of the indexed properties.
+     * 
+     * @return the element kind
+     */
+    public final IndexedMap.ElementKind getElementKind() {
+        return indexedProperties.getElementKind();
     }
 
     /**
@@ -182,7 +290,7 @@ public class OrdinaryObject implements ScriptObject {
     final long deleteRange(long startIndex, long endIndex) {
         assert startIndex < endIndex;
         IndexedMap<Property> indexed = indexedProperties;
-        if (indexed.isEmpty()) {
+        if (indexed.isEmpty() || indexed.removePlainRange(startIndex, endIndex)) {
             return -1;
         }
         long lastIndex;
@@ -258,7 +366,7 @@ public class OrdinaryObject implements ScriptObject {
      * @return {@code true} if the object has indexed accessors
      */
     public boolean hasIndexedAccessors() {
-        if (indexedProperties.isEmpty()) {
+        if (indexedProperties.isEmpty() || indexedProperties.getElementKind() != IndexedMap.ElementKind.Generic) {
             return false;
         }
         for (Iterator<Property> iter = indexedProperties.valuesIterator(); iter.hasNext();) {
@@ -467,7 +575,7 @@ public class OrdinaryObject implements ScriptObject {
      */
     protected final boolean ordinaryHasOwnProperty(Symbol propertyKey) {
         // optimized: HasOwnProperty(cx, this, propertyKey)
-        return symbolProperties.containsKey(propertyKey);
+        return symbolProperties != null && symbolProperties.containsKey(propertyKey);
     }
 
     /** 9.1.1 [[GetPrototypeOf]] ( ) */
@@ -597,6 +705,11 @@ public class OrdinaryObject implements ScriptObject {
      */
     protected final Property ordinaryGetOwnProperty(long propertyKey) {
         /* steps 1-9 (NB: returns live view on the property, not a property descriptor object!) */
+        // Plain element values have no property record, return a detached copy instead.
+        Object value = indexedProperties.getPlainValue(propertyKey);
+        if (value != null) {
+            return new Property(value, true, true, true);
+        }
         return indexedProperties.get(propertyKey);
     }
 
@@ -622,7 +735,7 @@ public class OrdinaryObject implements ScriptObject {
      */
     protected final Property ordinaryGetOwnProperty(Symbol propertyKey) {
         /* steps 1-9 (NB: returns live view on the property, not a property descriptor object!) */
-        return symbolProperties.get(propertyKey);
+        return symbolProperties != null ? symbolProperties.get(propertyKey) : null;
     }
 
     /** 9.1.6 [[DefineOwnProperty]] (P, Desc) */
@@ -706,7 +819,7 @@ public class OrdinaryObject implements ScriptObject {
         /* step 2 */
         boolean extensible = isExtensible();
         /* step 3 */
-        return validateAndApplyPropertyDescriptor(symbolProperties, propertyKey, extensible, desc, current);
+        return validateAndApplyPropertyDescriptor(symbolProperties(), propertyKey, extensible, desc, current);
     }
 
     /**
@@ -741,7 +854,7 @@ public class OrdinaryObject implements ScriptObject {
      *            the current property
      * @return {@code true} on success
      */
-    private static final <KEY> boolean validateAndApplyPropertyDescriptor(PropertyMap<KEY, Property> object,
+    private static final <KEY> boolean validateAndApplyPropertyDescriptor(ShapedPropertyMap<KEY> object,
             KEY propertyKey, boolean extensible, PropertyDescriptor desc, Property current) {
         /* step 1 */
         assert object == null || propertyKey != null;
@@ -842,7 +955,8 @@ public class OrdinaryObject implements ScriptObject {
             if (!extensible) {
                 return false;
             }
-            if (object != null) {
+            if (object != null && !(isDefaultDataDescriptor(desc, true)
+                    && object.putPlainValue(propertyKey, desc.getValue()))) {
                 object.put(propertyKey, desc.toProperty());
             }
             return true;
@@ -905,13 +1019,35 @@ public class OrdinaryObject implements ScriptObject {
             }
         }
         /* step 9 */
-        if (object != null) {
+        if (object != null && !(isDefaultDataDescriptor(desc, false)
+                && object.setPlainValue(propertyKey, desc.getValue()))) {
             object.get(propertyKey).apply(desc);
         }
         /* step 10 */
         return true;
     }
 
+    /**
+     * Returns {@code true} if the descriptor describes a data property with a value and only default attributes.
+     * 
+     * @param desc
+     *            the property descriptor
+     * @param complete
+     *            if {@code true} all attributes must be present
+     * @return {@code true} if the descriptor can be stored as a plain element value
+     */
+    private static boolean isDefaultDataDescriptor(PropertyDescriptor desc, boolean complete) {
+        if (!desc.hasValue() || desc.hasGetter() || desc.hasSetter()) {
+            return false;
+        }
+        if (complete) {
+            return desc.hasWritable() && desc.isWritable() && desc.hasEnumerable() && desc.isEnumerable()
+                    && desc.hasConfigurable() && desc.isConfigurable();
+        }
+        return (!desc.hasWritable() || desc.isWritable()) && (!desc.hasEnumerable() || desc.isEnumerable())
+                && (!desc.hasConfigurable() || desc.isConfigurable());
+    }
+
     /**
      * 9.1.7 [[HasProperty]](P)
      */
@@ -1206,7 +1342,9 @@ public class OrdinaryObject implements ScriptObject {
             }
         } else if (receiver == this && ownDesc.isWritable()) {
             // Optimize the common case of own, writable properties.
-            ownDesc.setValue(value);
+            if (!indexedProperties.setPlainValue(propertyKey, value)) {
+                ownDesc.setValue(value);
+            }
             return true;
         }
         /* step 4 */
@@ -1464,7 +1602,9 @@ public class OrdinaryObject implements ScriptObject {
         }
         /* step 4 */
         if (desc.isConfigurable()) {
-            symbolProperties.remove(propertyKey);
+            if (symbolProperties != null) {
+                symbolProperties.remove(propertyKey);
+            }
             return true;
         }
         /* step 5 */
@@ -1523,7 +1663,7 @@ public class OrdinaryObject implements ScriptObject {
      *            the target list
      */
     protected void ownPropertySymbols(List<? super Symbol> list) {
-        if (!symbolProperties.isEmpty()) {
+        if (symbolProperties != null && !symbolProperties.isEmpty()) {
             list.addAll(symbolProperties.keySet());
         }
     }
@@ -1581,11 +1721,14 @@ public class OrdinaryObject implements ScriptObject {
 
     @Override
     public final Property get(PrivateName name) {
-        return privateNames.get(name);
+        return privateNames != null ? privateNames.get(name) : null;
     }
 
     @Override
     public final void define(PrivateName name, Property property) {
+        if (privateNames == null) {
+            privateNames = new HashMap<>(PRIVATE_NAMES_DEFAULT_INITIAL_CAPACITY);
+        }
         assert !privateNames.containsKey(name);
         privateNames.put(name, property);
     }
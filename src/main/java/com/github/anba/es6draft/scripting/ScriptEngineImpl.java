@@ -17,6 +17,12 @@ import java.lang.reflect.Proxy;
 import java.nio.file.Paths;
 import java.util.EnumSet;
 import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.script.AbstractScriptEngine;
 import javax.script.Bindings;
@@ -37,6 +43,7 @@ import com.github.anba.es6draft.runtime.Realm;
 import com.github.anba.es6draft.runtime.RealmData;
 import com.github.anba.es6draft.runtime.World;
 import com.github.anba.es6draft.runtime.internal.CompatibilityOption;
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
 import com.github.anba.es6draft.runtime.internal.Console;
 import com.github.anba.es6draft.runtime.internal.RuntimeContext;
 import com.github.anba.es6draft.runtime.internal.ScriptException;
@@ -50,16 +57,32 @@ import com.github.anba.es6draft.runtime.types.ScriptObject;
  * Concrete implementation of the {@link AbstractScriptEngine} abstract class.
  */
 final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngine, Compilable, Invocable {
+    private static final int COMPILED_CODE_CACHE_SIZE = 64;
+
+    /**
+     * Number of pre-initialized realms for evaluations with foreign bindings, disabled by default. Each engine keeps
+     * up to this many unused realms alive for its whole lifetime.
+     */
+    private static final int REALM_POOL_SIZE = Math.max(Integer.getInteger("es6draft.scripting.realmpool", 0), 0);
+    private static final long REALM_POOL_THREAD_TTL = 60;
+
     private final ScriptEngineFactoryImpl factory;
     // Scripting sources have an extra scope object before the global environment record, the
     // ScriptContext object. To ensure this extra scope is properly handled, we use the
     // 'scripting' parser-option when evaluating the source code.
     private final ScriptLoader scriptingLoader;
     private final World world;
+    private final CompiledCodeCache compiledCodeCache;
+    // Pre-initialized realms for evaluations with foreign bindings, or null if realm pooling is disabled.
+    private final ArrayBlockingQueue<Realm> realmPool;
+    private final ThreadPoolExecutor realmPoolExecutor;
+    private final AtomicInteger pendingRealms = new AtomicInteger(0);
 
     ScriptEngineImpl(ScriptEngineFactoryImpl factory) {
         this.factory = factory;
 
+        // Frameworks often evaluate the same source code repeatedly, so keep the compiled scripts.
+        this.compiledCodeCache = new CompiledCodeCache(COMPILED_CODE_CACHE_SIZE);
         /* @formatter:off */
         RuntimeContext context = new RuntimeContext.Builder()
                                                    .setBaseDirectory(Paths.get("").toAbsolutePath())
@@ -69,14 +92,44 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
                                                    .build();
         RuntimeContext scriptingContext = new RuntimeContext.Builder(context)
                                                             .setParserOptions(EnumSet.of(Parser.Option.Scripting))
+                                                            .setCompiledCodeCache(compiledCodeCache)
                                                             .build();
         /* @formatter:on */
 
         this.world = new World(context);
         this.scriptingLoader = new ScriptLoader(scriptingContext);
+        if (REALM_POOL_SIZE > 0) {
+            this.realmPool = new ArrayBlockingQueue<>(REALM_POOL_SIZE);
+            this.realmPoolExecutor = newRealmPoolExecutor();
+        } else {
+            this.realmPool = null;
+            this.realmPoolExecutor = null;
+        }
         this.context.setBindings(createBindings(), ScriptContext.ENGINE_SCOPE);
     }
 
+    private static ThreadPoolExecutor newRealmPoolExecutor() {
+        // Realms are created on a separate daemon thread, so they don't compete with compilation tasks on the runtime
+        // executor and don't keep the application alive.
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, REALM_POOL_THREAD_TTL, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "es6draft-scripting-realmpool");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Returns the compiled code cache of this script engine.
+     * 
+     * @return the compiled code cache
+     */
+    CompiledCodeCache getCompiledCodeCache() {
+        return compiledCodeCache;
+    }
+
     private static final class ScriptingRealmData extends RealmData {
         public ScriptingRealmData(Realm realm) {
             super(realm);
@@ -96,6 +149,38 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
         }
     }
 
+    private Realm takePooledRealm() {
+        if (realmPool == null) {
+            return newScriptingRealm();
+        }
+        Realm realm = realmPool.poll();
+        fillRealmPool();
+        return realm != null ? realm : newScriptingRealm();
+    }
+
+    private void fillRealmPool() {
+        // Create the next realms in the background, so the realm initialization doesn't delay the next evaluation.
+        for (int pending; (pending = pendingRealms.get()) + realmPool.size() < REALM_POOL_SIZE;) {
+            if (!pendingRealms.compareAndSet(pending, pending + 1)) {
+                continue;
+            }
+            try {
+                realmPoolExecutor.execute(() -> {
+                    try {
+                        realmPool.offer(newScriptingRealm());
+                    } catch (RuntimeException e) {
+                        // Ignore, realms are created on demand when the pool is empty.
+                    } finally {
+                        pendingRealms.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                pendingRealms.decrementAndGet();
+                break;
+            }
+        }
+    }
+
     @Override
     public ScriptEngineFactory getFactory() {
         return factory;
@@ -254,7 +339,7 @@ final class ScriptEngineImpl extends AbstractScriptEngine implements ScriptEngin
                 return realm;
             }
         }
-        // Otherwise create a new realm.
-        return newScriptingRealm();
+        // Otherwise use a new realm.
+        return takePooledRealm();
     }
 }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestScripts.evaluate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.IOException;
+import java.util.EnumSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.runtime.internal.CodeCache;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.Source;
+
+/**
+ *
+ */
+public final class CodeCacheTest {
+    private static final String SOURCE_CODE = "function f(n) { var s = 0; while (n) s += --n; return s; } f(10)";
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CodeCache codeCache;
+
+    @Before
+    public void setUp() throws IOException {
+        codeCache = new CodeCache(folder.getRoot().toPath());
+    }
+
+    private RuntimeContext newContext(EnumSet<Compiler.Option> compilerOptions) {
+        return new RuntimeContext.Builder().setCodeCache(codeCache).setCompilerOptions(compilerOptions).build();
+    }
+
+    @Test
+    public void compiledScriptIsCached() throws Exception {
+        assumeTrue("engine version not available", CodeCache.isEnabled());
+        EnumSet<Compiler.Option> options = EnumSet.of(Compiler.Option.NoInterpreter);
+
+        assertEquals(45, ((Number) evaluate(newContext(options), SOURCE_CODE)).intValue());
+        assertEquals(0, codeCache.getHits());
+        assertEquals(1, codeCache.getMisses());
+
+        assertEquals(45, ((Number) evaluate(newContext(options), SOURCE_CODE)).intValue());
+        assertEquals(1, codeCache.getHits());
+        assertEquals(1, codeCache.getMisses());
+    }
+
+    @Test
+    public void cacheKeyIncludesOptions() {
+        Source source = new Source("test", 1);
+        CodeCache.Key key = codeCache.keyFor(newContext(EnumSet.noneOf(Compiler.Option.class)),
+                CodeCache.Kind.Script, source, SOURCE_CODE);
+        CodeCache.Key keyNoInterpreter = codeCache.keyFor(newContext(EnumSet.of(Compiler.Option.NoInterpreter)),
+                CodeCache.Kind.Script, source, SOURCE_CODE);
+        CodeCache.Key keyModule = codeCache.keyFor(newContext(EnumSet.noneOf(Compiler.Option.class)),
+                CodeCache.Kind.Module, source, SOURCE_CODE);
+
+        assertNotEquals(key, keyNoInterpreter);
+        assertNotEquals(key, keyModule);
+    }
+
+    @Test
+    public void cacheKeyIncludesSource() {
+        RuntimeContext context = newContext(EnumSet.noneOf(Compiler.Option.class));
+        CodeCache.Key key = codeCache.keyFor(context, CodeCache.Kind.Script, new Source("test", 1), SOURCE_CODE);
+
+        assertEquals(key, codeCache.keyFor(context, CodeCache.Kind.Script, new Source("test", 1), SOURCE_CODE));
+        assertNotEquals(key, codeCache.keyFor(context, CodeCache.Kind.Script, new Source("test", 2), SOURCE_CODE));
+        assertNotEquals(key, codeCache.keyFor(context, CodeCache.Kind.Script, new Source("other", 1), SOURCE_CODE));
+        assertNotEquals(key, codeCache.keyFor(context, CodeCache.Kind.Script, new Source("test", 1), "f(0)"));
+    }
+}
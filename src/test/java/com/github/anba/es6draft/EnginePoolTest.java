@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.interpreter.InterpretedScript;
+import com.github.anba.es6draft.runtime.EnginePool;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.util.TestScripts;
+
+/**
+ *
+ */
+public final class EnginePoolTest {
+    private static final String LIBRARY = "function fib(n) { return n < 2 ? n : fib(n - 1) + fib(n - 2); } fib(15)";
+
+    private static Object evaluate(Realm realm, String sourceCode) {
+        Script script = realm.getScriptLoader().script(new Source("library.js", 1), sourceCode);
+        return script.evaluate(realm);
+    }
+
+    @Test
+    public void sharedCompiledCode() throws Exception {
+        CompiledCodeCache cache = new CompiledCodeCache();
+        RuntimeContext context = new RuntimeContext.Builder().setCompiledCodeCache(cache).build();
+        try (EnginePool pool = new EnginePool(context, 4)) {
+            assertSame(cache, pool.getCompiledCodeCache());
+            List<CompletableFuture<Object>> results = new ArrayList<>();
+            for (int i = 0; i < 32; ++i) {
+                results.add(pool.submit(realm -> evaluate(realm, LIBRARY)));
+            }
+            for (CompletableFuture<Object> result : results) {
+                assertEquals(610, ((Number) result.get()).intValue());
+            }
+        }
+        assertEquals(1, cache.size());
+        assertEquals(32, cache.getHits() + cache.getMisses());
+        assertTrue(cache.getMisses() <= 4);
+    }
+
+    @Test
+    public void cachedScriptsAreCompiled() throws Exception {
+        String sourceCode = "var s = 0; for (var i = 0; i < 10; i++) s += i; s";
+        CompiledCodeCache cache = new CompiledCodeCache();
+        RuntimeContext context = new RuntimeContext.Builder().setCompiledCodeCache(cache).build();
+        Realm realm1 = TestScripts.newRealm(context);
+        Realm realm2 = TestScripts.newRealm(new RuntimeContext.Builder(context).build());
+        Script script = TestScripts.script(realm1, sourceCode);
+        assertFalse(script instanceof InterpretedScript);
+        assertSame(script, TestScripts.script(realm2, sourceCode));
+        assertEquals(45, ((Number) script.evaluate(realm1)).intValue());
+        assertEquals(45, ((Number) script.evaluate(realm2)).intValue());
+    }
+
+    @Test
+    public void separateWorlds() throws Exception {
+        try (EnginePool pool = new EnginePool(new RuntimeContext.Builder().build(), 3)) {
+            List<CompletableFuture<Realm>> results = new ArrayList<>();
+            for (int i = 0; i < 30; ++i) {
+                results.add(pool.submit(realm -> realm));
+            }
+            Set<Object> worlds = new HashSet<>();
+            for (CompletableFuture<Realm> result : results) {
+                worlds.add(result.get().getWorld());
+            }
+            assertTrue(worlds.size() >= 1 && worlds.size() <= 3);
+        }
+    }
+
+    @Test
+    public void pendingJobsExecuted() throws Exception {
+        try (EnginePool pool = new EnginePool(new RuntimeContext.Builder().build(), 1)) {
+            pool.submit(realm -> evaluate(realm, "var r = 0; Promise.resolve(1).then(v => { r = v; });")).get();
+            assertEquals(1, ((Number) pool.submit(realm -> evaluate(realm, "r")).get()).intValue());
+        }
+    }
+
+    @Test
+    public void scriptError() throws Exception {
+        try (EnginePool pool = new EnginePool(new RuntimeContext.Builder().build(), 1)) {
+            try {
+                pool.submit(realm -> evaluate(realm, "throw new Error('failed')")).get();
+                fail();
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof ScriptException);
+            }
+            assertEquals(2, ((Number) pool.submit(realm -> evaluate(realm, "1 + 1")).get()).intValue());
+        }
+    }
+
+    @Test
+    public void closed() throws Exception {
+        EnginePool pool = new EnginePool(new RuntimeContext.Builder().build(), 1);
+        pool.close();
+        try {
+            pool.submit(realm -> null);
+            fail();
+        } catch (RejectedExecutionException e) {
+            // expected
+        }
+    }
+}
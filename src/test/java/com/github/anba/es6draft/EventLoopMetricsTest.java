@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestScripts.evaluate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.internal.EventLoopMetrics;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+
+/**
+ *
+ */
+public final class EventLoopMetricsTest {
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    @Test
+    public void promiseJobs() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm realm = Realm.InitializeHostDefinedRealm(world);
+        EventLoopMetrics metrics = new EventLoopMetrics();
+        world.setEventLoopListener(metrics);
+
+        evaluate(realm, "var r = 0; Promise.resolve().then(function job() { r += 1; }).then(() => { r += 1; });");
+        assertEquals(1L, (long) metrics.getQueueDepths().get("Promise"));
+        world.runEventLoop();
+        assertEquals(2, ((Number) evaluate(realm, "r")).intValue());
+
+        Map<String, Long> executed = metrics.getExecutedJobs();
+        assertEquals(2L, (long) executed.get("Promise"));
+        assertEquals(0L, (long) executed.get("Script"));
+        assertEquals(0L, (long) metrics.getQueueDepths().get("Promise"));
+        assertEquals(2L, sum(metrics.getLatencyHistograms().get("Promise")));
+        assertEquals(metrics.getLatencyHistograms().get("Promise").length,
+                metrics.getLatencyBucketBoundsMicros().length + 1);
+
+        String[] longestJobs = metrics.getLongestJobs();
+        assertEquals(2, longestJobs.length);
+        boolean found = false;
+        for (String job : longestJobs) {
+            found |= job.contains("job (test:1)");
+        }
+        assertTrue(found);
+    }
+
+    @Test
+    public void longestJobsLimit() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm realm = Realm.InitializeHostDefinedRealm(world);
+        EventLoopMetrics metrics = new EventLoopMetrics(3);
+        world.setEventLoopListener(metrics);
+
+        evaluate(realm, "for (var i = 0; i < 10; ++i) Promise.resolve().then(() => {});");
+        world.runEventLoop();
+        assertEquals(10L, (long) metrics.getExecutedJobs().get("Promise"));
+        assertEquals(3, metrics.getLongestJobs().length);
+
+        metrics.reset();
+        assertEquals(0L, (long) metrics.getExecutedJobs().get("Promise"));
+        assertEquals(0, metrics.getLongestJobs().length);
+    }
+
+    @Test
+    public void jobDescriptions() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm realm = Realm.InitializeHostDefinedRealm(world);
+        EventLoopMetrics metrics = new EventLoopMetrics();
+        world.setEventLoopListener(metrics);
+
+        evaluate(realm, "Promise.resolve({then: function then(resolve) { resolve(); }});");
+        realm.enqueueAsyncJob(() -> LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1)));
+        world.runEventLoop();
+
+        String[] longestJobs = metrics.getLongestJobs();
+        assertEquals(2, longestJobs.length);
+        boolean thenable = false, async = false;
+        for (String job : longestJobs) {
+            thenable |= job.contains("PromiseResolveThenableJob {then=then (test:1)}");
+            async |= job.contains("Async job enqueued at " + EventLoopMetricsTest.class.getName() + ".");
+        }
+        assertTrue(Arrays.toString(longestJobs), thenable);
+        assertTrue(Arrays.toString(longestJobs), async);
+    }
+
+    @Test
+    public void noListener() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm realm = Realm.InitializeHostDefinedRealm(world);
+        EventLoopMetrics metrics = new EventLoopMetrics();
+        world.setEventLoopListener(metrics);
+        world.setEventLoopListener(null);
+
+        evaluate(realm, "Promise.resolve().then(() => {});");
+        world.runEventLoop();
+        assertEquals(0L, (long) metrics.getExecutedJobs().get("Promise"));
+    }
+}
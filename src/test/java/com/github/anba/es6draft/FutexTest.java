@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.internal.Futex;
+import com.github.anba.es6draft.runtime.objects.atomics.SharedByteBuffer;
+
+/**
+ *
+ */
+public final class FutexTest {
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    private static SharedByteBuffer newBuffer() {
+        return new SharedByteBuffer(ByteBuffer.allocate(64));
+    }
+
+    private static Thread startWaiter(Futex futex, SharedByteBuffer buffer, int index, List<Futex.State> results)
+            throws InterruptedException {
+        Thread thread = new Thread(() -> {
+            try {
+                results.add(futex.wait(buffer, index, 0, TIMEOUT, TimeUnit.MILLISECONDS));
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+        });
+        thread.start();
+        awaitWaiting(thread);
+        return thread;
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        while (thread.getState() != Thread.State.TIMED_WAITING) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    public void notEqual() throws InterruptedException {
+        Futex futex = new Futex();
+        SharedByteBuffer buffer = newBuffer();
+        buffer.get().putInt(0, 1);
+        assertEquals(Futex.State.NotEqual, futex.wait(buffer, 0, 0, TIMEOUT, TimeUnit.MILLISECONDS));
+        assertEquals(Futex.State.NotEqual, futex.wait(buffer, 0, 0L, TIMEOUT, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void timedOutWaiterIsRemoved() throws InterruptedException {
+        Futex futex = new Futex();
+        SharedByteBuffer buffer = newBuffer();
+        assertEquals(Futex.State.Timedout, futex.wait(buffer, 0, 0, 1, TimeUnit.MILLISECONDS));
+        assertEquals(0, futex.wake(buffer, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void fifoOrder() throws InterruptedException {
+        Futex futex = new Futex();
+        SharedByteBuffer buffer = newBuffer();
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; ++i) {
+            int id = i;
+            threads[i] = new Thread(() -> {
+                try {
+                    futex.wait(buffer, 8, 0, TIMEOUT, TimeUnit.MILLISECONDS);
+                    order.add(id);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            threads[i].start();
+            awaitWaiting(threads[i]);
+        }
+        for (Thread thread : threads) {
+            assertEquals(1, futex.wake(buffer, 8, 1));
+            thread.join(TIMEOUT);
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3), order);
+    }
+
+    @Test
+    public void separateLocations() throws InterruptedException {
+        Futex futex = new Futex();
+        SharedByteBuffer buffer = newBuffer();
+        SharedByteBuffer otherBuffer = newBuffer();
+        List<Futex.State> results = Collections.synchronizedList(new ArrayList<>());
+        Thread waiter = startWaiter(futex, buffer, 0, results);
+
+        assertEquals(0, futex.wake(buffer, 4, Integer.MAX_VALUE));
+        assertEquals(0, futex.wake(otherBuffer, 0, Integer.MAX_VALUE));
+        assertEquals(0, futex.wake(buffer, 0, 0));
+
+        // Duplicated buffers share the same memory space.
+        assertEquals(1, futex.wake(buffer.duplicate(), 0, Integer.MAX_VALUE));
+        waiter.join(TIMEOUT);
+        assertEquals(Arrays.asList(Futex.State.OK), results);
+        assertEquals(0, futex.wake(buffer, 0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void wakeCount() throws InterruptedException {
+        Futex futex = new Futex();
+        SharedByteBuffer buffer = newBuffer();
+        List<Futex.State> results = Collections.synchronizedList(new ArrayList<>());
+        Thread[] threads = new Thread[3];
+        for (int i = 0; i < threads.length; ++i) {
+            threads[i] = startWaiter(futex, buffer, 0, results);
+        }
+        assertEquals(2, futex.wake(buffer, 0, 2));
+        assertEquals(1, futex.wake(buffer, 0, 2));
+        for (Thread thread : threads) {
+            thread.join(TIMEOUT);
+        }
+        assertEquals(Arrays.asList(Futex.State.OK, Futex.State.OK, Futex.State.OK), results);
+    }
+}
@@ -6,7 +6,9 @@
  */
 package com.github.anba.es6draft;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
 
@@ -19,6 +21,7 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 
 import com.github.anba.es6draft.runtime.internal.IndexedMap;
+import com.github.anba.es6draft.runtime.internal.IndexedMap.ElementKind;
 
 /**
  * 
@@ -537,4 +540,88 @@ public final class IndexedMapTest {
         assertThat(descendingList(indexed, 10, 10), Matchers.empty());
         assertThat(descendingList(indexed, 10, 100), Matchers.empty());
     }
+
+    private static IndexedMap<String> packed(Object... values) {
+        IndexedMap<String> indexed = new IndexedMap<>();
+        indexed.enableElementKinds(value -> "boxed:" + value);
+        for (int i = 0; i < values.length; ++i) {
+            assertTrue(indexed.putPlainValue(i, values[i]));
+        }
+        return indexed;
+    }
+
+    @Test
+    public void packedElementKinds() {
+        IndexedMap<String> indexed = packed();
+        assertEquals(ElementKind.PackedInt, indexed.getElementKind());
+
+        assertTrue(indexed.putPlainValue(0, 1));
+        assertTrue(indexed.putPlainValue(1, 2));
+        assertEquals(ElementKind.PackedInt, indexed.getElementKind());
+        assertEquals(2, indexed.getLength());
+
+        assertTrue(indexed.putPlainValue(2, 0.5));
+        assertEquals(ElementKind.PackedDouble, indexed.getElementKind());
+        assertEquals(1.0, indexed.getPlainValue(0));
+        assertEquals(0.5, indexed.getPlainValue(2));
+
+        assertTrue(indexed.setPlainValue(1, "abc"));
+        assertEquals(ElementKind.PackedObject, indexed.getElementKind());
+        assertEquals(1.0, indexed.getPlainValue(0));
+        assertEquals("abc", indexed.getPlainValue(1));
+        assertEquals(0.5, indexed.getPlainValue(2));
+        assertNull(indexed.getPlainValue(3));
+        assertFalse(indexed.setPlainValue(3, 0));
+    }
+
+    @Test
+    public void packedAppendOnly() {
+        IndexedMap<String> indexed = packed(1, 2, 3);
+        assertFalse(indexed.putPlainValue(4, 5));
+        assertEquals(ElementKind.PackedInt, indexed.getElementKind());
+        assertThat(indexed.keys(), Matchers.contains("0", "1", "2"));
+        assertFalse(indexed.hasHoles());
+
+        IndexedMap<String> disabled = new IndexedMap<>();
+        assertFalse(disabled.putPlainValue(0, 1));
+        assertEquals(ElementKind.Generic, disabled.getElementKind());
+    }
+
+    @Test
+    public void packedRemove() {
+        IndexedMap<String> indexed = packed(1, 2, 3, 4);
+        indexed.remove(3);
+        assertEquals(ElementKind.PackedInt, indexed.getElementKind());
+        assertEquals(3, indexed.getLength());
+
+        assertTrue(indexed.removePlainRange(1, 10));
+        assertEquals(ElementKind.PackedInt, indexed.getElementKind());
+        assertEquals(1, indexed.getLength());
+        assertEquals(1, indexed.getPlainValue(0));
+        assertNull(indexed.getPlainValue(1));
+
+        assertTrue(indexed.putPlainValue(1, 7));
+        assertEquals(7, indexed.getPlainValue(1));
+
+        indexed.remove(0);
+        assertEquals(ElementKind.Generic, indexed.getElementKind());
+        assertTrue(indexed.hasHoles());
+        assertNull(indexed.getPlainValue(1));
+        assertEquals("boxed:7", indexed.get(1));
+    }
+
+    @Test
+    public void packedToGeneral() {
+        IndexedMap<String> indexed = packed(1, 2.5, "x");
+        assertEquals("boxed:2.5", indexed.get(1));
+        assertEquals(ElementKind.Generic, indexed.getElementKind());
+        assertNull(indexed.getPlainValue(1));
+        assertFalse(indexed.putPlainValue(3, 0));
+        assertThat(ascendingList(indexed, 0, 3), Matchers.contains("boxed:1.0", "boxed:2.5", "boxed:x"));
+
+        IndexedMap<String> sparse = packed(1, 2, 3);
+        sparse.put(100000, "");
+        assertTrue(sparse.isSparse());
+        assertThat(ascendingList(sparse, 0, 3), Matchers.contains("boxed:1", "boxed:2", "boxed:3"));
+    }
 }
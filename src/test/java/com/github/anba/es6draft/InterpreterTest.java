@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.interpreter.InterpretedScript;
+import com.github.anba.es6draft.interpreter.Interpreter;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.util.TestScripts;
+
+/**
+ *
+ */
+public final class InterpreterTest {
+    private static final String HOT_SCRIPT = "var s = 0; for (var i = 0; i < 5000; i++) s += i;";
+    private static final int HOT_SCRIPT_RESULT = 12497500;
+
+    private Realm realm;
+
+    @Before
+    public void setUp() throws Exception {
+        realm = newRealm(null);
+    }
+
+    private static Realm newRealm(ExecutorService executor) throws Exception {
+        return newRealm(executor, EnumSet.noneOf(Compiler.Option.class));
+    }
+
+    private static Realm newRealm(ExecutorService executor, EnumSet<Compiler.Option> options) throws Exception {
+        RuntimeContext context = new RuntimeContext.Builder().setExecutor(executor).setCompilerOptions(options)
+                .build();
+        return TestScripts.newRealm(context);
+    }
+
+    private static boolean throwsFromInterpretedFunction(Realm realm, String sourceCode) throws Exception {
+        try {
+            realm.getScriptLoader().script(new Source("caller", 1), sourceCode).evaluate(realm);
+            fail("expected ScriptException");
+            return false;
+        } catch (ScriptException e) {
+            for (StackTraceElement element : e.getStackTrace()) {
+                if ("#Interpreter".equals(element.getClassName()) && "test".equals(element.getFileName())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static void awaitCompiled(InterpretedScript script) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (!script.isCompiled() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(script.isCompiled());
+    }
+
+    private Script script(String sourceCode) throws Exception {
+        return TestScripts.script(realm, sourceCode);
+    }
+
+    @Test
+    public void unsupportedStatementsAreCompiled() throws Exception {
+        assertFalse(script("for (let i = 0; i < 1; ++i) ;") instanceof InterpretedScript);
+        assertFalse(script("while (true) break;") instanceof InterpretedScript);
+        assertFalse(script("{ let x = 0; }") instanceof InterpretedScript);
+    }
+
+    @Test
+    public void coldScriptIsNotCompiled() throws Exception {
+        InterpretedScript script = (InterpretedScript) script("var cold = 0; cold++;");
+        script.evaluate(realm);
+        script.evaluate(realm);
+        assertFalse(script.isCompiled());
+    }
+
+    @Test
+    public void hotScriptIsCompiled() throws Exception {
+        InterpretedScript script = (InterpretedScript) script(HOT_SCRIPT);
+        assertEquals(HOT_SCRIPT_RESULT, ((Number) script.evaluate(realm)).intValue());
+        awaitCompiled(script);
+        assertEquals(HOT_SCRIPT_RESULT, ((Number) script.evaluate(realm)).intValue());
+    }
+
+    @Test
+    public void scriptIsInterpretedWhileCompiling() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CountDownLatch latch = new CountDownLatch(1);
+        try {
+            // Block the executor to delay the compilation.
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Realm realm = newRealm(executor);
+            InterpretedScript script = (InterpretedScript) TestScripts.script(realm, HOT_SCRIPT);
+            for (int i = 0; i < 3; ++i) {
+                assertEquals(HOT_SCRIPT_RESULT, ((Number) script.evaluate(realm)).intValue());
+                assertFalse(script.isCompiled());
+            }
+            latch.countDown();
+            awaitCompiled(script);
+            assertEquals(HOT_SCRIPT_RESULT, ((Number) script.evaluate(realm)).intValue());
+        } finally {
+            latch.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void scriptIsInterpretedAfterCompilationFailure() throws Exception {
+        AtomicInteger compilations = new AtomicInteger();
+        com.github.anba.es6draft.ast.Script parsedScript = realm.getScriptLoader()
+                .parseScript(new Source("test", 1), HOT_SCRIPT);
+        InterpretedScript script = Interpreter.script(parsedScript, Runnable::run, () -> {
+            compilations.incrementAndGet();
+            throw new IllegalStateException();
+        });
+        for (int i = 0; i < 3; ++i) {
+            assertEquals(HOT_SCRIPT_RESULT, ((Number) script.evaluate(realm)).intValue());
+            assertFalse(script.isCompiled());
+        }
+        assertEquals(1, compilations.get());
+    }
+
+    @Test
+    public void functions() throws Exception {
+        Realm realm = newRealm(null, EnumSet.of(Compiler.Option.LazyCompilation));
+        TestScripts.evaluateSuiteScript(realm, "semantic/function/simple_functions.js");
+    }
+
+    @Test
+    public void hotFunctionIsCompiled() throws Exception {
+        Realm realm = newRealm(null, EnumSet.of(Compiler.Option.LazyCompilation));
+        TestScripts.evaluate(realm, "function get(o) { return o.p; }");
+        assertTrue(throwsFromInterpretedFunction(realm, "get(void 0)"));
+        Object result = TestScripts.evaluate(realm, "for (var i = 0, r; i < 2000; ++i) r = get({p: i}); r");
+        assertEquals(1999, ((Number) result).intValue());
+        assertFalse(throwsFromInterpretedFunction(realm, "get(void 0)"));
+    }
+
+    @Test
+    public void unsupportedFunctionsAreCompiled() throws Exception {
+        Realm realm = newRealm(null, EnumSet.of(Compiler.Option.LazyCompilation));
+        TestScripts.evaluate(realm, "function args(o) { arguments; return o.p; }");
+        TestScripts.evaluate(realm, "function nested(o) { function f() {} return o.p; }");
+        TestScripts.evaluate(realm, "function lexical(o) { let x = o.p; return x; }");
+        assertFalse(throwsFromInterpretedFunction(realm, "args(void 0)"));
+        assertFalse(throwsFromInterpretedFunction(realm, "nested(void 0)"));
+        assertFalse(throwsFromInterpretedFunction(realm, "lexical(void 0)"));
+    }
+
+    @Test
+    public void functionsAreCompiledWithoutInterpreter() throws Exception {
+        Realm realm = newRealm(null, EnumSet.of(Compiler.Option.LazyCompilation, Compiler.Option.NoInterpreter));
+        TestScripts.evaluate(realm, "function get(o) { return o.p; }");
+        assertFalse(throwsFromInterpretedFunction(realm, "get(void 0)"));
+    }
+}
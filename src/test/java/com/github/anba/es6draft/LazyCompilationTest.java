@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.EnumSet;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.CodeCache;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.util.TestScripts;
+
+/**
+ *
+ */
+public final class LazyCompilationTest {
+    private static final EnumSet<Compiler.Option> OPTIONS = EnumSet.of(Compiler.Option.LazyCompilation,
+            Compiler.Option.NoInterpreter);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private CodeCache codeCache;
+    private Realm realm;
+
+    @Before
+    public void setUp() throws Exception {
+        codeCache = new CodeCache(folder.getRoot().toPath());
+        realm = newRealm();
+    }
+
+    private Realm newRealm() throws Exception {
+        RuntimeContext context = new RuntimeContext.Builder().setCodeCache(codeCache).setCompilerOptions(OPTIONS)
+                .build();
+        return TestScripts.newRealm(context);
+    }
+
+    private Object evaluate(String sourceCode) throws Exception {
+        return TestScripts.evaluate(realm, sourceCode);
+    }
+
+    @Test
+    public void functions() throws Exception {
+        TestScripts.evaluateSuiteScript(realm, "semantic/function/function_kinds.js");
+    }
+
+    @Test
+    public void strictTailCalls() throws Exception {
+        TestScripts.evaluateSuiteScript(realm, "semantic/tailcall/self_tailcall.js");
+    }
+
+    @Test
+    public void lazyScriptsAreNotCached() throws Exception {
+        String sourceCode = "function f() { return 1; } f()";
+        assertEquals(1, ((Number) evaluate(sourceCode)).intValue());
+        assertEquals(1, ((Number) TestScripts.evaluate(newRealm(), sourceCode)).intValue());
+        assertEquals(0, codeCache.getHits());
+    }
+}
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.runtime.AbstractOperations.CreateDataPropertyOrThrow;
+import static com.github.anba.es6draft.util.TestScripts.evaluate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.Bytes;
+import com.github.anba.es6draft.runtime.internal.Futex;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+import com.github.anba.es6draft.runtime.objects.atomics.SharedArrayBufferConstructor;
+import com.github.anba.es6draft.runtime.objects.atomics.SharedArrayBufferObject;
+import com.github.anba.es6draft.runtime.objects.atomics.SharedByteBuffer;
+import com.github.anba.es6draft.util.TestScripts;
+
+/**
+ *
+ */
+public final class MappedSharedArrayBufferTest {
+    private Path file;
+
+    @Before
+    public void createFile() throws Exception {
+        file = Files.createTempFile("es6draft", ".bin");
+    }
+
+    @After
+    public void deleteFile() throws Exception {
+        Files.deleteIfExists(file);
+    }
+
+    private static Realm newRealm() throws Exception {
+        return TestScripts.newRealm(new RuntimeContext.Builder().build());
+    }
+
+    private static SharedArrayBufferObject map(Realm realm, Path file, long position, long byteLength)
+            throws Exception {
+        SharedArrayBufferObject buffer = SharedArrayBufferConstructor.MapSharedArrayBuffer(realm.defaultContext(),
+                file, position, byteLength);
+        CreateDataPropertyOrThrow(realm.defaultContext(), realm.getGlobalObject(), "buffer", buffer);
+        return buffer;
+    }
+
+    @Test
+    public void readFileContent() throws Exception {
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        Realm realm = newRealm();
+        map(realm, file, 0, 8);
+        assertEquals(8, ((Number) evaluate(realm, "buffer.byteLength")).intValue());
+        assertEquals("1,2,3,4,5,6,7,8", evaluate(realm, "new Uint8Array(buffer).join()").toString());
+    }
+
+    @Test
+    public void atomicsVisibleThroughOtherMappings() throws Exception {
+        Realm realm1 = newRealm();
+        Realm realm2 = newRealm();
+        SharedArrayBufferObject buffer1 = map(realm1, file, 8, 16);
+        SharedArrayBufferObject buffer2 = map(realm2, file, 8, 16);
+        evaluate(realm1, "var ta = new Int32Array(buffer); Atomics.store(ta, 0, 10); Atomics.add(ta, 1, 5);");
+        assertEquals(15, ((Number) evaluate(realm2,
+                "var ta = new Int32Array(buffer); Atomics.add(ta, 0, 0) + Atomics.load(ta, 1)")).intValue());
+        assertEquals(0, ((Number) evaluate(realm2, "Atomics.wake(ta, 0, 1)")).intValue());
+
+        // Mappings of the same file region share the same memory space.
+        assertTrue(buffer1.getSharedData().sameData(buffer2.getSharedData()));
+
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(Bytes.DEFAULT_BYTE_ORDER);
+        assertEquals(24, bytes.capacity());
+        assertEquals(10, bytes.getInt(8));
+        assertEquals(5, bytes.getInt(12));
+    }
+
+    @Test
+    public void futexWakeThroughOtherMapping() throws Exception {
+        Futex futex = new Futex();
+        SharedByteBuffer waiting = SharedByteBuffer.map(file, 8, 16);
+        SharedByteBuffer waking = SharedByteBuffer.map(file, 8, 16);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Futex.State> result = executor.submit(() -> futex.wait(waiting, 4, 0, 30, TimeUnit.SECONDS));
+            int woken = 0;
+            while (woken == 0 && !result.isDone()) {
+                Thread.sleep(10);
+                woken = futex.wake(waking, 4, 1);
+            }
+            assertEquals(1, woken);
+            assertEquals(Futex.State.OK, result.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void mappingTooLarge() throws Exception {
+        Realm realm = newRealm();
+        try {
+            SharedArrayBufferConstructor.MapSharedArrayBuffer(realm.defaultContext(), file, 0, Integer.MAX_VALUE);
+            fail("no exception thrown");
+        } catch (ScriptException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("RangeError"));
+        }
+        assertEquals(0, Files.size(file));
+    }
+
+    @Test
+    public void alignedMapping() throws Exception {
+        SharedByteBuffer buffer = SharedByteBuffer.map(file, 0, 5);
+        assertEquals(8, buffer.get().capacity());
+        assertEquals(Bytes.DEFAULT_BYTE_ORDER, buffer.get().order());
+        assertEquals(8, Files.size(file));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unalignedPosition() throws Exception {
+        SharedByteBuffer.map(file, 4, 8);
+    }
+}
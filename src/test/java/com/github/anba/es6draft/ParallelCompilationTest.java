@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.github.anba.es6draft.compiler.Compiler;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.CodeCache;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.Source;
+import com.github.anba.es6draft.util.TestScripts;
+
+/**
+ *
+ */
+public final class ParallelCompilationTest {
+    private static final int FUNCTIONS = 1500;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final ArrayList<ExecutorService> executors = new ArrayList<>();
+
+    /**
+     * Executes all tasks on the calling thread.
+     */
+    private static final class SameThreadExecutorService extends AbstractExecutorService {
+        private volatile boolean shutdown;
+
+        @Override
+        public void execute(Runnable command) {
+            command.run();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return Collections.emptyList();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return shutdown;
+        }
+    }
+
+    @After
+    public void tearDown() {
+        executors.forEach(ExecutorService::shutdownNow);
+    }
+
+    private static String sourceCode() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < FUNCTIONS; ++i) {
+            sb.append("function f").append(i).append("(a) { return a + ").append(i).append("; }\n");
+        }
+        sb.append("var s = 0;\n");
+        sb.append("for (var i = 0; i < ").append(FUNCTIONS).append("; ++i) s = this['f' + i](s);\n");
+        sb.append("s;\n");
+        return sb.toString();
+    }
+
+    private CodeCache.Entry compile(ExecutorService executor, Path cacheDirectory, String sourceCode)
+            throws Exception {
+        executors.add(executor);
+        CodeCache codeCache = new CodeCache(cacheDirectory);
+        RuntimeContext context = new RuntimeContext.Builder().setExecutor(executor).setCodeCache(codeCache)
+                .setCompilerOptions(EnumSet.of(Compiler.Option.NoInterpreter)).build();
+        Realm realm = TestScripts.newRealm(context);
+        Source source = new Source("test", 1);
+        Script script = realm.getScriptLoader().script(source, sourceCode);
+        assertEquals(FUNCTIONS * (FUNCTIONS - 1) / 2, ((Number) script.evaluate(realm)).intValue());
+
+        CodeCache.Entry entry = codeCache.get(codeCache.keyFor(context, CodeCache.Kind.Script, source, sourceCode));
+        assertNotNull(entry);
+        return entry;
+    }
+
+    @Test
+    public void parallelAssemblyIsDeterministic() throws Exception {
+        assumeTrue("engine version not available", CodeCache.isEnabled());
+        String sourceCode = sourceCode();
+        CodeCache.Entry parallel = compile(Executors.newFixedThreadPool(4), folder.newFolder().toPath(), sourceCode);
+        CodeCache.Entry serial = compile(new SameThreadExecutorService(), folder.newFolder().toPath(), sourceCode);
+
+        assertTrue(parallel.getClasses().size() > 1);
+        assertEquals(new ArrayList<>(serial.getClasses().keySet()), new ArrayList<>(parallel.getClasses().keySet()));
+        for (Map.Entry<String, byte[]> classFile : serial.getClasses().entrySet()) {
+            assertArrayEquals(classFile.getKey(), classFile.getValue(), parallel.getClasses().get(classFile.getKey()));
+        }
+    }
+}
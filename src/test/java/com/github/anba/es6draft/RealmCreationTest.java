@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestScripts.evaluate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.Shape;
+import com.github.anba.es6draft.runtime.types.Intrinsics;
+import com.github.anba.es6draft.runtime.types.builtins.OrdinaryObject;
+
+/**
+ *
+ */
+public final class RealmCreationTest {
+    @Test
+    public void intrinsicShapesAreShared() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm first = Realm.InitializeHostDefinedRealm(world);
+        Realm second = Realm.InitializeHostDefinedRealm(world);
+
+        for (Intrinsics intrinsic : new Intrinsics[] { Intrinsics.ArrayPrototype, Intrinsics.ObjectPrototype,
+                Intrinsics.Math, Intrinsics.Promise }) {
+            OrdinaryObject a = (OrdinaryObject) first.getIntrinsic(intrinsic);
+            OrdinaryObject b = (OrdinaryObject) second.getIntrinsic(intrinsic);
+            assertNotSame(a, b);
+            assertNotNull(intrinsic.name(), a.getShape());
+            assertSame(intrinsic.name(), a.getShape(), b.getShape());
+        }
+    }
+
+    private static Shape objectPrototypeShape() throws Exception {
+        Realm realm = Realm.InitializeHostDefinedRealm(new World(new RuntimeContext.Builder().build()));
+        return ((OrdinaryObject) realm.getIntrinsic(Intrinsics.ObjectPrototype)).getShape();
+    }
+
+    @Test
+    public void intrinsicShapesOutliveRealms() throws Exception {
+        // Transitions only hold their shapes weakly, the recorded layout shapes must keep them alive.
+        WeakReference<Shape> shape = new WeakReference<>(objectPrototypeShape());
+        for (int i = 0; i < 5; ++i) {
+            System.gc();
+        }
+        assertNotNull(shape.get());
+        assertSame(shape.get(), objectPrototypeShape());
+    }
+
+    @Test
+    public void optionalModulesAreCreatedOnFirstAccess() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm realm = Realm.InitializeHostDefinedRealm(world);
+        assertTrue(realm.isLazyIntrinsic(Intrinsics.Intl));
+        assertTrue(realm.isLazyIntrinsic(Intrinsics.Intl_Collator));
+        assertTrue(realm.isLazyIntrinsic(Intrinsics.SharedArrayBuffer));
+        assertFalse(realm.isLazyIntrinsic(Intrinsics.ArrayPrototype));
+
+        assertEquals(true, evaluate(realm, "Object.getOwnPropertyNames(this).includes('Intl')"));
+        assertTrue(realm.isLazyIntrinsic(Intrinsics.Intl));
+
+        assertEquals(true, evaluate(realm, "Object.getOwnPropertyDescriptor(this, 'Intl').value === Intl"));
+        assertFalse(realm.isLazyIntrinsic(Intrinsics.Intl));
+        assertFalse(realm.isLazyIntrinsic(Intrinsics.Intl_Collator));
+        assertSame(realm.getIntrinsic(Intrinsics.Intl), evaluate(realm, "Intl"));
+        assertSame(realm.getIntrinsic(Intrinsics.Intl_Collator), evaluate(realm, "Intl.Collator"));
+        assertTrue(realm.isLazyIntrinsic(Intrinsics.SharedArrayBuffer));
+
+        OrdinaryObject sharedArrayBufferPrototype = realm.getIntrinsic(Intrinsics.SharedArrayBufferPrototype);
+        assertNotNull(sharedArrayBufferPrototype);
+        assertFalse(realm.isLazyIntrinsic(Intrinsics.SharedArrayBuffer));
+        assertEquals(true, evaluate(realm, "Object.getPrototypeOf(new SharedArrayBuffer(8)) === "
+                + "SharedArrayBuffer.prototype"));
+        assertSame(sharedArrayBufferPrototype, evaluate(realm, "SharedArrayBuffer.prototype"));
+    }
+
+    @Test
+    public void optionalModulesAreCreatedOnceAcrossThreads() throws Exception {
+        World world = new World(new RuntimeContext.Builder().build());
+        Realm realm = Realm.InitializeHostDefinedRealm(world);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ArrayList<Future<OrdinaryObject>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 16; ++i) {
+                results.add(executor.submit(() -> realm.getIntrinsic(Intrinsics.Intl_Collator)));
+            }
+            OrdinaryObject collator = results.get(0).get();
+            assertNotNull(collator);
+            for (Future<OrdinaryObject> result : results) {
+                assertSame(collator, result.get());
+            }
+            assertSame(collator, evaluate(realm, "Intl.Collator"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
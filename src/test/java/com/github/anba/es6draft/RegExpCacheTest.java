@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestScripts.evaluate;
+import static com.github.anba.es6draft.util.TestScripts.newRealm;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.regexp.RegExpCache;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+
+/**
+ *
+ */
+public final class RegExpCacheTest {
+    @Test
+    public void sameKey() throws Exception {
+        RegExpCache cache = new RegExpCache();
+        Realm realm = newRealm(new RuntimeContext.Builder().setRegExpCache(cache).build());
+        String split = "var s = ''; for (var i = 0; i < 10; ++i) s += 'a,b;c'.split(new RegExp('[,;]')).length; s";
+        assertEquals("3333333333", evaluate(realm, split).toString());
+        long hits = cache.getHits(), misses = cache.getMisses();
+        assertEquals("3333333333", evaluate(realm, split).toString());
+        assertEquals(misses, cache.getMisses());
+        assertTrue(cache.getHits() >= hits + 10);
+    }
+
+    @Test
+    public void differentFlags() throws Exception {
+        RegExpCache cache = new RegExpCache();
+        Realm realm = newRealm(new RuntimeContext.Builder().setRegExpCache(cache).build());
+        long misses = cache.getMisses();
+        assertEquals(Boolean.FALSE, evaluate(realm, "new RegExp('abc').test('ABC')"));
+        assertEquals(Boolean.TRUE, evaluate(realm, "new RegExp('abc', 'i').test('ABC')"));
+        assertEquals(misses + 2, cache.getMisses());
+    }
+
+    @Test
+    public void sharedAcrossRealms() throws Exception {
+        RegExpCache cache = new RegExpCache();
+        RuntimeContext context = new RuntimeContext.Builder().setRegExpCache(cache).build();
+        Realm realm1 = newRealm(context);
+        Realm realm2 = newRealm(new RuntimeContext.Builder(context).build());
+        evaluate(realm1, "new RegExp('x(y)z', 'g')");
+        long hits = cache.getHits(), misses = cache.getMisses();
+        assertEquals("y", evaluate(realm2, "new RegExp('x(y)z', 'g').exec('xyz')[1]").toString());
+        assertEquals(hits + 1, cache.getHits());
+        assertEquals(misses, cache.getMisses());
+    }
+
+    @Test
+    public void syntaxErrorNotCached() throws Exception {
+        RegExpCache cache = new RegExpCache();
+        Realm realm = newRealm(new RuntimeContext.Builder().setRegExpCache(cache).build());
+        int size = cache.size();
+        for (int i = 0; i < 2; ++i) {
+            try {
+                evaluate(realm, "new RegExp('(')");
+                fail("no exception thrown");
+            } catch (ScriptException e) {
+                // expected
+            }
+        }
+        assertEquals(size, cache.size());
+    }
+
+    @Test
+    public void bounded() throws Exception {
+        RegExpCache cache = new RegExpCache(4);
+        Realm realm = newRealm(new RuntimeContext.Builder().setRegExpCache(cache).build());
+        evaluate(realm, "for (var i = 0; i < 10; ++i) new RegExp('a{' + i + '}')");
+        assertEquals(4, cache.size());
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.internal.ShapedPropertyMap;
+import com.github.anba.es6draft.runtime.types.Property;
+
+/**
+ * 
+ */
+public final class ShapedPropertyMapTest {
+    private static ShapedPropertyMap<String> putAll(ShapedPropertyMap<String> map, String... keys) {
+        for (String key : keys) {
+            map.put(key, new Property(key, true, true, true));
+        }
+        return map;
+    }
+
+    @Test
+    public void sameInsertionOrderSharesShape() {
+        ShapedPropertyMap<String> map1 = putAll(new ShapedPropertyMap<>(), "a", "b", "c");
+        ShapedPropertyMap<String> map2 = putAll(new ShapedPropertyMap<>(), "a", "b", "c");
+        ShapedPropertyMap<String> map3 = putAll(new ShapedPropertyMap<>(), "a", "c", "b");
+
+        assertNotNull(map1.getShape());
+        assertSame(map1.getShape(), map2.getShape());
+        assertFalse(map1.getShape() == map3.getShape());
+        assertEquals(Arrays.asList("a", "b", "c"), map1.keySet());
+        assertEquals(Arrays.asList("a", "c", "b"), map3.keySet());
+    }
+
+    @Test
+    public void getAndReplace() {
+        ShapedPropertyMap<String> map = putAll(new ShapedPropertyMap<>(), "a", "b");
+
+        assertTrue(map.containsKey("a"));
+        assertFalse(map.containsKey("c"));
+        assertEquals("b", map.get("b").getValue());
+        assertNull(map.get("c"));
+
+        Property property = new Property("new", true, true, true);
+        map.put("a", property);
+        assertSame(property, map.get("a"));
+        assertSame(property, map.getSlot(map.getShape().getSlot("a")));
+        assertEquals(2, map.size());
+        assertEquals(Arrays.asList("a", "b"), map.keySet());
+    }
+
+    @Test
+    public void removeLastPropertyRevertsShape() {
+        ShapedPropertyMap<String> map = putAll(new ShapedPropertyMap<>(), "a", "b");
+        ShapedPropertyMap<String> expected = putAll(new ShapedPropertyMap<>(), "a");
+
+        map.remove("b");
+        assertSame(expected.getShape(), map.getShape());
+        assertEquals(Arrays.asList("a"), map.keySet());
+    }
+
+    @Test
+    public void removeInnerPropertySwitchesToDictionary() {
+        ShapedPropertyMap<String> map = putAll(new ShapedPropertyMap<>(), "a", "b", "c");
+
+        map.remove("a");
+        assertNull(map.getShape());
+        assertFalse(map.containsKey("a"));
+        assertEquals(Arrays.asList("b", "c"), map.keySet());
+
+        putAll(map, "a");
+        assertEquals(Arrays.asList("b", "c", "a"), map.keySet());
+    }
+
+    @Test
+    public void manyPropertiesSwitchToDictionary() {
+        ShapedPropertyMap<String> map = new ShapedPropertyMap<>();
+        for (int i = 0; i < 1000; ++i) {
+            putAll(map, "p" + i);
+        }
+        assertNull(map.getShape());
+        assertEquals(1000, map.size());
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals("p" + i, map.get("p" + i).getValue());
+            assertEquals("p" + i, map.keySet().get(i));
+        }
+    }
+
+    @Test
+    public void manyTransitionsSwitchToDictionary() {
+        ArrayList<ShapedPropertyMap<String>> maps = new ArrayList<>();
+        for (int i = 0; i < 1000; ++i) {
+            maps.add(putAll(new ShapedPropertyMap<>(), "manyTransitions", "p" + i));
+        }
+        assertNotNull(maps.get(0).getShape());
+        assertNull(maps.get(maps.size() - 1).getShape());
+        for (int i = 0; i < 1000; ++i) {
+            assertEquals(Arrays.asList("manyTransitions", "p" + i), maps.get(i).keySet());
+        }
+    }
+
+    @Test
+    public void collectedTransitionsAreRemoved() {
+        for (int i = 0; i < 1000; ++i) {
+            putAll(new ShapedPropertyMap<>(), "collectedTransitions", "p" + i);
+        }
+        ShapedPropertyMap<String> map = null;
+        for (int i = 0; i < 10 && (map == null || map.getShape() == null); ++i) {
+            System.gc();
+            map = putAll(new ShapedPropertyMap<>(), "collectedTransitions", "q" + i);
+        }
+        assertNotNull(map.getShape());
+    }
+
+    @Test
+    public void cloneIsIndependent() {
+        ShapedPropertyMap<String> map = putAll(new ShapedPropertyMap<>(), "a", "b");
+        ShapedPropertyMap<String> clone = map.clone();
+
+        map.clear();
+        putAll(map, "c");
+        assertEquals(Arrays.asList("c"), map.keySet());
+        assertEquals(Arrays.asList("a", "b"), clone.keySet());
+
+        map.putAll(clone);
+        assertEquals(Arrays.asList("c", "a", "b"), map.keySet());
+    }
+}
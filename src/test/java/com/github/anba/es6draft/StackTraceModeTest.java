@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft;
+
+import static com.github.anba.es6draft.util.TestScripts.evaluate;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext.StackTraceMode;
+import com.github.anba.es6draft.runtime.internal.ScriptException;
+import com.github.anba.es6draft.util.TestScripts;
+
+/**
+ *
+ */
+public final class StackTraceModeTest {
+    private static final String THROW_VALUE = "function thrower() { throw 'value'; } thrower();";
+    private static final String THROW_ERROR = "function thrower() { throw new Error('error'); } thrower();";
+    private static final String GENERATOR_THROW = "function* g() { } g().throw('value');";
+    private static final String CONTROL_FLOW = "var n = 0;"
+            + "for (var i = 0; i < 10; ++i) { try { throw i; } catch (e) { n += e; } } n";
+
+    private static Realm newRealm(StackTraceMode mode) throws Exception {
+        RuntimeContext context = new RuntimeContext.Builder().setStackTraceMode(mode).build();
+        return TestScripts.newRealm(context);
+    }
+
+    private static ScriptException thrown(Realm realm, String sourceCode) throws Exception {
+        try {
+            evaluate(realm, sourceCode);
+        } catch (ScriptException e) {
+            return e;
+        }
+        fail("no exception thrown");
+        return null;
+    }
+
+    private static boolean hasScriptFrame(ScriptException e, String function) {
+        for (StackTraceElement element : e.getScriptStackTrace()) {
+            if (function.equals(element.getMethodName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void all() throws Exception {
+        Realm realm = newRealm(StackTraceMode.All);
+        assertTrue(hasScriptFrame(thrown(realm, THROW_VALUE), "thrower"));
+        assertTrue(hasScriptFrame(thrown(realm, THROW_ERROR), "thrower"));
+        assertTrue(evaluate(realm, "(function f() { return new Error().stack; })()").toString().contains("f@"));
+    }
+
+    @Test
+    public void errorObjects() throws Exception {
+        Realm realm = newRealm(StackTraceMode.ErrorObjects);
+        ScriptException e = thrown(realm, THROW_VALUE);
+        assertEquals("value", e.getValue());
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals(0, e.getScriptStackTrace().length);
+        assertTrue(hasScriptFrame(thrown(realm, THROW_ERROR), "thrower"));
+        assertEquals(0, thrown(realm, GENERATOR_THROW).getStackTrace().length);
+        assertEquals(45, ((Number) evaluate(realm, CONTROL_FLOW)).intValue());
+        assertEquals("value",
+                evaluate(realm, "(() => { try { (() => { throw 'value' })() } catch (e) { return e; } })()"));
+    }
+
+    @Test
+    public void none() throws Exception {
+        Realm realm = newRealm(StackTraceMode.None);
+        assertEquals(0, thrown(realm, THROW_VALUE).getStackTrace().length);
+        ScriptException e = thrown(realm, THROW_ERROR);
+        assertEquals(0, e.getStackTrace().length);
+        assertEquals("Error: error", e.getMessage());
+        assertEquals("", evaluate(realm, "new Error().stack"));
+        assertEquals(45, ((Number) evaluate(realm, CONTROL_FLOW)).intValue());
+    }
+}
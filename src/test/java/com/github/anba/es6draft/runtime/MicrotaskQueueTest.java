@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+public final class MicrotaskQueueTest {
+    @Test
+    public void empty() {
+        MicrotaskQueue queue = new MicrotaskQueue();
+        assertTrue(queue.isEmpty());
+        assertFalse(queue.executeNext());
+    }
+
+    @Test
+    public void fifoOrder() {
+        MicrotaskQueue queue = new MicrotaskQueue();
+        List<Integer> executed = new ArrayList<>();
+        for (int i = 0; i < 10; ++i) {
+            int id = i;
+            queue.offer(() -> executed.add(id));
+        }
+        assertEquals(10, queue.size());
+        while (queue.executeNext()) {
+        }
+        assertEquals(10, executed.size());
+        for (int i = 0; i < 10; ++i) {
+            assertEquals(i, (int) executed.get(i));
+        }
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void growWhileWrapped() {
+        MicrotaskQueue queue = new MicrotaskQueue();
+        List<Integer> executed = new ArrayList<>();
+        int next = 0, expected = 0;
+        // Move the head into the middle of the ring buffer before it needs to grow.
+        for (int round = 0; round < 50; ++round) {
+            for (int i = 0; i < 7; ++i) {
+                int id = next++;
+                queue.offer(() -> executed.add(id));
+            }
+            for (int i = 0; i < 3; ++i) {
+                assertTrue(queue.executeNext());
+            }
+        }
+        while (queue.executeNext()) {
+        }
+        assertEquals(next, executed.size());
+        for (int id : executed) {
+            assertEquals(expected++, id);
+        }
+    }
+
+    @Test
+    public void jobsEnqueuedDuringExecution() {
+        MicrotaskQueue queue = new MicrotaskQueue();
+        List<Integer> executed = new ArrayList<>();
+        queue.offer(() -> {
+            executed.add(0);
+            queue.offer(() -> executed.add(2));
+        });
+        queue.offer(() -> executed.add(1));
+        while (queue.executeNext()) {
+        }
+        assertEquals("[0, 1, 2]", executed.toString());
+    }
+}
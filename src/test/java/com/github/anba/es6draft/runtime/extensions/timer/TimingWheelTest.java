@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.runtime.extensions.timer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ */
+public final class TimingWheelTest {
+    private static final class TestTimer extends TimingWheel.Timer {
+        final int id;
+        final long deadline;
+
+        TestTimer(int id, long deadline) {
+            this.id = id;
+            this.deadline = deadline;
+        }
+
+        @Override
+        public String toString() {
+            return id + "@" + deadline;
+        }
+    }
+
+    private static List<Integer> ids(List<TestTimer> timers) {
+        List<Integer> ids = new ArrayList<>();
+        for (TestTimer timer : timers) {
+            ids.add(timer.id);
+        }
+        return ids;
+    }
+
+    @Test
+    public void expiresInOrder() {
+        TimingWheel<TestTimer> wheel = new TimingWheel<>(0);
+        wheel.schedule(new TestTimer(1, 10), 10);
+        wheel.schedule(new TestTimer(2, 5), 5);
+        wheel.schedule(new TestTimer(3, 10), 10);
+        wheel.schedule(new TestTimer(4, 0), 0);
+
+        List<TestTimer> expired = new ArrayList<>();
+        wheel.advance(4, expired);
+        assertEquals(Arrays.asList(4), ids(expired));
+
+        expired.clear();
+        wheel.advance(10, expired);
+        assertEquals(Arrays.asList(2, 1, 3), ids(expired));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void cancel() {
+        TimingWheel<TestTimer> wheel = new TimingWheel<>(0);
+        TestTimer near = new TestTimer(1, 10);
+        TestTimer far = new TestTimer(2, 100_000);
+        TestTimer kept = new TestTimer(3, 100_000);
+        wheel.schedule(near, near.deadline);
+        wheel.schedule(far, far.deadline);
+        wheel.schedule(kept, kept.deadline);
+        wheel.cancel(near);
+        wheel.cancel(far);
+        wheel.cancel(far);
+        assertEquals(1, wheel.size());
+
+        List<TestTimer> expired = new ArrayList<>();
+        wheel.advance(200_000, expired);
+        assertEquals(Arrays.asList(3), ids(expired));
+        assertTrue(wheel.isEmpty());
+    }
+
+    @Test
+    public void sameTickCascadedAndDirect() {
+        TimingWheel<TestTimer> wheel = new TimingWheel<>(0);
+        // Timer 1 is stored in an outer wheel and cascaded, timer 2 is directly stored in the root wheel.
+        wheel.schedule(new TestTimer(1, 1000), 1000);
+        List<TestTimer> expired = new ArrayList<>();
+        wheel.advance(760, expired);
+        wheel.schedule(new TestTimer(2, 1000), 1000);
+        wheel.advance(1000, expired);
+        assertEquals(Arrays.asList(1, 2), ids(expired));
+    }
+
+    @Test
+    public void nextTick() {
+        TimingWheel<TestTimer> wheel = new TimingWheel<>(0);
+        assertEquals(Long.MAX_VALUE, wheel.nextTick());
+        wheel.schedule(new TestTimer(1, 20), 20);
+        assertEquals(20, wheel.nextTick());
+        wheel.schedule(new TestTimer(2, 10_000), 10_000);
+        assertEquals(20, wheel.nextTick());
+
+        List<TestTimer> expired = new ArrayList<>();
+        wheel.advance(20, expired);
+        assertEquals(256, wheel.nextTick());
+    }
+
+    @Test
+    public void randomized() {
+        Random random = new Random(0);
+        TimingWheel<TestTimer> wheel = new TimingWheel<>(0);
+        List<TestTimer> pending = new ArrayList<>();
+        List<TestTimer> expired = new ArrayList<>();
+        Comparator<TestTimer> order = Comparator.<TestTimer> comparingLong(t -> t.deadline).thenComparingInt(t -> t.id);
+        long now = 0;
+        int ids = 0;
+        for (int round = 0; round < 2000; ++round) {
+            for (int i = random.nextInt(20); i > 0; --i) {
+                long delay = random.nextBoolean() ? random.nextInt(300) : (long) random.nextInt(1 << 24);
+                TestTimer timer = new TestTimer(++ids, now + delay);
+                wheel.schedule(timer, timer.deadline);
+                pending.add(timer);
+            }
+            for (int i = random.nextInt(10); i > 0 && !pending.isEmpty(); --i) {
+                wheel.cancel(pending.remove(random.nextInt(pending.size())));
+            }
+            now += random.nextInt(4) == 0 ? random.nextInt(1 << 20) : random.nextInt(500);
+
+            List<TestTimer> expected = new ArrayList<>();
+            for (TestTimer timer : pending) {
+                if (timer.deadline <= now) {
+                    expected.add(timer);
+                }
+            }
+            Collections.sort(expected, order);
+            pending.removeAll(expected);
+
+            expired.clear();
+            wheel.advance(now, expired);
+            assertEquals(ids(expected), ids(expired));
+            assertEquals(pending.size(), wheel.size());
+        }
+    }
+}
@@ -19,10 +19,13 @@ import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
+import javax.script.SimpleScriptContext;
 
 import org.junit.Before;
 import org.junit.Test;
 
+import com.github.anba.es6draft.runtime.internal.CompiledCodeCache;
+
 /**
  * JSR-223 Scripting API tests
  */
@@ -194,4 +197,24 @@ public final class ScriptEngineTest {
         assertThat(value, instanceOfWith(String.class, is("a")));
         assertThat(engine.get("log"), instanceOfWith(String.class, is("ab")));
     }
+
+    @Test
+    public void evalSameSourceWithDifferentContexts() throws ScriptException {
+        CompiledCodeCache compiledCodeCache = ((ScriptEngineImpl) engine).getCompiledCodeCache();
+        long hits = compiledCodeCache.getHits(), misses = compiledCodeCache.getMisses();
+        String source = "var r = n * 2; var seen = typeof value; value = r; r";
+        for (int i = 0; i < 10; ++i) {
+            ScriptContext context = new SimpleScriptContext();
+            context.setAttribute("n", i, ScriptContext.ENGINE_SCOPE);
+            Object value = engine.eval(source, context);
+            assertThat(value, instanceOfWith(Number.class, is(numberCloseTo(2 * i))));
+            assertThat(context.getAttribute("r"), instanceOfWith(Number.class, is(numberCloseTo(2 * i))));
+            assertThat(context.getAttribute("seen"), instanceOfWith(String.class, is("undefined")));
+        }
+        // The script is compiled once and then reused for all other contexts.
+        assertThat(compiledCodeCache.getMisses(), is(misses + 1));
+        assertThat(compiledCodeCache.getHits(), is(hits + 9));
+        assertThat(engine.eval("typeof value", new SimpleScriptContext()),
+                instanceOfWith(String.class, is("undefined")));
+    }
 }
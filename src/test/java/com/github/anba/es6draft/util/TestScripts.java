@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+package com.github.anba.es6draft.util;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import com.github.anba.es6draft.Script;
+import com.github.anba.es6draft.runtime.Realm;
+import com.github.anba.es6draft.runtime.World;
+import com.github.anba.es6draft.runtime.internal.RuntimeContext;
+import com.github.anba.es6draft.runtime.internal.Source;
+
+/**
+ * Realm creation and script evaluation helpers for unit tests.
+ */
+public final class TestScripts {
+    private static final Path SCRIPT_SUITE = Paths.get("src/test/scripts/suite");
+
+    private TestScripts() {
+    }
+
+    /**
+     * Creates a new realm in a new world.
+     *
+     * @param context
+     *            the runtime context
+     * @return the new realm
+     * @throws Exception
+     *             if the realm could not be initialized
+     */
+    public static Realm newRealm(RuntimeContext context) throws Exception {
+        return Realm.InitializeHostDefinedRealm(new World(context));
+    }
+
+    /**
+     * Parses and compiles the source code using the realm's script loader.
+     *
+     * @param realm
+     *            the realm
+     * @param sourceCode
+     *            the source code
+     * @return the script
+     * @throws Exception
+     *             if the source code could not be loaded
+     */
+    public static Script script(Realm realm, String sourceCode) throws Exception {
+        return realm.getScriptLoader().script(new Source("test", 1), sourceCode);
+    }
+
+    /**
+     * Evaluates the source code in the realm.
+     *
+     * @param realm
+     *            the realm
+     * @param sourceCode
+     *            the source code
+     * @return the completion value
+     * @throws Exception
+     *             if the source code could not be loaded or evaluated
+     */
+    public static Object evaluate(Realm realm, String sourceCode) throws Exception {
+        return script(realm, sourceCode).evaluate(realm);
+    }
+
+    /**
+     * Evaluates the source code in a new realm.
+     *
+     * @param context
+     *            the runtime context
+     * @param sourceCode
+     *            the source code
+     * @return the completion value
+     * @throws Exception
+     *             if the source code could not be loaded or evaluated
+     */
+    public static Object evaluate(RuntimeContext context, String sourceCode) throws Exception {
+        return evaluate(newRealm(context), sourceCode);
+    }
+
+    /**
+     * Evaluates a script from the script test suite in the realm. Suite scripts declare global lexical bindings, so
+     * each realm can evaluate only a single suite script.
+     *
+     * @param realm
+     *            the realm
+     * @param fileName
+     *            the file name relative to the script test suite directory
+     * @throws Exception
+     *             if the script could not be loaded or evaluated
+     */
+    public static void evaluateSuiteScript(Realm realm, String fileName) throws Exception {
+        evaluateFile(realm, SCRIPT_SUITE.resolve("lib/assert.js"));
+        evaluateFile(realm, SCRIPT_SUITE.resolve(fileName));
+    }
+
+    private static void evaluateFile(Realm realm, Path file) throws Exception {
+        Path path = file.toAbsolutePath();
+        realm.getScriptLoader().script(new Source(path, file.toString(), 1), path).evaluate(realm);
+    }
+}
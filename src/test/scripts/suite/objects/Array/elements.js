@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertTrue, assertFalse, assertDataProperty, assertThrows,
+} = Assert;
+
+// int32 -> double -> object transitions keep all values
+{
+  let a = [1, 2, 3];
+  a.push(0.5);
+  assertEquals([1, 2, 3, 0.5], a);
+  a.push(-0);
+  assertSame(-0, a[4]);
+  a[1] = "x";
+  assertEquals([1, "x", 3, 0.5, -0], a);
+  a[0] = NaN;
+  assertSame(NaN, a[0]);
+  a[2] = undefined;
+  assertSame(undefined, a[2]);
+  assertTrue(2 in a);
+}
+
+// Large integral values are not truncated
+{
+  let a = [0];
+  a[0] = 2 ** 40;
+  assertSame(2 ** 40, a[0]);
+  a.push(2 ** 31, -(2 ** 31) - 1);
+  assertEquals([2 ** 40, 2 ** 31, -(2 ** 31) - 1], a);
+}
+
+// Plain elements report default attributes
+{
+  let a = [1, 2.5, "s"];
+  assertDataProperty(a, 0, {value: 1, writable: true, enumerable: true, configurable: true});
+  assertDataProperty(a, 1, {value: 2.5, writable: true, enumerable: true, configurable: true});
+  assertDataProperty(a, 2, {value: "s", writable: true, enumerable: true, configurable: true});
+
+  // Modifying the returned descriptor does not affect the array.
+  let desc = Object.getOwnPropertyDescriptor(a, 0);
+  desc.value = 100;
+  assertSame(1, a[0]);
+}
+
+// Holes, pop and length truncation
+{
+  let a = [1, 2, 3, 4];
+  assertSame(4, a.pop());
+  assertEquals([1, 2, 3], a);
+  a.length = 1;
+  assertEquals([1], a);
+  a.push(5);
+  assertEquals([1, 5], a);
+  a[4] = 6;
+  assertSame(5, a.length);
+  assertFalse(2 in a);
+  assertSame(6, a[4]);
+  delete a[0];
+  assertFalse(0 in a);
+  assertSame(5, a[1]);
+}
+
+// Non-default attributes and accessors
+{
+  let a = [1, 2, 3];
+  Object.defineProperty(a, 1, {writable: false});
+  a[1] = 10;
+  assertSame(2, a[1]);
+  assertThrows(TypeError, () => { "use strict"; a[1] = 10; });
+  a[0] = 20;
+  assertSame(20, a[0]);
+
+  let b = [1, 2, 3];
+  let log = [];
+  Object.defineProperty(b, 2, {get() { log.push("get"); return 30; }, set(v) { log.push(v); }});
+  assertSame(30, b[2]);
+  b[2] = 40;
+  assertEquals(["get", 40], log);
+  assertSame(1, b[0]);
+
+  let c = [1, 2];
+  Object.defineProperty(c, 0, {value: 5});
+  assertDataProperty(c, 0, {value: 5, writable: true, enumerable: true, configurable: true});
+  Object.defineProperty(c, 2, {value: 6, writable: true, enumerable: true, configurable: true});
+  assertEquals([5, 2, 6], c);
+  Object.defineProperty(c, 3, {value: 7});
+  assertDataProperty(c, 3, {value: 7, writable: false, enumerable: false, configurable: false});
+}
+
+// Frozen and sealed arrays
+{
+  let a = Object.freeze([1, 2.5, "x"]);
+  a[0] = 10;
+  assertSame(1, a[0]);
+  assertFalse(delete a[2]);
+  assertTrue(Object.isFrozen(a));
+
+  let b = Object.seal([1, 2]);
+  b[0] = 10;
+  assertSame(10, b[0]);
+  assertFalse(delete b[1]);
+  assertThrows(TypeError, () => b.pop());
+}
+
+// Setters on the prototype chain are not consulted for existing elements
+{
+  let a = [1, 2];
+  let receiver = {};
+  assertTrue(Reflect.set(a, 0, 10, receiver));
+  assertSame(1, a[0]);
+  assertSame(10, receiver[0]);
+}
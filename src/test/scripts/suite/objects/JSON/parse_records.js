@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals, assertTrue, assertFalse, assertDataProperty
+} = Assert;
+
+// Records with identical property names
+{
+  let records = JSON.parse(JSON.stringify(Array.from({length: 100}, (_, i) => ({id: i, name: "n" + i, ok: i % 2 === 0}))));
+  assertSame(100, records.length);
+  for (let i = 0; i < records.length; ++i) {
+    assertEquals(["id", "name", "ok"], Object.keys(records[i]));
+    assertSame(i, records[i].id);
+    assertSame("n" + i, records[i].name);
+    assertSame(i % 2 === 0, records[i].ok);
+    assertDataProperty(records[i], "id", {value: i, writable: true, enumerable: true, configurable: true});
+  }
+}
+
+// Records with differing property names and order
+{
+  let records = JSON.parse('[{"a":1,"b":2},{"b":3,"a":4},{"a":5},{"a":6,"b":7,"c":8},{"a":9,"c":10}]');
+  assertEquals(["a", "b"], Object.keys(records[0]));
+  assertEquals(["b", "a"], Object.keys(records[1]));
+  assertEquals(["a"], Object.keys(records[2]));
+  assertEquals(["a", "b", "c"], Object.keys(records[3]));
+  assertEquals(["a", "c"], Object.keys(records[4]));
+  assertSame(10, records[4].c);
+}
+
+// Duplicate property names, last value wins and keeps the first position
+{
+  let records = JSON.parse('[{"a":1,"b":2,"a":3},{"a":1,"b":2,"a":3}]');
+  for (let o of records) {
+    assertEquals(["a", "b"], Object.keys(o));
+    assertSame(3, o.a);
+  }
+}
+
+// Index property names
+{
+  let o = JSON.parse('{"b":0,"1":1,"a":2,"0":3}');
+  assertEquals(["0", "1", "b", "a"], Object.keys(o));
+  assertSame(3, o[0]);
+  assertSame(1, o[1]);
+}
+
+// __proto__ is an own data property
+{
+  let o = JSON.parse('{"__proto__":[]}');
+  assertSame(Object.prototype, Object.getPrototypeOf(o));
+  assertTrue(Object.prototype.hasOwnProperty.call(o, "__proto__"));
+  assertTrue(Array.isArray(o.__proto__));
+}
+
+// Escaped and long property names
+{
+  let longName = "x".repeat(100);
+  let o = JSON.parse(`[{"\\u0061":1,"${longName}":2},{"a":3,"${longName}":4}]`);
+  assertEquals(["a", longName], Object.keys(o[0]));
+  assertEquals(["a", longName], Object.keys(o[1]));
+  assertSame(4, o[1][longName]);
+}
+
+// Dense arrays
+{
+  let a = JSON.parse('[1, 2.5, "s", null, true, [], {}]');
+  assertSame(7, a.length);
+  assertSame(2.5, a[1]);
+  assertSame(null, a[3]);
+  assertTrue(Array.isArray(a[5]));
+  assertFalse(Array.isArray(a[6]));
+  a.push(8);
+  assertSame(8, a.length);
+  assertSame(0, JSON.parse('[]').length);
+}
+
+// Reviver sees the parsed values
+{
+  let o = JSON.parse('[{"a":1},{"a":2}]', (k, v) => k === "a" ? v * 10 : v);
+  assertSame(10, o[0].a);
+  assertSame(20, o[1].a);
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertThrows
+} = Assert;
+
+// Plain objects and dense arrays
+{
+  assertSame(`{"a":1,"b":"x","c":[1,null,true,{}],"d":null}`,
+             JSON.stringify({a: 1, b: "x", c: [1, NaN, true, {}], d: null, e: void 0, f() {}}));
+  assertSame(`{\n  "a": [\n    1,\n    2\n  ]\n}`, JSON.stringify({a: [1, 2]}, null, 2));
+  assertSame(`{"0":0,"1":1,"b":2,"a":3}`, JSON.stringify({b: 2, a: 3, 1: 1, 0: 0}));
+  assertSame(`[1,null,3]`, JSON.stringify([1, , 3]));
+}
+
+// Non-enumerable properties and getters
+{
+  let o = {a: 1};
+  Object.defineProperty(o, "b", {value: 2, enumerable: false});
+  Object.defineProperty(o, "c", {get() { return 3; }, enumerable: true});
+  assertSame(`{"a":1,"c":3}`, JSON.stringify(o));
+}
+
+// toJSON on the built-in prototypes is honoured
+{
+  Object.prototype.toJSON = function() { return "obj"; };
+  try {
+    assertSame(`"obj"`, JSON.stringify({a: 1}));
+    assertSame(`"obj"`, JSON.stringify([{a: 1}]));
+  } finally {
+    delete Object.prototype.toJSON;
+  }
+  Array.prototype.toJSON = function() { return this.length; };
+  try {
+    assertSame(`{"a":2}`, JSON.stringify({a: [1, 2]}));
+  } finally {
+    delete Array.prototype.toJSON;
+  }
+  assertSame(`{"a":[1,2]}`, JSON.stringify({a: [1, 2]}));
+}
+
+// Mutations from toJSON are observed by later properties and elements
+{
+  let o = {
+    a: {toJSON() { o.b = 3; delete o.c; return 1; }},
+    b: 2,
+    c: 4,
+  };
+  assertSame(`{"a":1,"b":3}`, JSON.stringify(o));
+
+  let a = [{toJSON() { a[1] = "x"; a.length = 2; return 0; }}, 1, 2];
+  assertSame(`[0,"x",null]`, JSON.stringify(a));
+
+  let p = [{toJSON() { Object.prototype.toJSON = () => "y"; return 0; }}, {}];
+  try {
+    assertSame(`[0,"y"]`, JSON.stringify(p));
+  } finally {
+    delete Object.prototype.toJSON;
+  }
+}
+
+// Mutations from getters are observed by later properties and elements
+{
+  try {
+    assertSame(`{"x":{},"a":1,"b":"T"}`,
+               JSON.stringify({x: {}, get a() { Object.prototype.toJSON = () => "T"; return 1; }, b: {}}));
+  } finally {
+    delete Object.prototype.toJSON;
+  }
+
+  let a = [{}, 0, {}];
+  Object.defineProperty(a, 1, {
+    get() { Object.prototype.toJSON = () => "T"; return 1; }, enumerable: true, configurable: true
+  });
+  try {
+    assertSame(`[{},1,"T"]`, JSON.stringify(a));
+  } finally {
+    delete Object.prototype.toJSON;
+  }
+}
+
+// Cyclic values
+{
+  let o = {};
+  o.self = [o];
+  assertThrows(TypeError, () => JSON.stringify(o));
+}
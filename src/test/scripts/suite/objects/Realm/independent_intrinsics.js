@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertNotSame,
+} = Assert;
+
+// Modifications of built-in objects are not visible in other realms.
+{
+  const first = new Reflect.Realm();
+  const second = new Reflect.Realm();
+  assertNotSame(first.global.Array.prototype, second.global.Array.prototype);
+
+  first.eval(`Array.prototype.push = function() { return -1; }; delete Array.prototype.map;`);
+  assertSame(-1, first.eval(`[].push(0)`));
+  assertSame("undefined", first.eval(`typeof [].map`));
+  assertSame(1, second.eval(`[].push(0)`));
+  assertSame("1,2", second.eval(`[0, 1].map(x => x + 1).join()`));
+  assertSame("1,2", new Reflect.Realm().eval(`[0, 1].map(x => x + 1).join()`));
+  assertSame(1, [].push(0));
+}
+
+// Built-in properties of new realms match the properties of the current realm.
+{
+  function describe(global) {
+    const {Object, Array, Map, Set, RegExp, Math, Reflect} = global;
+    return [Object.prototype, Array.prototype, Map.prototype, Set.prototype, RegExp, Math].map(o => {
+      return Reflect.ownKeys(o).map(k => {
+        let d = Object.getOwnPropertyDescriptor(o, k);
+        return [String(k), typeof d.value, typeof d.get, typeof d.set, d.writable, d.enumerable,
+                d.configurable].join(":");
+      }).join();
+    }).join(";");
+  }
+  const realm = new Reflect.Realm();
+  assertSame(describe(this), describe(realm.global));
+  assertSame(describe(realm.global), describe(new Reflect.Realm().global));
+
+  const {Array, Map, Set, Object} = realm.global;
+  assertSame(Set.prototype.values, Set.prototype.keys);
+  assertSame(Array.prototype.values, Array.prototype[Symbol.iterator]);
+  assertSame("function", typeof Object.getOwnPropertyDescriptor(Map.prototype, "size").get);
+  assertSame(0, new Map().size);
+}
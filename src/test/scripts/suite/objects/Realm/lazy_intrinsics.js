@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertTrue
+} = Assert;
+
+// Intrinsics of optional built-in modules are listed before the module was used.
+const realm = new Reflect.Realm();
+const intrinsics = realm.intrinsics;
+for (let name of ["Intl", "Intl_Collator", "Atomics", "SharedArrayBuffer", "SharedArrayBufferPrototype"]) {
+  assertTrue(name in intrinsics, name);
+}
+assertSame(realm.global.Intl, intrinsics.Intl);
+assertSame(realm.global.Intl.Collator, intrinsics.Intl_Collator);
+assertSame(realm.global.SharedArrayBuffer.prototype, intrinsics.SharedArrayBufferPrototype);
+
+// Spawned realms share the optional modules of their parent realm.
+const root = Reflect.Realm.immutableRoot();
+const spawned = root.spawn();
+assertSame(root.intrinsics.Intl_Collator, spawned.intrinsics.Intl_Collator);
+assertSame(root.intrinsics.SharedArrayBuffer, spawned.intrinsics.SharedArrayBuffer);
+
+// Immutable realms freeze the optional modules, too.
+assertTrue(Object.isFrozen(root.intrinsics.Intl_Collator));
+assertTrue(Object.isFrozen(root.intrinsics.Intl_CollatorPrototype));
+assertTrue(Object.isFrozen(root.intrinsics.SharedArrayBufferPrototype));
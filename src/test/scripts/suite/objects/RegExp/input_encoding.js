@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertEquals
+} = Assert;
+
+// Alternating inputs with a single global RegExp
+{
+  let re = /(\d+)/g;
+  assertSame("1", re.exec("a1b22")[1]);
+  assertSame(2, re.lastIndex);
+  assertSame("33", re.exec("x333")[1]);
+  assertSame(4, re.lastIndex);
+  assertSame("2", re.exec("a1b22")[1]);
+  assertSame(5, re.lastIndex);
+  assertSame(null, re.exec("x333"));
+  assertSame(0, re.lastIndex);
+  assertSame("4", re.exec("4y55z666")[1]);
+  assertSame("55", re.exec("4y55z666")[1]);
+  assertSame("a1b22", re.exec("a1b22").input);
+}
+
+// Multiple RegExps over the same input
+{
+  let input = "key=value; other=1; last=x".repeat(100);
+  let keys = input.match(/\w+(?==)/g);
+  let values = input.match(/=\w+/g);
+  assertSame(300, keys.length);
+  assertSame(300, values.length);
+  assertSame("key", keys[0]);
+  assertSame("=x", values[299]);
+}
+
+// Same input with UCS-2 and unicode RegExps
+{
+  let input = "\u{1F600}a\u{1F601}b";
+  assertSame(2, input.match(/[ab]/g).length);
+  assertEquals(["\u{1F600}", "\u{1F601}"], input.match(/[\u{1F600}-\u{1F64F}]/gu));
+  assertSame(2, input.search(/[ab]/));
+  assertSame(2, input.search(/a/u));
+}
+
+// Concatenated input strings
+{
+  let input = "";
+  for (let i = 0; i < 50; ++i) {
+    input += "ab";
+  }
+  assertSame(50, input.match(/b/g).length);
+  assertSame("ba", input.replace(/^a|b$/g, "").slice(0, 2));
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertNotSame, assertTrue, assertFalse, assertThrows,
+} = Assert;
+
+// RegExp objects with the same pattern and flags have separate state.
+var r1 = new RegExp("a", "g"), r2 = new RegExp("a", "g");
+assertNotSame(r1, r2);
+r1.exec("aa");
+assertSame(0, r2.lastIndex);
+assertSame(1, r1.lastIndex);
+assertSame(1, r2.exec("ba").index);
+assertSame(2, r2.lastIndex);
+assertSame(1, r1.lastIndex);
+
+// Repeated use of the same pattern
+for (var i = 0; i < 10; ++i) {
+  assertSame(3, "a,b;c".split(new RegExp("[,;]")).length);
+}
+for (var i = 0; i < 2; ++i) {
+  assertSame("y", new RegExp("x(y)z", "g").exec("xyz")[1]);
+}
+
+// Flags are part of the pattern identity.
+assertFalse(new RegExp("abc").test("ABC"));
+assertTrue(new RegExp("abc", "i").test("ABC"));
+assertFalse(new RegExp("abc").test("ABC"));
+
+// Invalid patterns throw a SyntaxError on each use.
+for (var i = 0; i < 2; ++i) {
+  assertThrows(SyntaxError, () => new RegExp("("));
+}
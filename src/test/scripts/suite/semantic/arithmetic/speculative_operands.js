@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertTrue, assertFalse, assertThrows
+} = Assert;
+
+// Arrow functions are always compiled, the operands are function bindings.
+const arith = (a, b, c) => a * b + c - (a / b) % c;
+const bits = (a, b) => (a << 3) ^ ~(b >> 1) | (a >>> b) & b;
+const unsigned = (a, b) => a >>> b;
+const less = (a, b) => a + 1 < b * 2;
+const lessEqual = (a, b) => a <= b;
+const neg = (a, b) => -a * +b;
+const concat = (a, b) => a + b + 1;
+
+// Number operands
+assertSame(3 * 4 + 5 - (3 / 4) % 5, arith(3, 4, 5));
+assertSame(1.5 * 2.5 + 0.5 - (1.5 / 2.5) % 0.5, arith(1.5, 2.5, 0.5));
+assertSame((7 << 3) ^ ~(9 >> 1) | (7 >>> 9) & 9, bits(7, 9));
+assertSame((-7 << 3) ^ ~(2.9 >> 1) | (-7 >>> 2.9) & 2.9, bits(-7, 2.9));
+assertSame(4294967295, unsigned(-1, 0));
+assertSame(1, unsigned(-1, 31));
+assertTrue(less(1, 2));
+assertFalse(less(3, 2));
+assertFalse(less(NaN, 2));
+assertTrue(lessEqual(-0, 0));
+assertFalse(lessEqual(NaN, NaN));
+assertSame(-0, neg(0, 1));
+assertSame(0, neg(-0, 1));
+assertSame(-6, neg(2, 3));
+assertSame(6, concat(2, 3));
+
+// Non-number operands deoptimize to the generic operations
+assertSame(16.25, arith("3", 4, 5));
+assertSame(124.25, arith(3, 4, "5"));
+assertSame("x21", concat("x", 2));
+assertSame("3x1", concat(3, "x"));
+assertSame(12 + 1 - (3 / 4) % 1, arith(3, 4, true));
+assertSame(NaN, arith(void 0, 4, 5));
+assertSame(3n * 4n + 5n - (3n / 4n) % 5n, arith(3n, 4n, 5n));
+assertThrows(TypeError, () => arith(3n, 4, 5));
+assertThrows(TypeError, () => bits(3n, 4));
+assertFalse(less("1", 2));
+assertTrue(lessEqual("a", "b"));
+assertFalse(lessEqual("b", "a"));
+assertTrue(lessEqual(1n, 1));
+
+// Deoptimized operands are converted in the specified order
+var log = [];
+var x = {valueOf() { log.push("x"); return 2; }};
+var y = {valueOf() { log.push("y"); return 3; }};
+assertSame(2 * 3 + 4 - (2 / 3) % 4, arith(x, y, 4));
+assertSame("x,y,x,y", log.join());
+log.length = 0;
+assertTrue(less(x, y));
+assertSame("x,y", log.join());
+
+// Repeated operands and outer function bindings
+function outer(n) {
+  var sum = 0, k = 2;
+  var add = i => sum + i * k + i;
+  for (var i = 0; i < n; ++i) {
+    sum = add(i);
+  }
+  return sum;
+}
+assertSame(3 * (0 + 1 + 2 + 3 + 4), outer(5));
+assertSame(3 * (0 + 1 + 2 + 3 + 4), outer(5));
+
+// Parameter bindings of non-simple parameter lists are not speculated
+assertThrows(ReferenceError, () => ((a = b * 2, b) => a)());
+assertSame(6, ((a, b = a * 2 + a) => b)(2));
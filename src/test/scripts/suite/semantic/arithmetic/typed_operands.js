@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertTrue, assertFalse, assertThrows
+} = Assert;
+
+var a = 3, b = 4, big = 5n, nan = NaN, o = {valueOf() { return 2; }};
+
+// Addition with numeric left operand
+assertSame(13, a * b + 1);
+assertSame(13, a * b + true);
+assertSame(12, a * b + null);
+assertSame(NaN, a * b + void 0);
+assertSame(-2, -a + 1);
+assertSame(3, o * 1 + 1);
+assertSame(4, a++ + 1);
+assertSame(2, a-- - 2);
+assertSame(26n, big * big + 1n);
+assertThrows(TypeError, () => big * big + 1);
+assertThrows(TypeError, () => a * b + 1n);
+
+// Relational comparison with number operands
+assertTrue(a * 2 < 10);
+assertFalse(a * 2 > 10);
+assertTrue(a * 2 <= 8);
+assertFalse(a * 2 >= 8.5);
+assertFalse(nan * 1 < 1);
+assertFalse(nan * 1 > 1);
+assertFalse(nan * 1 <= 1);
+assertFalse(nan * 1 >= 1);
+assertFalse(1 < nan * 1);
+assertFalse(1 >= nan * 1);
+assertTrue((a | 0) < (b | 0));
+assertTrue((b | 0) <= (b | 0));
+assertFalse((a | 0) > (b | 0));
+assertFalse((a | 0) >= (b | 0));
+assertFalse((-1 >>> 0) < (a | 0));
+assertTrue(-0 * 1 <= 0 * 1);
+assertFalse(-0 * 1 < 0 * 1);
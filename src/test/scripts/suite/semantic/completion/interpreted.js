@@ -0,0 +1,20 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame,
+} = Assert;
+
+// Completion values of scripts which only use statements supported by the interpreter.
+assertSame(1, eval(`if (true) 1; else 2;`));
+assertSame(2, eval(`if (false) 1; else { 2; }`));
+assertSame(void 0, eval(`3; if (false) 1;`));
+assertSame(void 0, eval(`3; { ; }; if (true) {}`));
+assertSame(10, eval(`var i = 0; while (i < 10) i++; i`));
+assertSame(9, eval(`var j = 0; while (j < 10) j++;`));
+assertSame(1, eval(`var k = 0; do ++k; while (false)`));
+assertSame(45, eval(`for (var n = 0, s = 0; n < 10; n++) s += n;`));
+assertSame(void 0, eval(`for (; false; );`));
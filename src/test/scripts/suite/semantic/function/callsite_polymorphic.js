@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertThrows
+} = Assert;
+
+// Call site with more targets than the polymorphic inline cache depth
+{
+  function call(f, x) {
+    return f(x);
+  }
+  let fns = [];
+  for (let i = 0; i < 20; ++i) {
+    fns.push(new Function("x", `return x + ${i};`));
+  }
+  for (let k = 0; k < 3; ++k) {
+    for (let i = 0; i < fns.length; ++i) {
+      assertSame(i + 1, call(fns[i], 1));
+    }
+    assertSame(-1, call(Math.abs.bind(null, -1)) * -1);
+    assertSame(4, call(Math.sqrt, 16));
+  }
+  assertThrows(TypeError, () => call(null));
+}
+
+// Mixed number, bigint and string operands
+{
+  function add(a, b) {
+    return a + b;
+  }
+  for (let k = 0; k < 3; ++k) {
+    assertSame(3, add(1, 2));
+    assertSame(3.5, add(1.5, 2));
+    assertSame("12", add("1", 2));
+    assertSame(3n, add(1n, 2n));
+    assertSame("ab", add("a", "b"));
+    assertSame(1, add(true, 0));
+    assertSame("a,b", add(["a"], ",b"));
+  }
+  assertThrows(TypeError, () => add(1n, 1));
+}
+
+// Property accesses with many distinct object layouts
+{
+  function get(o) {
+    return o.v;
+  }
+  for (let k = 0; k < 3; ++k) {
+    for (let i = 0; i < 20; ++i) {
+      let o = {};
+      o["p" + i] = i;
+      o.v = i;
+      assertSame(i, get(o));
+    }
+    assertSame(1, get("x".length === 1 ? {v: 1} : null));
+  }
+}
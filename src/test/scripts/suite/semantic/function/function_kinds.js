@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame,
+} = Assert;
+
+// Recursive and nested functions
+function fib(n) {
+  return n < 2 ? n : fib(n - 1) + fib(n - 2);
+}
+assertSame(55, fib(10));
+
+function outer(a) {
+  return b => c => a + b + c;
+}
+assertSame(6, outer(1)(2)(3));
+
+// Generators and classes
+function* g() {
+  yield 1;
+  yield 2;
+}
+assertSame(3, [...g()].reduce((a, b) => a + b));
+
+class C {
+  constructor(x) {
+    this.x = x;
+  }
+  get y() {
+    return this.x * 2;
+  }
+}
+assertSame(4, new C(2).y);
+
+// Source text and length of functions
+function f(a, b) { return a; }
+assertSame("function f(a, b) { return a; }", String(f));
+assertSame(2, (function(a, b) {}).length);
+
+// Template objects are per call site, also across functions
+function tag(s) {
+  return s[0];
+}
+function tagA() {
+  return tag`a;`;
+}
+function tagB() {
+  return tag`b:`;
+}
+assertSame("a;b:", tagA() + tagB());
+
+function id(s) {
+  return s;
+}
+function callSite() {
+  return id`x`;
+}
+assertSame(callSite(), callSite());
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame,
+} = Assert;
+
+// Functions with simple parameter lists and only var declarations.
+function sum(a, b) {
+  var s = a;
+  for (var i = 0; i < b; i++) {
+    if (i > 5) return -1;
+    s += i;
+  }
+  return s;
+}
+assertSame(4, sum(1, 3));
+assertSame(-1, sum(1, 10));
+assertSame(NaN, sum(void 0, 1));
+
+// Missing return statement
+assertSame(void 0, (function(a) { a; })(1));
+
+// Duplicate parameter names, the last parameter wins
+assertSame(2, (function(a, a) { return a; })(1, 2));
+assertSame(void 0, (function(a, a) { return a; })(1));
+
+// This binding in non-strict and strict functions
+assertSame(this, (function() { return this; })());
+assertSame(void 0, (function() { "use strict"; return this; })());
+assertSame("object", (function() { return typeof this; }).call(0));
+assertSame(0, (function() { "use strict"; return this; }).call(0));
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertTrue, assertFalse, assertThrows
+} = Assert;
+
+// Compound assignment and update expressions on declarative bindings
+{
+  let a = 1;
+  a += 2;
+  a++;
+  ++a;
+  a--;
+  assertSame(4, a);
+}
+
+// typeof on unresolvable and uninitialized references
+{
+  assertSame("undefined", typeof unresolvableIdentifierReference);
+  assertThrows(ReferenceError, () => typeof uninitialized);
+  let uninitialized;
+}
+
+// Reading and updating unresolvable references
+{
+  assertThrows(ReferenceError, () => unresolvableIdentifierReference);
+  assertThrows(ReferenceError, () => unresolvableIdentifierReference++);
+  assertThrows(ReferenceError, () => { "use strict"; unresolvableIdentifierReference = 0; });
+  assertFalse("sloppyAssignmentTarget" in this);
+  (0, eval)("sloppyAssignmentTarget = 1");
+  assertSame(1, sloppyAssignmentTarget);
+  delete this.sloppyAssignmentTarget;
+}
+
+// Binding is resolved before the right-hand side is evaluated
+{
+  var resolvedBeforeAssignment;
+  let obj = {resolvedBeforeAssignment: 0};
+  with (obj) {
+    resolvedBeforeAssignment = (delete obj.resolvedBeforeAssignment, 1);
+  }
+  assertSame(1, obj.resolvedBeforeAssignment);
+  assertSame(void 0, resolvedBeforeAssignment);
+}
+
+// Object environment records are consulted on each access
+{
+  let obj = {
+    get value() { return 1; },
+    set value(v) { assertSame(2, v); },
+  };
+  with (obj) {
+    value += 1;
+  }
+}
+
+// Calls through object environment records pass the binding object as this-value
+{
+  let obj = { m() { return this; } };
+  with (obj) {
+    assertSame(obj, m());
+  }
+}
+
+// Assignment to const bindings
+{
+  const c = 0;
+  assertThrows(TypeError, () => { c += 1; });
+  assertThrows(TypeError, () => { c++; });
+  assertSame(0, c);
+}
+
+// Destructuring assignment targets
+{
+  let x, y;
+  [x, y] = [1, 2];
+  ({x, y} = {x: y, y: x});
+  assertSame(2, x);
+  assertSame(1, y);
+  assertTrue(delete unresolvableIdentifierReference);
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertThrows
+} = Assert;
+
+// Property get call-site with changing receiver types
+{
+  function get(o) {
+    return o.length;
+  }
+  for (let i = 0; i < 10; ++i) {
+    assertSame(i, get({length: i}));
+  }
+  assertSame(3, get("abc"));
+  assertSame(2, get([1, 2]));
+  assertSame(1, get(function(a) {}));
+  assertSame(void 0, get(0));
+  assertSame(4, get({length: 4}));
+  assertThrows(TypeError, () => get(null));
+  assertThrows(TypeError, () => get(void 0));
+}
+
+// Property get call-site with string receivers
+{
+  function get(s) {
+    return s.charAt;
+  }
+  assertSame(String.prototype.charAt, get("a"));
+  assertSame(String.prototype.charAt, get(""));
+  assertSame(void 0, get({}));
+}
+
+// Property set call-site with changing receiver types
+{
+  function set(o, v) {
+    o.x = v;
+    return o;
+  }
+  for (let i = 0; i < 10; ++i) {
+    assertSame(i, set({}, i).x);
+  }
+  assertSame(5, set(Object.freeze({x: 5}), 6).x);
+  assertSame(1, set([], 1).x);
+  set(0, 1);
+  assertThrows(TypeError, () => set(null, 1));
+}
+
+// Strict mode property set call-site
+{
+  function set(o, v) {
+    "use strict";
+    o.x = v;
+    return o;
+  }
+  assertSame(1, set({}, 1).x);
+  assertThrows(TypeError, () => set(Object.freeze({x: 0}), 1));
+  assertThrows(TypeError, () => set(Object.defineProperty({}, "x", {get() {}}), 1));
+  assertThrows(TypeError, () => set(0, 1));
+}
+
+// Property call-site with changing object layouts
+{
+  function get(o) {
+    return o.y;
+  }
+  function set(o, v) {
+    o.y = v;
+  }
+  let o = {x: 1, y: 2};
+  assertSame(2, get(o));
+  set(o, 3);
+  assertSame(3, get(o));
+  delete o.x;
+  assertSame(3, get(o));
+  Object.defineProperty(o, "y", {get() { return 4; }, set(v) { o.z = v; }});
+  assertSame(4, get(o));
+  set(o, 5);
+  assertSame(5, o.z);
+  assertSame(6, get({y: 6}));
+  assertSame(void 0, get({}));
+  assertSame(7, get(Object.create({y: 7})));
+  let frozen = Object.freeze({x: 0, y: 0});
+  set(frozen, 1);
+  assertSame(0, get(frozen));
+}
+
+// Property call-site with inherited properties
+{
+  function get(o) {
+    return o.p;
+  }
+  let proto = {p: 1};
+  let o = Object.create(proto);
+  for (let i = 0; i < 10; ++i) {
+    assertSame(1, get(o));
+  }
+  proto.p = 2;
+  assertSame(2, get(o));
+  proto.q = 0;
+  assertSame(2, get(o));
+  o.p = 3;
+  assertSame(3, get(o));
+  assertSame(2, get(Object.create(proto)));
+  Object.setPrototypeOf(proto, {p: 4});
+  delete proto.q;
+  delete proto.p;
+  assertSame(4, get(Object.create(proto)));
+  let other = Object.create({p: 5});
+  assertSame(5, get(other));
+  Object.setPrototypeOf(other, {p: 6});
+  assertSame(6, get(other));
+  Object.prototype.p = 7;
+  try {
+    assertSame(7, get({}));
+    assertSame(void 0, get(Object.create(Object.create(null))));
+  } finally {
+    delete Object.prototype.p;
+  }
+  assertSame(void 0, get({}));
+}
+
+// Property call-site with inherited accessors
+{
+  let log = [];
+  let proto = {
+    get p() { log.push("get"); return this.v; },
+    set p(v) { log.push("set"); this.v = v; },
+  };
+  function get(o) {
+    return o.p;
+  }
+  function set(o, v) {
+    o.p = v;
+  }
+  let o = Object.create(proto);
+  for (let i = 0; i < 10; ++i) {
+    set(o, i);
+    assertSame(i, get(o));
+  }
+  assertSame(20, log.length);
+  assertSame(false, Object.prototype.hasOwnProperty.call(o, "p"));
+  Object.defineProperty(proto, "p", {set: void 0});
+  set(o, 10);
+  assertSame(9, get(o));
+  assertThrows(TypeError, () => { "use strict"; Object.create(proto).p = 0; });
+  Object.defineProperty(proto, "p", {value: 11, writable: true});
+  assertSame(11, get(o));
+  set(o, 12);
+  assertSame(12, get(o));
+  assertSame(11, proto.p);
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) André Bargull
+ * Alle Rechte vorbehalten / All Rights Reserved.  Use is subject to license terms.
+ *
+ * <https://github.com/anba/es6draft>
+ */
+const {
+  assertSame, assertThrows,
+} = Assert;
+
+// Parameters, variables and functions of enclosing functions
+function outer(a, b) {
+  var c = 3;
+  function inner(x) {
+    return function() { return a + b + c + x + arguments.length; };
+  }
+  return inner(4);
+}
+assertSame(1 + 2 + 3 + 4 + 2, outer(1, 2)(0, 0));
+
+// Nearest declaration wins
+function shadowed() {
+  var v = 1;
+  return (function(v) {
+    return function() { return v; };
+  })(2)();
+}
+assertSame(2, shadowed());
+
+// Named function expressions bind their name in an intermediate environment
+function namedExpression() {
+  var fe = 0;
+  return (function fe() {
+    return function() { return typeof fe; };
+  })()();
+}
+assertSame("function", namedExpression());
+
+// Uninitialized lexical bindings in strict functions
+function strictLexical() {
+  "use strict";
+  function read() { return z; }
+  assertThrows(ReferenceError, read);
+  let z = 1;
+  return read();
+}
+assertSame(1, strictLexical());
+
+// Bindings added by non-strict direct eval
+function evalShadow() {
+  var y = 1;
+  return function() {
+    eval("var y = 2");
+    return function() { return y; };
+  }()();
+}
+assertSame(2, evalShadow());
+
+// Bindings introduced by with-statements
+function withShadow() {
+  var w = 1;
+  with ({w: 2}) {
+    return function() { return w; }();
+  }
+}
+assertSame(2, withShadow());
+
+// Deleted bindings are no longer visible
+function deleteBinding() {
+  var d = 1;
+  return function() {
+    eval("var d = 2");
+    var r = d;
+    delete d;
+    return r + d;
+  }();
+}
+assertSame(3, deleteBinding());
+
+// Assignments to parameters, variables and bindings of enclosing functions
+function assignments(a) {
+  var b = 0, c, d;
+  function inc() { a += 1; b++; }
+  inc();
+  inc();
+  [c, d] = [a, b];
+  var {e} = {e: c + d};
+  return [a, b, c, d, e].join();
+}
+assertSame("3,2,3,2,5", assignments(1));
+
+// Assignments to const bindings in strict functions
+function constAssignment() {
+  "use strict";
+  const k = 1;
+  return function() { k = 2; };
+}
+assertThrows(TypeError, constAssignment());
+
+// Assignments before the lexical binding is initialized
+function uninitializedAssignment() {
+  function write() { z = 1; }
+  assertThrows(ReferenceError, write);
+  let z = 0;
+  write();
+  return z;
+}
+assertSame(1, uninitializedAssignment());
+
+// Assignments to bindings shadowed by non-strict direct eval
+function evalAssignment() {
+  var y = 1;
+  return function() {
+    eval("var y = 2");
+    return function() { y = 3; return y; };
+  }()();
+}
+assertSame(3, evalAssignment());